@@ -10,6 +10,7 @@ package io.camunda.configuration;
 import io.camunda.configuration.UnifiedConfigurationHelper.BackwardsCompatibilityMode;
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.unit.DataSize;
 
 public class Bulk {
@@ -17,6 +18,7 @@ public class Bulk {
   private static final Duration DEFAULT_DELAY = Duration.ofSeconds(1);
   private static final int DEFAULT_SIZE = 5_000;
   private static final DataSize DEFAULT_MEMORY_LIMIT = DataSize.ofMegabytes(20);
+  private static final int DEFAULT_MAX_IN_FLIGHT = 1;
 
   private final String prefix;
 
@@ -29,6 +31,15 @@ public class Bulk {
   /** Bulk memory utilisation before flush (in MB) */
   private DataSize memoryLimit = DEFAULT_MEMORY_LIMIT;
 
+  /** Maximum number of bulks executed concurrently; 1 flushes each bulk synchronously */
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+  /**
+   * Annotated with {@link Autowired} to opt out of constructor binding: the database name only
+   * selects the property prefix, while the bulk settings are bound through their setters and thus
+   * show up in the configuration metadata.
+   */
+  @Autowired
   public Bulk(final String databaseName) {
     prefix = "camunda.data.secondary-storage.%s.bulk".formatted(databaseName);
   }
@@ -77,4 +88,12 @@ public class Bulk {
   public void setMemoryLimit(final DataSize memoryLimit) {
     this.memoryLimit = memoryLimit;
   }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public void setMaxInFlight(final int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+  }
 }
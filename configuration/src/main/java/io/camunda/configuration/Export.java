@@ -40,6 +40,14 @@ public class Export {
    */
   private Map<Integer, Set<Long>> skipRecords = Map.of();
 
+  /**
+   * Runs each exporter of a partition on its own actor, with its own log reader, such that a slow
+   * exporter doesn't hold back the other exporters of the partition. The log can still only be
+   * compacted up to the position acknowledged by all exporters. Disabled by default, in which case
+   * all exporters of a partition export each record in turn.
+   */
+  private boolean exportIndependently = false;
+
   public Duration getDistributionInterval() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
         PREFIX + ".distribution-interval",
@@ -60,4 +68,12 @@ public class Export {
   public void setSkipRecords(final Map<Integer, Set<Long>> skipRecords) {
     this.skipRecords = skipRecords;
   }
+
+  public boolean isExportIndependently() {
+    return exportIndependently;
+  }
+
+  public void setExportIndependently(final boolean exportIndependently) {
+    this.exportIndependently = exportIndependently;
+  }
 }
@@ -174,6 +174,31 @@ public class Processing {
    */
   private int maxRecoverableRetries = DEFAULT_MAX_RECOVERABLE_RETRIES;
 
+  /**
+   * Enables bulk replay when set to a positive number. While a partition catches up with the log,
+   * e.g. after restoring an old snapshot, it then replays events of many batches in one state
+   * transaction of up to this many events, and skips the RocksDB write-ahead log until it has
+   * caught up; the state is flushed to disk afterwards. The default of 0 replays every batch in its
+   * own transaction.
+   */
+  private int bulkReplayMaxEvents = 0;
+
+  /**
+   * The maximum number of processed command batches which may still wait for their follow-up
+   * records to be appended to the log, while the next command is already processed against the
+   * uncommitted state. Responses and side effects of a batch are only released after its records
+   * were appended. The default of 1 processes commands strictly one after another.
+   */
+  private int pipelineDepth = 1;
+
+  /**
+   * Experimental. The number of worker threads which followers use to replay the events of
+   * independent process instances in parallel, each in its own transaction. Events which touch
+   * state shared between process instances, e.g. deployments or messages, are still replayed
+   * serially. The default of 0 replays all events serially.
+   */
+  private int replayWorkers = 0;
+
   public Integer getMaxCommandsInBatch() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
         PREFIX + ".max-commands-in-batch",
@@ -336,6 +361,30 @@ public class Processing {
     this.maxRecoverableRetries = maxRecoverableRetries;
   }
 
+  public int getBulkReplayMaxEvents() {
+    return bulkReplayMaxEvents;
+  }
+
+  public void setBulkReplayMaxEvents(final int bulkReplayMaxEvents) {
+    this.bulkReplayMaxEvents = bulkReplayMaxEvents;
+  }
+
+  public int getPipelineDepth() {
+    return pipelineDepth;
+  }
+
+  public void setPipelineDepth(final int pipelineDepth) {
+    this.pipelineDepth = pipelineDepth;
+  }
+
+  public int getReplayWorkers() {
+    return replayWorkers;
+  }
+
+  public void setReplayWorkers(final int replayWorkers) {
+    this.replayWorkers = replayWorkers;
+  }
+
   public FlowControl getFlowControl() {
     return flowControl;
   }
@@ -99,10 +99,21 @@ public class Raft {
    * flush interval for the Linux OS.
    *
    * <p>The default behavior is optimized for safety, and flushing occurs on every leader commit and
-   * follower append in a synchronous fashion.
+   * follower append in a synchronous fashion. See {@code flushBatchSize} to flush in batches
+   * instead.
    */
   private Duration flushDelay = Duration.ZERO;
 
+  /**
+   * If the batch size is > 0 and the flush delay is > 0, then appended entries are flushed in
+   * batches: a flush is performed as soon as at least this many entries were appended since the
+   * last flush, or at the latest after the flush delay. This bounds both the number of unflushed
+   * entries and the time they stay unflushed.
+   *
+   * <p>By default, this is disabled, and only the flush delay applies.
+   */
+  private int flushBatchSize = 0;
+
   /** Sets the maximum of appends which are send per follower. */
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
 
@@ -256,6 +267,14 @@ public class Raft {
     this.flushDelay = flushDelay;
   }
 
+  public int getFlushBatchSize() {
+    return flushBatchSize;
+  }
+
+  public void setFlushBatchSize(final int flushBatchSize) {
+    this.flushBatchSize = flushBatchSize;
+  }
+
   public int getMaxAppendsPerFollower() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
         PREFIX + ".max-appends-per-follower",
@@ -35,6 +35,13 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
    */
   private Integer queueMemoryLimit = RdbmsWriterConfig.DEFAULT_QUEUE_MEMORY_LIMIT;
 
+  /**
+   * The maximum number of exporter flushes, across all partitions, which are committed to the
+   * database concurrently in the background while the exporters already collect their next batch.
+   * Set to 0 to flush synchronously on the exporter thread of each partition.
+   */
+  private Integer flushConcurrency = RdbmsWriterConfig.DEFAULT_FLUSH_CONCURRENCY;
+
   /**
    * The maximum length of varchar fields in the database. This is relevant for user defined string
    * fields like ids and names.
@@ -142,6 +149,14 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
     this.queueMemoryLimit = queueMemoryLimit;
   }
 
+  public Integer getFlushConcurrency() {
+    return flushConcurrency;
+  }
+
+  public void setFlushConcurrency(final Integer flushConcurrency) {
+    this.flushConcurrency = flushConcurrency;
+  }
+
   public RdbmsCache getProcessCache() {
     return processCache;
   }
@@ -14,6 +14,11 @@ public class RdbmsInsertBatching {
   private int maxAuditLogInsertBatchSize = InsertBatchingConfig.DEFAULT_AUDIT_LOG_INSERT_BATCH_SIZE;
   private int maxJobInsertBatchSize = InsertBatchingConfig.DEFAULT_JOB_INSERT_BATCH_SIZE;
   private int maxFlowNodeInsertBatchSize = InsertBatchingConfig.DEFAULT_FLOW_NODE_INSERT_BATCH_SIZE;
+  private int maxIncidentInsertBatchSize = InsertBatchingConfig.DEFAULT_INCIDENT_INSERT_BATCH_SIZE;
+  private int maxSequenceFlowInsertBatchSize =
+      InsertBatchingConfig.DEFAULT_SEQUENCE_FLOW_INSERT_BATCH_SIZE;
+  private int maxMessageSubscriptionInsertBatchSize =
+      InsertBatchingConfig.DEFAULT_MESSAGE_SUBSCRIPTION_INSERT_BATCH_SIZE;
 
   public int getMaxVariableInsertBatchSize() {
     return maxVariableInsertBatchSize;
@@ -46,4 +51,29 @@ public class RdbmsInsertBatching {
   public void setMaxFlowNodeInsertBatchSize(final int maxFlowNodeInsertBatchSize) {
     this.maxFlowNodeInsertBatchSize = maxFlowNodeInsertBatchSize;
   }
+
+  public int getMaxIncidentInsertBatchSize() {
+    return maxIncidentInsertBatchSize;
+  }
+
+  public void setMaxIncidentInsertBatchSize(final int maxIncidentInsertBatchSize) {
+    this.maxIncidentInsertBatchSize = maxIncidentInsertBatchSize;
+  }
+
+  public int getMaxSequenceFlowInsertBatchSize() {
+    return maxSequenceFlowInsertBatchSize;
+  }
+
+  public void setMaxSequenceFlowInsertBatchSize(final int maxSequenceFlowInsertBatchSize) {
+    this.maxSequenceFlowInsertBatchSize = maxSequenceFlowInsertBatchSize;
+  }
+
+  public int getMaxMessageSubscriptionInsertBatchSize() {
+    return maxMessageSubscriptionInsertBatchSize;
+  }
+
+  public void setMaxMessageSubscriptionInsertBatchSize(
+      final int maxMessageSubscriptionInsertBatchSize) {
+    this.maxMessageSubscriptionInsertBatchSize = maxMessageSubscriptionInsertBatchSize;
+  }
 }
@@ -11,6 +11,9 @@ import static io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.DEFAULT_ROCK
 
 import io.camunda.configuration.UnifiedConfigurationHelper.BackwardsCompatibilityMode;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
@@ -136,6 +139,25 @@ public class RocksDb {
    */
   private boolean sstPartitioningEnabled = true;
 
+  /**
+   * Groups of logical column families, by group name, which are each stored in their own physical
+   * RocksDB column family with independent tuning, e.g. a different compaction style or block cache
+   * for short-lived data such as jobs and timers. By default, all column families are stored in the
+   * default physical column family. Existing state is moved between physical column families when
+   * the groups change.
+   */
+  private Map<String, RocksDbColumnFamilyGroup> columnFamilyGroups = new HashMap<>();
+
+  /**
+   * The logical column families, e.g. ELEMENT_INSTANCE_KEY or JOBS, whose point lookups are served
+   * from an in-memory read-through cache of committed values. By default, no column family is
+   * cached.
+   */
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+
+  /** The maximum number of entries cached per cached column family and partition. */
+  private int columnFamilyCacheCapacity = 10_000;
+
   public Properties getColumnFamilyOptions() {
     return columnFamilyOptions;
   }
@@ -277,6 +299,31 @@ public class RocksDb {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
   }
 
+  public Map<String, RocksDbColumnFamilyGroup> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(
+      final Map<String, RocksDbColumnFamilyGroup> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public int getColumnFamilyCacheCapacity() {
+    return columnFamilyCacheCapacity;
+  }
+
+  public void setColumnFamilyCacheCapacity(final int columnFamilyCacheCapacity) {
+    this.columnFamilyCacheCapacity = columnFamilyCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "RocksDb{"
@@ -300,6 +347,12 @@ public class RocksDb {
         + walDisabled
         + ", sstPartitioningEnabled="
         + sstPartitioningEnabled
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheCapacity="
+        + columnFamilyCacheCapacity
         + '}';
   }
 
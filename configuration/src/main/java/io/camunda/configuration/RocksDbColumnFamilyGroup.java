@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGroupConfiguration;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+public class RocksDbColumnFamilyGroup {
+
+  /**
+   * The names of the logical column families stored in this group, e.g. JOBS or TIMERS. A column
+   * family can only be part of a single group.
+   */
+  private Set<String> columnFamilies = new HashSet<>();
+
+  /**
+   * Custom column family options of this group, e.g. compaction_style or compression_per_level,
+   * which take precedence over the global column family options.
+   */
+  private Properties columnFamilyOptions = new Properties();
+
+  /**
+   * If greater than 0, the group gets a dedicated block cache sized as this fraction of the block
+   * cache budget of a partition, in addition to the partition's block cache. By default, the group
+   * shares the partition's block cache.
+   */
+  private double blockCacheShare = 0;
+
+  /** Bits per key of the group's bloom filter. Set to 0 to disable the bloom filter. */
+  private int bloomFilterBitsPerKey =
+      ColumnFamilyGroupConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
+  public Set<String> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Set<String> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public Properties getColumnFamilyOptions() {
+    return columnFamilyOptions;
+  }
+
+  public void setColumnFamilyOptions(final Properties columnFamilyOptions) {
+    this.columnFamilyOptions = columnFamilyOptions;
+  }
+
+  public double getBlockCacheShare() {
+    return blockCacheShare;
+  }
+
+  public void setBlockCacheShare(final double blockCacheShare) {
+    this.blockCacheShare = blockCacheShare;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbColumnFamilyGroup{"
+        + "columnFamilies="
+        + columnFamilies
+        + ", columnFamilyOptions="
+        + columnFamilyOptions
+        + ", blockCacheShare="
+        + blockCacheShare
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + '}';
+  }
+}
@@ -35,6 +35,22 @@ public class System {
    */
   private int ioThreadCount = 2;
 
+  /**
+   * Splits the CPU threads into this many groups. The actors of a partition are preferably run on
+   * the threads of the same group, and idle threads only take over work of another group if it is
+   * backlogged, which keeps the state of a partition in the caches of fewer cores. Threads are not
+   * pinned to cores; combine this with OS-level pinning (e.g. numactl or taskset) to align groups
+   * with NUMA nodes. The default of 1 means all CPU threads form a single group.
+   */
+  private int cpuAffinityGroupCount = 1;
+
+  /**
+   * When enabled, every io-bound actor runs on its own virtual thread instead of sharing the io
+   * threads, such that a slow blocking call only delays the actor making it. The io-thread-count is
+   * then ignored.
+   */
+  private boolean ioVirtualThreadsEnabled = false;
+
   /**
    * Controls whether the system clock or mutable one. When enabled, time progression can be
    * controlled programmatically for testing purposes.
@@ -71,6 +87,22 @@ public class System {
     this.ioThreadCount = ioThreadCount;
   }
 
+  public int getCpuAffinityGroupCount() {
+    return cpuAffinityGroupCount;
+  }
+
+  public void setCpuAffinityGroupCount(final int cpuAffinityGroupCount) {
+    this.cpuAffinityGroupCount = cpuAffinityGroupCount;
+  }
+
+  public boolean isIoVirtualThreadsEnabled() {
+    return ioVirtualThreadsEnabled;
+  }
+
+  public void setIoVirtualThreadsEnabled(final boolean ioVirtualThreadsEnabled) {
+    this.ioVirtualThreadsEnabled = ioVirtualThreadsEnabled;
+  }
+
   public boolean getClockControlled() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
         PREFIX + ".clock-controlled",
@@ -43,6 +43,7 @@ import io.camunda.configuration.beans.BrokerBasedProperties;
 import io.camunda.configuration.beans.LegacyBrokerBasedProperties;
 import io.camunda.zeebe.backup.azure.SasTokenConfig;
 import io.camunda.zeebe.broker.exporter.context.ExporterConfiguration;
+import io.camunda.zeebe.broker.system.configuration.ColumnFamilyGroupCfg;
 import io.camunda.zeebe.broker.system.configuration.ConfigManagerCfg;
 import io.camunda.zeebe.broker.system.configuration.ExporterCfg;
 import io.camunda.zeebe.broker.system.configuration.ExportingCfg;
@@ -71,6 +72,7 @@ import io.camunda.zeebe.gateway.impl.configuration.KeyStoreCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.util.Preconditions;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -211,6 +213,9 @@ public class BrokerBasedPropertiesOverride {
     // processing
     override.getProcessing().setMaxCommandsInBatch(processing.getMaxCommandsInBatch());
     override.getProcessing().setMaxRecoverableRetries(processing.getMaxRecoverableRetries());
+    override.getProcessing().setBulkReplayMaxEvents(processing.getBulkReplayMaxEvents());
+    override.getProcessing().setPipelineDepth(processing.getPipelineDepth());
+    override.getProcessing().setReplayWorkers(processing.getReplayWorkers());
     override
         .getProcessing()
         .setScheduledTaskCheckInterval(processing.getScheduledTasksCheckInterval());
@@ -591,7 +596,8 @@ public class BrokerBasedPropertiesOverride {
     override.getCluster().getRaft().setEnablePriorityElection(raft.isPriorityElectionEnabled());
 
     // Set flush configuration
-    final var flushConfig = new FlushConfig(raft.isFlushEnabled(), raft.getFlushDelay());
+    final var flushConfig =
+        new FlushConfig(raft.isFlushEnabled(), raft.getFlushDelay(), raft.getFlushBatchSize());
     override.getCluster().getRaft().setFlush(flushConfig);
 
     override.getExperimental().setMaxAppendsPerFollower(raft.getMaxAppendsPerFollower());
@@ -725,6 +731,8 @@ public class BrokerBasedPropertiesOverride {
     final var threadsCfg = new ThreadsCfg();
     threadsCfg.setCpuThreadCount(system.getCpuThreadCount());
     threadsCfg.setIoThreadCount(system.getIoThreadCount());
+    threadsCfg.setCpuAffinityGroupCount(system.getCpuAffinityGroupCount());
+    threadsCfg.setIoVirtualThreadsEnabled(system.isIoVirtualThreadsEnabled());
     override.setThreads(threadsCfg);
 
     final var enableVersionCheck = system.getUpgrade().getEnableVersionCheck();
@@ -744,7 +752,10 @@ public class BrokerBasedPropertiesOverride {
       final BrokerBasedProperties override, final Camunda camunda) {
     final Export export = camunda.getData().getExport();
     final var exportingCfg =
-        new ExportingCfg(export.getSkipRecords(), export.getDistributionInterval());
+        new ExportingCfg(
+            export.getSkipRecords(),
+            export.getDistributionInterval(),
+            export.isExportIndependently());
     override.setExporting(exportingCfg);
   }
 
@@ -826,6 +837,22 @@ public class BrokerBasedPropertiesOverride {
     brokerRocksDb.setIoRateBytesPerSecond(unifiedRocksDb.getIoRateBytesPerSecond());
     brokerRocksDb.setDisableWal(unifiedRocksDb.isWalDisabled());
     brokerRocksDb.setEnableSstPartitioning(unifiedRocksDb.isSstPartitioningEnabled());
+
+    final var columnFamilyGroups = new HashMap<String, ColumnFamilyGroupCfg>();
+    unifiedRocksDb
+        .getColumnFamilyGroups()
+        .forEach(
+            (name, group) -> {
+              final var groupCfg = new ColumnFamilyGroupCfg();
+              groupCfg.setColumnFamilies(group.getColumnFamilies());
+              groupCfg.setColumnFamilyOptions(group.getColumnFamilyOptions());
+              groupCfg.setBlockCacheShare(group.getBlockCacheShare());
+              groupCfg.setBloomFilterBitsPerKey(group.getBloomFilterBitsPerKey());
+              columnFamilyGroups.put(name, groupCfg);
+            });
+    brokerRocksDb.setColumnFamilyGroups(columnFamilyGroups);
+    brokerRocksDb.setCachedColumnFamilies(unifiedRocksDb.getCachedColumnFamilies());
+    brokerRocksDb.setColumnFamilyCacheCapacity(unifiedRocksDb.getColumnFamilyCacheCapacity());
   }
 
   private static void populateFromS3(final BrokerBasedProperties override, final Camunda camunda) {
@@ -1071,6 +1098,7 @@ public class BrokerBasedPropertiesOverride {
     final Rdbms database = camunda.getData().getSecondaryStorage().getRdbms();
     config.setQueueSize(database.getQueueSize());
     config.setQueueMemoryLimit(database.getQueueMemoryLimit());
+    config.setFlushConcurrency(database.getFlushConcurrency());
     config.setFlushInterval(database.getFlushInterval());
     config.setExportBatchOperationItemsOnCreation(database.isExportBatchOperationItemsOnCreation());
     config.setBatchOperationItemInsertBlockSize(database.getBatchOperationItemInsertBlockSize());
@@ -1104,6 +1132,18 @@ public class BrokerBasedPropertiesOverride {
           .getInsertBatching()
           .setMaxFlowNodeInsertBatchSize(
               database.getInsertBatching().getMaxFlowNodeInsertBatchSize());
+      config
+          .getInsertBatching()
+          .setMaxIncidentInsertBatchSize(
+              database.getInsertBatching().getMaxIncidentInsertBatchSize());
+      config
+          .getInsertBatching()
+          .setMaxSequenceFlowInsertBatchSize(
+              database.getInsertBatching().getMaxSequenceFlowInsertBatchSize());
+      config
+          .getInsertBatching()
+          .setMaxMessageSubscriptionInsertBatchSize(
+              database.getInsertBatching().getMaxMessageSubscriptionInsertBatchSize());
     }
 
     if (database.getAsyncReplication() != null) {
@@ -191,6 +191,7 @@ public final class CamundaExporterConfigurationApplier {
     target.setDelay(Math.toIntExact(source.getBulk().getDelay().getSeconds()));
     target.setSize(source.getBulk().getSize());
     target.setMemoryLimit(Math.toIntExact(source.getBulk().getMemoryLimit().toMegabytes()));
+    target.setMaxInFlight(source.getBulk().getMaxInFlight());
   }
 
   public static void applyIncidentNotifier(
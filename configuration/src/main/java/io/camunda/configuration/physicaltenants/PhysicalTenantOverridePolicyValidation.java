@@ -74,7 +74,9 @@ final class PhysicalTenantOverridePolicyValidation {
               "cluster.receive-on-legacy-subject",
               // camunda.system.* — system / process-wide settings
               "system.cpu-thread-count",
+              "system.cpu-affinity-group-count",
               "system.io-thread-count",
+              "system.io-virtual-threads-enabled",
               "system.actor",
               "system.upgrade",
               "system.restore",
@@ -38,6 +38,7 @@ public class ClusterRaftTest {
         "camunda.cluster.raft.priority-election-enabled=false",
         "camunda.cluster.raft.flush-enabled=false",
         "camunda.cluster.raft.flush-delay=5s",
+        "camunda.cluster.raft.flush-batch-size=32",
         "camunda.cluster.raft.max-appends-per-follower=7",
         "camunda.cluster.raft.max-append-batch-size=64",
         "camunda.cluster.raft.request-timeout=5s",
@@ -85,6 +86,11 @@ public class ClusterRaftTest {
           .isEqualTo(Duration.ofSeconds(5));
     }
 
+    @Test
+    void shouldSetFlushBatchSize() {
+      assertThat(brokerCfg.getCluster().getRaft().getFlush().batchSize()).isEqualTo(32);
+    }
+
     @Test
     void shouldSetExperimental() {
       assertThat(brokerCfg.getExperimental())
@@ -46,6 +46,9 @@ public class ProcessingPropertiesTest {
   private static final boolean
       EXPECTED_CONFIGURED_EVALUATE_BOUNDARY_EVENT_CORRELATION_KEY_IN_ACTIVITY_SCOPE = false;
   private static final int EXPECTED_MAX_RECOVERABLE_RETRIES = 50;
+  private static final int EXPECTED_BULK_REPLAY_MAX_EVENTS = 10_000;
+  private static final int EXPECTED_PIPELINE_DEPTH = 4;
+  private static final int EXPECTED_REPLAY_WORKERS = 2;
 
   @Nested
   @TestPropertySource(
@@ -67,7 +70,10 @@ public class ProcessingPropertiesTest {
             + EXPECTED_ENABLE_MESSAGE_BODY_ON_EXPIRED,
         "camunda.processing.evaluate-boundary-event-correlation-key-in-activity-scope="
             + EXPECTED_CONFIGURED_EVALUATE_BOUNDARY_EVENT_CORRELATION_KEY_IN_ACTIVITY_SCOPE,
-        "camunda.processing.max-recoverable-retries=" + EXPECTED_MAX_RECOVERABLE_RETRIES
+        "camunda.processing.max-recoverable-retries=" + EXPECTED_MAX_RECOVERABLE_RETRIES,
+        "camunda.processing.bulk-replay-max-events=" + EXPECTED_BULK_REPLAY_MAX_EVENTS,
+        "camunda.processing.pipeline-depth=" + EXPECTED_PIPELINE_DEPTH,
+        "camunda.processing.replay-workers=" + EXPECTED_REPLAY_WORKERS
       })
   class WithOnlyUnifiedConfigSet {
     final BrokerBasedProperties brokerBasedProperties;
@@ -83,7 +89,10 @@ public class ProcessingPropertiesTest {
           .returns(
               EXPECTED_SCHEDULED_TASKS_CHECK_INTERVAL, ProcessingCfg::getScheduledTaskCheckInterval)
           .returns(EXPECTED_SKIP_POSITIONS, ProcessingCfg::skipPositions)
-          .returns(EXPECTED_MAX_RECOVERABLE_RETRIES, ProcessingCfg::getMaxRecoverableRetries);
+          .returns(EXPECTED_MAX_RECOVERABLE_RETRIES, ProcessingCfg::getMaxRecoverableRetries)
+          .returns(EXPECTED_BULK_REPLAY_MAX_EVENTS, ProcessingCfg::getBulkReplayMaxEvents)
+          .returns(EXPECTED_PIPELINE_DEPTH, ProcessingCfg::getPipelineDepth)
+          .returns(EXPECTED_REPLAY_WORKERS, ProcessingCfg::getReplayWorkers);
 
       assertThat(brokerBasedProperties.getExperimental().getConsistencyChecks())
           .returns(EXPECTED_ENABLE_PRECONDITIONS_CHECK, ConsistencyCheckCfg::isEnablePreconditions)
@@ -46,7 +46,13 @@ public class RocksDbPropertiesTest {
         "camunda.data.primary-storage.rocks-db.column-family-options.max_write_buffer_number=12",
         "camunda.data.primary-storage.rocks-db.column-family-options.write_buffer_size=67108864",
         "camunda.data.primary-storage.rocks-db.column-family-options.compaction_pri=kOldestSmallestSeqFirst",
-        "camunda.data.primary-storage.rocks-db.memory-fraction=0.5"
+        "camunda.data.primary-storage.rocks-db.memory-fraction=0.5",
+        "camunda.data.primary-storage.rocks-db.column-family-groups.hot.column-families=JOBS,TIMERS",
+        "camunda.data.primary-storage.rocks-db.column-family-groups.hot.column-family-options.compaction_style=kCompactionStyleUniversal",
+        "camunda.data.primary-storage.rocks-db.column-family-groups.hot.block-cache-share=0.25",
+        "camunda.data.primary-storage.rocks-db.column-family-groups.hot.bloom-filter-bits-per-key=16",
+        "camunda.data.primary-storage.rocks-db.cached-column-families=ELEMENT_INSTANCE_KEY,JOBS",
+        "camunda.data.primary-storage.rocks-db.column-family-cache-capacity=500"
       })
   class WithOnlyUnifiedConfigSet {
     final BrokerBasedProperties brokerCfg;
@@ -125,6 +131,27 @@ public class RocksDbPropertiesTest {
       assertThat(columnFamilyOptions.getProperty("compaction_pri"))
           .isEqualTo("kOldestSmallestSeqFirst");
     }
+
+    @Test
+    void shouldSetCachedColumnFamilies() {
+      assertThat(brokerCfg.getExperimental().getRocksdb().getCachedColumnFamilies())
+          .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "JOBS");
+      assertThat(brokerCfg.getExperimental().getRocksdb().getColumnFamilyCacheCapacity())
+          .isEqualTo(500);
+    }
+
+    @Test
+    void shouldSetColumnFamilyGroups() {
+      final var groups = brokerCfg.getExperimental().getRocksdb().getColumnFamilyGroups();
+      assertThat(groups).containsOnlyKeys("hot");
+
+      final var group = groups.get("hot");
+      assertThat(group.getColumnFamilies()).containsExactlyInAnyOrder("JOBS", "TIMERS");
+      assertThat(group.getColumnFamilyOptions().getProperty("compaction_style"))
+          .isEqualTo("kCompactionStyleUniversal");
+      assertThat(group.getBlockCacheShare()).isEqualTo(0.25);
+      assertThat(group.getBloomFilterBitsPerKey()).isEqualTo(16);
+    }
   }
 
   @Nested
@@ -100,6 +100,7 @@ public class SecondaryStorageElasticsearchTest {
   private static final int EXPECTED_BULK_DELAY = 10;
   private static final int EXPECTED_BULK_SIZE = 2_000;
   private static final int EXPECTED_BULK_MEMORY_LIMIT = 50;
+  private static final int EXPECTED_BULK_MAX_IN_FLIGHT = 4;
 
   private static final String EXPECTED_BACKUP_REPOSITORY_NAME = "backup-repo";
   private static final int EXPECTED_BACKUP_SNAPSHOT_TIMEOUT = 10;
@@ -178,6 +179,8 @@ public class SecondaryStorageElasticsearchTest {
         "camunda.data.secondary-storage.elasticsearch.bulk.delay=10s",
         "camunda.data.secondary-storage.elasticsearch.bulk.size=" + EXPECTED_BULK_SIZE,
         "camunda.data.secondary-storage.elasticsearch.bulk.memory-limit=50MB",
+        "camunda.data.secondary-storage.elasticsearch.bulk.max-in-flight="
+            + EXPECTED_BULK_MAX_IN_FLIGHT,
         "camunda.data.secondary-storage.elasticsearch.backup.repository-name="
             + EXPECTED_BACKUP_REPOSITORY_NAME,
         "camunda.data.secondary-storage.elasticsearch.backup.snapshot-timeout="
@@ -334,6 +337,8 @@ public class SecondaryStorageElasticsearchTest {
       assertThat(exporterConfiguration.getBulk().getSize()).isEqualTo(EXPECTED_BULK_SIZE);
       assertThat(exporterConfiguration.getBulk().getMemoryLimit())
           .isEqualTo(EXPECTED_BULK_MEMORY_LIMIT);
+      assertThat(exporterConfiguration.getBulk().getMaxInFlight())
+          .isEqualTo(EXPECTED_BULK_MAX_IN_FLIGHT);
       assertThat(exporterConfiguration.getIndex().getTemplatePriority())
           .isEqualTo(EXPECTED_TEMPLATE_PRIORITY);
       assertThat(exporterConfiguration.getIndex().getReplicasByIndexName())
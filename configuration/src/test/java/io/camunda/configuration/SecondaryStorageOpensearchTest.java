@@ -99,6 +99,7 @@ public class SecondaryStorageOpensearchTest {
   private static final int EXPECTED_BULK_DELAY = 10;
   private static final int EXPECTED_BULK_SIZE = 2_000;
   private static final int EXPECTED_BULK_MEMORY_LIMIT = 50;
+  private static final int EXPECTED_BULK_MAX_IN_FLIGHT = 4;
 
   private static final String EXPECTED_BACKUP_REPOSITORY_NAME = "backup-repo";
   private static final int EXPECTED_BACKUP_SNAPSHOT_TIMEOUT = 10;
@@ -176,6 +177,8 @@ public class SecondaryStorageOpensearchTest {
         "camunda.data.secondary-storage.opensearch.bulk.delay=10s",
         "camunda.data.secondary-storage.opensearch.bulk.size=" + EXPECTED_BULK_SIZE,
         "camunda.data.secondary-storage.opensearch.bulk.memory-limit=50MB",
+        "camunda.data.secondary-storage.opensearch.bulk.max-in-flight="
+            + EXPECTED_BULK_MAX_IN_FLIGHT,
         "camunda.data.secondary-storage.opensearch.backup.repository-name="
             + EXPECTED_BACKUP_REPOSITORY_NAME,
         "camunda.data.secondary-storage.opensearch.backup.snapshot-timeout="
@@ -335,6 +338,8 @@ public class SecondaryStorageOpensearchTest {
       assertThat(exporterConfiguration.getBulk().getSize()).isEqualTo(EXPECTED_BULK_SIZE);
       assertThat(exporterConfiguration.getBulk().getMemoryLimit())
           .isEqualTo(EXPECTED_BULK_MEMORY_LIMIT);
+      assertThat(exporterConfiguration.getBulk().getMaxInFlight())
+          .isEqualTo(EXPECTED_BULK_MAX_IN_FLIGHT);
     }
 
     @Test
@@ -37,7 +37,9 @@ public class SystemPropertiesTest {
   @TestPropertySource(
       properties = {
         "camunda.system.cpu-thread-count=4",
+        "camunda.system.cpu-affinity-group-count=2",
         "camunda.system.io-thread-count=8",
+        "camunda.system.io-virtual-threads-enabled=true",
         "camunda.system.clock-controlled=true",
         "camunda.system.upgrade.enable-version-check=false",
         "camunda.system.actor.idle.max-spins=1000",
@@ -64,6 +66,16 @@ public class SystemPropertiesTest {
       assertThat(brokerCfg.getThreads().getCpuThreadCount()).isEqualTo(4);
     }
 
+    @Test
+    void shouldSetCpuAffinityGroupCount() {
+      assertThat(brokerCfg.getThreads().getCpuAffinityGroupCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSetIoVirtualThreadsEnabled() {
+      assertThat(brokerCfg.getThreads().isIoVirtualThreadsEnabled()).isTrue();
+    }
+
     @Test
     void shouldSetIoThreadCount() {
       assertThat(brokerCfg.getThreads().getIoThreadCount()).isEqualTo(8);
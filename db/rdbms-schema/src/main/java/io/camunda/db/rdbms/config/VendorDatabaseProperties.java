@@ -46,6 +46,13 @@ public class VendorDatabaseProperties {
 
   private static final String DISABLE_FK_BEFORE_TRUNCATE = "disableFkBeforeTruncate";
 
+  /**
+   * Optional property to limit the number of bind parameters of a single multi-row insert
+   * statement, if required by the database vendor or its JDBC driver. Insert batches are split into
+   * several statements to stay within this limit. If not set, no limit is applied.
+   */
+  private static final String INSERT_BATCH_MAX_PARAMETERS = "insertBatch.maxParameters";
+
   private final Properties properties;
 
   private final String databaseId;
@@ -55,6 +62,7 @@ public class VendorDatabaseProperties {
   private final int userCharColumnSize;
   private final int errorMessageSize;
   private final int treePathSize;
+  private final Integer insertBatchMaxParameters;
 
   public VendorDatabaseProperties(final Properties properties) {
     this.properties = properties;
@@ -92,6 +100,13 @@ public class VendorDatabaseProperties {
       charColumnMaxBytes = Integer.parseInt(properties.getProperty(CHAR_COLUMN_MAX_BYTES));
     }
 
+    if (!properties.containsKey(INSERT_BATCH_MAX_PARAMETERS)) {
+      insertBatchMaxParameters = null;
+    } else {
+      insertBatchMaxParameters =
+          Integer.parseInt(properties.getProperty(INSERT_BATCH_MAX_PARAMETERS));
+    }
+
     if (!properties.containsKey(DISABLE_FK_BEFORE_TRUNCATE)) {
       throw new IllegalArgumentException(
           "Property '" + DISABLE_FK_BEFORE_TRUNCATE + "' is missing");
@@ -120,6 +135,10 @@ public class VendorDatabaseProperties {
     return charColumnMaxBytes;
   }
 
+  public Integer insertBatchMaxParameters() {
+    return insertBatchMaxParameters;
+  }
+
   public boolean disableFkBeforeTruncate() {
     return disableFkBeforeTruncate;
   }
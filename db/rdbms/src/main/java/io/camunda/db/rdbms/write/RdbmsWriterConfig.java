@@ -21,6 +21,12 @@ public record RdbmsWriterConfig(
      * 0 or negative value means no memory limit (only count-based limit applies).
      */
     int queueMemoryLimit,
+    /*
+     * Maximum number of flushes, across all partitions, which are committed concurrently in the
+     * background while the exporters already collect their next batch. 0 means that each exporter
+     * flushes synchronously on its own thread.
+     */
+    int flushConcurrency,
     /*
      * The number of batch operation items to insert in a single insert statement.
      */
@@ -38,6 +44,7 @@ public record RdbmsWriterConfig(
   public static final int DEFAULT_QUEUE_SIZE = 1000;
   // Default memory limit: 20MB - aligned with CamundaExporter's default
   public static final int DEFAULT_QUEUE_MEMORY_LIMIT = 20;
+  public static final int DEFAULT_FLUSH_CONCURRENCY = 0;
   public static final int DEFAULT_MAX_VARCHAR_FIELD_LENGTH = 256;
   public static final int DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE = 10000;
   public static final boolean DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION = true;
@@ -59,6 +66,7 @@ public record RdbmsWriterConfig(
     private String physicalTenantId = PhysicalTenantIds.DEFAULT_PHYSICAL_TENANT_ID;
     private int queueSize = DEFAULT_QUEUE_SIZE;
     private int queueMemoryLimit = DEFAULT_QUEUE_MEMORY_LIMIT;
+    private int flushConcurrency = DEFAULT_FLUSH_CONCURRENCY;
     private int batchOperationItemInsertBlockSize = DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE;
     private boolean exportBatchOperationItemsOnCreation =
         DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION;
@@ -86,6 +94,11 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder flushConcurrency(final int flushConcurrency) {
+      this.flushConcurrency = flushConcurrency;
+      return this;
+    }
+
     public Builder batchOperationItemInsertBlockSize(final int batchOperationItemInsertBlockSize) {
       this.batchOperationItemInsertBlockSize = batchOperationItemInsertBlockSize;
       return this;
@@ -119,6 +132,7 @@ public record RdbmsWriterConfig(
           physicalTenantId,
           queueSize,
           queueMemoryLimit,
+          flushConcurrency,
           batchOperationItemInsertBlockSize,
           exportBatchOperationItemsOnCreation,
           history,
@@ -317,13 +331,28 @@ public record RdbmsWriterConfig(
       /*
        * The maximum size of flow node instance insert batches.
        */
-      int flowNodeInsertBatchSize) {
+      int flowNodeInsertBatchSize,
+      /*
+       * The maximum size of incident insert batches.
+       */
+      int incidentInsertBatchSize,
+      /*
+       * The maximum size of sequence flow insert batches.
+       */
+      int sequenceFlowInsertBatchSize,
+      /*
+       * The maximum size of message subscription insert batches.
+       */
+      int messageSubscriptionInsertBatchSize) {
 
     public static final int DEFAULT_VARIABLE_INSERT_BATCH_SIZE = 25;
     // larger batch size for audit logs as they are written in larger volumes
     public static final int DEFAULT_AUDIT_LOG_INSERT_BATCH_SIZE = 50;
     public static final int DEFAULT_JOB_INSERT_BATCH_SIZE = 25;
     public static final int DEFAULT_FLOW_NODE_INSERT_BATCH_SIZE = 25;
+    public static final int DEFAULT_INCIDENT_INSERT_BATCH_SIZE = 25;
+    public static final int DEFAULT_SEQUENCE_FLOW_INSERT_BATCH_SIZE = 25;
+    public static final int DEFAULT_MESSAGE_SUBSCRIPTION_INSERT_BATCH_SIZE = 25;
 
     public static InsertBatchingConfig.Builder builder() {
       return new InsertBatchingConfig.Builder();
@@ -335,6 +364,10 @@ public record RdbmsWriterConfig(
       private int auditLogInsertBatchSize = DEFAULT_AUDIT_LOG_INSERT_BATCH_SIZE;
       private int jobInsertBatchSize = DEFAULT_JOB_INSERT_BATCH_SIZE;
       private int flowNodeInsertBatchSize = DEFAULT_FLOW_NODE_INSERT_BATCH_SIZE;
+      private int incidentInsertBatchSize = DEFAULT_INCIDENT_INSERT_BATCH_SIZE;
+      private int sequenceFlowInsertBatchSize = DEFAULT_SEQUENCE_FLOW_INSERT_BATCH_SIZE;
+      private int messageSubscriptionInsertBatchSize =
+          DEFAULT_MESSAGE_SUBSCRIPTION_INSERT_BATCH_SIZE;
 
       public Builder variableInsertBatchSize(final int variableInsertBatchSize) {
         this.variableInsertBatchSize = variableInsertBatchSize;
@@ -356,13 +389,32 @@ public record RdbmsWriterConfig(
         return this;
       }
 
+      public Builder incidentInsertBatchSize(final int incidentInsertBatchSize) {
+        this.incidentInsertBatchSize = incidentInsertBatchSize;
+        return this;
+      }
+
+      public Builder sequenceFlowInsertBatchSize(final int sequenceFlowInsertBatchSize) {
+        this.sequenceFlowInsertBatchSize = sequenceFlowInsertBatchSize;
+        return this;
+      }
+
+      public Builder messageSubscriptionInsertBatchSize(
+          final int messageSubscriptionInsertBatchSize) {
+        this.messageSubscriptionInsertBatchSize = messageSubscriptionInsertBatchSize;
+        return this;
+      }
+
       @Override
       public InsertBatchingConfig build() {
         return new InsertBatchingConfig(
             variableInsertBatchSize,
             auditLogInsertBatchSize,
             jobInsertBatchSize,
-            flowNodeInsertBatchSize);
+            flowNodeInsertBatchSize,
+            incidentInsertBatchSize,
+            sequenceFlowInsertBatchSize,
+            messageSubscriptionInsertBatchSize);
       }
     }
   }
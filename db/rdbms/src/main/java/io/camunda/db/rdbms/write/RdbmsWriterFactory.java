@@ -8,6 +8,7 @@
 package io.camunda.db.rdbms.write;
 
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.FlushExecutor;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
 import io.micrometer.core.instrument.MeterRegistry;
 
@@ -15,6 +16,8 @@ public class RdbmsWriterFactory {
 
   private final RdbmsMapperBundle mapperBundle;
   private final MeterRegistry meterRegistry;
+  // shared by the writers of all partitions which flush asynchronously, created on first use
+  private FlushExecutor flushExecutor;
 
   public RdbmsWriterFactory(
       final RdbmsMapperBundle mapperBundle, final MeterRegistry meterRegistry) {
@@ -30,7 +33,8 @@ public class RdbmsWriterFactory {
             config.partitionId(),
             config.queueSize(),
             config.queueMemoryLimit(),
-            metrics);
+            metrics,
+            config.flushConcurrency() > 0 ? getFlushExecutor(config.flushConcurrency()) : null);
     return new RdbmsWriters(
         config,
         executionQueue,
@@ -62,4 +66,11 @@ public class RdbmsWriterFactory {
         mapperBundle.agentInstanceMapper(),
         mapperBundle.waitStateMapper());
   }
+
+  synchronized FlushExecutor getFlushExecutor(final int flushConcurrency) {
+    if (flushExecutor == null) {
+      flushExecutor = new FlushExecutor(flushConcurrency, new RdbmsWriterMetrics(meterRegistry));
+    }
+    return flushExecutor;
+  }
 }
@@ -99,6 +99,27 @@ public class RdbmsWriterMetrics {
         .minimumExpectedValue(Duration.ofMillis(10));
   }
 
+  /**
+   * Records how long an asynchronous flush waited for a free slot of the flush executor before it
+   * was executed.
+   *
+   * @param queueWait the time between submitting and executing the flush
+   */
+  public void recordFlushQueueWait(final Duration queueWait) {
+    Timer.builder(meterName("flush.queue.wait"))
+        .description(
+            "Time an asynchronous flush waits for a free slot of the flush executor before it is executed")
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(queueWait);
+  }
+
+  public void registerInFlightFlushesGauge(final Supplier<Number> supplier) {
+    Gauge.builder(meterName("flush.in.flight"), supplier)
+        .description("Number of asynchronous flushes which are currently executed concurrently")
+        .register(meterRegistry);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     DistributionSummary.builder(meterName("bulk.size"))
         .description("Exporter bulk size")
@@ -139,11 +139,12 @@ public class RdbmsWriters implements AutoCloseable {
         new DecisionRequirementsWriter(decisionRequirementsMapper, executionQueue));
     writers.put(
         FlowNodeInstanceWriter.class,
-        new FlowNodeInstanceWriter(executionQueue, flowNodeInstanceMapper, config));
+        new FlowNodeInstanceWriter(
+            executionQueue, flowNodeInstanceMapper, vendorDatabaseProperties, config));
     writers.put(GroupWriter.class, new GroupWriter(executionQueue));
     writers.put(
         IncidentWriter.class,
-        new IncidentWriter(executionQueue, incidentMapper, vendorDatabaseProperties));
+        new IncidentWriter(executionQueue, incidentMapper, vendorDatabaseProperties, config));
     writers.put(
         ProcessDefinitionWriter.class,
         new ProcessDefinitionWriter(processDefinitionMapper, executionQueue));
@@ -170,14 +171,16 @@ public class RdbmsWriters implements AutoCloseable {
         JobMetricsBatchWriter.class,
         new JobMetricsBatchWriter(executionQueue, jobMetricsBatchMapper));
     writers.put(
-        SequenceFlowWriter.class, new SequenceFlowWriter(executionQueue, sequenceFlowMapper));
+        SequenceFlowWriter.class,
+        new SequenceFlowWriter(
+            executionQueue, sequenceFlowMapper, vendorDatabaseProperties, config));
     writers.put(UsageMetricWriter.class, new UsageMetricWriter(executionQueue, usageMetricMapper));
     writers.put(
         UsageMetricTUWriter.class, new UsageMetricTUWriter(executionQueue, usageMetricTUMapper));
     writers.put(
         MessageSubscriptionWriter.class,
         new MessageSubscriptionWriter(
-            executionQueue, messageSubscriptionMapper, vendorDatabaseProperties));
+            executionQueue, messageSubscriptionMapper, vendorDatabaseProperties, config));
     writers.put(
         CorrelatedMessageSubscriptionWriter.class,
         new CorrelatedMessageSubscriptionWriter(
@@ -387,6 +390,8 @@ public class RdbmsWriters implements AutoCloseable {
   public void close() throws Exception {
     try {
       flush(true);
+      // the final flush may be committed asynchronously
+      getExecutionQueue().awaitFlush();
     } catch (final Exception e) {
       LOG.warn("Failed to execute final flush on close");
       throw e;
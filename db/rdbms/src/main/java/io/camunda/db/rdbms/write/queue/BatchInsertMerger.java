@@ -7,6 +7,7 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import io.camunda.zeebe.util.ObjectSizeEstimator;
 import java.util.Objects;
 import java.util.function.Function;
 import org.slf4j.Logger;
@@ -32,6 +33,19 @@ class BatchInsertMerger<M> implements QueueItemMerger {
     this.keyExtractor = keyExtractor;
   }
 
+  /**
+   * Caps the batch size so that the multi-row insert statement of a full batch binds at most {@code
+   * maxParameters} parameters, which is the limit of some database vendors and drivers. A {@code
+   * null} or non-positive limit leaves the batch size untouched.
+   */
+  protected static int maxRowsPerStatement(
+      final int maxBatchSize, final int parametersPerRow, final Integer maxParameters) {
+    if (maxParameters == null || maxParameters <= 0) {
+      return maxBatchSize;
+    }
+    return Math.max(1, Math.min(maxBatchSize, maxParameters / parametersPerRow));
+  }
+
   @Override
   public boolean canBeMerged(final QueueItem queueItem) {
     if (queueItem.contextType() != contextType
@@ -70,6 +84,30 @@ class BatchInsertMerger<M> implements QueueItemMerger {
     return originalItem.copy(b -> b.parameter(batch.withAdditionalDbModel(model)));
   }
 
+  @Override
+  public QueueItemKey mergeTargetKey() {
+    if (maxBatchSize == 1) {
+      // without room for more models, only a batch which already contains the model is merged
+      return new QueueItemKey(contextType, WriteStatementType.INSERT, keyExtractor.apply(model));
+    }
+    return new QueueItemKey(contextType, WriteStatementType.INSERT, null);
+  }
+
+  @Override
+  public Object mergedId() {
+    return keyExtractor.apply(model);
+  }
+
+  @Override
+  public long estimateMergedSize(
+      final QueueItem originalItem, final long originalSize, final QueueItem mergedItem) {
+    if (mergedItem == originalItem) {
+      // the model was a duplicate and has been dropped
+      return originalSize;
+    }
+    return originalSize + ObjectSizeEstimator.estimateSize(model);
+  }
+
   private boolean containsModelKey(final BatchInsertDto<M> batch) {
     final Object key = keyExtractor.apply(model);
     return batch.dbModels().stream().anyMatch(m -> Objects.equals(keyExtractor.apply(m), key));
@@ -15,12 +15,15 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
@@ -49,29 +52,58 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
   private final List<InTransactionHook> inTransactionHooks = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // estimated size of each queue item, by position in the queue
+  private final List<Long> queueItemSizes = new ArrayList<>();
+  // positions of the queue items in ascending order, by the keys a merger may look them up with
+  private final Map<QueueItemKey, List<Integer>> queueIndex = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
   private final long queueMemoryLimitBytes; // stored as bytes for comparison
 
   private final RdbmsWriterMetrics metrics;
+  // null if the queue is flushed synchronously on the calling thread
+  private final FlushExecutor flushExecutor;
 
   // Track current memory consumption of the queue
   private long currentQueueMemoryBytes = 0;
 
+  // asynchronous flush whose post-flush listeners have not been called yet
+  private InFlightFlush inFlightFlush;
+  // items of a failed asynchronous flush, which have to be flushed before any newer items
+  private List<QueueItem> failedFlushItems;
+
   public DefaultExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final int queueFlushLimit,
       final int queueMemoryLimitMb,
       final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, queueMemoryLimitMb, metrics, null);
+  }
+
+  /**
+   * Creates an execution queue which hands its flushes to the given {@link FlushExecutor}, if it is
+   * not null. The caller can then collect the next batch while the previous one is committed. At
+   * most one flush per queue is in flight, and the post-flush listeners of a flush are called on
+   * the calling thread, in flush order, with the next call of {@link #flush()}, {@link
+   * #checkQueueForFlush()} or {@link #awaitFlush()} after the flush has been committed.
+   */
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final int queueMemoryLimitMb,
+      final RdbmsWriterMetrics metrics,
+      final FlushExecutor flushExecutor) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
     // Convert MB to bytes for internal comparison
     queueMemoryLimitBytes = (long) queueMemoryLimitMb * BYTES_PER_MB;
     this.metrics = metrics;
+    this.flushExecutor = flushExecutor;
   }
 
   @Override
@@ -82,9 +114,12 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         metrics.startFlushLatencyMeasurement();
       }
 
+      final int position = queue.size();
       queue.add(entry);
+      indexQueueItem(entry, position);
       // Track memory consumption
       final long entrySize = ObjectSizeEstimator.estimateSize(entry);
+      queueItemSizes.add(entrySize);
       currentQueueMemoryBytes += entrySize;
 
       metrics.recordEnqueuedStatement(entry.statementId());
@@ -114,23 +149,22 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   @Override
   public int flush() {
     synchronized (queue) {
+      if (flushExecutor != null) {
+        return flushAsync();
+      }
+
       // Call pre-flush listeners before checking if the queue is empty.
       // Pre-flush listeners may add items to the queue (e.g., exporter position updates),
       // ensuring they are persisted even when no handler-processed records were queued
       // in the current flush interval (e.g., all records were ignored).
-      if (!preFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
-        preFlushListeners.forEach(PreFlushListener::onPreFlush);
-      }
+      callPreFlushListeners();
 
       if (queue.isEmpty()) {
         LOG.trace(
             "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
             partitionId);
         // Still call post-flush listeners so the broker position gets updated.
-        if (!postFlushListeners.isEmpty()) {
-          postFlushListeners.forEach(PostFlushListener::onPostFlush);
-        }
+        callPostFlushListeners();
         return 0;
       }
 
@@ -138,11 +172,11 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       try (final var ignored = metrics.measureFlushDuration()) {
         // Record memory usage before flush
         metrics.recordQueueMemoryUsage(currentQueueMemoryBytes);
-        final int numFlushedElements = doFlush();
+        final int numFlushedElements = doFlush(queue);
+        clearQueue();
+        callPostFlushListeners();
         metrics.stopFlushLatencyMeasurement();
         metrics.recordBulkSize(numFlushedElements);
-        // Reset memory tracking after flush
-        currentQueueMemoryBytes = 0;
 
         return numFlushedElements;
       } catch (final Exception e) {
@@ -152,38 +186,156 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /**
+   * Waits until the flush which is executed asynchronously has been committed, and calls the
+   * post-flush listeners for it. If the flush failed, its items are kept to be flushed again with
+   * the next call of {@link #flush()} and the failure is rethrown.
+   */
+  @Override
+  public void awaitFlush() {
+    synchronized (queue) {
+      if (inFlightFlush == null) {
+        return;
+      }
+
+      final var flush = inFlightFlush;
+      inFlightFlush = null;
+      final int numFlushedElements;
+      try {
+        numFlushedElements = flush.result().join();
+      } catch (final CompletionException e) {
+        metrics.recordFailedFlush();
+        failedFlushItems = flush.items();
+        throw unwrap(e);
+      }
+
+      metrics.recordBulkSize(numFlushedElements);
+      callPostFlushListeners();
+    }
+  }
+
+  private int flushAsync() {
+    // at most one flush is in flight, so batches are committed and acknowledged in order
+    awaitFlush();
+
+    if (failedFlushItems != null) {
+      // the pre-flush listeners were already called for these items, and newer items must not
+      // overtake them
+      final var items = failedFlushItems;
+      failedFlushItems = null;
+      LOG.debug(
+          "[RDBMS ExecutionQueue, Partition {}] Retry failed flush with {} items",
+          partitionId,
+          items.size());
+      submitFlush(items);
+      return items.size();
+    }
+
+    callPreFlushListeners();
+
+    if (queue.isEmpty()) {
+      LOG.trace(
+          "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+          partitionId);
+      callPostFlushListeners();
+      return 0;
+    }
+
+    LOG.trace("[RDBMS ExecutionQueue, Partition {}] hand over queue to flush", partitionId);
+    metrics.recordQueueMemoryUsage(currentQueueMemoryBytes);
+    metrics.stopFlushLatencyMeasurement();
+    final var items = List.copyOf(queue);
+    clearQueue();
+    submitFlush(items);
+    return items.size();
+  }
+
+  private void submitFlush(final List<QueueItem> items) {
+    final CompletableFuture<Integer> result =
+        flushExecutor.submit(
+            () -> {
+              try (final var ignored = metrics.measureFlushDuration()) {
+                return doFlush(items);
+              }
+            });
+    inFlightFlush = new InFlightFlush(items, result);
+  }
+
+  private static RuntimeException unwrap(final CompletionException e) {
+    final Throwable cause = e.getCause();
+    if (cause instanceof final RuntimeException runtimeException) {
+      return runtimeException;
+    } else if (cause instanceof final Error error) {
+      throw error;
+    }
+    return new IllegalStateException("Failed to flush execution queue", cause);
+  }
+
   /**
    * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * queueItem will be replaced with a new, combined queueItem. If the merger provides a {@link
+   * QueueItemMerger#mergeTargetKey()}, only the queue items indexed under this key are considered.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger merger) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        if (merger.canBeMerged(item)) {
-          LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-          final QueueItem oldItem = item;
-          final long oldSize = ObjectSizeEstimator.estimateSize(oldItem);
-          final QueueItem newItem = merger.merge(oldItem);
-          final long newSize = ObjectSizeEstimator.estimateSize(newItem);
-          queue.set(index, newItem);
-          currentQueueMemoryBytes = currentQueueMemoryBytes - oldSize + newSize;
-          metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-          return true;
+      final QueueItemKey key = merger.mergeTargetKey();
+      if (key == null) {
+        for (int position = queue.size() - 1; position >= 0; position--) {
+          if (tryMerge(merger, position)) {
+            return true;
+          }
         }
+        return false;
+      }
 
-        index--;
+      final List<Integer> positions = queueIndex.getOrDefault(key, List.of());
+      for (int i = positions.size() - 1; i >= 0; i--) {
+        if (tryMerge(merger, positions.get(i))) {
+          return true;
+        }
       }
+      return false;
+    }
+  }
 
+  private boolean tryMerge(final QueueItemMerger merger, final int position) {
+    final QueueItem item = queue.get(position);
+    if (!merger.canBeMerged(item)) {
       return false;
     }
+
+    LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+    final QueueItem newItem = merger.merge(item);
+    final long oldSize = queueItemSizes.get(position);
+    final long newSize = merger.estimateMergedSize(item, oldSize, newItem);
+    queue.set(position, newItem);
+    queueItemSizes.set(position, newSize);
+    currentQueueMemoryBytes = currentQueueMemoryBytes - oldSize + newSize;
+
+    if (newItem.contextType() != item.contextType()
+        || newItem.statementType() != item.statementType()
+        || !Objects.equals(newItem.id(), item.id())) {
+      // entries under the old keys are left behind, which is fine as every candidate found in
+      // the index is verified by the merger anyway
+      indexQueueItem(newItem, position);
+    }
+    indexQueueItemId(newItem, merger.mergedId(), position);
+
+    metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+    return true;
   }
 
   @Override
   public boolean checkQueueForFlush() {
+    if (flushExecutor != null) {
+      synchronized (queue) {
+        if (inFlightFlush != null && inFlightFlush.result().isDone()) {
+          awaitFlush();
+        }
+      }
+    }
+
     final boolean hasCountLimit = queueFlushLimit > 0;
     final boolean hasMemoryLimit = queueMemoryLimitBytes > 0;
 
@@ -232,19 +384,24 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   @Override
   public void reset() {
     synchronized (queue) {
-      queue.clear();
-      currentQueueMemoryBytes = 0;
+      if (inFlightFlush != null) {
+        // the outcome is not relevant anymore, but the flush must not overlap with the next one
+        inFlightFlush.result().exceptionally(e -> 0).join();
+        inFlightFlush = null;
+      }
+      failedFlushItems = null;
+      clearQueue();
       preFlushListeners.clear();
       postFlushListeners.clear();
       inTransactionHooks.clear();
     }
   }
 
-  private int doFlush() {
+  private int doFlush(final List<QueueItem> items) {
     LOG.debug(
         "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
         partitionId,
-        queue.size());
+        items.size());
 
     final var startMillis = System.currentTimeMillis();
 
@@ -252,7 +409,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_COMMITTED);
 
     var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
+    final var optimizedItems = optimizeQueueOrder(items);
 
     try {
       assertManualCommitMode(session);
@@ -286,11 +443,6 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
       session.commit();
 
-      queue.clear();
-      if (!postFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
-        postFlushListeners.forEach(PostFlushListener::onPostFlush);
-      }
       LOG.debug(
           "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
           partitionId,
@@ -318,6 +470,55 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  private void callPreFlushListeners() {
+    if (!preFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+      preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    }
+  }
+
+  private void callPostFlushListeners() {
+    if (!postFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
+      postFlushListeners.forEach(PostFlushListener::onPostFlush);
+    }
+  }
+
+  private void clearQueue() {
+    queue.clear();
+    queueItemSizes.clear();
+    queueIndex.clear();
+    currentQueueMemoryBytes = 0;
+  }
+
+  private void indexQueueItem(final QueueItem item, final int position) {
+    addToIndex(new QueueItemKey(item.contextType(), null, null), position);
+    addToIndex(new QueueItemKey(item.contextType(), item.statementType(), null), position);
+    indexQueueItemId(item, item.id(), position);
+  }
+
+  private void indexQueueItemId(final QueueItem item, final Object id, final int position) {
+    if (id == null) {
+      return;
+    }
+    addToIndex(new QueueItemKey(item.contextType(), null, id), position);
+    addToIndex(new QueueItemKey(item.contextType(), item.statementType(), id), position);
+  }
+
+  private void addToIndex(final QueueItemKey key, final int position) {
+    final List<Integer> positions = queueIndex.computeIfAbsent(key, k -> new ArrayList<>());
+    if (positions.isEmpty() || positions.getLast() < position) {
+      positions.add(position);
+      return;
+    }
+
+    // an item which was merged into before is indexed under an additional key
+    final int index = Collections.binarySearch(positions, position);
+    if (index < 0) {
+      positions.add(-index - 1, position);
+    }
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
@@ -377,10 +578,16 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
+  boolean hasInFlightFlush() {
+    synchronized (queue) {
+      return inFlightFlush != null;
+    }
+  }
+
   static boolean shouldIgnoreWhenNoRowsAffected(final String statementId) {
     return IGNORE_EMPTY_UPDATES.stream().anyMatch(p -> p.matcher(statementId).matches());
   }
@@ -404,4 +611,6 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
     return anyZero;
   }
+
+  private record InFlightFlush(List<QueueItem> items, CompletableFuture<Integer> result) {}
 }
@@ -49,12 +49,21 @@ public interface ExecutionQueue {
   void registerInTransactionHook(InTransactionHook hook);
 
   /**
-   * Flushes the queue, executing all enqueued items in a batch.
+   * Flushes the queue, executing all enqueued items in a batch. If the queue flushes
+   * asynchronously, the batch is only handed over to be committed in the background, and the
+   * post-flush listeners are called once it is committed; see {@link #awaitFlush()}.
    *
    * @return the number of flushed items
    */
   int flush();
 
+  /**
+   * Waits until a batch which is flushed asynchronously has been committed, and calls the
+   * post-flush listeners for it. Does nothing if the queue flushes synchronously or no flush is in
+   * flight.
+   */
+  void awaitFlush();
+
   /**
    * Takes the given queueItemMerger and processes all queue items with it. The queueItemMerger will
    * try to find a matching queue item and eventually then modify this queue item.
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes the flushes of {@link DefaultExecutionQueue}s asynchronously on virtual threads. The
+ * executor is shared by the execution queues of all partitions and bounds the number of flushes
+ * which talk to the database at the same time; further flushes wait until a running one is done.
+ */
+public final class FlushExecutor {
+
+  private final int maxConcurrentFlushes;
+  private final Semaphore permits;
+  private final ThreadFactory threadFactory;
+  private final RdbmsWriterMetrics metrics;
+  private final AtomicInteger inFlightFlushes = new AtomicInteger();
+
+  public FlushExecutor(final int maxConcurrentFlushes, final RdbmsWriterMetrics metrics) {
+    if (maxConcurrentFlushes < 1) {
+      throw new IllegalArgumentException(
+          "maxConcurrentFlushes must be greater than 0, got: " + maxConcurrentFlushes);
+    }
+    this.maxConcurrentFlushes = maxConcurrentFlushes;
+    permits = new Semaphore(maxConcurrentFlushes, true);
+    threadFactory = Thread.ofVirtual().name("rdbms-flush-", 0).factory();
+    this.metrics = metrics;
+    metrics.registerInFlightFlushesGauge(inFlightFlushes::get);
+  }
+
+  /**
+   * Executes the given flush on a new virtual thread, as soon as less than {@link
+   * #getMaxConcurrentFlushes()} other flushes are running.
+   *
+   * @param flush the flush to execute
+   * @return a future which is completed with the result of the flush
+   */
+  public <T> CompletableFuture<T> submit(final Supplier<T> flush) {
+    final var result = new CompletableFuture<T>();
+    final long submittedAt = System.nanoTime();
+    threadFactory.newThread(() -> execute(flush, result, submittedAt)).start();
+    return result;
+  }
+
+  public int getMaxConcurrentFlushes() {
+    return maxConcurrentFlushes;
+  }
+
+  public int getInFlightFlushes() {
+    return inFlightFlushes.get();
+  }
+
+  private <T> void execute(
+      final Supplier<T> flush, final CompletableFuture<T> result, final long submittedAt) {
+    try {
+      permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.completeExceptionally(e);
+      return;
+    }
+
+    metrics.recordFlushQueueWait(Duration.ofNanos(System.nanoTime() - submittedAt));
+    inFlightFlushes.incrementAndGet();
+    try {
+      result.complete(flush.get());
+    } catch (final Throwable e) {
+      result.completeExceptionally(e);
+    } finally {
+      inFlightFlushes.decrementAndGet();
+      permits.release();
+    }
+  }
+}
@@ -11,7 +11,19 @@ import io.camunda.db.rdbms.write.domain.AuditLogDbModel;
 
 public class InsertAuditLogMerger extends BatchInsertMerger<AuditLogDbModel> {
 
+  /** The number of bind parameters per row of the AuditLogMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 39;
+
   public InsertAuditLogMerger(final AuditLogDbModel auditLog, final int maxBatchSize) {
-    super(ContextType.AUDIT_LOG, auditLog, maxBatchSize, AuditLogDbModel::auditLogKey);
+    this(auditLog, maxBatchSize, null);
+  }
+
+  public InsertAuditLogMerger(
+      final AuditLogDbModel auditLog, final int maxBatchSize, final Integer maxParameters) {
+    super(
+        ContextType.AUDIT_LOG,
+        auditLog,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        AuditLogDbModel::auditLogKey);
   }
 }
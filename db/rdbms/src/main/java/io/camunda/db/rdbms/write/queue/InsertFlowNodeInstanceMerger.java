@@ -11,12 +11,22 @@ import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
 
 public class InsertFlowNodeInstanceMerger extends BatchInsertMerger<FlowNodeInstanceDbModel> {
 
+  /** The number of bind parameters per row of the FlowNodeInstanceMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 17;
+
   public InsertFlowNodeInstanceMerger(
       final FlowNodeInstanceDbModel flowNodeInstance, final int maxBatchSize) {
+    this(flowNodeInstance, maxBatchSize, null);
+  }
+
+  public InsertFlowNodeInstanceMerger(
+      final FlowNodeInstanceDbModel flowNodeInstance,
+      final int maxBatchSize,
+      final Integer maxParameters) {
     super(
         ContextType.FLOW_NODE,
         flowNodeInstance,
-        maxBatchSize,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
         FlowNodeInstanceDbModel::flowNodeInstanceKey);
   }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.domain.IncidentDbModel;
+
+public class InsertIncidentMerger extends BatchInsertMerger<IncidentDbModel> {
+
+  /** The number of bind parameters per row of the IncidentMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 16;
+
+  public InsertIncidentMerger(final IncidentDbModel incident, final int maxBatchSize) {
+    this(incident, maxBatchSize, null);
+  }
+
+  public InsertIncidentMerger(
+      final IncidentDbModel incident, final int maxBatchSize, final Integer maxParameters) {
+    super(
+        ContextType.INCIDENT,
+        incident,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        IncidentDbModel::incidentKey);
+  }
+}
@@ -11,7 +11,19 @@ import io.camunda.db.rdbms.write.domain.JobDbModel;
 
 public class InsertJobMerger extends BatchInsertMerger<JobDbModel> {
 
+  /** The number of bind parameters per row of the JobMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 27;
+
   public InsertJobMerger(final JobDbModel job, final int maxBatchSize) {
-    super(ContextType.JOB, job, maxBatchSize, JobDbModel::jobKey);
+    this(job, maxBatchSize, null);
+  }
+
+  public InsertJobMerger(
+      final JobDbModel job, final int maxBatchSize, final Integer maxParameters) {
+    super(
+        ContextType.JOB,
+        job,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        JobDbModel::jobKey);
   }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.domain.MessageSubscriptionDbModel;
+
+public class InsertMessageSubscriptionMerger extends BatchInsertMerger<MessageSubscriptionDbModel> {
+
+  /** The number of bind parameters per row of the MessageSubscriptionMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 19;
+
+  public InsertMessageSubscriptionMerger(
+      final MessageSubscriptionDbModel messageSubscription, final int maxBatchSize) {
+    this(messageSubscription, maxBatchSize, null);
+  }
+
+  public InsertMessageSubscriptionMerger(
+      final MessageSubscriptionDbModel messageSubscription,
+      final int maxBatchSize,
+      final Integer maxParameters) {
+    super(
+        ContextType.MESSAGE_SUBSCRIPTION,
+        messageSubscription,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        MessageSubscriptionDbModel::messageSubscriptionKey);
+  }
+}
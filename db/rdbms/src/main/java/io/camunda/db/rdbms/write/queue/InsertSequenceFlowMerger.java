@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.domain.SequenceFlowDbModel;
+
+public class InsertSequenceFlowMerger extends BatchInsertMerger<SequenceFlowDbModel> {
+
+  /**
+   * The number of bind parameters per row of the SequenceFlowMapper.createIfNotExists statement.
+   */
+  static final int PARAMETERS_PER_ROW = 7;
+
+  public InsertSequenceFlowMerger(final SequenceFlowDbModel sequenceFlow, final int maxBatchSize) {
+    this(sequenceFlow, maxBatchSize, null);
+  }
+
+  public InsertSequenceFlowMerger(
+      final SequenceFlowDbModel sequenceFlow, final int maxBatchSize, final Integer maxParameters) {
+    super(
+        ContextType.SEQUENCE_FLOW,
+        sequenceFlow,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        SequenceFlowDbModel::sequenceFlowId);
+  }
+}
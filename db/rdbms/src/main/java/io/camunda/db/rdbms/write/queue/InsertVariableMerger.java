@@ -11,7 +11,19 @@ import io.camunda.db.rdbms.write.domain.VariableDbModel;
 
 public class InsertVariableMerger extends BatchInsertMerger<VariableDbModel> {
 
+  /** The number of bind parameters per row of the VariableMapper.insert statement. */
+  static final int PARAMETERS_PER_ROW = 15;
+
   public InsertVariableMerger(final VariableDbModel variable, final int maxBatchSize) {
-    super(ContextType.VARIABLE, variable, maxBatchSize, VariableDbModel::variableKey);
+    this(variable, maxBatchSize, null);
+  }
+
+  public InsertVariableMerger(
+      final VariableDbModel variable, final int maxBatchSize, final Integer maxParameters) {
+    super(
+        ContextType.VARIABLE,
+        variable,
+        maxRowsPerStatement(maxBatchSize, PARAMETERS_PER_ROW, maxParameters),
+        VariableDbModel::variableKey);
   }
 }
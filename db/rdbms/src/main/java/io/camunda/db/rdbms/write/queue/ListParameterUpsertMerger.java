@@ -54,6 +54,19 @@ public class ListParameterUpsertMerger<M extends Copyable<M>> implements QueueIt
     return items.stream().anyMatch(item -> keyExtractor.apply(item).equals(id));
   }
 
+  @Override
+  public QueueItemKey mergeTargetKey() {
+    return new QueueItemKey(contextType, null, id);
+  }
+
+  @Override
+  public long estimateMergedSize(
+      final QueueItem originalItem, final long originalSize, final QueueItem mergedItem) {
+    // only a single model of the batch is replaced by an updated copy of itself, so re-estimating
+    // the whole batch for every update is not worth the (small) difference in size
+    return originalSize;
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     final BatchInsertDto<M> originalDto = (BatchInsertDto<M>) originalItem.parameter();
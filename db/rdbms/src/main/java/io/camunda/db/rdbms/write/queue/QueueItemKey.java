@@ -0,0 +1,14 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+/**
+ * Identifies the {@link QueueItem}s a {@link QueueItemMerger} may be merged with. A {@code null}
+ * statement type or id matches queue items of any statement type or id.
+ */
+public record QueueItemKey(ContextType contextType, WriteStatementType statementType, Object id) {}
@@ -7,9 +7,45 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import io.camunda.zeebe.util.ObjectSizeEstimator;
+
 public interface QueueItemMerger {
 
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * Returns the key of the queue items this merger may be merged with. The execution queue then
+   * only tests the items indexed under this key, instead of scanning the whole queue. Every item
+   * for which {@link #canBeMerged(QueueItem)} returns true must match the key.
+   *
+   * @return the key of possible merge targets, or {@code null} to scan the whole queue
+   */
+  default QueueItemKey mergeTargetKey() {
+    return null;
+  }
+
+  /**
+   * Returns the id of the entity which {@link #merge(QueueItem)} adds to the original item, if it
+   * differs from the id of the item itself (e.g. for batched inserts). The merged item is indexed
+   * under this id as well, so later mergers can find it by the id of the added entity.
+   */
+  default Object mergedId() {
+    return null;
+  }
+
+  /**
+   * Estimates the size of the merged item. Mergers which only add a small entity to a large item
+   * should override this to keep the estimation proportional to the added entity.
+   *
+   * @param originalItem the item which was merged
+   * @param originalSize the previously estimated size of the original item
+   * @param mergedItem the result of {@link #merge(QueueItem)}
+   * @return the estimated size of the merged item in bytes
+   */
+  default long estimateMergedSize(
+      final QueueItem originalItem, final long originalSize, final QueueItem mergedItem) {
+    return ObjectSizeEstimator.estimateSize(mergedItem);
+  }
 }
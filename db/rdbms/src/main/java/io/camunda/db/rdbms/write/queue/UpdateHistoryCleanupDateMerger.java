@@ -47,6 +47,11 @@ public class UpdateHistoryCleanupDateMerger implements QueueItemMerger {
             < MAX_IN_CLAUSE_SIZE;
   }
 
+  @Override
+  public QueueItemKey mergeTargetKey() {
+    return new QueueItemKey(contextType, WriteStatementType.UPDATE, null);
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     return originalItem.copy(
@@ -41,6 +41,11 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
         && clazz.isInstance(queueItem.parameter());
   }
 
+  @Override
+  public QueueItemKey mergeTargetKey() {
+    return new QueueItemKey(contextType, null, id);
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     return originalItem.copy(
@@ -66,7 +66,9 @@ public class AuditLogWriter extends ProcessInstanceDependant implements RdbmsWri
     final var wasMerged =
         executionQueue.tryMergeWithExistingQueueItem(
             new InsertAuditLogMerger(
-                finalAuditLog, config.insertBatchingConfig().auditLogInsertBatchSize()));
+                finalAuditLog,
+                config.insertBatchingConfig().auditLogInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
 
     if (!wasMerged) {
       executionQueue.executeInQueue(
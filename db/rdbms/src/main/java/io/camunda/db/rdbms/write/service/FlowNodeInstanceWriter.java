@@ -7,6 +7,7 @@
  */
 package io.camunda.db.rdbms.write.service;
 
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper;
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.EndFlowNodeDto;
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.UpdateIncidentDto;
@@ -29,14 +30,17 @@ import java.util.function.Function;
 public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements RdbmsWriter {
 
   private final ExecutionQueue executionQueue;
+  private final VendorDatabaseProperties vendorDatabaseProperties;
   private final RdbmsWriterConfig config;
 
   public FlowNodeInstanceWriter(
       final ExecutionQueue executionQueue,
       final FlowNodeInstanceMapper mapper,
+      final VendorDatabaseProperties vendorDatabaseProperties,
       final RdbmsWriterConfig config) {
     super(mapper);
     this.executionQueue = executionQueue;
+    this.vendorDatabaseProperties = vendorDatabaseProperties;
     this.config = config;
   }
 
@@ -44,7 +48,9 @@ public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements
     final var wasMerged =
         executionQueue.tryMergeWithExistingQueueItem(
             new InsertFlowNodeInstanceMerger(
-                flowNode, config.insertBatchingConfig().flowNodeInsertBatchSize()));
+                flowNode,
+                config.insertBatchingConfig().flowNodeInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
 
     if (!wasMerged) {
       executionQueue.executeInQueue(
@@ -9,10 +9,14 @@ package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.IncidentMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.IncidentDbModel;
 import io.camunda.db.rdbms.write.domain.IncidentDbModel.Builder;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.db.rdbms.write.queue.InsertIncidentMerger;
+import io.camunda.db.rdbms.write.queue.ListParameterUpsertMerger;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
@@ -27,26 +31,41 @@ public class IncidentWriter extends ProcessInstanceDependant implements RdbmsWri
 
   private final ExecutionQueue executionQueue;
   private final VendorDatabaseProperties vendorDatabaseProperties;
+  private final RdbmsWriterConfig config;
 
   public IncidentWriter(
       final ExecutionQueue executionQueue,
       final IncidentMapper mapper,
-      final VendorDatabaseProperties vendorDatabaseProperties) {
+      final VendorDatabaseProperties vendorDatabaseProperties,
+      final RdbmsWriterConfig config) {
     super(mapper);
     this.executionQueue = executionQueue;
     this.vendorDatabaseProperties = vendorDatabaseProperties;
+    this.config = config;
   }
 
   public void create(final IncidentDbModel incident) {
-    executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.INCIDENT,
-            WriteStatementType.INSERT,
-            incident.incidentKey(),
-            "io.camunda.db.rdbms.sql.IncidentMapper.insert",
-            incident.truncateErrorMessage(
-                vendorDatabaseProperties.errorMessageSize(),
-                vendorDatabaseProperties.charColumnMaxBytes())));
+    final var truncatedIncident =
+        incident.truncateErrorMessage(
+            vendorDatabaseProperties.errorMessageSize(),
+            vendorDatabaseProperties.charColumnMaxBytes());
+
+    final var wasMerged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new InsertIncidentMerger(
+                truncatedIncident,
+                config.insertBatchingConfig().incidentInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
+
+    if (!wasMerged) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.INCIDENT,
+              WriteStatementType.INSERT,
+              incident.incidentKey(),
+              "io.camunda.db.rdbms.sql.IncidentMapper.insert",
+              new BatchInsertDto<>(truncatedIncident)));
+    }
   }
 
   public void update(final IncidentDbModel incident) {
@@ -76,7 +95,11 @@ public class IncidentWriter extends ProcessInstanceDependant implements RdbmsWri
   }
 
   private boolean mergeToQueue(final long key, final Function<Builder, Builder> mergeFunction) {
+    // the incident is either still part of a pending insert batch or of a pending update
     return executionQueue.tryMergeWithExistingQueueItem(
-        new UpsertMerger<>(ContextType.INCIDENT, key, IncidentDbModel.class, mergeFunction));
+            new ListParameterUpsertMerger<>(
+                ContextType.INCIDENT, key, IncidentDbModel::incidentKey, mergeFunction))
+        || executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(ContextType.INCIDENT, key, IncidentDbModel.class, mergeFunction));
   }
 }
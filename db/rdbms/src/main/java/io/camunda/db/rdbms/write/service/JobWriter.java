@@ -46,7 +46,10 @@ public class JobWriter extends ProcessInstanceDependant implements RdbmsWriter {
 
     final var wasMerged =
         executionQueue.tryMergeWithExistingQueueItem(
-            new InsertJobMerger(truncatedJob, config.insertBatchingConfig().jobInsertBatchSize()));
+            new InsertJobMerger(
+                truncatedJob,
+                config.insertBatchingConfig().jobInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
 
     if (!wasMerged) {
       executionQueue.executeInQueue(
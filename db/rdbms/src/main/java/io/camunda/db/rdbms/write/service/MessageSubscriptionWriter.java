@@ -9,9 +9,12 @@ package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.MessageSubscriptionMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.MessageSubscriptionDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.db.rdbms.write.queue.InsertMessageSubscriptionMerger;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 import java.util.List;
@@ -21,15 +24,18 @@ public class MessageSubscriptionWriter extends ProcessInstanceDependant implemen
   private final MessageSubscriptionMapper mapper;
   private final ExecutionQueue executionQueue;
   private final VendorDatabaseProperties vendorDatabaseProperties;
+  private final RdbmsWriterConfig config;
 
   public MessageSubscriptionWriter(
       final ExecutionQueue executionQueue,
       final MessageSubscriptionMapper mapper,
-      final VendorDatabaseProperties vendorDatabaseProperties) {
+      final VendorDatabaseProperties vendorDatabaseProperties,
+      final RdbmsWriterConfig config) {
     super(mapper);
     this.mapper = mapper;
     this.executionQueue = executionQueue;
     this.vendorDatabaseProperties = vendorDatabaseProperties;
+    this.config = config;
   }
 
   public void create(final MessageSubscriptionDbModel messageSubscription) {
@@ -37,13 +43,23 @@ public class MessageSubscriptionWriter extends ProcessInstanceDependant implemen
         messageSubscription.truncateToolFields(
             vendorDatabaseProperties.userCharColumnSize(),
             vendorDatabaseProperties.charColumnMaxBytes());
-    executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.MESSAGE_SUBSCRIPTION,
-            WriteStatementType.INSERT,
-            truncated.messageSubscriptionKey(),
-            "io.camunda.db.rdbms.sql.MessageSubscriptionMapper.insert",
-            truncated));
+
+    final var wasMerged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new InsertMessageSubscriptionMerger(
+                truncated,
+                config.insertBatchingConfig().messageSubscriptionInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
+
+    if (!wasMerged) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.MESSAGE_SUBSCRIPTION,
+              WriteStatementType.INSERT,
+              truncated.messageSubscriptionKey(),
+              "io.camunda.db.rdbms.sql.MessageSubscriptionMapper.insert",
+              new BatchInsertDto<>(truncated)));
+    }
   }
 
   public void update(final MessageSubscriptionDbModel messageSubscription) {
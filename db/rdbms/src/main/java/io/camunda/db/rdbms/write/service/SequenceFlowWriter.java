@@ -7,10 +7,14 @@
  */
 package io.camunda.db.rdbms.write.service;
 
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.SequenceFlowMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.SequenceFlowDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.db.rdbms.write.queue.InsertSequenceFlowMerger;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 
@@ -18,9 +22,18 @@ public class SequenceFlowWriter extends ProcessInstanceDependant implements Rdbm
 
   private final ExecutionQueue executionQueue;
 
-  public SequenceFlowWriter(final ExecutionQueue executionQueue, final SequenceFlowMapper mapper) {
+  private final VendorDatabaseProperties vendorDatabaseProperties;
+  private final RdbmsWriterConfig config;
+
+  public SequenceFlowWriter(
+      final ExecutionQueue executionQueue,
+      final SequenceFlowMapper mapper,
+      final VendorDatabaseProperties vendorDatabaseProperties,
+      final RdbmsWriterConfig config) {
     super(mapper);
     this.executionQueue = executionQueue;
+    this.vendorDatabaseProperties = vendorDatabaseProperties;
+    this.config = config;
   }
 
   public void create(final SequenceFlowDbModel sequenceFlow) {
@@ -34,13 +47,22 @@ public class SequenceFlowWriter extends ProcessInstanceDependant implements Rdbm
   }
 
   public void createIfNotExists(final SequenceFlowDbModel sequenceFlow) {
-    executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.SEQUENCE_FLOW,
-            WriteStatementType.INSERT,
-            sequenceFlow.sequenceFlowId(),
-            "io.camunda.db.rdbms.sql.SequenceFlowMapper.createIfNotExists",
-            sequenceFlow));
+    final var wasMerged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new InsertSequenceFlowMerger(
+                sequenceFlow,
+                config.insertBatchingConfig().sequenceFlowInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
+
+    if (!wasMerged) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.SEQUENCE_FLOW,
+              WriteStatementType.INSERT,
+              sequenceFlow.sequenceFlowId(),
+              "io.camunda.db.rdbms.sql.SequenceFlowMapper.createIfNotExists",
+              new BatchInsertDto<>(sequenceFlow)));
+    }
   }
 
   public void delete(final SequenceFlowDbModel sequenceFlow) {
@@ -54,7 +54,9 @@ public class VariableWriter extends ProcessInstanceDependant implements RdbmsWri
     final var wasMerged =
         executionQueue.tryMergeWithExistingQueueItem(
             new InsertVariableMerger(
-                truncatedVariable, config.insertBatchingConfig().variableInsertBatchSize()));
+                truncatedVariable,
+                config.insertBatchingConfig().variableInsertBatchSize(),
+                vendorDatabaseProperties.insertBatchMaxParameters()));
 
     if (!wasMerged) {
       executionQueue.executeInQueue(
@@ -84,6 +84,22 @@ class RdbmsWriterFactoryTest {
         .isNotSameAs(writersPartition1.getExecutionQueue());
   }
 
+  @Test
+  void shouldShareFlushExecutorBetweenPartitions() {
+    // given
+    final var factory = new RdbmsWriterFactory(newBundle(), new SimpleMeterRegistry());
+
+    // when
+    factory.createWriter(
+        new RdbmsWriterConfig.Builder().partitionId(0).flushConcurrency(4).build());
+    factory.createWriter(
+        new RdbmsWriterConfig.Builder().partitionId(1).flushConcurrency(4).build());
+
+    // then
+    assertThat(factory.getFlushExecutor(4)).isSameAs(factory.getFlushExecutor(4));
+    assertThat(factory.getFlushExecutor(4).getMaxConcurrentFlushes()).isEqualTo(4);
+  }
+
   private static RdbmsMapperBundle newBundle() {
     return new RdbmsMapperBundle(
         mock(SqlSessionFactory.class),
@@ -45,6 +45,7 @@ class RdbmsWritersTest {
     // then
     final InOrder inOrder = inOrder(rdbmsWriters, executionQueue);
     inOrder.verify(rdbmsWriters).flush(true);
+    inOrder.verify(executionQueue).awaitFlush();
     inOrder.verify(executionQueue).reset();
   }
 
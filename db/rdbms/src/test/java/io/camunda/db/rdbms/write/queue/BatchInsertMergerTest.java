@@ -227,6 +227,48 @@ class BatchInsertMergerTest {
     assertThat(merger.canBeMerged(queueItem)).isFalse();
   }
 
+  @Test
+  void shouldNotMergeWhenParameterLimitReached() {
+    // given - a limit which allows only two rows per statement
+    final var maxParameters = InsertVariableMerger.PARAMETERS_PER_ROW * 2;
+    final var merger = new InsertVariableMerger(newVariable(3L), 50, maxParameters);
+
+    final var parameter = new BatchInsertDto<>(List.of(newVariable(1L), newVariable(2L)));
+    final var queueItem =
+        new QueueItem(ContextType.VARIABLE, WriteStatementType.INSERT, 1L, "statement", parameter);
+
+    // when - then
+    assertThat(merger.canBeMerged(queueItem)).isFalse();
+  }
+
+  @Test
+  void shouldMergeWhenParameterLimitNotReached() {
+    // given
+    final var maxParameters = InsertVariableMerger.PARAMETERS_PER_ROW * 3;
+    final var merger = new InsertVariableMerger(newVariable(3L), 50, maxParameters);
+
+    final var parameter = new BatchInsertDto<>(List.of(newVariable(1L), newVariable(2L)));
+    final var queueItem =
+        new QueueItem(ContextType.VARIABLE, WriteStatementType.INSERT, 1L, "statement", parameter);
+
+    // when - then
+    assertThat(merger.canBeMerged(queueItem)).isTrue();
+  }
+
+  @Test
+  void shouldKeepBatchSizeWithoutParameterLimit() {
+    assertThat(BatchInsertMerger.maxRowsPerStatement(25, 10, null)).isEqualTo(25);
+    assertThat(BatchInsertMerger.maxRowsPerStatement(25, 10, 0)).isEqualTo(25);
+  }
+
+  @Test
+  void shouldCapBatchSizeToParameterLimit() {
+    assertThat(BatchInsertMerger.maxRowsPerStatement(25, 10, 100)).isEqualTo(10);
+    assertThat(BatchInsertMerger.maxRowsPerStatement(5, 10, 100)).isEqualTo(5);
+    // a single row is always allowed, even if it exceeds the limit on its own
+    assertThat(BatchInsertMerger.maxRowsPerStatement(25, 10, 5)).isEqualTo(1);
+  }
+
   @Test
   void shouldDropDuplicateWhenKeyAlreadyPresentInBatch() {
     final var original = newVariable(1L);
@@ -9,6 +9,7 @@ package io.camunda.db.rdbms.write.queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -18,8 +19,13 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.JobDbModel;
+import io.camunda.search.entities.JobEntity.JobState;
+import io.camunda.zeebe.util.ObjectSizeEstimator;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
@@ -496,6 +502,106 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void shouldOnlyTestQueueItemsMatchingTheMergeTargetKey() {
+    // given
+    for (long id = 1; id <= 3; id++) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE,
+              WriteStatementType.INSERT,
+              id,
+              "statement" + id,
+              "parameter" + id));
+    }
+    final List<QueueItem> testedItems = new ArrayList<>();
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new QueueItemMerger() {
+              @Override
+              public boolean canBeMerged(final QueueItem queueItem) {
+                testedItems.add(queueItem);
+                return true;
+              }
+
+              @Override
+              public QueueItem merge(final QueueItem originalItem) {
+                return originalItem.copy(b -> b.parameter("parameter2+"));
+              }
+
+              @Override
+              public QueueItemKey mergeTargetKey() {
+                return new QueueItemKey(ContextType.PROCESS_INSTANCE, null, 2L);
+              }
+            });
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(testedItems).extracting(QueueItem::id).containsExactly(2L);
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1", "parameter2+", "parameter3");
+  }
+
+  @Test
+  public void shouldFindBatchedInsertByIdOfMergedModel() {
+    // given
+    final var job1 = createJob(100L);
+    final var job2 = createJob(101L);
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.JOB,
+            WriteStatementType.INSERT,
+            job1.jobKey(),
+            "io.camunda.db.rdbms.sql.JobMapper.insert",
+            new BatchInsertDto<>(job1)));
+    assertThat(executionQueue.tryMergeWithExistingQueueItem(new InsertJobMerger(job2, 10)))
+        .isTrue();
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new ListParameterUpsertMerger<JobDbModel>(
+                ContextType.JOB,
+                job2.jobKey(),
+                JobDbModel::jobKey,
+                b -> ((JobDbModel.Builder) b).state(JobState.COMPLETED)));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue()).hasSize(1);
+    final var batch = (BatchInsertDto<JobDbModel>) executionQueue.getQueue().getFirst().parameter();
+    assertThat(batch.dbModels())
+        .extracting(JobDbModel::jobKey, JobDbModel::state)
+        .containsExactly(tuple(100L, JobState.CREATED), tuple(101L, JobState.COMPLETED));
+  }
+
+  @Test
+  public void shouldAccountOnlyForAppendedModelWhenMergingIntoBatch() {
+    // given
+    final var job1 = createJob(100L);
+    final var job2 = createJob(101L);
+    final var item =
+        new QueueItem(
+            ContextType.JOB,
+            WriteStatementType.INSERT,
+            job1.jobKey(),
+            "io.camunda.db.rdbms.sql.JobMapper.insert",
+            new BatchInsertDto<>(job1));
+    executionQueue.executeInQueue(item);
+
+    // when
+    executionQueue.tryMergeWithExistingQueueItem(new InsertJobMerger(job2, 10));
+    executionQueue.flush();
+
+    // then
+    verify(metrics)
+        .recordQueueMemoryUsage(
+            ObjectSizeEstimator.estimateSize(item) + ObjectSizeEstimator.estimateSize(job2));
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -707,4 +813,105 @@ class DefaultExecutionQueueTest {
     verify(sqlSessionFactory)
         .openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_COMMITTED);
   }
+
+  @Test
+  public void whenFlushedAsynchronouslyPostFlushListenersAreCalledOnAwait() {
+    // given
+    executionQueue =
+        new DefaultExecutionQueue(
+            sqlSessionFactory, 1, 10, 0, metrics, new FlushExecutor(2, metrics));
+    final var item =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var preFlushListener = mock(PreFlushListener.class);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPreFlushListener(preFlushListener);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    executionQueue.executeInQueue(item);
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then - the batch is handed over, and the queue is ready for the next one
+    assertThat(flushed).isOne();
+    assertThat(executionQueue.getQueue()).isEmpty();
+    assertThat(executionQueue.hasInFlightFlush()).isTrue();
+    verify(preFlushListener).onPreFlush();
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when
+    executionQueue.awaitFlush();
+
+    // then
+    assertThat(executionQueue.hasInFlightFlush()).isFalse();
+    verify(session).update(item.statementId(), item.parameter());
+    verify(session).commit();
+    verify(postFlushListener).onPostFlush();
+  }
+
+  @Test
+  public void whenAsynchronousFlushFailsItsItemsAreFlushedAgainBeforeNewerItems() {
+    // given
+    executionQueue =
+        new DefaultExecutionQueue(
+            sqlSessionFactory, 1, 10, 0, metrics, new FlushExecutor(2, metrics));
+    final var failedItem =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var newerItem =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    Mockito.doThrow(new RuntimeException("commit failed")).doNothing().when(session).commit();
+    executionQueue.executeInQueue(failedItem);
+    executionQueue.flush();
+
+    // when - the failure surfaces with the next flush
+    executionQueue.executeInQueue(newerItem);
+    assertThatThrownBy(() -> executionQueue.flush()).hasMessage("commit failed");
+
+    // then
+    verify(metrics).recordFailedFlush();
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when - the failed batch is retried on its own
+    assertThat(executionQueue.flush()).isOne();
+    executionQueue.awaitFlush();
+
+    // then
+    verify(session, Mockito.times(2)).update(failedItem.statementId(), failedItem.parameter());
+    verify(session, never()).update(newerItem.statementId(), newerItem.parameter());
+    verify(postFlushListener).onPostFlush();
+
+    // when - the newer items are flushed afterwards
+    assertThat(executionQueue.flush()).isOne();
+    executionQueue.awaitFlush();
+
+    // then
+    verify(session).update(newerItem.statementId(), newerItem.parameter());
+    verify(postFlushListener, Mockito.times(2)).onPostFlush();
+  }
+
+  private static JobDbModel createJob(final long jobKey) {
+    return new JobDbModel.Builder()
+        .jobKey(jobKey)
+        .state(JobState.CREATED)
+        .type("test-type")
+        .retries(3)
+        .partitionId(1)
+        .build();
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class FlushExecutorTest {
+
+  private final RdbmsWriterMetrics metrics = mock(RdbmsWriterMetrics.class);
+
+  @Test
+  void shouldExecuteFlushOnVirtualThread() {
+    // given
+    final var executor = new FlushExecutor(1, metrics);
+
+    // when
+    final var result = executor.submit(() -> Thread.currentThread().isVirtual());
+
+    // then
+    assertThat(result.join()).isTrue();
+    verify(metrics).recordFlushQueueWait(any(Duration.class));
+  }
+
+  @Test
+  void shouldNotExceedMaxConcurrentFlushes() throws InterruptedException {
+    // given
+    final var executor = new FlushExecutor(1, metrics);
+    final var firstFlushStarted = new CountDownLatch(1);
+    final var releaseFirstFlush = new CountDownLatch(1);
+    final var first =
+        executor.submit(
+            () -> {
+              firstFlushStarted.countDown();
+              awaitUninterruptibly(releaseFirstFlush);
+              return 1;
+            });
+    assertThat(firstFlushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final var second = executor.submit(() -> 2);
+
+    // then - the second flush waits until the first one is done
+    assertThat(executor.getInFlightFlushes()).isOne();
+    Thread.sleep(100);
+    assertThat(second).isNotDone();
+
+    releaseFirstFlush.countDown();
+    assertThat(first.join()).isEqualTo(1);
+    assertThat(second.join()).isEqualTo(2);
+    verify(metrics, times(2)).recordFlushQueueWait(any(Duration.class));
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenFlushFails() {
+    // given
+    final var executor = new FlushExecutor(1, metrics);
+
+    // when
+    final var result =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("flush failed");
+            });
+
+    // then
+    assertThatThrownBy(result::join)
+        .isInstanceOf(CompletionException.class)
+        .hasRootCauseMessage("flush failed");
+    // the permit is released again
+    assertThat(executor.submit(() -> 1).join()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectNonPositiveConcurrency() {
+    assertThatThrownBy(() -> new FlushExecutor(0, metrics))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
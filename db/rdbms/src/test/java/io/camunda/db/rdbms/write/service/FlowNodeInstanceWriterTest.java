@@ -14,6 +14,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper;
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.UpdateNameDto;
 import io.camunda.db.rdbms.write.RdbmsWriterConfig;
@@ -46,7 +47,9 @@ class FlowNodeInstanceWriterTest {
     mapper = mock(FlowNodeInstanceMapper.class);
     config = mock(RdbmsWriterConfig.class);
     insertBatchingConfig = mock(RdbmsWriterConfig.InsertBatchingConfig.class);
-    writer = new FlowNodeInstanceWriter(executionQueue, mapper, config);
+    writer =
+        new FlowNodeInstanceWriter(
+            executionQueue, mapper, mock(VendorDatabaseProperties.class), config);
   }
 
   @Test
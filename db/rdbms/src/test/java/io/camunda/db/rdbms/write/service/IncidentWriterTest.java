@@ -11,14 +11,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.IncidentMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.IncidentDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.db.rdbms.write.queue.InsertIncidentMerger;
+import io.camunda.db.rdbms.write.queue.ListParameterUpsertMerger;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
@@ -32,10 +37,11 @@ class IncidentWriterTest {
   private final VendorDatabaseProperties vendorDatabaseProperties =
       mock(VendorDatabaseProperties.class);
   private final IncidentWriter writer =
-      new IncidentWriter(executionQueue, mapper, vendorDatabaseProperties);
+      new IncidentWriter(
+          executionQueue, mapper, vendorDatabaseProperties, RdbmsWriterConfig.builder().build());
 
   @Test
-  void shouldCreateIncident() {
+  void shouldCreateIncidentWhenNotMerged() {
     when(vendorDatabaseProperties.errorMessageSize()).thenReturn(5000);
     when(vendorDatabaseProperties.charColumnMaxBytes()).thenReturn(20000);
 
@@ -54,7 +60,24 @@ class IncidentWriterTest {
                     WriteStatementType.INSERT,
                     123L,
                     "io.camunda.db.rdbms.sql.IncidentMapper.insert",
-                    truncatedModel)));
+                    new BatchInsertDto<>(truncatedModel))));
+  }
+
+  @Test
+  void shouldMergeIncidentInsertionWhenPossible() {
+    when(vendorDatabaseProperties.errorMessageSize()).thenReturn(5000);
+    when(vendorDatabaseProperties.charColumnMaxBytes()).thenReturn(20000);
+    when(executionQueue.tryMergeWithExistingQueueItem(any(InsertIncidentMerger.class)))
+        .thenReturn(true);
+
+    final var model = mock(IncidentDbModel.class);
+    final var truncatedModel = mock(IncidentDbModel.class);
+    when(model.truncateErrorMessage(anyInt(), anyInt())).thenReturn(truncatedModel);
+    when(model.incidentKey()).thenReturn(123L);
+
+    writer.create(model);
+
+    verify(executionQueue, never()).executeInQueue(any(QueueItem.class));
   }
 
   @Test
@@ -80,6 +103,17 @@ class IncidentWriterTest {
                     truncatedModel)));
   }
 
+  @Test
+  void shouldResolveIncidentOfPendingInsertBatch() {
+    when(executionQueue.tryMergeWithExistingQueueItem(any(ListParameterUpsertMerger.class)))
+        .thenReturn(true);
+
+    writer.resolve(123L);
+
+    verify(executionQueue, never()).tryMergeWithExistingQueueItem(any(UpsertMerger.class));
+    verify(executionQueue, never()).executeInQueue(any(QueueItem.class));
+  }
+
   @Test
   void shouldResolveIncidentWhenNotMerged() {
     when(executionQueue.tryMergeWithExistingQueueItem(any(UpsertMerger.class))).thenReturn(false);
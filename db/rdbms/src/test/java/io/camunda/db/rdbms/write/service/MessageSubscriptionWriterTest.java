@@ -15,7 +15,9 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.MessageSubscriptionMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.MessageSubscriptionDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
@@ -30,7 +32,8 @@ class MessageSubscriptionWriterTest {
   private final VendorDatabaseProperties vendorDatabaseProperties =
       mock(VendorDatabaseProperties.class);
   private final MessageSubscriptionWriter writer =
-      new MessageSubscriptionWriter(executionQueue, mapper, vendorDatabaseProperties);
+      new MessageSubscriptionWriter(
+          executionQueue, mapper, vendorDatabaseProperties, RdbmsWriterConfig.builder().build());
 
   MessageSubscriptionWriterTest() {
     when(vendorDatabaseProperties.userCharColumnSize()).thenReturn(Integer.MAX_VALUE);
@@ -51,7 +54,7 @@ class MessageSubscriptionWriterTest {
                     WriteStatementType.INSERT,
                     model.messageSubscriptionKey(),
                     "io.camunda.db.rdbms.sql.MessageSubscriptionMapper.insert",
-                    model)));
+                    new BatchInsertDto<>(model))));
   }
 
   @Test
@@ -108,7 +111,10 @@ class MessageSubscriptionWriterTest {
     // untouched since MessageSubscriptionDbModel is immutable
     final var captor = ArgumentCaptor.forClass(QueueItem.class);
     verify(executionQueue).executeInQueue(captor.capture());
-    final var queuedModel = (MessageSubscriptionDbModel) captor.getValue().parameter();
+    final var queuedModel =
+        ((BatchInsertDto<MessageSubscriptionDbModel>) captor.getValue().parameter())
+            .dbModels()
+            .getFirst();
     assertThat(queuedModel.toolName()).hasSize(5);
     assertThat(queuedModel.inboundConnectorType()).hasSize(5);
   }
@@ -12,8 +12,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.sql.SequenceFlowMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig;
 import io.camunda.db.rdbms.write.domain.SequenceFlowDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
@@ -24,7 +27,12 @@ class SequenceFlowWriterTest {
 
   private final ExecutionQueue executionQueue = mock(ExecutionQueue.class);
   private final SequenceFlowMapper mapper = mock(SequenceFlowMapper.class);
-  private final SequenceFlowWriter writer = new SequenceFlowWriter(executionQueue, mapper);
+  private final SequenceFlowWriter writer =
+      new SequenceFlowWriter(
+          executionQueue,
+          mapper,
+          mock(VendorDatabaseProperties.class),
+          RdbmsWriterConfig.builder().build());
 
   @Test
   void shouldCreateSequenceFlow() {
@@ -59,7 +67,7 @@ class SequenceFlowWriterTest {
                     WriteStatementType.INSERT,
                     "flow1",
                     "io.camunda.db.rdbms.sql.SequenceFlowMapper.createIfNotExists",
-                    model)));
+                    new BatchInsertDto<>(model))));
   }
 
   @Test
@@ -40,6 +40,8 @@ public final class ActorSchedulerConfiguration {
   public ActorScheduler scheduler() {
     final var cpuThreads = schedulerConfiguration.cpuThreads();
     final var ioThreads = schedulerConfiguration.ioThreads();
+    final var ioVirtualThreads = schedulerConfiguration.ioVirtualThreads();
+    final var cpuAffinityGroups = schedulerConfiguration.cpuAffinityGroups();
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
@@ -48,7 +50,9 @@ public final class ActorSchedulerConfiguration {
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
+            .setCpuBoundAffinityGroupCount(cpuAffinityGroups)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundVirtualThreads(ioVirtualThreads)
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -60,8 +64,20 @@ public final class ActorSchedulerConfiguration {
 
   public record SchedulerConfiguration(
       int cpuThreads,
+      int cpuAffinityGroups,
       int ioThreads,
+      boolean ioVirtualThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(cpuThreads, 1, ioThreads, false, metricsEnabled, schedulerPrefix, nodeId);
+    }
+  }
 }
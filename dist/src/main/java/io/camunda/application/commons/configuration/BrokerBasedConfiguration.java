@@ -77,12 +77,21 @@ public class BrokerBasedConfiguration {
   public SchedulerConfiguration schedulerConfiguration() {
     final var threadCfg = properties.getThreads();
     final var cpuThreads = threadCfg.getCpuThreadCount();
+    final var cpuAffinityGroups = threadCfg.getCpuAffinityGroupCount();
     final var ioThreads = threadCfg.getIoThreadCount();
+    final var ioVirtualThreads = threadCfg.isIoVirtualThreadsEnabled();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId =
         MemberIdUtil.memberIdString(
             properties.getCluster().getZone(), properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        cpuAffinityGroups,
+        ioThreads,
+        ioVirtualThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId);
   }
 
   @ConditionalOnAnyHttpGatewayEnabled
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.microbenchmarks.rdbms;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.domain.JobDbModel;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel.ProcessInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.db.rdbms.write.queue.BatchInsertDto;
+import io.camunda.db.rdbms.write.queue.ContextType;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.InsertFlowNodeInstanceMerger;
+import io.camunda.db.rdbms.write.queue.InsertJobMerger;
+import io.camunda.db.rdbms.write.queue.InsertVariableMerger;
+import io.camunda.db.rdbms.write.queue.ListParameterUpsertMerger;
+import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.UpsertMerger;
+import io.camunda.db.rdbms.write.queue.WriteStatementType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Microbenchmark of filling the RDBMS {@link DefaultExecutionQueue} up to its flush limit, with the
+ * mix of inserts and merges the RDBMS exporter produces for simple process instances: each instance
+ * inserts its process instance and a few flow node instances, variables and jobs, which are batched
+ * into existing insert items, and then completes its jobs, flow node instances and process
+ * instance, which are merged into the queued inserts.
+ *
+ * <p>Nothing is flushed; the benchmark measures the cost of enqueuing and merging only, which is
+ * dominated by looking up the merge targets in the queue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class ExecutionQueueMergeBenchmark {
+
+  private static final int INSERT_BATCH_SIZE = 25;
+  private static final int FLOW_NODES_PER_INSTANCE = 4;
+
+  @Benchmark
+  public void fillQueue(final QueueState state) {
+    for (int i = 0; i < state.processInstances; i++) {
+      state.exportProcessInstance();
+    }
+    state.queue.reset();
+  }
+
+  @State(Scope.Thread)
+  public static class QueueState {
+
+    @Param({"100", "1000"})
+    public int processInstances;
+
+    DefaultExecutionQueue queue;
+    long nextKey;
+    OffsetDateTime now;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      queue =
+          new DefaultExecutionQueue(
+              null, 1, 0, 0, new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+      nextKey = 1L;
+      now = OffsetDateTime.now();
+    }
+
+    void exportProcessInstance() {
+      final long processInstanceKey = nextKey++;
+      queue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE,
+              WriteStatementType.INSERT,
+              processInstanceKey,
+              "io.camunda.db.rdbms.sql.ProcessInstanceMapper.insert",
+              new ProcessInstanceDbModel.ProcessInstanceDbModelBuilder()
+                  .processInstanceKey(processInstanceKey)
+                  .processDefinitionId("process")
+                  .startDate(now)
+                  .build()));
+
+      final long[] flowNodeKeys = new long[FLOW_NODES_PER_INSTANCE];
+      final long[] jobKeys = new long[FLOW_NODES_PER_INSTANCE];
+      for (int i = 0; i < FLOW_NODES_PER_INSTANCE; i++) {
+        flowNodeKeys[i] = nextKey++;
+        insertFlowNode(processInstanceKey, flowNodeKeys[i]);
+        insertVariable(processInstanceKey, flowNodeKeys[i]);
+        jobKeys[i] = nextKey++;
+        insertJob(processInstanceKey, flowNodeKeys[i], jobKeys[i]);
+      }
+
+      for (int i = 0; i < FLOW_NODES_PER_INSTANCE; i++) {
+        final Function<JobDbModel.Builder, JobDbModel.Builder> completeJob = b -> b.endTime(now);
+        queue.tryMergeWithExistingQueueItem(
+            new ListParameterUpsertMerger<>(
+                ContextType.JOB, jobKeys[i], JobDbModel::jobKey, completeJob));
+
+        final Function<FlowNodeInstanceDbModelBuilder, FlowNodeInstanceDbModelBuilder>
+            completeFlowNode = b -> b.endDate(now);
+        queue.tryMergeWithExistingQueueItem(
+            new ListParameterUpsertMerger<>(
+                ContextType.FLOW_NODE,
+                flowNodeKeys[i],
+                FlowNodeInstanceDbModel::flowNodeInstanceKey,
+                completeFlowNode));
+      }
+
+      final Function<ProcessInstanceDbModelBuilder, ProcessInstanceDbModelBuilder>
+          completeProcessInstance = b -> b.endDate(now);
+      queue.tryMergeWithExistingQueueItem(
+          new UpsertMerger<>(
+              ContextType.PROCESS_INSTANCE,
+              processInstanceKey,
+              ProcessInstanceDbModel.class,
+              completeProcessInstance));
+    }
+
+    private void insertFlowNode(final long processInstanceKey, final long flowNodeKey) {
+      final var flowNode =
+          new FlowNodeInstanceDbModelBuilder()
+              .flowNodeInstanceKey(flowNodeKey)
+              .processInstanceKey(processInstanceKey)
+              .flowNodeId("task")
+              .startDate(now)
+              .build();
+      if (!queue.tryMergeWithExistingQueueItem(
+          new InsertFlowNodeInstanceMerger(flowNode, INSERT_BATCH_SIZE))) {
+        queue.executeInQueue(
+            new QueueItem(
+                ContextType.FLOW_NODE,
+                WriteStatementType.INSERT,
+                flowNodeKey,
+                "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert",
+                new BatchInsertDto<>(flowNode)));
+      }
+    }
+
+    private void insertVariable(final long processInstanceKey, final long scopeKey) {
+      final long variableKey = nextKey++;
+      final var variable =
+          new VariableDbModel.VariableDbModelBuilder()
+              .variableKey(variableKey)
+              .name("var")
+              .value("\"value\"")
+              .scopeKey(scopeKey)
+              .processInstanceKey(processInstanceKey)
+              .build();
+      if (!queue.tryMergeWithExistingQueueItem(
+          new InsertVariableMerger(variable, INSERT_BATCH_SIZE))) {
+        queue.executeInQueue(
+            new QueueItem(
+                ContextType.VARIABLE,
+                WriteStatementType.INSERT,
+                variableKey,
+                "io.camunda.db.rdbms.sql.VariableMapper.insert",
+                new BatchInsertDto<>(variable)));
+      }
+    }
+
+    private void insertJob(
+        final long processInstanceKey, final long elementInstanceKey, final long jobKey) {
+      final var job =
+          new JobDbModel.Builder()
+              .jobKey(jobKey)
+              .type("task")
+              .retries(3)
+              .processInstanceKey(processInstanceKey)
+              .elementInstanceKey(elementInstanceKey)
+              .build();
+      if (!queue.tryMergeWithExistingQueueItem(new InsertJobMerger(job, INSERT_BATCH_SIZE))) {
+        queue.executeInQueue(
+            new QueueItem(
+                ContextType.JOB,
+                WriteStatementType.INSERT,
+                jobKey,
+                "io.camunda.db.rdbms.sql.JobMapper.insert",
+                new BatchInsertDto<>(job)));
+      }
+    }
+  }
+}
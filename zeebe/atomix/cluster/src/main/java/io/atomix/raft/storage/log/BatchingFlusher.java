@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which groups appended entries into batches, and
+ * flushes each batch with a single flush. A batch is flushed as soon as one of the following
+ * thresholds is reached, whichever comes first:
+ *
+ * <ul>
+ *   <li>at least {@code maxBatchEntries} entries were appended since the last flush; the flush is
+ *       then performed synchronously by the caller of {@link #flush(Journal)}
+ *   <li>the first signal of the current batch is older than {@code maxDelay}; the flush is then
+ *       performed asynchronously on the given scheduler
+ * </ul>
+ *
+ * <p>This bounds both the number of unflushed entries and the time they stay unflushed, unlike the
+ * {@link DelayedFlusher}, which only bounds the latter. Like the {@link DelayedFlusher}, this
+ * trades safety for throughput, as entries may be acknowledged or committed before they are
+ * flushed.
+ *
+ * <p>NOTE: {@link #flush(Journal)} is expected to be called from the same thread as the journal
+ * write path, e.g. the Raft thread. Flushes from that thread and from the scheduler are serialized.
+ */
+public final class BatchingFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BatchingFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration maxDelay;
+  private final int maxBatchEntries;
+
+  private final Object scheduledMonitor = new Object();
+  private final Object flushMonitor = new Object();
+  private Scheduled scheduledFlush;
+  private volatile long lastFlushedIndex;
+
+  private boolean closed;
+
+  public BatchingFlusher(
+      final Scheduler scheduler, final Duration maxDelay, final int maxBatchEntries) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid flush delay");
+    if (maxBatchEntries <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max batch entries to be greater than 0, but was " + maxBatchEntries);
+    }
+    this.maxBatchEntries = maxBatchEntries;
+  }
+
+  @Override
+  public void flush(final Journal journal) throws FlushException {
+    final long lastIndex = journal.getLastIndex();
+    if (lastIndex - lastFlushedIndex < maxBatchEntries) {
+      scheduleFlush(journal);
+      return;
+    }
+
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    LOGGER.trace("Flushing journal after batching {} entries", lastIndex - lastFlushedIndex);
+    flushJournal(journal);
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        LOGGER.trace(
+            "Scheduling batched flush in {} up to index {}", maxDelay, journal.getLastIndex());
+        scheduledFlush = scheduler.schedule(maxDelay, () -> asyncFlush(journal));
+      }
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+    }
+
+    LOGGER.trace("Flushing journal after {}", maxDelay);
+
+    try {
+      flushJournal(journal);
+    } catch (final CheckedJournalException | JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxDelay, e);
+      scheduleFlush(journal);
+    }
+  }
+
+  private void flushJournal(final Journal journal) throws FlushException {
+    synchronized (flushMonitor) {
+      // read the last index before flushing, as anything appended concurrently may not be flushed
+      final long flushedIndex = journal.getLastIndex();
+      journal.flush();
+      lastFlushedIndex = flushedIndex;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "BatchingFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxDelay="
+        + maxDelay
+        + ", maxBatchEntries="
+        + maxBatchEntries
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -28,6 +28,12 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link BatchingFlusher} flushes appended entries in batches rather than on every append. A
+ * batch is flushed synchronously once the configured flush batch size of entries was appended since
+ * the last flush, or asynchronously once the flush delay elapsed, whichever comes first. It is
+ * selected when both the flush delay and the flush batch size are greater than 0, and bounds the
+ * number of unflushed entries in addition to the time they stay unflushed.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -23,6 +23,7 @@ import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.Serializer;
 import com.esotericsoftware.kryo.io.ByteBufferOutput;
 import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.util.Pool;
 import com.esotericsoftware.minlog.Log;
 import com.google.common.base.MoreObjects;
@@ -47,8 +48,6 @@ public class Namespace {
   /** Default buffer size used for serialization (@see #serialize(Object)). */
   private static final int DEFAULT_BUFFER_SIZE = 4096;
 
-  private static final int MAX_OUTPUT_BUFFER_SIZE = 768 * 1024;
-
   private static final int MAX_POOLED_BUFFER_SIZE = 512 * 1024;
 
   /** Smallest ID free to use for user defined registrations. */
@@ -59,20 +58,18 @@ public class Namespace {
   }
 
   private final Pool<Kryo> kryoPool;
-  private final Pool<ByteArrayOutput> outputPool =
+  private final Pool<Output> outputPool =
       new Pool<>(true, true) {
         @Override
-        protected ByteArrayOutput create() {
-          return new ByteArrayOutput(
-              DEFAULT_BUFFER_SIZE,
-              MAX_OUTPUT_BUFFER_SIZE,
-              new BufferAwareByteArrayOutputStream(DEFAULT_BUFFER_SIZE));
+        protected Output create() {
+          // no output stream and no max size: the buffer grows to fit the whole message, so that
+          // serializing only copies it once into the resulting byte array
+          return new Output(DEFAULT_BUFFER_SIZE, -1);
         }
 
         @Override
-        public void free(final ByteArrayOutput output) {
-          if (output.getByteArrayOutputStream().getBufferSize() < MAX_POOLED_BUFFER_SIZE) {
-            output.getByteArrayOutputStream().reset();
+        public void free(final Output output) {
+          if (output.getBuffer().length < MAX_POOLED_BUFFER_SIZE) {
             output.reset();
             super.free(output);
           }
@@ -120,7 +117,7 @@ public class Namespace {
    * @return serialized bytes
    */
   public byte[] serialize(final Object obj) {
-    final ByteArrayOutput output = outputPool.obtain();
+    final Output output = outputPool.obtain();
     try {
       final Kryo kryo = kryoPool.obtain();
       try {
@@ -128,8 +125,7 @@ public class Namespace {
       } finally {
         kryoPool.free(kryo);
       }
-      output.flush();
-      return output.getByteArrayOutputStream().toByteArray();
+      return output.toBytes();
     } finally {
       outputPool.free(output);
     }
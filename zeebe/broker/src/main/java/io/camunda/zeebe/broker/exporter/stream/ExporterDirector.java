@@ -41,6 +41,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.jspecify.annotations.Nullable;
@@ -64,6 +66,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String LEGACY_EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "%s-exporterState-%d";
+  private static final Duration EXPORTED_POSITION_UPDATE_INTERVAL = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -105,6 +108,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final InstantSource clock;
   private final RecordMetadataBlock skipRecordDecoder = new RecordMetadataBlock();
 
+  // When exporting independently, this director doesn't export any records itself. Instead, it
+  // runs a pipeline per exporter, which is a director of that single exporter with its own actor
+  // and log reader, and only coordinates the pipelines.
+  private final ExporterDirectorContext context;
+  private final boolean exportsIndependently;
+  private final boolean isPipeline;
+  private final Map<String, ExporterDirector> pipelines = new HashMap<>();
+  private final Map<String, HealthReport> pipelineHealthReports = new HashMap<>();
+  private ActorSchedulingService actorSchedulingService;
+  // the position of the last record exported by this pipeline, read by the coordinating director
+  private volatile long exportedPosition = -1;
+
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
     this(context, exporterPhase, Function.identity());
@@ -115,15 +130,32 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       final ExporterDirectorContext context,
       final ExporterPhase exporterPhase,
       final Function<RecordExporter, RecordExporter> recorderExporter) {
-    super("Exporter", context.getPartitionId());
+    this(context, exporterPhase, recorderExporter, "Exporter", false);
+  }
+
+  private ExporterDirector(
+      final ExporterDirectorContext context,
+      final ExporterPhase exporterPhase,
+      final Function<RecordExporter, RecordExporter> recorderExporter,
+      final String name,
+      final boolean isPipeline) {
+    super(name, context.getPartitionId());
+    this.context = context;
+    this.isPipeline = isPipeline;
+    exportsIndependently =
+        !isPipeline
+            && context.isExportIndependently()
+            && context.getExporterMode() == ExporterMode.ACTIVE;
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = context.getPartitionId();
     clusterId = context.getClusterId();
     licenseKey = context.getLicenseKey();
     meterRegistry = context.getMeterRegistry();
     clock = context.getClock();
+    final Map<ExporterDescriptor, ExporterInitializationInfo> descriptors =
+        exportsIndependently ? Map.of() : context.getDescriptors();
     containers =
-        context.getDescriptors().entrySet().stream()
+        descriptors.entrySet().stream()
             .map(
                 descriptorEntry ->
                     new ExporterContainer(
@@ -137,7 +169,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                         this::onReplayRequested))
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(meterRegistry);
-    metrics.initializeExporterState(exporterPhase);
+    if (!isPipeline) {
+      // the coordinating director reports the phase of its pipelines
+      metrics.initializeExporterState(exporterPhase);
+    }
     recordExporter =
         recorderExporter.apply(
             new RecordExporter(metrics, containers, partitionId.number(), clock));
@@ -164,6 +199,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -185,6 +221,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (exportsIndependently) {
+      return callOnPipelines(
+          () -> {
+            metrics.setExporterPaused();
+            exporterPhase = ExporterPhase.PAUSED;
+          },
+          ExporterDirector::pauseExporting);
+    }
     return actor.call(
         () -> {
           metrics.setExporterPaused();
@@ -207,6 +251,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (exportsIndependently) {
+      return callOnPipelines(
+          () -> {
+            exporterPhase = ExporterPhase.SOFT_PAUSED;
+            metrics.setExporterSoftPaused();
+          },
+          ExporterDirector::softPauseExporting);
+    }
     return actor.call(
         () -> {
           containers.stream().forEach(ExporterContainer::softPauseExporter);
@@ -227,6 +279,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // state will be applied and exporting "resumes".
       return CompletableActorFuture.completed(null);
     }
+    if (exportsIndependently) {
+      return callOnPipelines(
+          () -> {
+            exporterPhase = ExporterPhase.EXPORTING;
+            metrics.setExporterActive();
+          },
+          ExporterDirector::resumeExporting);
+    }
 
     return actor.call(
         () -> {
@@ -252,6 +312,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(null);
     }
+    if (exportsIndependently) {
+      return callOnActor(() -> removePipeline(exporterId));
+    }
 
     return actor.call(
         () -> {
@@ -300,6 +363,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(null);
     }
+    if (exportsIndependently) {
+      return callOnActor(() -> startPipeline(exporterId, initializationInfo, descriptor));
+    }
 
     return actor.call(() -> addExporter(exporterId, initializationInfo, descriptor));
   }
@@ -321,6 +387,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       final String exporterId,
       final ExporterInitializationInfo initializationInfo,
       final ExporterDescriptor descriptor) {
+    if (exportsIndependently) {
+      // a pipeline which fails to configure or open its exporter fails on its own, which is
+      // reported through the health of this director
+      return callOnActor(() -> startPipeline(exporterId, initializationInfo, descriptor))
+          .thenApply(ignored -> true);
+    }
     return new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
         .runWithRetry(
             () -> {
@@ -359,6 +431,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             clock,
             this::onReplayRequested);
     container.initContainer(actor, metrics, state, exporterPhase);
+    observeExporterLag(container);
     try {
       container.configureExporter();
     } catch (final Exception e) {
@@ -387,13 +460,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !exportsIndependently) {
       logStreamReader = logStream.newLogStreamReader();
     }
   }
 
   @Override
   protected void onActorStarted() {
+    if (exportsIndependently) {
+      startPipelines();
+      return;
+    }
+
     try {
       LOG.debug("Recovering exporter from snapshot");
       recoverFromSnapshot();
@@ -415,7 +493,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     // remove exporters from state
     // which are no longer in our configuration
-    clearExporterState();
+    if (!isPipeline) {
+      // the coordinating director clears the state, which is shared by all its pipelines
+      clearExporterState(containers.stream().map(ExporterContainer::getId).toList());
+    }
     if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
@@ -442,6 +523,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     isOpened.set(false);
     containers.forEach(ExporterContainer::close);
     exporterDistributionService.close();
+    for (final ExporterDirector pipeline : pipelines.values()) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          pipeline.closeAsync(),
+          (ignored, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter pipeline '{}'", pipeline.getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -501,12 +591,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.initContainer(actor, metrics, state, exporterPhase);
       container.configureExporter();
+      observeExporterLag(container);
     }
 
     eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
     LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
+  private void observeExporterLag(final ExporterContainer container) {
+    if (exporterMode == ExporterMode.ACTIVE) {
+      metrics.observeExporterLag(
+          container.getId(), logStream.getFlowControl()::getLastWrittenPosition);
+    }
+  }
+
   private void recoverFromSnapshot() {
     state = new ExportersState(zeebeDb, zeebeDb.createContext());
     final long snapshotPosition = state.getLowestPosition();
@@ -615,7 +713,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         (error) -> {
           allExportersOpened = true;
           if (state.hasExporters()) {
-            final long snapshotPosition = state.getLowestPosition();
+            // a pipeline doesn't have to wait for the other exporters, whose positions are in the
+            // same state
+            final long snapshotPosition =
+                isPipeline
+                    ? containers.stream().mapToLong(ExporterContainer::getPosition).min().orElse(-1)
+                    : state.getLowestPosition();
             // start reading and exporting
             startActiveExportingFrom(snapshotPosition);
           } else {
@@ -678,8 +781,184 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       actor.submit(this::readNextEvent);
     }
 
+    if (!isPipeline) {
+      // the coordinating director distributes the state of all its pipelines
+      exporterDistributionTimer =
+          actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    }
+  }
+
+  /**
+   * Starts a pipeline for each configured exporter, instead of exporting the records to all
+   * exporters in turn.
+   */
+  private void startPipelines() {
+    try {
+      LOG.debug("Recovering exporter from snapshot");
+      recoverFromSnapshot();
+      exporterDistributionService =
+          new ExporterStateDistributionService(
+              this::consumeExporterStateFromLeader,
+              partitionMessagingService,
+              exporterPositionsSendingSubject,
+              exporterPositionsReceivingSubjects);
+    } catch (final Exception e) {
+      onFailure();
+      LangUtil.rethrowUnchecked(e);
+    }
+
+    isOpened.set(true);
+
+    final var descriptors = context.getDescriptors();
+    clearExporterState(descriptors.keySet().stream().map(ExporterDescriptor::getId).toList());
+    descriptors.forEach(
+        (descriptor, initializationInfo) ->
+            startPipeline(descriptor.getId(), initializationInfo, descriptor));
+
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    actor.runAtFixedRate(EXPORTED_POSITION_UPDATE_INTERVAL, this::updateExportedPosition);
+  }
+
+  private ActorFuture<Void> startPipeline(
+      final String exporterId,
+      final ExporterInitializationInfo initializationInfo,
+      final ExporterDescriptor descriptor) {
+    if (pipelines.containsKey(exporterId)) {
+      LOG.debug("Exporter '{}' is already enabled. Skipping the enabling operation.", exporterId);
+      return CompletableActorFuture.completed(null);
+    }
+
+    final var pipeline =
+        new ExporterDirector(
+            createPipelineContext(descriptor, initializationInfo),
+            exporterPhase,
+            Function.identity(),
+            "Exporter-" + exporterId,
+            true);
+    pipelines.put(exporterId, pipeline);
+    pipeline.addFailureListener(new PipelineFailureListener(exporterId, pipeline));
+    LOG.debug("Exporter '{}' is enabled.", exporterId);
+
+    return pipeline.startAsync(actorSchedulingService);
+  }
+
+  private ActorFuture<Void> removePipeline(final String exporterId) {
+    final var pipeline = pipelines.remove(exporterId);
+    if (pipeline == null) {
+      LOG.debug("Exporter '{}' is not found. It may already be removed.", exporterId);
+      return CompletableActorFuture.completed(null);
+    }
+    if (pipelineHealthReports.remove(exporterId) != null) {
+      updatePipelinesHealth();
+    }
+
+    final var removed = new CompletableActorFuture<Void>();
+    actor.runOnCompletion(
+        pipeline.closeAsync(),
+        (ignored, error) -> {
+          if (error != null) {
+            removed.completeExceptionally(error);
+            return;
+          }
+
+          // the state is removed only once the pipeline is closed, so that it can't update it again
+          state.removeExporterState(exporterId);
+          LOG.debug("Exporter '{}' is removed.", exporterId);
+          removed.complete(null);
+        });
+    return removed;
+  }
+
+  private ExporterDirectorContext createPipelineContext(
+      final ExporterDescriptor descriptor, final ExporterInitializationInfo initializationInfo) {
+    return new ExporterDirectorContext()
+        .id(context.getId())
+        .partitionId(partitionId)
+        .clock(clock)
+        .logStream(logStream)
+        .zeebeDb(zeebeDb)
+        .distributionInterval(distributionInterval)
+        .partitionMessagingService(partitionMessagingService)
+        .descriptors(Map.of(descriptor, initializationInfo))
+        .exporterMode(exporterMode)
+        .positionsToSkipFilter(positionsToSkipFilter)
+        .meterRegistry(meterRegistry)
+        .clusterId(clusterId)
+        .licenseKey(licenseKey)
+        .tenantName(context.getTenantName())
+        .receiveOnLegacySubject(context.isReceiveOnLegacySubject());
+  }
+
+  /**
+   * Reports the position exported by all pipelines to the flow control, like the position exported
+   * by all exporters when they export the records in turn. Pipelines which didn't export any record
+   * yet are ignored.
+   */
+  private void updateExportedPosition() {
+    long position = Long.MAX_VALUE;
+    for (final ExporterDirector pipeline : pipelines.values()) {
+      final long pipelinePosition = pipeline.exportedPosition;
+      if (pipelinePosition > 0) {
+        position = Math.min(position, pipelinePosition);
+      }
+    }
+
+    if (position != Long.MAX_VALUE) {
+      logStream.getFlowControl().onExported(position);
+    }
+  }
+
+  /** Runs the operation on the actor, and completes the returned future with its result. */
+  private ActorFuture<Void> callOnActor(final Supplier<ActorFuture<Void>> operation) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(() -> operation.get().onComplete(result));
+    return result;
+  }
+
+  /**
+   * Updates this director, and then applies the operation to all pipelines. The returned future is
+   * completed once the operation completed for all pipelines.
+   */
+  private ActorFuture<Void> callOnPipelines(
+      final Runnable update, final Function<ExporterDirector, ActorFuture<Void>> operation) {
+    return callOnActor(
+        () -> {
+          update.run();
+
+          final var result = new CompletableActorFuture<Void>();
+          actor.runOnCompletion(
+              pipelines.values().stream().map(operation).toList(),
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
+          return result;
+        });
+  }
+
+  private void onPipelineHealthReport(
+      final String exporterId, final ExporterDirector pipeline, final HealthReport report) {
+    if (pipelines.get(exporterId) != pipeline) {
+      // the pipeline was removed in the meantime, so its report is outdated
+      return;
+    }
+
+    pipelineHealthReports.put(exporterId, report);
+    updatePipelinesHealth();
+  }
+
+  /** Reports the worst health of all pipelines as the health of this director. */
+  private void updatePipelinesHealth() {
+    healthReport =
+        HealthReport.fromChildrenStatus(getName(), pipelineHealthReports)
+            .orElseGet(() -> HealthReport.healthy(this));
+    for (final var listener : listeners) {
+      listener.onHealthReport(healthReport);
+    }
   }
 
   private void startPassiveExportingMode() {
@@ -760,6 +1039,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             () -> {
               final ExportOutcome outcome = recordExporter.export();
               lastOutcome.set(outcome);
+              if (isPipeline) {
+                updatePipelineHealth(outcome);
+              }
               return outcome != ExportOutcome.RETRY;
             },
             this::isClosed);
@@ -776,7 +1058,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             inExportingPhase = false;
             actor.submit(this::readNextEvent);
           } else {
-            logStream.getFlowControl().onExported(recordExporter.getTypedEvent().getPosition());
+            final long position = recordExporter.getTypedEvent().getPosition();
+            if (isPipeline) {
+              // the coordinating director reports the position exported by all its pipelines
+              exportedPosition = position;
+            } else {
+              logStream.getFlowControl().onExported(position);
+            }
             metrics.eventExported(recordExporter.getTypedEvent().getValueType());
             inExportingPhase = false;
             actor.submit(this::readNextEvent);
@@ -784,10 +1072,27 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
-  private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
+  /**
+   * Reports a pipeline as unhealthy while its exporter fails to export a record, and as recovered
+   * once it exports again. Other exporters keep exporting meanwhile, so the failing exporter is
+   * otherwise only noticed by its lag.
+   */
+  private void updatePipelineHealth(final ExportOutcome outcome) {
+    if (outcome == ExportOutcome.RETRY && healthReport.isHealthy()) {
+      healthReport =
+          HealthReport.unhealthy(this).withMessage("Failed to export record", clock.instant());
+      for (final var listener : listeners) {
+        listener.onFailure(healthReport);
+      }
+    } else if (outcome != ExportOutcome.RETRY && healthReport.isUnhealthy()) {
+      healthReport = HealthReport.healthy(this);
+      for (final var listener : listeners) {
+        listener.onRecovered(healthReport);
+      }
+    }
+  }
 
+  private void clearExporterState(final List<String> exporterIds) {
     state.visitExporterState(
         (exporterId, exporterStateEntry) -> {
           if (!exporterIds.contains(exporterId)) {
@@ -841,6 +1146,32 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  /** Reports the health of a pipeline to the coordinating director. */
+  private final class PipelineFailureListener implements FailureListener {
+    private final String exporterId;
+    private final ExporterDirector pipeline;
+
+    private PipelineFailureListener(final String exporterId, final ExporterDirector pipeline) {
+      this.exporterId = exporterId;
+      this.pipeline = pipeline;
+    }
+
+    @Override
+    public void onFailure(final HealthReport report) {
+      actor.run(() -> onPipelineHealthReport(exporterId, pipeline, report));
+    }
+
+    @Override
+    public void onRecovered(final HealthReport report) {
+      actor.run(() -> onPipelineHealthReport(exporterId, pipeline, report));
+    }
+
+    @Override
+    public void onUnrecoverableFailure(final HealthReport report) {
+      actor.run(() -> onPipelineHealthReport(exporterId, pipeline, report));
+    }
+  }
+
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadataBlock decoder = new RecordMetadataBlock();
@@ -39,6 +39,7 @@ public final class ExporterDirectorContext {
   private @Nullable String licenseKey;
   private String tenantName;
   private boolean receiveOnLegacySubject = true;
+  private boolean exportIndependently;
 
   public int getId() {
     return id;
@@ -96,6 +97,10 @@ public final class ExporterDirectorContext {
     return receiveOnLegacySubject;
   }
 
+  public boolean isExportIndependently() {
+    return exportIndependently;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -168,6 +173,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param exportIndependently whether each exporter runs on its own actor, with its own log
+   *     reader, such that a slow exporter doesn't hold back the others; only applies to the {@link
+   *     ExporterMode#ACTIVE} mode
+   */
+  public ExporterDirectorContext exportIndependently(final boolean exportIndependently) {
+    this.exportIndependently = exportIndependently;
+    return this;
+  }
+
   public PartitionId getPartitionId() {
     return partitionId;
   }
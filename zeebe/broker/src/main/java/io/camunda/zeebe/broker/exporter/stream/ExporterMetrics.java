@@ -18,11 +18,15 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 public final class ExporterMetrics {
   private static final String LABEL_NAME_EXPORTER = "exporter";
@@ -30,7 +34,9 @@ public final class ExporterMetrics {
   private static final String LABEL_NAME_VALUE_TYPE = "valueType";
 
   private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
-  private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
+  // concurrent, since the exporter lag gauges read it
+  private final Map<String, AtomicLong> lastUpdatedExportedPositions = new ConcurrentHashMap<>();
+  private final Set<String> observedExporterLags = new HashSet<>();
   private final AtomicInteger exporterState = new AtomicInteger();
   private final Map<ValueType, Timer> exportingLatency = new HashMap<>();
   private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
@@ -81,6 +87,35 @@ public final class ExporterMetrics {
         .set(position);
   }
 
+  /**
+   * Observes the lag of the given exporter, i.e. the number of records written to the log which it
+   * hasn't acknowledged yet.
+   *
+   * @param exporter the id of the exporter
+   * @param lastWrittenPosition supplies the highest position written to the log, or -1 if nothing
+   *     was written yet; it's called by the metrics registry, outside of the exporter's actor
+   */
+  public void observeExporterLag(final String exporter, final LongSupplier lastWrittenPosition) {
+    if (!observedExporterLags.add(exporter)) {
+      return;
+    }
+
+    final var meterDoc = ExporterMetricsDoc.EXPORTER_LAG;
+    Gauge.builder(
+            meterDoc.getName(), () -> getExporterLag(exporter, lastWrittenPosition.getAsLong()))
+        .tag(LABEL_NAME_EXPORTER, exporter)
+        .description(meterDoc.getDescription())
+        .register(meterRegistry);
+  }
+
+  private long getExporterLag(final String exporter, final long lastWrittenPosition) {
+    final var acknowledgedPosition = lastUpdatedExportedPositions.get(exporter);
+    if (acknowledgedPosition == null || lastWrittenPosition < 0) {
+      return 0;
+    }
+    return Math.max(0, lastWrittenPosition - acknowledgedPosition.get());
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     exportingLatency
@@ -53,6 +53,25 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** The number of records written to the log which the exporter hasn't acknowledged yet */
+  EXPORTER_LAG {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Meter.Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of records written to the log which the exporter hasn't acknowledged yet,"
+          + " by exporter and partition";
+    }
+  },
+
   /**
    * Describes the phase of the exporter, namely if it is exporting, paused or soft paused; valid
    * values are those found in {@link ExporterPhase}
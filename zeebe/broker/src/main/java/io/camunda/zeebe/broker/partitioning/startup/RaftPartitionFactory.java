@@ -11,6 +11,7 @@ import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.storage.log.BatchingFlusher;
 import io.atomix.raft.storage.log.DelayedFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.cluster.PartitionId;
@@ -130,7 +131,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, 0));
     }
 
     return createFlusherFactory(config);
@@ -143,6 +144,12 @@ public final class RaftPartitionFactory {
         return RaftLogFlusher.Factory::direct;
       }
 
+      final int batchSize = config.batchSize();
+      if (batchSize > 0) {
+        return threadFactory ->
+            new BatchingFlusher(threadFactory.createContext(), delayTime, batchSize);
+      }
+
       return threadFactory -> new DelayedFlusher(threadFactory.createContext(), delayTime);
     }
 
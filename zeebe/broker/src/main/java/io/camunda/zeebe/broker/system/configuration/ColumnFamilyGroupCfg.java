@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGroupConfiguration;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Configuration of a group of logical column families which is stored in its own physical RocksDB
+ * column family. The name of the group is the key under which it is configured.
+ */
+public final class ColumnFamilyGroupCfg {
+
+  /** names of the logical column families in this group, e.g. {@code JOBS} */
+  private Set<String> columnFamilies = new HashSet<>();
+
+  /** RocksDB column family options of this group, e.g. {@code compaction_style} */
+  private Properties columnFamilyOptions = new Properties();
+
+  /** fraction of the partition's block cache budget to use as dedicated cache; 0 to share it */
+  private double blockCacheShare = 0;
+
+  /** bits per key of the bloom filter; 0 to disable it */
+  private int bloomFilterBitsPerKey =
+      ColumnFamilyGroupConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
+  public Set<String> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Set<String> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public Properties getColumnFamilyOptions() {
+    return columnFamilyOptions;
+  }
+
+  public void setColumnFamilyOptions(final Properties columnFamilyOptions) {
+    this.columnFamilyOptions = columnFamilyOptions;
+  }
+
+  public double getBlockCacheShare() {
+    return blockCacheShare;
+  }
+
+  public void setBlockCacheShare(final double blockCacheShare) {
+    this.blockCacheShare = blockCacheShare;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  ColumnFamilyGroupConfiguration createConfiguration(final String name) {
+    return new ColumnFamilyGroupConfiguration(
+        name,
+        columnFamilies,
+        RocksdbCfg.initColumnFamilyOptions(columnFamilyOptions),
+        blockCacheShare,
+        bloomFilterBitsPerKey);
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyGroupCfg{"
+        + "columnFamilies="
+        + columnFamilies
+        + ", columnFamilyOptions="
+        + columnFamilyOptions
+        + ", blockCacheShare="
+        + blockCacheShare
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + '}';
+  }
+}
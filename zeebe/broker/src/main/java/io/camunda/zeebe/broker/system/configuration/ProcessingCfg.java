@@ -16,6 +16,9 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_MAX_RECOVERABLE_RETRIES = 1000;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private int maxRecoverableRetries = DEFAULT_MAX_RECOVERABLE_RETRIES;
+  private int bulkReplayMaxEvents = 0;
+  private int pipelineDepth = 1;
+  private int replayWorkers = 0;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -29,6 +32,18 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxRecoverableRetries must be >= 1 but was %s".formatted(maxRecoverableRetries));
     }
+    if (bulkReplayMaxEvents < 0) {
+      throw new IllegalArgumentException(
+          "bulkReplayMaxEvents must be >= 0 but was %s".formatted(bulkReplayMaxEvents));
+    }
+    if (pipelineDepth < 1) {
+      throw new IllegalArgumentException(
+          "pipelineDepth must be >= 1 but was %s".formatted(pipelineDepth));
+    }
+    if (replayWorkers < 0) {
+      throw new IllegalArgumentException(
+          "replayWorkers must be >= 0 but was %s".formatted(replayWorkers));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -52,6 +67,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxRecoverableRetries = maxRecoverableRetries;
   }
 
+  public int getBulkReplayMaxEvents() {
+    return bulkReplayMaxEvents;
+  }
+
+  public void setBulkReplayMaxEvents(final int bulkReplayMaxEvents) {
+    this.bulkReplayMaxEvents = bulkReplayMaxEvents;
+  }
+
+  public int getPipelineDepth() {
+    return pipelineDepth;
+  }
+
+  public void setPipelineDepth(final int pipelineDepth) {
+    this.pipelineDepth = pipelineDepth;
+  }
+
+  public int getReplayWorkers() {
+    return replayWorkers;
+  }
+
+  public void setReplayWorkers(final int replayWorkers) {
+    this.replayWorkers = replayWorkers;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -67,6 +106,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", maxRecoverableRetries="
         + maxRecoverableRetries
+        + ", bulkReplayMaxEvents="
+        + bulkReplayMaxEvents
+        + ", pipelineDepth="
+        + pipelineDepth
+        + ", replayWorkers="
+        + replayWorkers
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
@@ -14,9 +14,13 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
 import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +46,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
       DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY;
   private double memoryFraction = 0.1;
   private double maxMemoryFraction = -1;
+  private Map<String, ColumnFamilyGroupCfg> columnFamilyGroups = new HashMap<>();
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+  private int columnFamilyCacheCapacity = RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_CAPACITY;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -154,7 +161,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
     }
   }
 
-  private static Properties initColumnFamilyOptions(final Properties original) {
+  static Properties initColumnFamilyOptions(final Properties original) {
     final var result = new Properties();
     original.entrySet().stream()
         .map(RocksDBColumnFamilyOption::new)
@@ -258,6 +265,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Map<String, ColumnFamilyGroupCfg> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(final Map<String, ColumnFamilyGroupCfg> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public int getColumnFamilyCacheCapacity() {
+    return columnFamilyCacheCapacity;
+  }
+
+  public void setColumnFamilyCacheCapacity(final int columnFamilyCacheCapacity) {
+    this.columnFamilyCacheCapacity = columnFamilyCacheCapacity;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -278,7 +309,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setWalDisabled(disableWal)
         .setSstPartitioningEnabled(enableSstPartitioning)
         .setMemoryAllocationStrategy(memoryAllocationStrategy)
-        .setMemoryFraction(memoryFraction);
+        .setMemoryFraction(memoryFraction)
+        .setColumnFamilyGroups(
+            columnFamilyGroups.entrySet().stream()
+                .map(group -> group.getValue().createConfiguration(group.getKey()))
+                .toList())
+        .setCachedColumnFamilies(cachedColumnFamilies)
+        .setColumnFamilyCacheCapacity(columnFamilyCacheCapacity);
   }
 
   @Override
@@ -310,6 +347,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheCapacity="
+        + columnFamilyCacheCapacity
         + '}';
   }
 
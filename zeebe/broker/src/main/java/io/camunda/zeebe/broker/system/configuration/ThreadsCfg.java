@@ -10,6 +10,8 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int cpuAffinityGroupCount = 1;
+  private boolean ioVirtualThreadsEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +29,22 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getCpuAffinityGroupCount() {
+    return cpuAffinityGroupCount;
+  }
+
+  public void setCpuAffinityGroupCount(final int cpuAffinityGroupCount) {
+    this.cpuAffinityGroupCount = cpuAffinityGroupCount;
+  }
+
+  public boolean isIoVirtualThreadsEnabled() {
+    return ioVirtualThreadsEnabled;
+  }
+
+  public void setIoVirtualThreadsEnabled(final boolean ioVirtualThreadsEnabled) {
+    this.ioVirtualThreadsEnabled = ioVirtualThreadsEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +52,10 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuAffinityGroupCount="
+        + cpuAffinityGroupCount
+        + ", ioVirtualThreadsEnabled="
+        + ioVirtualThreadsEnabled
         + '}';
   }
 }
@@ -172,6 +172,16 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .maxRecoverableRetries(context.getBrokerCfg().getProcessing().getMaxRecoverableRetries())
+        .bulkReplayMaxEvents(context.getBrokerCfg().getProcessing().getBulkReplayMaxEvents())
+        .pipelineDepth(context.getBrokerCfg().getProcessing().getPipelineDepth())
+        .replayWorkers(
+            context.getBrokerCfg().getProcessing().getReplayWorkers(),
+            () ->
+                List.of(
+                    new Engine(
+                        context.getTypedRecordProcessorFactory(),
+                        engineCfg,
+                        context.getSecurityConfig())))
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
         .processingFilter(processingFilter)
@@ -0,0 +1,275 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.test.util.TestUtil.doRepeatedly;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.util.health.HealthStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorIndependentExportingTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule
+  public final ExporterRule rule =
+      ExporterRule.activeExporter()
+          .withExporterDirectorContextConfigurator(context -> context.exportIndependently(true));
+
+  private final Map<String, ControlledTestExporter> exporters = new HashMap<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    exporters.clear();
+    exporterDescriptors.clear();
+
+    exporterDescriptors.add(createExporter(EXPORTER_ID_1));
+    exporterDescriptors.add(createExporter(EXPORTER_ID_2));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    rule.closeExporterDirector();
+  }
+
+  @Test
+  public void shouldExportRecordsToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("all exporters have exported and acknowledged all records")
+        .untilAsserted(
+            () -> {
+              final var state = rule.getExportersState();
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(secondPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(secondPosition);
+            });
+    assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition);
+    assertThat(exporters.get(EXPORTER_ID_2).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition);
+  }
+
+  @Test
+  public void shouldNotHoldBackExporterBehindFailingExporter() {
+    // given - the second exporter fails to export until it's recovered
+    final var isFailing = new AtomicBoolean(true);
+    exporters
+        .get(EXPORTER_ID_2)
+        .onExport(
+            record -> {
+              if (isFailing.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    final long thirdPosition = writeEvent();
+
+    // then
+    Awaitility.await("the first exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition, thirdPosition));
+    assertThat(exporters.get(EXPORTER_ID_2).getExportedRecords()).isEmpty();
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1);
+
+    // when
+    isFailing.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(ignored -> exporters.get(EXPORTER_ID_2).getExportedRecords().size() == 3);
+    Awaitility.await("the lowest position is acknowledged by both exporters")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(thirdPosition));
+  }
+
+  @Test
+  public void shouldReportUnhealthyAsLongAsAnyExporterFails() {
+    // given - both exporters fail to export until they're recovered
+    final var isFirstFailing = failUntilRecovered(EXPORTER_ID_1);
+    final var isSecondFailing = failUntilRecovered(EXPORTER_ID_2);
+    rule.startExporterDirector(exporterDescriptors);
+    writeEvent();
+    Awaitility.await("both exporters are reported as unhealthy")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getHealthReport().children())
+                    .hasEntrySatisfying(
+                        EXPORTER_ID_1, report -> assertThat(report.isUnhealthy()).isTrue())
+                    .hasEntrySatisfying(
+                        EXPORTER_ID_2, report -> assertThat(report.isUnhealthy()).isTrue()));
+
+    // when
+    isSecondFailing.set(false);
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(ignored -> exporters.get(EXPORTER_ID_2).getExportedRecords().size() == 1);
+
+    // then - the recovered exporter does not hide the failing one
+    Awaitility.await("the second exporter is reported as recovered")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getHealthReport().children())
+                    .hasEntrySatisfying(
+                        EXPORTER_ID_2, report -> assertThat(report.isHealthy()).isTrue()));
+    assertThat(rule.getDirector().getHealthReport().status()).isEqualTo(HealthStatus.UNHEALTHY);
+
+    // when
+    isFirstFailing.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(ignored -> rule.getDirector().getHealthReport().isHealthy());
+    assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords()).hasSize(1);
+  }
+
+  @Test
+  public void shouldPauseAndResumeAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    final long firstPosition = writeEvent();
+    Awaitility.await("all exporters have exported the first record")
+        .untilAsserted(
+            () ->
+                assertThat(exporters.values())
+                    .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(1)));
+
+    // when
+    rule.getDirector().pauseExporting().join();
+    final long secondPosition = writeEvent();
+
+    // then
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.PAUSED);
+    assertThat(exporters.values())
+        .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(1));
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("all exporters have exported the second record")
+        .untilAsserted(
+            () ->
+                assertThat(exporters.values())
+                    .allSatisfy(
+                        exporter ->
+                            assertThat(exporter.getExportedRecords())
+                                .extracting(Record::getPosition)
+                                .containsExactly(firstPosition, secondPosition)));
+  }
+
+  @Test
+  public void shouldRemoveExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    writeEvent();
+    Awaitility.await("the first exporter has acknowledged the first record")
+        .until(() -> rule.getExportersState().getPosition(EXPORTER_ID_1) > 0);
+
+    // when
+    rule.getDirector().removeExporter(EXPORTER_ID_1).join();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("the remaining exporter has acknowledged the second record")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(secondPosition));
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1)).isEqualTo(-1);
+    assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords()).hasSize(1);
+  }
+
+  @Test
+  public void shouldEnableExporter() {
+    // given
+    rule.startExporterDirector(List.of(exporterDescriptors.getFirst()));
+    final long firstPosition = writeEvent();
+
+    // when
+    rule.getDirector()
+        .enableExporter(
+            EXPORTER_ID_2, new ExporterInitializationInfo(0, null), exporterDescriptors.get(1))
+        .join();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("the enabled exporter has acknowledged all records")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(secondPosition));
+    assertThat(exporters.get(EXPORTER_ID_2).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition);
+  }
+
+  private ExporterDescriptor createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    exporter.shouldAutoUpdatePosition(true);
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.put(exporterId, exporter);
+    return descriptor;
+  }
+
+  private AtomicBoolean failUntilRecovered(final String exporterId) {
+    final var isFailing = new AtomicBoolean(true);
+    exporters
+        .get(exporterId)
+        .onExport(
+            record -> {
+              if (isFailing.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+    return isFailing;
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
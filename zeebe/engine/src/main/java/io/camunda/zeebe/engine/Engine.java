@@ -25,6 +25,13 @@ import io.camunda.zeebe.engine.state.processing.DbBannedInstanceState;
 import io.camunda.zeebe.engine.state.routing.RoutingInfo;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.error.ErrorRecord;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.ProcessMessageSubscriptionRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.timer.TimerRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
@@ -33,6 +40,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceRelatedIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRelated;
 import io.camunda.zeebe.stream.api.ProcessingResult;
 import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
@@ -164,11 +172,66 @@ public class Engine implements RecordProcessor {
         event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
   }
 
+  /**
+   * Routes events of process instance scoped state by their root process instance, such that a
+   * process instance and all its children are always replayed together. Events which touch state
+   * shared between process instances, e.g. the process element itself (business ids, message start
+   * event locks) or any other value type, are replayed serially.
+   */
+  @Override
+  public long replayAffinityKey(final TypedRecord<?> record) {
+    return switch (record.getValue()) {
+      case final ProcessInstanceRecord value ->
+          value.getBpmnElementType() == BpmnElementType.PROCESS
+              ? NO_REPLAY_AFFINITY
+              : processInstanceAffinity(value);
+      case final JobRecord value -> rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      case final VariableRecord value ->
+          rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      case final IncidentRecord value ->
+          rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      case final TimerRecord value ->
+          rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      case final UserTaskRecord value ->
+          rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      case final ProcessMessageSubscriptionRecord value ->
+          rootProcessInstanceAffinity(value.getRootProcessInstanceKey());
+      default -> NO_REPLAY_AFFINITY;
+    };
+  }
+
+  /**
+   * Besides the state shared between process instances, the process element only touches the state
+   * of its own process instance tree. It's therefore only replayed after the preceding events of
+   * that tree, instead of after all preceding events.
+   */
+  @Override
+  public long serialReplayAffinityKey(final TypedRecord<?> record) {
+    return record.getValue() instanceof final ProcessInstanceRecord value
+        ? processInstanceAffinity(value)
+        : NO_REPLAY_AFFINITY;
+  }
+
+  private static long processInstanceAffinity(final ProcessInstanceRecord value) {
+    if (value.getRootProcessInstanceKey() > 0) {
+      return value.getRootProcessInstanceKey();
+    }
+    return value.hasParentProcessInstance() ? NO_REPLAY_AFFINITY : value.getProcessInstanceKey();
+  }
+
+  private static long rootProcessInstanceAffinity(final long rootProcessInstanceKey) {
+    // records written before the root key was introduced can't be attributed safely
+    return rootProcessInstanceKey > 0 ? rootProcessInstanceKey : NO_REPLAY_AFFINITY;
+  }
+
   @Override
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
-    try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+    // the variable documents are cached only while processing a single command, since a cache
+    // populated by a command that is rolled back afterward would hold its discarded changes
+    try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder);
+        final var documentCache = processingState.getVariableState().cacheDocuments()) {
       TypedRecordProcessor<?> currentProcessor = null;
 
       final var typedCommand = (TypedRecord<?>) record;
@@ -212,7 +275,8 @@ public class Engine implements RecordProcessor {
       final Throwable processingException,
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
-    try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+    try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder);
+        final var documentCache = processingState.getVariableState().cacheDocuments()) {
 
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
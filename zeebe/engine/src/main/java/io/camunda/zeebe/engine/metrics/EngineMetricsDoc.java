@@ -8,9 +8,12 @@
 package io.camunda.zeebe.engine.metrics;
 
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.camunda.zeebe.util.micrometer.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 
 /** {@link EngineMetricsDoc} documents all workflow engine specific metrics. */
 @SuppressWarnings("NullableProblems")
@@ -374,6 +377,37 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return KEY_NAMES;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Time between the due date of a timer and the moment its trigger command is written */
+  TIMER_TRIGGER_LAG {
+    private static final Duration[] BUCKETS =
+        MicrometerUtil.exponentialBucketDuration(10, 2, 14, ChronoUnit.MILLIS);
+
+    @Override
+    public String getDescription() {
+      return "Time between the due date of a timer and the moment its trigger command is written";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.timer.trigger.lag";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
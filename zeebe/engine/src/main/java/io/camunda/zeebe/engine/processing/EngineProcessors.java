@@ -153,7 +153,11 @@ public final class EngineProcessors {
 
     final DueDateTimerCheckScheduler timerChecker =
         new DueDateTimerCheckScheduler(
-            scheduledTaskStateFactory.get().getTimerState(), featureFlags, clock);
+            scheduledTaskStateFactory.get().getTimerState(),
+            processingState.getDueDateIndexes().timers(),
+            featureFlags,
+            clock,
+            typedRecordProcessorContext.getMeterRegistry());
 
     final var jobMetrics = new JobProcessingMetrics(typedRecordProcessorContext.getMeterRegistry());
     final var processEngineMetrics =
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.bpmn.behavior;
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.el.ExpressionLanguageMetrics;
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.IncidentMetrics;
 import io.camunda.zeebe.engine.metrics.JobProcessingMetrics;
@@ -127,7 +128,7 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
 
     expressionLanguage =
         ExpressionLanguageFactory.createExpressionLanguage(
-            new ZeebeFeelEngineClock(clock), expressionMetrics);
+            new ZeebeFeelEngineClock(clock), expressionMetrics, FeelExpressionCache.shared());
 
     expressionProcessor =
         new ExpressionProcessor(
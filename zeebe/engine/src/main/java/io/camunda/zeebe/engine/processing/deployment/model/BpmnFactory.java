@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.deployment.model;
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.el.ExpressionLanguageMetrics;
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
@@ -53,7 +54,9 @@ public final class BpmnFactory {
   private static ExpressionLanguage createExpressionLanguage(
       final ZeebeFeelEngineClock zeebeFeelEngineClock,
       final ExpressionLanguageMetrics expressionLanguageMetrics) {
+    // the transformer and validator share the parsed expressions with the processing, such that
+    // identical expressions of all process versions and partitions are parsed only once
     return ExpressionLanguageFactory.createExpressionLanguage(
-        zeebeFeelEngineClock, expressionLanguageMetrics);
+        zeebeFeelEngineClock, expressionLanguageMetrics, FeelExpressionCache.shared());
   }
 }
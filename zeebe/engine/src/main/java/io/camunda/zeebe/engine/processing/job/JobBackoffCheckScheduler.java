@@ -8,37 +8,65 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateCheckScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.function.BiPredicate;
 
 public final class JobBackoffCheckScheduler implements StreamProcessorLifecycleAware {
 
   static final long BACKOFF_RESOLUTION = Duration.ofMillis(100).toMillis();
 
   private final DueDateCheckScheduler backOffDueDateChecker;
+  private final InstantSource clock;
+  private final JobState jobState;
+  private final DueDateIndex<DeadlineIndex> backoffIndex;
 
-  public JobBackoffCheckScheduler(final InstantSource clock, final JobState jobState) {
+  public JobBackoffCheckScheduler(
+      final InstantSource clock,
+      final JobState jobState,
+      final DueDateIndex<DeadlineIndex> backoffIndex) {
+    this.clock = clock;
+    this.jobState = jobState;
+    this.backoffIndex = backoffIndex;
     backOffDueDateChecker =
-        new DueDateCheckScheduler(
-            BACKOFF_RESOLUTION,
-            false,
-            taskResultBuilder ->
-                jobState.findBackedOffJobs(
-                    clock.millis(),
-                    (key, record) ->
-                        taskResultBuilder.appendCommandRecord(
-                            key, JobIntent.RECUR_AFTER_BACKOFF, record)),
-            clock);
+        new DueDateCheckScheduler(BACKOFF_RESOLUTION, false, this::recurBackedOffJobs, clock);
   }
 
   public void scheduleBackOff(final long dueDate) {
     backOffDueDateChecker.schedule(dueDate);
   }
 
+  /**
+   * Recurs the jobs whose backoff is due, found through the index, or in the state until the index
+   * is built.
+   *
+   * @return the due date of the next backoff, or {@code -1} if there is none
+   */
+  private long recurBackedOffJobs(final TaskResultBuilder taskResultBuilder) {
+    final BiPredicate<Long, JobRecord> recurJob =
+        (key, record) ->
+            taskResultBuilder.appendCommandRecord(key, JobIntent.RECUR_AFTER_BACKOFF, record);
+    if (!backoffIndex.isBuilt()) {
+      return jobState.findBackedOffJobs(clock.millis(), recurJob);
+    }
+
+    return backoffIndex.pollDue(
+        clock.millis(),
+        backoff -> jobState.jobBackoffExists(backoff.key(), backoff.deadline()),
+        (dueDate, backoff) -> {
+          final var job = jobState.getJob(backoff.key());
+          return job == null || recurJob.test(backoff.key(), job);
+        });
+  }
+
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
     backOffDueDateChecker.onRecovered(context);
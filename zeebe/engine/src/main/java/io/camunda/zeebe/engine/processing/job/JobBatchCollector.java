@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.identity.authorization.CslAuthorizatio
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.msgpack.value.ValueArray;
@@ -102,6 +103,9 @@ final class JobBatchCollector {
     final var unwritableJob = new MutableReference<TooLargeJob>();
     final Map<JobKind, Integer> jobCountPerJobKind = new EnumMap<>(JobKind.class);
     final var deadline = clock.millis() + value.getTimeout();
+    // the length of the record is tracked as jobs are added, since computing it sums up the lengths
+    // of all jobs added so far, which is quadratic in the number of jobs of large batches
+    final var batchLength = new MutableInteger(record.getLength());
 
     // compute per-job authorization predicate once before the loop
     final Predicate<JobRecord> isAuthorizedForJob = buildAuthzPredicate(record);
@@ -153,7 +157,7 @@ final class JobBatchCollector {
           // as well as an 8 KB buffer.
           final var jobRecordLength = jobRecord.getLength();
           final var expectedEventLength =
-              record.getLength()
+              batchLength.value
                   + jobRecordLength
                   + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
           if (activatedCount.value <= maxActivatedCount
@@ -161,6 +165,7 @@ final class JobBatchCollector {
             final var appendedJob = appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
             jobSecretInjector.registerForInjection(
                 secretCheckResult, activatedCount.value, appendedJob);
+            batchLength.value += getAppendedJobLength(activatedCount.value, key, jobRecordLength);
             activatedCount.increment();
 
             // track the count of activated jobs by their JobKind
@@ -221,6 +226,18 @@ final class JobBatchCollector {
     return appendedJob;
   }
 
+  /**
+   * Returns by how much appending a job grows the batch record: the job itself, its key, and the
+   * headers of both arrays, whose length depends on their size.
+   */
+  private static int getAppendedJobLength(
+      final int batchSize, final long key, final int jobRecordLength) {
+    final int arrayHeaderGrowth =
+        MsgPackWriter.getEncodedArrayHeaderLength(batchSize + 1)
+            - MsgPackWriter.getEncodedArrayHeaderLength(batchSize);
+    return jobRecordLength + MsgPackWriter.getEncodedLongValueLength(key) + 2 * arrayHeaderGrowth;
+  }
+
   /**
    * Generates a lease token for a single activated job. The token is an opaque string that callers
    * must not parse; it is random with enough entropy that collisions between leased jobs are
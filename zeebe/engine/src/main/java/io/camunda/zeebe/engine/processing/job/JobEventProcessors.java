@@ -53,7 +53,10 @@ public final class JobEventProcessors {
             bpmnBehaviors.stateBehavior());
 
     final var jobBackoffChecker =
-        new JobBackoffCheckScheduler(clock, scheduledTaskStateFactory.get().getJobState());
+        new JobBackoffCheckScheduler(
+            clock,
+            scheduledTaskStateFactory.get().getJobState(),
+            processingState.getDueDateIndexes().jobBackoffs());
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
@@ -140,6 +143,7 @@ public final class JobEventProcessors {
         .withListener(
             new JobTimeoutCheckScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
+                processingState.getDueDateIndexes().jobDeadlines(),
                 config.getJobsTimeoutCheckerPollingInterval(),
                 config.getJobsTimeoutCheckerBatchLimit(),
                 clock))
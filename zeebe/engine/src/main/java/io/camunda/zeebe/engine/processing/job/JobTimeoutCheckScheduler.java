@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
@@ -17,7 +19,9 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.function.BiPredicate;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +37,7 @@ final class JobTimeoutCheckScheduler implements Task, StreamProcessorLifecycleAw
   private DeadlineIndex startAtIndex = null;
 
   private final JobState state;
+  private final DueDateIndex<DeadlineIndex> deadlineIndex;
   private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
@@ -40,10 +45,12 @@ final class JobTimeoutCheckScheduler implements Task, StreamProcessorLifecycleAw
 
   public JobTimeoutCheckScheduler(
       final JobState state,
+      final DueDateIndex<DeadlineIndex> deadlineIndex,
       final Duration pollingInterval,
       final int batchLimit,
       final InstantSource clock) {
     this.state = state;
+    this.deadlineIndex = deadlineIndex;
     this.pollingInterval = pollingInterval;
     this.batchLimit = batchLimit;
     this.clock = clock;
@@ -63,18 +70,21 @@ final class JobTimeoutCheckScheduler implements Task, StreamProcessorLifecycleAw
     }
 
     final var counter = new MutableInteger(0);
-
-    final DeadlineIndex lastVisitedIndex =
-        state.forEachTimedOutEntry(
-            executionTimestamp,
-            startAtIndex,
-            (key, record) -> {
-              if (counter.getAndIncrement() >= batchLimit) {
-                return false;
-              }
-
-              return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
-            });
+    final BiPredicate<Long, JobRecord> timeOutJob =
+        (key, record) -> {
+          if (counter.getAndIncrement() >= batchLimit) {
+            return false;
+          }
+
+          return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
+        };
+
+    final DeadlineIndex lastVisitedIndex;
+    if (deadlineIndex.isBuilt()) {
+      lastVisitedIndex = timeOutIndexedJobs(timeOutJob);
+    } else {
+      lastVisitedIndex = state.forEachTimedOutEntry(executionTimestamp, startAtIndex, timeOutJob);
+    }
 
     if (lastVisitedIndex != null) {
       LOG.trace(
@@ -93,6 +103,29 @@ final class JobTimeoutCheckScheduler implements Task, StreamProcessorLifecycleAw
     return taskResultBuilder.build();
   }
 
+  /**
+   * Times out the jobs whose deadline is found in the index. The index keeps the deadlines which
+   * were not handed out, so the next run continues with them without a start index.
+   *
+   * @return the deadline at which the iteration stopped, or {@code null} if all were visited
+   */
+  private DeadlineIndex timeOutIndexedJobs(final BiPredicate<Long, JobRecord> timeOutJob) {
+    final var stoppedAt = new MutableReference<DeadlineIndex>();
+    // the deadlines are compared strictly, like when iterating them in the state
+    deadlineIndex.pollDue(
+        executionTimestamp - 1,
+        deadline -> state.jobDeadlineExists(deadline.key(), deadline.deadline()),
+        (dueDate, deadline) -> {
+          final var job = state.getJob(deadline.key());
+          if (job == null || timeOutJob.test(deadline.key(), job)) {
+            return true;
+          }
+          stoppedAt.set(deadline);
+          return false;
+        });
+    return stoppedAt.get();
+  }
+
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext processingContext) {
     this.processingContext = processingContext;
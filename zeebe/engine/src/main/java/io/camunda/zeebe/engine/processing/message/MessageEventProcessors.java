@@ -261,7 +261,8 @@ public final class MessageEventProcessors {
             new MessageTimeToLiveCheckScheduler(
                 config.getMessagesTtlCheckerInterval(),
                 featureFlags.enableMessageTTLCheckerAsync(),
-                scheduledTaskStateFactory.get().getMessageState()))
+                scheduledTaskStateFactory.get().getMessageState(),
+                processingState.getDueDateIndexes().messageDeadlines()))
         .withListener(
             new PendingMessageSubscriptionCheckScheduler(
                 subscriptionCommandSender,
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
@@ -18,17 +20,21 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import org.agrona.collections.MutableBoolean;
 
 /**
  * Periodically checks for expired message deadlines and writes a {@link MessageBatchIntent#EXPIRE}
  * trigger command when any are found. The actual expiry work (querying state and writing {@code
- * EXPIRED} events) is done by the {@link MessageBatchExpireProcessor}.
+ * EXPIRED} events) is done by the {@link MessageBatchExpireProcessor}. The expired deadlines are
+ * found through the {@link DueDateIndex} of the message deadlines, or in the state until the index
+ * is built.
  */
 public final class MessageTimeToLiveCheckScheduler implements Task, StreamProcessorLifecycleAware {
 
   private final Duration executionInterval;
   private final boolean enableMessageTtlCheckerAsync;
   private final MessageState messageState;
+  private final DueDateIndex<Index> deadlineIndex;
 
   private ProcessingScheduleService scheduleService;
   private InstantSource clock;
@@ -36,17 +42,24 @@ public final class MessageTimeToLiveCheckScheduler implements Task, StreamProces
   public MessageTimeToLiveCheckScheduler(
       final Duration executionInterval,
       final boolean enableMessageTtlCheckerAsync,
-      final MessageState messageState) {
+      final MessageState messageState,
+      final DueDateIndex<Index> deadlineIndex) {
     this.executionInterval = executionInterval;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.messageState = messageState;
+    this.deadlineIndex = deadlineIndex;
   }
 
   @Override
   public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
-    final boolean hasExpired =
-        messageState.visitMessagesWithDeadlineBeforeTimestamp(
-            clock.millis(), null, (deadline, key) -> false);
+    final boolean hasExpired;
+    if (deadlineIndex.isBuilt()) {
+      hasExpired = hasIndexedExpiredMessages(clock.millis());
+    } else {
+      hasExpired =
+          messageState.visitMessagesWithDeadlineBeforeTimestamp(
+              clock.millis(), null, (deadline, key) -> false);
+    }
     if (hasExpired) {
       taskResultBuilder.appendCommandRecord(MessageBatchIntent.EXPIRE, new MessageBatchRecord());
     }
@@ -54,6 +67,19 @@ public final class MessageTimeToLiveCheckScheduler implements Task, StreamProces
     return taskResultBuilder.build();
   }
 
+  private boolean hasIndexedExpiredMessages(final long now) {
+    final var hasExpired = new MutableBoolean(false);
+    // the expired message is kept in the index, until its expiry removes it from the state
+    deadlineIndex.pollDue(
+        now,
+        deadline -> messageState.messageDeadlineExists(deadline.key(), deadline.deadline()),
+        (dueDate, deadline) -> {
+          hasExpired.set(true);
+          return false;
+        });
+    return hasExpired.get();
+  }
+
   private void reschedule(final Duration idleInterval) {
     final var timestamp = clock.millis() + idleInterval.toMillis();
     if (enableMessageTtlCheckerAsync) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.processing.scheduled.HierarchicalTimingWheel.DueItemVisitor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory index of the due dates of one kind of scheduled items, e.g. job deadlines, which lets
+ * their checker find the due items in a {@link HierarchicalTimingWheel} instead of scanning the due
+ * dates in the state.
+ *
+ * <p>The index is kept in sync by the state which owns the due dates: it is {@link #build(long,
+ * Consumer) built} on recovery, and from then on items are {@link #add(long, Object) added}
+ * whenever their due date is stored and {@link #removeLater(Object) marked} for removal whenever it
+ * is deleted. Until the index is built, e.g. on followers and replaying partitions, or after it
+ * overflowed, the checker scans the state instead.
+ *
+ * <p>The index is a superset of the state, since it lives outside the transaction and a change
+ * could not be rolled back. The checker reads the committed state, possibly on another thread, so
+ * {@link #pollDue(long, Predicate, DueItemVisitor)} checks each item against it: marked items are
+ * removed once they no longer exist, and a due item which doesn't exist is checked once more after
+ * {@link #RETRY_INTERVAL}, in case it was not committed yet, before it is dropped. An item which
+ * was handed out is checked again after {@link #RETRY_INTERVAL} as well, in case the command
+ * written for it was rejected or not written.
+ *
+ * <p>The index holds at most {@link #MAX_INDEXED_ITEMS} items. Beyond that, it is dropped until the
+ * next recovery.
+ *
+ * @param <T> the type of the indexed items, which must identify the item together with its due date
+ */
+public final class DueDateIndex<T> {
+
+  /** Bounds the memory of the index to roughly 100 MB per kind of items. */
+  public static final int MAX_INDEXED_ITEMS = 500_000;
+
+  /**
+   * Bounds the items marked for removal. Further items are left in the index until they are due.
+   */
+  static final int MAX_PENDING_REMOVALS = 10_000;
+
+  static final long RESOLUTION = Duration.ofMillis(100).toMillis();
+  static final long RETRY_INTERVAL = Duration.ofSeconds(10).toMillis();
+
+  private final Set<T> pendingRemovals = ConcurrentHashMap.newKeySet();
+  private final Set<T> missingItems = new HashSet<>();
+  private final List<T> recheckedItems = new ArrayList<>();
+  private final int maxIndexedItems;
+  private volatile HierarchicalTimingWheel<T> dueDates;
+
+  public DueDateIndex() {
+    this(MAX_INDEXED_ITEMS);
+  }
+
+  DueDateIndex(final int maxIndexedItems) {
+    this.maxIndexedItems = maxIndexedItems;
+  }
+
+  /**
+   * @return {@code true} if the index was built, i.e. if it has to be kept in sync with the state
+   *     and can serve the due items
+   */
+  public boolean isBuilt() {
+    return dueDates != null;
+  }
+
+  /**
+   * Builds the index from the items of the state, replacing the previous one. If the state holds
+   * more than {@link #MAX_INDEXED_ITEMS} items, the index is not built.
+   *
+   * @param now the current time in ms
+   * @param items adds all items of the state to the given visitor, and stops once it returns {@code
+   *     false} because the index is full
+   * @return {@code true} if the index was built
+   */
+  public synchronized boolean build(final long now, final Consumer<DueItemVisitor<T>> items) {
+    dueDates = null;
+    pendingRemovals.clear();
+    missingItems.clear();
+
+    final var wheel = new HierarchicalTimingWheel<T>(RESOLUTION, now);
+    items.accept(
+        (dueDate, item) -> {
+          wheel.add(dueDate, item);
+          return wheel.size() <= maxIndexedItems;
+        });
+    if (wheel.size() > maxIndexedItems) {
+      return false;
+    }
+
+    dueDates = wheel;
+    return true;
+  }
+
+  /**
+   * Adds the given item, if the index is built. Drops the index if it is full.
+   *
+   * @return {@code false} if the index was dropped since it is full
+   */
+  public boolean add(final long dueDate, final T item) {
+    final var wheel = dueDates;
+    if (wheel == null) {
+      return true;
+    }
+
+    wheel.add(dueDate, item);
+    if (wheel.size() > maxIndexedItems) {
+      dueDates = null;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Marks the given item for removal by the next {@link #pollDue(long, Predicate, DueItemVisitor)},
+   * if the index is built, since the transaction which deleted it may still be rolled back.
+   */
+  public void removeLater(final T item) {
+    if (dueDates != null && pendingRemovals.size() < MAX_PENDING_REMOVALS) {
+      pendingRemovals.add(item);
+    }
+  }
+
+  /**
+   * Hands out the items which are due at the given time and exist in the state, in the order of
+   * their due date. Must only be called by the single checker of the items, and only if the index
+   * is built.
+   *
+   * @param now the current time in ms
+   * @param exists checks whether an item exists in the committed state; a due item is handed out
+   *     right after it was checked
+   * @param visitor the visitor to hand out the due items to; it can stop the iteration by returning
+   *     {@code false}, in which case the rejected item is handed out again on the next poll
+   * @return the due date of the earliest remaining item, or {@code -1} if there is none
+   */
+  public synchronized long pollDue(
+      final long now, final Predicate<T> exists, final DueItemVisitor<T> visitor) {
+    final var wheel = dueDates;
+    if (wheel == null) {
+      throw new IllegalStateException("Expected to poll the due items, but the index is not built");
+    }
+
+    for (final var iterator = pendingRemovals.iterator(); iterator.hasNext(); ) {
+      final var item = iterator.next();
+      iterator.remove();
+      if (!exists.test(item)) {
+        wheel.remove(item);
+        missingItems.remove(item);
+      }
+    }
+
+    recheckedItems.clear();
+    wheel.pollDue(
+        now,
+        (dueDate, item) -> {
+          if (!exists.test(item)) {
+            // the item may not be committed yet, but it is dropped if it is still missing later
+            if (missingItems.add(item)) {
+              recheckedItems.add(item);
+            } else {
+              missingItems.remove(item);
+            }
+            return true;
+          }
+
+          missingItems.remove(item);
+          final boolean visited = visitor.visit(dueDate, item);
+          if (visited) {
+            recheckedItems.add(item);
+          }
+          return visited;
+        });
+
+    final long recheckAt = now + RETRY_INTERVAL;
+    recheckedItems.forEach(item -> wheel.add(recheckAt, item));
+    return wheel.nextDueDate();
+  }
+}
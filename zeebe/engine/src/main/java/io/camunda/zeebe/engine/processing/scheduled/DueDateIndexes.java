@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerKey;
+
+/**
+ * The {@link DueDateIndex due date indexes} of a partition, which are kept in sync by the
+ * processing state and polled by the checkers of the scheduled items. Each kind of items has its
+ * own index, since each checker only polls its own items.
+ */
+public record DueDateIndexes(
+    DueDateIndex<TimerKey> timers,
+    DueDateIndex<DeadlineIndex> jobDeadlines,
+    DueDateIndex<DeadlineIndex> jobBackoffs,
+    DueDateIndex<Index> messageDeadlines) {
+
+  public DueDateIndexes() {
+    this(new DueDateIndex<>(), new DueDateIndex<>(), new DueDateIndex<>(), new DueDateIndex<>());
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An in-memory index of items by their due date, which hands out the due items without scanning the
+ * items which are not due yet.
+ *
+ * <p>The wheel divides time into ticks of the given resolution and consists of {@value #LEVELS}
+ * levels of {@value #SLOTS} slots each. A slot on level {@code n} spans {@code 64^n} ticks, such
+ * that items which are due soon are placed in fine-grained slots and items which are due later in
+ * coarse-grained ones. Whenever the wheel advances into the span of a coarse-grained slot, its
+ * items are redistributed into the finer levels below. Items which are due beyond the last level
+ * are kept in an overflow queue until the wheel gets close enough.
+ *
+ * <p>Each item is indexed at most once; adding an item again replaces its due date. Adding and
+ * removing an item is constant in time, except for items which are already due or beyond the last
+ * level, which are kept in priority queues. Handing out the due items is proportional to the due
+ * items plus the number of slots the wheel advances over, which is bounded by the number of levels
+ * and slots, regardless of how many items are indexed.
+ *
+ * <p>The wheel never moves back in time. If the given time is before the time it already advanced
+ * to, e.g. because the clock was modified, the items of the passed slots are still only handed out
+ * once they are due at the given time.
+ *
+ * <p>This class is thread safe, so items can be added by the stream processor while another actor
+ * polls the due items.
+ *
+ * @param <T> the type of the indexed items, which must implement {@link Object#equals(Object)} and
+ *     {@link Object#hashCode()}
+ */
+public final class HierarchicalTimingWheel<T> {
+
+  static final int LEVELS = 5;
+  private static final int SLOT_BITS = 6;
+  static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+
+  private final long resolution;
+  private final Set<Entry<T>>[][] wheel;
+  private final int[] itemsPerLevel = new int[LEVELS];
+  private final PriorityQueue<Entry<T>> overflow =
+      new PriorityQueue<>(Comparator.comparingLong(Entry::dueDate));
+
+  /** Items of the passed slots, which are handed out in the order of their due date. */
+  private final PriorityQueue<Entry<T>> expired =
+      new PriorityQueue<>(Comparator.comparingLong(Entry::dueDate));
+
+  private final Map<T, Entry<T>> entries = new HashMap<>();
+
+  private long currentTick;
+
+  /**
+   * @param resolution the duration of a tick in ms
+   * @param now the current time in ms, which the wheel starts at
+   */
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(final long resolution, final long now) {
+    if (resolution <= 0) {
+      throw new IllegalArgumentException(
+          "Expected resolution to be positive, but was %d".formatted(resolution));
+    }
+    this.resolution = resolution;
+    currentTick = Math.floorDiv(now, resolution);
+    wheel = new Set[LEVELS][SLOTS];
+    for (int level = 0; level < LEVELS; level++) {
+      for (int slot = 0; slot < SLOTS; slot++) {
+        wheel[level][slot] = new HashSet<>();
+      }
+    }
+  }
+
+  /**
+   * Adds the given item, to be handed out once the given due date is reached. If the item is
+   * already indexed, its previous due date is replaced.
+   */
+  public synchronized void add(final long dueDate, final T item) {
+    final var entry = new Entry<>(dueDate, item);
+    final var previous = entries.put(item, entry);
+    if (previous != null) {
+      unplace(previous);
+    }
+    place(entry);
+  }
+
+  /**
+   * Removes the given item, such that it is not handed out anymore.
+   *
+   * @return {@code true} if the item was indexed
+   */
+  public synchronized boolean remove(final T item) {
+    final var entry = entries.remove(item);
+    if (entry == null) {
+      return false;
+    }
+    unplace(entry);
+    return true;
+  }
+
+  /**
+   * Advances the wheel to the given time and hands out the items which are due at that time, in the
+   * order of their due date. An item is removed from the wheel once the visitor accepted it.
+   *
+   * @param now the current time in ms
+   * @param visitor the visitor to hand out the due items to; it can stop the iteration by returning
+   *     {@code false}, in which case the rejected item is kept and handed out again on the next
+   *     poll
+   * @return the due date of the earliest remaining item, or {@code -1} if the wheel is empty
+   */
+  public synchronized long pollDue(final long now, final DueItemVisitor<T> visitor) {
+    advanceTo(Math.floorDiv(now, resolution));
+
+    while (!expired.isEmpty() && expired.peek().dueDate() <= now) {
+      final var entry = expired.peek();
+      if (!visitor.visit(entry.dueDate(), entry.item())) {
+        break;
+      }
+      expired.poll();
+      entries.remove(entry.item(), entry);
+    }
+
+    return nextDueDate();
+  }
+
+  /**
+   * @return the due date of the earliest item, or {@code -1} if the wheel is empty
+   */
+  public synchronized long nextDueDate() {
+    if (!expired.isEmpty()) {
+      return expired.peek().dueDate();
+    }
+
+    // the remaining slots of a level are always due before the slots of the next level
+    for (int level = 0; level < LEVELS; level++) {
+      if (itemsPerLevel[level] == 0) {
+        continue;
+      }
+      for (int slot = slotIndex(currentTick, level) + 1; slot < SLOTS; slot++) {
+        final var slotEntries = wheel[level][slot];
+        if (!slotEntries.isEmpty()) {
+          return slotEntries.stream().mapToLong(Entry::dueDate).min().orElseThrow();
+        }
+      }
+    }
+
+    return overflow.isEmpty() ? -1 : overflow.peek().dueDate();
+  }
+
+  /**
+   * @return the number of items in the wheel
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Removes all items from the wheel. */
+  public synchronized void clear() {
+    for (int level = 0; level < LEVELS; level++) {
+      for (final var slotEntries : wheel[level]) {
+        slotEntries.clear();
+      }
+      itemsPerLevel[level] = 0;
+    }
+    overflow.clear();
+    expired.clear();
+    entries.clear();
+  }
+
+  private void place(final Entry<T> entry) {
+    final long tick = Math.floorDiv(entry.dueDate(), resolution);
+    if (tick <= currentTick) {
+      entry.placeIn(expired, Entry.NO_LEVEL);
+      return;
+    }
+
+    // the item belongs to the finest level whose current span contains its tick
+    for (int level = 0; level < LEVELS; level++) {
+      final int parentShift = SLOT_BITS * (level + 1);
+      if ((tick >> parentShift) == (currentTick >> parentShift)) {
+        entry.placeIn(wheel[level][slotIndex(tick, level)], level);
+        itemsPerLevel[level]++;
+        return;
+      }
+    }
+
+    entry.placeIn(overflow, Entry.NO_LEVEL);
+  }
+
+  private void unplace(final Entry<T> entry) {
+    entry.container().remove(entry);
+    if (entry.level() != Entry.NO_LEVEL) {
+      itemsPerLevel[entry.level()]--;
+    }
+  }
+
+  private void advanceTo(final long targetTick) {
+    while (currentTick < targetTick) {
+      currentTick = Math.min(nextEventfulTick(), targetTick);
+
+      // redistribute the coarse-grained slots whose span starts now, from the top level down
+      if ((currentTick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+        final long span = currentTick >> (SLOT_BITS * LEVELS);
+        while (!overflow.isEmpty()
+            && Math.floorDiv(overflow.peek().dueDate(), resolution) >> (SLOT_BITS * LEVELS)
+                <= span) {
+          place(overflow.poll());
+        }
+      }
+      for (int level = LEVELS - 1; level > 0; level--) {
+        if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+          cascade(level, slotIndex(currentTick, level));
+        }
+      }
+      cascade(0, slotIndex(currentTick, 0));
+    }
+  }
+
+  /**
+   * Returns the next tick at which a slot may have to be handed out or redistributed. Empty levels
+   * are skipped up to the start of the next span of the first non-empty level above them, since no
+   * slot changes in between.
+   */
+  private long nextEventfulTick() {
+    for (int level = 0; level < LEVELS; level++) {
+      if (itemsPerLevel[level] > 0) {
+        return level == 0 ? currentTick + 1 : nextSpanStart(level - 1);
+      }
+    }
+    return nextSpanStart(LEVELS - 1);
+  }
+
+  private long nextSpanStart(final int level) {
+    final int shift = SLOT_BITS * (level + 1);
+    return ((currentTick >> shift) + 1) << shift;
+  }
+
+  private void cascade(final int level, final int slot) {
+    final var slotEntries = wheel[level][slot];
+    if (slotEntries.isEmpty()) {
+      return;
+    }
+
+    // the slot's span starts now, so its items are always placed on a finer level or as expired
+    itemsPerLevel[level] -= slotEntries.size();
+    slotEntries.forEach(this::place);
+    slotEntries.clear();
+  }
+
+  private static int slotIndex(final long tick, final int level) {
+    return (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+  }
+
+  @FunctionalInterface
+  public interface DueItemVisitor<T> {
+
+    /**
+     * @return {@code true} if the item was processed, or {@code false} if the item could not be
+     *     processed and needs to be revisited later on
+     */
+    boolean visit(long dueDate, T item);
+  }
+
+  /**
+   * An indexed item, which knows where it is placed so that it can be removed again. Entries are
+   * compared by identity, since the same item may be re-added with a different due date.
+   */
+  private static final class Entry<T> {
+
+    private static final int NO_LEVEL = -1;
+
+    private final long dueDate;
+    private final T item;
+    private Collection<Entry<T>> container;
+    // the level of the slot the entry is placed in, or NO_LEVEL if it is expired or overflowed
+    private int level;
+
+    private Entry(final long dueDate, final T item) {
+      this.dueDate = dueDate;
+      this.item = item;
+    }
+
+    private long dueDate() {
+      return dueDate;
+    }
+
+    private T item() {
+      return item;
+    }
+
+    private Collection<Entry<T>> container() {
+      return container;
+    }
+
+    private int level() {
+      return level;
+    }
+
+    private void placeIn(final Collection<Entry<T>> container, final int level) {
+      container.add(this);
+      this.container = container;
+      this.level = level;
+    }
+  }
+}
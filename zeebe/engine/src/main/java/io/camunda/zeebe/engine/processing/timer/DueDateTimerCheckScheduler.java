@@ -7,8 +7,11 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateCheckScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerKey;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.impl.record.value.timer.TimerRecord;
@@ -17,10 +20,19 @@ import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.util.FeatureFlags;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Triggers timers once they are due. The due timers are found through the {@link DueDateIndex} of
+ * the timer due dates, which is kept in sync by the timer state, or by scanning the due dates in
+ * the state until the index is built.
+ */
 public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
@@ -29,14 +41,21 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
 
   public DueDateTimerCheckScheduler(
       final TimerInstanceState timerInstanceState,
+      final DueDateIndex<TimerKey> dueDateIndex,
       final FeatureFlags featureFlags,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final MeterRegistry meterRegistry) {
+    final var triggerLag =
+        MicrometerUtil.buildTimer(EngineMetricsDoc.TIMER_TRIGGER_LAG).register(meterRegistry);
     dueDateChecker =
         new DueDateCheckScheduler(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
+                new IndexedDueTimers(timerInstanceState, dueDateIndex),
+                clock,
+                featureFlags.yieldingDueDateChecker(),
+                triggerLag),
             clock);
   }
 
@@ -69,21 +88,65 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
     dueDateChecker.onResumed();
   }
 
+  /** Hands out the due timers to a visitor, and returns the due date of the next timer. */
+  @FunctionalInterface
+  interface DueTimers {
+
+    long visitTimersWithDueDateBefore(long timestamp, TimerVisitor visitor);
+  }
+
+  /**
+   * Finds the due timers through the index and resolves them from the state, or visits them in the
+   * state until the index is built.
+   */
+  static final class IndexedDueTimers implements DueTimers {
+
+    private final TimerInstanceState timerInstanceState;
+    private final DueDateIndex<TimerKey> dueDateIndex;
+
+    /** The timer which was looked up last, which the index visits right after checking it. */
+    private TimerInstance lookedUpTimer;
+
+    IndexedDueTimers(
+        final TimerInstanceState timerInstanceState, final DueDateIndex<TimerKey> dueDateIndex) {
+      this.timerInstanceState = timerInstanceState;
+      this.dueDateIndex = dueDateIndex;
+    }
+
+    @Override
+    public long visitTimersWithDueDateBefore(final long timestamp, final TimerVisitor visitor) {
+      if (!dueDateIndex.isBuilt()) {
+        return timerInstanceState.processTimersWithDueDateBefore(timestamp, visitor);
+      }
+
+      return dueDateIndex.pollDue(
+          timestamp,
+          key -> {
+            lookedUpTimer = timerInstanceState.get(key.elementInstanceKey(), key.key());
+            return lookedUpTimer != null;
+          },
+          (dueDate, key) -> visitor.visit(lookedUpTimer));
+    }
+  }
+
   protected static final class TriggerTimersSideEffect
       implements Function<TaskResultBuilder, Long> {
 
     private final InstantSource clock;
 
-    private final TimerInstanceState timerInstanceState;
+    private final DueTimers dueTimers;
     private final boolean yieldControl;
+    private final Timer triggerLag;
 
     public TriggerTimersSideEffect(
-        final TimerInstanceState timerInstanceState,
+        final DueTimers dueTimers,
         final InstantSource clock,
-        final boolean yieldControl) {
-      this.timerInstanceState = timerInstanceState;
+        final boolean yieldControl,
+        final Timer triggerLag) {
+      this.dueTimers = dueTimers;
       this.clock = clock;
       this.yieldControl = yieldControl;
+      this.triggerLag = triggerLag;
     }
 
     @Override
@@ -92,16 +155,24 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
 
       final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
 
+      final TimerVisitor writeTriggerCommand =
+          new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       final TimerVisitor timerVisitor;
       if (yieldControl) {
-        timerVisitor =
-            new YieldingDecorator(
-                clock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+        timerVisitor = new YieldingDecorator(clock, yieldAfter, writeTriggerCommand);
       } else {
-        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+        timerVisitor = writeTriggerCommand;
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      return dueTimers.visitTimersWithDueDateBefore(
+          now,
+          timer -> {
+            final boolean visited = timerVisitor.visit(timer);
+            if (visited) {
+              triggerLag.record(Math.max(0, now - timer.getDueDate()), TimeUnit.MILLISECONDS);
+            }
+            return visited;
+          });
     }
   }
 
@@ -15,6 +15,7 @@ import io.camunda.zeebe.el.ExpressionLanguageMetrics;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndexes;
 import io.camunda.zeebe.engine.state.agentdefinition.DbAgentDefinitionState;
 import io.camunda.zeebe.engine.state.agenthistory.DbAgentHistoryState;
 import io.camunda.zeebe.engine.state.agentinstance.DbAgentInstanceState;
@@ -172,6 +173,7 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableJobMetricsState jobMetricsState;
   private final MutableSecretReferenceState secretReferenceState;
   private final int partitionId;
+  private final DueDateIndexes dueDateIndexes;
 
   public ProcessingDbState(
       final int partitionId,
@@ -187,6 +189,7 @@ public class ProcessingDbState implements MutableProcessingState {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
+    dueDateIndexes = new DueDateIndexes();
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
     clusterVariableState = new DbClusterVariableState(zeebeDb, transactionContext);
@@ -200,13 +203,21 @@ public class ProcessingDbState implements MutableProcessingState {
         BpmnFactory.createTransformer(
             InstantSource.fixed(Instant.EPOCH), expressionLanguageMetrics, Integer.MAX_VALUE);
     processState = new DbProcessState(zeebeDb, transactionContext, config, stateTransformer);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, dueDateIndexes.timers());
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
-    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            dueDateIndexes.jobDeadlines(),
+            dueDateIndexes.jobBackoffs());
+    messageState =
+        new DbMessageState(
+            zeebeDb, transactionContext, partitionId, dueDateIndexes.messageDeadlines());
     messageSubscriptionState =
         new DbMessageSubscriptionState(
             zeebeDb, transactionContext, transientMessageSubscriptionState, clock);
@@ -264,6 +275,8 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState.onRecovered(context);
     messageStartProcessInstanceAskState.onRecovered(context);
     messageStartProcessInstanceDedupState.onRecovered(context);
+    jobState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
   }
 
   @Override
@@ -501,6 +514,11 @@ public class ProcessingDbState implements MutableProcessingState {
     return keyGenerator;
   }
 
+  @Override
+  public DueDateIndexes getDueDateIndexes() {
+    return dueDateIndexes;
+  }
+
   @Override
   public PendingMessageSubscriptionState getPendingMessageSubscriptionState() {
     return messageSubscriptionState;
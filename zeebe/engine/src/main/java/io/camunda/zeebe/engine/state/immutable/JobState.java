@@ -48,9 +48,14 @@ public interface JobState {
 
   boolean jobDeadlineExists(final long jobKey, final long deadline);
 
+  boolean jobBackoffExists(final long jobKey, final long backoff);
+
   long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback);
 
-  /** Index to point to a specific position in the jobs with deadline column family. */
+  /**
+   * Index to point to a specific position in the jobs with deadline or backoff column family, which
+   * also identifies the due date in the due date indexes.
+   */
   record DeadlineIndex(long deadline, long key) {}
 
   enum State {
@@ -55,6 +55,8 @@ public interface MessageState {
   boolean visitMessagesWithDeadlineBeforeTimestamp(
       long timestamp, final Index startAt, ExpiredMessageVisitor visitor);
 
+  boolean messageDeadlineExists(long messageKey, long deadline);
+
   boolean exist(
       DirectBuffer name,
       DirectBuffer correlationKey,
@@ -27,6 +27,8 @@ public interface TimerInstanceState {
 
   TimerInstance get(long elementInstanceKey, long timerKey);
 
+  record TimerKey(long elementInstanceKey, long key) {}
+
   @FunctionalInterface
   interface TimerVisitor {
 
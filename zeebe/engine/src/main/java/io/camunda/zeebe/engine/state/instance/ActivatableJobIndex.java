@@ -0,0 +1,411 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * In-memory index of the jobs in the {@code JOB_ACTIVATABLE_BY_PRIORITY} column family, grouped by
+ * job type, tenant and priority, in activation order, i.e. by descending priority and ascending job
+ * key. The job keys are kept in chunks of sorted primitive arrays, so indexing a job doesn't
+ * allocate an object per job.
+ *
+ * <p>The index is a superset of the column family, since it lives outside the transaction and a
+ * change could not be rolled back. Jobs are added whenever they are made activatable. Jobs which
+ * are made not activatable are only {@link #removeLater(String, String, int, long) marked}, and
+ * {@link #removePending(JobPredicate)} removes them once their removal is committed. Besides, the
+ * visitor of {@link #forEachJob(String, List, boolean, JobVisitor)} checks each job against the
+ * column family and removes the ones which are no longer activatable.
+ *
+ * <p>The index holds at most {@link #MAX_INDEXED_JOBS} jobs. A job beyond that is not added, and
+ * the owner is expected to {@link #clear()} the index and fall back to the column family.
+ */
+final class ActivatableJobIndex {
+
+  /** Bounds the memory of the index to about 16 MB of job keys, plus the chunk overhead. */
+  static final int MAX_INDEXED_JOBS = 2_000_000;
+
+  /**
+   * Bounds the jobs marked for removal. Further jobs are left in the index until the visitor of
+   * {@link #forEachJob} encounters them.
+   */
+  static final int MAX_PENDING_REMOVALS = 10_000;
+
+  private final Map<String, Map<String, NavigableMap<Integer, JobKeys>>> jobsByTypeAndTenant =
+      new HashMap<>();
+  private final List<PendingRemoval> pendingRemovals = new ArrayList<>();
+  private final int maxIndexedJobs;
+  private int size;
+  private boolean isBuilt;
+
+  ActivatableJobIndex() {
+    this(MAX_INDEXED_JOBS);
+  }
+
+  ActivatableJobIndex(final int maxIndexedJobs) {
+    this.maxIndexedJobs = maxIndexedJobs;
+  }
+
+  /**
+   * @return {@code true} if the index was built, i.e. if it has to be kept in sync with the column
+   *     family and can serve the activatable jobs
+   */
+  boolean isBuilt() {
+    return isBuilt;
+  }
+
+  /** Marks the index as built, after all jobs of the column family were added. */
+  void markBuilt() {
+    isBuilt = true;
+  }
+
+  /**
+   * Adds the given job to the index, unless the index is full.
+   *
+   * @return {@code false} if the index is full, in which case the job is not added
+   */
+  boolean add(final String type, final String tenantId, final int priority, final long jobKey) {
+    if (size >= maxIndexedJobs) {
+      return false;
+    }
+
+    final var jobs =
+        jobsByTypeAndTenant
+            .computeIfAbsent(type, t -> new HashMap<>())
+            .computeIfAbsent(tenantId, t -> new TreeMap<>(Comparator.reverseOrder()))
+            .computeIfAbsent(priority, p -> new JobKeys());
+    if (jobs.add(jobKey)) {
+      size++;
+    }
+    return true;
+  }
+
+  /**
+   * Marks the given job for removal by the next {@link #removePending(JobPredicate)}, since the
+   * transaction which made it not activatable may still be rolled back.
+   */
+  void removeLater(
+      final String type, final String tenantId, final int priority, final long jobKey) {
+    if (pendingRemovals.size() < MAX_PENDING_REMOVALS) {
+      pendingRemovals.add(new PendingRemoval(type, tenantId, priority, jobKey));
+    }
+  }
+
+  /**
+   * Removes the jobs marked for removal which are no longer activatable. Must only be called when
+   * the current transaction has no uncommitted changes of the jobs, e.g. before processing a
+   * command changes the state, since otherwise the removal may be rolled back.
+   *
+   * @param isActivatable checks whether a job is still activatable, e.g. since it was made
+   *     activatable again or its removal was rolled back
+   */
+  void removePending(final JobPredicate isActivatable) {
+    for (final var removal : pendingRemovals) {
+      if (!isActivatable.test(
+          removal.type(), removal.tenantId(), removal.priority(), removal.jobKey())) {
+        remove(removal.type(), removal.tenantId(), removal.priority(), removal.jobKey());
+      }
+    }
+    pendingRemovals.clear();
+  }
+
+  /**
+   * Visits the indexed jobs of the given type and tenants in activation order, merging the jobs of
+   * different tenants.
+   *
+   * @param positivePriority whether to visit the jobs with a priority above zero, or the ones with
+   *     a priority of zero or less
+   */
+  void forEachJob(
+      final String type,
+      final List<String> tenantIds,
+      final boolean positivePriority,
+      final JobVisitor visitor) {
+    final var jobsByTenant = jobsByTypeAndTenant.get(type);
+    if (jobsByTenant == null) {
+      return;
+    }
+
+    final var cursors = new PriorityQueue<TenantCursor>();
+    for (final var tenantId : tenantIds) {
+      final var jobsByPriority = jobsByTenant.get(tenantId);
+      if (jobsByPriority == null) {
+        continue;
+      }
+      // the priorities are in descending order, so the head map holds the ones above zero
+      final var priorities =
+          positivePriority ? jobsByPriority.headMap(0, false) : jobsByPriority.tailMap(0, true);
+      final var cursor = new TenantCursor(tenantId, priorities.entrySet().iterator());
+      if (cursor.seek()) {
+        cursors.add(cursor);
+      }
+    }
+
+    while (!cursors.isEmpty()) {
+      final var cursor = cursors.poll();
+      final boolean hasNext;
+      switch (visitor.visit(cursor.tenantId, cursor.priority, cursor.jobKey)) {
+        case NEXT -> hasNext = cursor.next();
+        case REMOVE -> {
+          size--;
+          hasNext = cursor.removeAndNext();
+        }
+        default -> {
+          return;
+        }
+      }
+      if (hasNext) {
+        cursors.add(cursor);
+      }
+    }
+  }
+
+  /**
+   * @return the number of indexed jobs, including the ones which are no longer activatable
+   */
+  int size() {
+    return size;
+  }
+
+  /** Removes all jobs, and marks the index as not built. */
+  void clear() {
+    jobsByTypeAndTenant.clear();
+    pendingRemovals.clear();
+    size = 0;
+    isBuilt = false;
+  }
+
+  private void remove(
+      final String type, final String tenantId, final int priority, final long jobKey) {
+    final var jobsByTenant = jobsByTypeAndTenant.get(type);
+    if (jobsByTenant == null) {
+      return;
+    }
+    final var jobsByPriority = jobsByTenant.get(tenantId);
+    if (jobsByPriority == null) {
+      return;
+    }
+    final var jobs = jobsByPriority.get(priority);
+    if (jobs != null && jobs.remove(jobKey)) {
+      size--;
+      if (jobs.isEmpty()) {
+        jobsByPriority.remove(priority);
+      }
+    }
+  }
+
+  enum Visit {
+    /** Continue with the next job. */
+    NEXT,
+    /** Remove the job from the index, as it is no longer activatable, and continue. */
+    REMOVE,
+    /** Stop the iteration. */
+    STOP
+  }
+
+  @FunctionalInterface
+  interface JobVisitor {
+    Visit visit(String tenantId, int priority, long jobKey);
+  }
+
+  @FunctionalInterface
+  interface JobPredicate {
+    boolean test(String type, String tenantId, int priority, long jobKey);
+  }
+
+  private record PendingRemoval(String type, String tenantId, int priority, long jobKey) {}
+
+  /**
+   * The keys of the jobs with the same type, tenant and priority, in ascending order. The keys are
+   * split into chunks of sorted arrays, so that adding or removing a key only shifts the keys of
+   * its chunk. Chunks are never empty.
+   */
+  private static final class JobKeys {
+    private static final int MAX_CHUNK_SIZE = 1024;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int size;
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private boolean add(final long key) {
+      if (chunks.isEmpty()) {
+        chunks.add(new Chunk());
+      }
+
+      final int chunkIndex = chunkIndexOf(key);
+      var chunk = chunks.get(chunkIndex);
+      int position = chunk.indexOf(key);
+      if (position >= 0) {
+        return false;
+      }
+
+      position = -position - 1;
+      if (chunk.size == MAX_CHUNK_SIZE) {
+        // keys are mostly added in ascending order, so appending starts a new chunk instead of
+        // leaving two half-full ones behind
+        final var next = position == MAX_CHUNK_SIZE ? new Chunk() : chunk.splitUpperHalf();
+        chunks.add(chunkIndex + 1, next);
+        if (position >= chunk.size) {
+          position -= chunk.size;
+          chunk = next;
+        }
+      }
+      chunk.insert(position, key);
+      size++;
+      return true;
+    }
+
+    private boolean remove(final long key) {
+      if (isEmpty()) {
+        return false;
+      }
+
+      final int chunkIndex = chunkIndexOf(key);
+      final int position = chunks.get(chunkIndex).indexOf(key);
+      if (position < 0) {
+        return false;
+      }
+      removeAt(chunkIndex, position);
+      return true;
+    }
+
+    private void removeAt(final int chunkIndex, final int position) {
+      final var chunk = chunks.get(chunkIndex);
+      chunk.remove(position);
+      if (chunk.size == 0) {
+        chunks.remove(chunkIndex);
+      }
+      size--;
+    }
+
+    /** Returns the index of the last chunk whose first key is not greater than the given key. */
+    private int chunkIndexOf(final long key) {
+      int low = 0;
+      int high = chunks.size() - 1;
+      while (low < high) {
+        final int middle = (low + high + 1) >>> 1;
+        if (chunks.get(middle).keys[0] <= key) {
+          low = middle;
+        } else {
+          high = middle - 1;
+        }
+      }
+      return low;
+    }
+  }
+
+  private static final class Chunk {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private int indexOf(final long key) {
+      return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(final int position, final long key) {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, Math.min(keys.length * 2, JobKeys.MAX_CHUNK_SIZE));
+      }
+      System.arraycopy(keys, position, keys, position + 1, size - position);
+      keys[position] = key;
+      size++;
+    }
+
+    private void remove(final int position) {
+      System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+      size--;
+    }
+
+    /** Moves the upper half of the keys into a new chunk, which is returned. */
+    private Chunk splitUpperHalf() {
+      final int half = size / 2;
+      final var upper = new Chunk();
+      upper.keys = Arrays.copyOfRange(keys, half, keys.length);
+      upper.size = size - half;
+      size = half;
+      return upper;
+    }
+  }
+
+  /** Iterates over the jobs of one tenant, priority by priority. */
+  private static final class TenantCursor implements Comparable<TenantCursor> {
+    private final String tenantId;
+    private final Iterator<Entry<Integer, JobKeys>> priorities;
+    private JobKeys jobs;
+    private int chunkIndex;
+    private int position;
+    private int priority;
+    private long jobKey;
+
+    private TenantCursor(
+        final String tenantId, final Iterator<Entry<Integer, JobKeys>> priorities) {
+      this.tenantId = tenantId;
+      this.priorities = priorities;
+    }
+
+    private boolean next() {
+      position++;
+      return seek();
+    }
+
+    private boolean removeAndNext() {
+      // the following keys move up by one, so the position points to the next key already
+      jobs.removeAt(chunkIndex, position);
+      return seek();
+    }
+
+    /** Moves to the job at the current position, or to the next one if there is none. */
+    private boolean seek() {
+      while (true) {
+        if (jobs != null) {
+          if (chunkIndex < jobs.chunks.size() && position >= jobs.chunks.get(chunkIndex).size) {
+            chunkIndex++;
+            position = 0;
+          }
+          if (chunkIndex < jobs.chunks.size()) {
+            jobKey = jobs.chunks.get(chunkIndex).keys[position];
+            return true;
+          }
+          if (jobs.isEmpty()) {
+            priorities.remove();
+          }
+        }
+
+        if (!priorities.hasNext()) {
+          return false;
+        }
+        final var entry = priorities.next();
+        priority = entry.getKey();
+        jobs = entry.getValue();
+        chunkIndex = 0;
+        position = 0;
+      }
+    }
+
+    @Override
+    public int compareTo(final TenantCursor other) {
+      final int byPriority = Integer.compare(other.priority, priority);
+      return byPriority != 0 ? byPriority : Long.compare(jobKey, other.jobKey);
+    }
+  }
+}
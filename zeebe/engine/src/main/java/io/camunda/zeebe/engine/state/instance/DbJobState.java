@@ -20,17 +20,24 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.instance.ActivatableJobIndex.Visit;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
@@ -92,11 +99,39 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  private final ActivatableJobLookup activatableJobLookup = new ActivatableJobLookup();
+
+  /**
+   * Serves the jobs of {@code JOB_ACTIVATABLE_BY_PRIORITY} to {@link #forEachActivatableJobs}
+   * without iterating the column family. Built on recovery, so followers and replaying partitions
+   * don't keep it in memory; until it is built, or after it overflowed, the column family is
+   * iterated instead.
+   */
+  private final ActivatableJobIndex activatableJobIndex = new ActivatableJobIndex();
+
+  /**
+   * Indexes the due dates of {@code JOB_DEADLINES} and {@code JOB_BACKOFF} for the job timeout and
+   * backoff checkers. Built on recovery, like the {@link #activatableJobIndex}.
+   */
+  private final DueDateIndex<DeadlineIndex> deadlineIndex;
+
+  private final DueDateIndex<DeadlineIndex> backoffIndex;
+
   /** In-memory, per-partition memory that the legacy JOB_ACTIVATABLE CF is globally drained. */
   private volatile boolean isLegacyCfDrained = false;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new DueDateIndex<>(), new DueDateIndex<>());
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DueDateIndex<DeadlineIndex> deadlineIndex,
+      final DueDateIndex<DeadlineIndex> backoffIndex) {
+    this.deadlineIndex = deadlineIndex;
+    this.backoffIndex = backoffIndex;
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -144,6 +179,13 @@ public final class DbJobState implements JobState, MutableJobState {
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    buildActivatableJobIndex();
+    buildDueDateIndex(deadlineIndex, deadlinesColumnFamily, context.getClock().millis());
+    buildDueDateIndex(backoffIndex, backoffColumnFamily, context.getClock().millis());
+  }
+
   /**
    * @deprecated carries the pre-8.10 orchestration that inserts into the legacy {@code
    *     JOB_ACTIVATABLE} column family. Reachable only from the released, unversioned/V1/V2 job
@@ -322,6 +364,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getDeadline() != deadline) {
             deadlinesColumnFamily.deleteExisting(key);
+            deadlineIndex.removeLater(new DeadlineIndex(deadline, jobKey.getValue()));
           }
           return true;
         });
@@ -337,6 +380,7 @@ public final class DbJobState implements JobState, MutableJobState {
           if (job == null || job.getRecord().getRecurringTime() != backoff) {
             LOG.debug("Deleting orphaned job with key {}", key);
             backoffColumnFamily.deleteExisting(key);
+            backoffIndex.removeLater(new DeadlineIndex(backoff, jobKey.getValue()));
           }
           return true;
         });
@@ -352,6 +396,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
       deadlineKey.wrapLong(oldDeadline);
       deadlinesColumnFamily.deleteExisting(deadlineJobKey);
+      deadlineIndex.removeLater(new DeadlineIndex(oldDeadline, jobKey));
 
       job.setDeadline(newDeadline);
       updateJobRecord(jobKey, job);
@@ -394,6 +439,8 @@ public final class DbJobState implements JobState, MutableJobState {
               || jobRecord.getRecord().getRetries() <= 0
               || jobRecord.getRecord().getRetryBackoff() <= 0) {
             backoffColumnFamily.deleteExisting(key);
+            backoffIndex.removeLater(
+                new DeadlineIndex(key.first().getValue(), key.second().inner().getValue()));
           } else {
             jobsWithBackoff.add(jobKey.getValue());
           }
@@ -413,6 +460,7 @@ public final class DbJobState implements JobState, MutableJobState {
           if (backoff > 0 && retries > 0) {
             backoffKey.wrapLong(backoff);
             backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+            addToDueDateIndex(backoffIndex, backoff, jobKey.getValue());
           }
         });
   }
@@ -445,6 +493,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
+      deadlineIndex.removeLater(new DeadlineIndex(deadline, job));
     }
   }
 
@@ -461,6 +510,14 @@ public final class DbJobState implements JobState, MutableJobState {
     invertedPriorityKey.wrapInt(Integer.MAX_VALUE - priority);
     // upsert because a failed job with retries can be made activatable multiple times
     priorityActivatableColumnFamily.upsert(tenantAwarePriorityKey, DbNil.INSTANCE);
+    if (activatableJobIndex.isBuilt()
+        && !activatableJobIndex.add(BufferUtil.bufferAsString(type), tenantId, priority, key)) {
+      LOG.warn(
+          "Expected to index at most {} activatable jobs, but there are more; dropping the index"
+              + " and activating jobs from the state until the next recovery",
+          ActivatableJobIndex.MAX_INDEXED_JOBS);
+      activatableJobIndex.clear();
+    }
   }
 
   @Override
@@ -475,6 +532,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+      addToDueDateIndex(backoffIndex, backoff, job);
     }
   }
 
@@ -484,6 +542,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.deleteIfExists(backoffJobKey);
+      backoffIndex.removeLater(new DeadlineIndex(backoff, job));
     }
   }
 
@@ -584,6 +643,8 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    // removing from the index checks the shared key fields, so it must happen before wrapping
+    removePendingFromActivatableJobIndex();
     jobTypeKey.wrapBuffer(type);
 
     // Three-phase sequential read ensures correct activation order across the 8.10 upgrade
@@ -593,10 +654,13 @@ public final class DbJobState implements JobState, MutableJobState {
     // keys)
     //   Phase 3: new jobs with priority <= 0, highest first
     // Each phase returns true if the batch still wants more jobs. Subsequent phases are skipped
-    // when the batch is full to avoid redundant state reads.
-    if (visitHighPriorityJobs(tenantIds, callback)
-        && (isLegacyCfDrained || visitLegacyActivatableJobs(type, tenantIds, callback))) {
-      visitNonPositivePriorityJobs(tenantIds, callback);
+    // when the batch is full to avoid redundant state reads. Phases 1 and 3 are served from the
+    // in-memory activatableJobIndex once it is built, Phase 2 always iterates the legacy column
+    // family.
+    activatableJobLookup.reset(callback);
+    if (visitHighPriorityJobs(type, tenantIds)
+        && (isLegacyCfDrained || visitLegacyActivatableJobs(type, tenantIds))) {
+      visitNonPositivePriorityJobs(type, tenantIds);
     }
   }
 
@@ -623,6 +687,13 @@ public final class DbJobState implements JobState, MutableJobState {
     return deadlinesColumnFamily.exists(deadlineJobKey);
   }
 
+  @Override
+  public boolean jobBackoffExists(final long jobKey, final long backoff) {
+    this.jobKey.wrapLong(jobKey);
+    backoffKey.wrapLong(backoff);
+    return backoffColumnFamily.exists(backoffJobKey);
+  }
+
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
     nextBackOffDueDate = -1L;
@@ -644,19 +715,27 @@ public final class DbJobState implements JobState, MutableJobState {
 
   /**
    * Phase 1 — yields all priority > 0 jobs from {@code JOB_ACTIVATABLE_BY_PRIORITY} in descending
-   * priority order. Stops at the first entry where the actual priority drops to 0 or below.
+   * priority order, served from the {@link #activatableJobIndex} if it is built.
    *
-   * <p>The inverted-priority key scheme encodes {@code invertedPriority = Integer.MAX_VALUE -
-   * priority}, so RocksDB's ascending forward scan returns higher-priority entries first. The
-   * boundary is detected by recovering {@code actualPriority = Integer.MAX_VALUE -
-   * invertedPriority} using two's-complement arithmetic — this is intentional and correct for
+   * <p>Otherwise, the column family is iterated and stops at the first entry where the actual
+   * priority drops to 0 or below. The inverted-priority key scheme encodes {@code invertedPriority
+   * = Integer.MAX_VALUE - priority}, so RocksDB's ascending forward scan returns higher-priority
+   * entries first. The boundary is detected by recovering {@code actualPriority = Integer.MAX_VALUE
+   * - invertedPriority} using two's-complement arithmetic — this is intentional and correct for
    * negative priorities; see the field comment on {@code invertedPriorityKey}.
    *
    * @return {@code true} if the batch still wants more jobs; {@code false} if the batch is full
    */
-  private boolean visitHighPriorityJobs(
-      final List<String> tenantIds, final BiFunction<Long, JobRecord, Boolean> callback) {
-    final var batchNotFull = new boolean[] {true};
+  private boolean visitHighPriorityJobs(final DirectBuffer type, final List<String> tenantIds) {
+    if (activatableJobIndex.isBuilt()) {
+      activatableJobIndex.forEachJob(
+          BufferUtil.bufferAsString(type),
+          tenantIds,
+          true,
+          (tenantId, priority, key) -> visitIndexedJob(type, tenantId, priority, key));
+      return activatableJobLookup.flush();
+    }
+
     priorityActivatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         entry -> {
@@ -668,11 +747,9 @@ public final class DbJobState implements JobState, MutableJobState {
           if (!tenantIds.contains(entry.tenantKey().toString())) {
             return true;
           }
-          batchNotFull[0] =
-              visitJob(invertedPriorityAndJob.second().inner().getValue(), callback::apply);
-          return batchNotFull[0];
+          return activatableJobLookup.add(invertedPriorityAndJob.second().inner().getValue());
         });
-    return batchNotFull[0];
+    return activatableJobLookup.flush();
   }
 
   /**
@@ -696,10 +773,7 @@ public final class DbJobState implements JobState, MutableJobState {
    * @return {@code true} if the batch still wants more jobs; {@code false} if the batch is full
    */
   private boolean visitLegacyActivatableJobs(
-      final DirectBuffer type,
-      final List<String> tenantIds,
-      final BiFunction<Long, JobRecord, Boolean> callback) {
-    final var batchNotFull = new boolean[] {true};
+      final DirectBuffer type, final List<String> tenantIds) {
     final var visitedAny = new boolean[] {false};
     deprecatedActivatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
@@ -708,10 +782,9 @@ public final class DbJobState implements JobState, MutableJobState {
           if (!tenantIds.contains(entry.tenantKey().toString())) {
             return true;
           }
-          batchNotFull[0] =
-              visitJob(entry.wrappedKey().second().inner().getValue(), callback::apply);
-          return batchNotFull[0];
+          return activatableJobLookup.add(entry.wrappedKey().second().inner().getValue());
         });
+    final boolean batchNotFull = activatableJobLookup.flush();
     // Only worth checking globally when this type's own prefix was empty; isEmpty() is the
     // authoritative global gate.
     if (!visitedAny[0]) {
@@ -725,13 +798,14 @@ public final class DbJobState implements JobState, MutableJobState {
         isLegacyCfDrained = true;
       }
     }
-    return batchNotFull[0];
+    return batchNotFull;
   }
 
   /**
-   * Phase 3 — yields all priority ≤ 0 jobs from {@code JOB_ACTIVATABLE_BY_PRIORITY}.
+   * Phase 3 — yields all priority ≤ 0 jobs from {@code JOB_ACTIVATABLE_BY_PRIORITY}, served from
+   * the {@link #activatableJobIndex} if it is built.
    *
-   * <p>Uses the three-argument {@link
+   * <p>Otherwise, uses the three-argument {@link
    * io.camunda.zeebe.db.ColumnFamily#whileEqualPrefix(io.camunda.zeebe.db.DbKey,
    * io.camunda.zeebe.db.DbKey, io.camunda.zeebe.db.KeyValuePairVisitor)} overload to seek directly
    * to the start of the priority = 0 range rather than re-scanning the priority > 0 entries already
@@ -745,8 +819,17 @@ public final class DbJobState implements JobState, MutableJobState {
    * <p>Assumes {@code jobTypeKey} is already set by the caller (i.e., from {@link
    * #forEachActivatableJobs}).
    */
-  private void visitNonPositivePriorityJobs(
-      final List<String> tenantIds, final BiFunction<Long, JobRecord, Boolean> callback) {
+  private void visitNonPositivePriorityJobs(final DirectBuffer type, final List<String> tenantIds) {
+    if (activatableJobIndex.isBuilt()) {
+      activatableJobIndex.forEachJob(
+          BufferUtil.bufferAsString(type),
+          tenantIds,
+          false,
+          (tenantId, priority, key) -> visitIndexedJob(type, tenantId, priority, key));
+      activatableJobLookup.flush();
+      return;
+    }
+
     // Seek-key setup mutates shared mutable fields (same pattern as makeJobActivatable and
     // makeJobNotActivatable). After this method returns, invertedPriorityKey, jobKey, and
     // tenantIdKey hold values from the seek or from the last iteration. Callers of write
@@ -762,8 +845,83 @@ public final class DbJobState implements JobState, MutableJobState {
             return true;
           }
           final var invertedPriorityAndJob = entry.wrappedKey().second();
-          return visitJob(invertedPriorityAndJob.second().inner().getValue(), callback::apply);
+          return activatableJobLookup.add(invertedPriorityAndJob.second().inner().getValue());
         });
+    activatableJobLookup.flush();
+  }
+
+  /**
+   * Checks a job of the {@link #activatableJobIndex} against {@code JOB_ACTIVATABLE_BY_PRIORITY}
+   * with a point lookup, since the index may still contain jobs which were made not activatable
+   * since, and passes it on to the {@link #activatableJobLookup} if it is still activatable.
+   */
+  private Visit visitIndexedJob(
+      final DirectBuffer type, final String tenantId, final int priority, final long key) {
+    // the key fields are shared, so they must be re-wrapped for every job; see the field comments
+    jobTypeKey.wrapBuffer(type);
+    if (!isActivatableByPriority(tenantId, priority, key)) {
+      return Visit.REMOVE;
+    }
+    return activatableJobLookup.add(key) ? Visit.NEXT : Visit.STOP;
+  }
+
+  /** Requires {@code jobTypeKey} to be set by the caller. */
+  private boolean isActivatableByPriority(
+      final String tenantId, final int priority, final long key) {
+    tenantIdKey.wrapString(tenantId);
+    invertedPriorityKey.wrapInt(Integer.MAX_VALUE - priority);
+    jobKey.wrapLong(key);
+    return priorityActivatableColumnFamily.exists(tenantAwarePriorityKey);
+  }
+
+  /**
+   * Removes the jobs which were made not activatable since the last activation from the {@link
+   * #activatableJobIndex}. Activations are processed before their command changes any state, so the
+   * removals checked here are committed and can't be rolled back anymore.
+   */
+  private void removePendingFromActivatableJobIndex() {
+    if (!activatableJobIndex.isBuilt()) {
+      return;
+    }
+
+    activatableJobIndex.removePending(
+        (type, tenantId, priority, key) -> {
+          jobTypeKey.wrapString(type);
+          return isActivatableByPriority(tenantId, priority, key);
+        });
+  }
+
+  /**
+   * Builds the {@link #activatableJobIndex} from {@code JOB_ACTIVATABLE_BY_PRIORITY}. From then on,
+   * jobs are added to the index whenever they are made activatable, and removed after they were
+   * made not activatable. If the column family holds more jobs than the index, the index is not
+   * built and jobs are activated from the column family.
+   */
+  private void buildActivatableJobIndex() {
+    activatableJobIndex.clear();
+    final var isComplete = new MutableBoolean(true);
+    priorityActivatableColumnFamily.whileTrue(
+        key -> {
+          final var typePriorityAndJob = key.wrappedKey();
+          final var invertedPriorityAndJob = typePriorityAndJob.second();
+          isComplete.value =
+              activatableJobIndex.add(
+                  typePriorityAndJob.first().toString(),
+                  key.tenantKey().toString(),
+                  Integer.MAX_VALUE - invertedPriorityAndJob.first().getValue(),
+                  invertedPriorityAndJob.second().inner().getValue());
+          return isComplete.value;
+        });
+
+    if (isComplete.value) {
+      activatableJobIndex.markBuilt();
+    } else {
+      LOG.warn(
+          "Expected to index at most {} activatable jobs, but there are more; activating jobs"
+              + " from the state instead",
+          ActivatableJobIndex.MAX_INDEXED_JOBS);
+      activatableJobIndex.clear();
+    }
   }
 
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
@@ -819,6 +977,10 @@ public final class DbJobState implements JobState, MutableJobState {
     // Requires jobKey to already be set by the caller (directly or via updateJobRecord).
     // This method does not set jobKey because it is not passed as a parameter.
     priorityActivatableColumnFamily.deleteIfExists(tenantAwarePriorityKey);
+    if (activatableJobIndex.isBuilt()) {
+      activatableJobIndex.removeLater(
+          BufferUtil.bufferAsString(type), tenantId, priority, jobKey.getValue());
+    }
     // Legacy CF cleanup: pre-8.10 jobs live in JOB_ACTIVATABLE; deleteIfExists is a no-op
     // when the key is absent. Do not remove this line!
     deprecatedActivatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
@@ -829,6 +991,124 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+      addToDueDateIndex(deadlineIndex, deadline, job);
+    }
+  }
+
+  private void addToDueDateIndex(
+      final DueDateIndex<DeadlineIndex> index, final long dueDate, final long job) {
+    if (!index.add(dueDate, new DeadlineIndex(dueDate, job))) {
+      LOG.warn(
+          "Expected to index at most {} job due dates, but there are more; dropping the index and"
+              + " checking the due dates in the state until the next recovery",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
+  }
+
+  /**
+   * Builds the given index from the due dates of the given column family. From then on, due dates
+   * are added to the index whenever they are stored, and removed after they were deleted.
+   */
+  private void buildDueDateIndex(
+      final DueDateIndex<DeadlineIndex> index,
+      final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> dueDates,
+      final long now) {
+    final boolean isBuilt =
+        index.build(
+            now,
+            visitor ->
+                dueDates.whileTrue(
+                    key -> {
+                      final long dueDate = key.first().getValue();
+                      return visitor.visit(
+                          dueDate, new DeadlineIndex(dueDate, key.second().inner().getValue()));
+                    }));
+    if (!isBuilt) {
+      LOG.warn(
+          "Expected to index at most {} job due dates, but there are more; checking the due dates"
+              + " in the state instead",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
+  }
+
+  /**
+   * Collects the keys of the activatable jobs visited by {@link #forEachActivatableJobs} and looks
+   * up their records with a single {@link ColumnFamily#multiGet} per batch, instead of one lookup
+   * per job. Since the callback may stop early, e.g. once the job batch is full, the lookup batches
+   * start small and double up to {@link #MAX_BATCH_SIZE}, which bounds the number of jobs read in
+   * vain while large activations still need only few lookups.
+   */
+  private final class ActivatableJobLookup {
+    private static final int MIN_BATCH_SIZE = 8;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final List<DbLong> keys = new ArrayList<>();
+    private BiFunction<Long, JobRecord, Boolean> callback;
+    private int batchSize;
+    private int size;
+    private boolean batchNotFull;
+
+    private void reset(final BiFunction<Long, JobRecord, Boolean> callback) {
+      this.callback = callback;
+      batchSize = MIN_BATCH_SIZE;
+      size = 0;
+      batchNotFull = true;
+    }
+
+    /**
+     * Adds the given job to the current lookup batch, and looks the batch up if it is complete.
+     *
+     * @return {@code true} if the batch still wants more jobs; {@code false} if the batch is full
+     */
+    private boolean add(final long jobKey) {
+      if (size == keys.size()) {
+        keys.add(new DbLong());
+      }
+      keys.get(size++).wrapLong(jobKey);
+
+      if (size < batchSize) {
+        return true;
+      }
+      batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+      return flush();
+    }
+
+    /**
+     * Looks up the jobs added since the last lookup and passes them to the callback, in the order
+     * they were added.
+     *
+     * @return {@code true} if the batch still wants more jobs; {@code false} if the batch is full
+     */
+    private boolean flush() {
+      if (size == 0 || !batchNotFull) {
+        size = 0;
+        return batchNotFull;
+      }
+
+      final var batch = keys.subList(0, size);
+      final var nextIndex = new MutableInteger();
+      jobsColumnFamily.multiGet(
+          batch,
+          (key, job) -> {
+            while (batch.get(nextIndex.value) != key) {
+              warnJobNotFound(batch.get(nextIndex.getAndIncrement()).getValue());
+            }
+            nextIndex.increment();
+            batchNotFull = callback.apply(key.getValue(), job.getRecord());
+            return batchNotFull;
+          });
+
+      if (batchNotFull) {
+        while (nextIndex.value < size) {
+          warnJobNotFound(batch.get(nextIndex.getAndIncrement()).getValue());
+        }
+      }
+      size = 0;
+      return batchNotFull;
+    }
+
+    private void warnJobNotFound(final long jobKey) {
+      LOG.warn("Expected to find job with key {}, but no job found", jobKey);
     }
   }
 }
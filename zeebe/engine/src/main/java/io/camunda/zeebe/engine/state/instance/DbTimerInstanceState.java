@@ -15,12 +15,18 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
+  private static final Logger LOG = LoggerFactory.getLogger(DbTimerInstanceState.class);
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
   private final TimerInstance timerInstance;
@@ -35,10 +41,24 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  /**
+   * Indexes the due dates of {@code TIMER_DUE_DATES} for the timer checker. Built on recovery, so
+   * followers and replaying partitions don't keep it in memory.
+   */
+  private final DueDateIndex<TimerKey> dueDateIndex;
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new DueDateIndex<>());
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DueDateIndex<TimerKey> dueDateIndex) {
+    this.dueDateIndex = dueDateIndex;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,6 +82,27 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    final boolean isBuilt =
+        dueDateIndex.build(
+            context.getClock().millis(),
+            index ->
+                dueDateColumnFamily.whileTrue(
+                    key ->
+                        index.visit(
+                            key.first().getValue(),
+                            new TimerKey(
+                                key.second().first().inner().getValue(),
+                                key.second().second().getValue()))));
+    if (!isBuilt) {
+      LOG.warn(
+          "Expected to index at most {} timer due dates, but there are more; checking the due"
+              + " dates in the state instead",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
+  }
+
   @Override
   public void store(final TimerInstance timer) {
     timerKey.wrapLong(timer.getKey());
@@ -71,6 +112,13 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+    if (!dueDateIndex.add(
+        timer.getDueDate(), new TimerKey(timer.getElementInstanceKey(), timer.getKey()))) {
+      LOG.warn(
+          "Expected to index at most {} timer due dates, but there are more; dropping the index"
+              + " and checking the due dates in the state until the next recovery",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
   }
 
   @Override
@@ -81,6 +129,7 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+    dueDateIndex.removeLater(new TimerKey(timer.getElementInstanceKey(), timer.getKey()));
   }
 
   @Override
@@ -22,6 +22,7 @@ import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.metrics.CrossPartitionMessageStateMetrics;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -29,11 +30,15 @@ import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class DbMessageState implements MutableMessageState {
 
   public static final String DEADLINE_MESSAGE_COUNT_KEY = "deadline_message_count";
 
+  private static final Logger LOG = LoggerFactory.getLogger(DbMessageState.class);
+
   /**
    * <pre>message key -> message
    */
@@ -177,12 +182,27 @@ public final class DbMessageState implements MutableMessageState {
   private final BufferedMessagesMetrics bufferedMessagesMetrics;
   private final CrossPartitionMessageStateMetrics crossPartitionMetrics;
 
+  /**
+   * Indexes the deadlines of {@code MESSAGE_DEADLINES} for the message TTL checker. Built on
+   * recovery, so followers and replaying partitions don't keep it in memory.
+   */
+  private final DueDateIndex<Index> deadlineIndex;
+
   private Long localMessageDeadlineCount = 0L;
 
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this(zeebeDb, transactionContext, partitionId, new DueDateIndex<>());
+  }
+
+  public DbMessageState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final DueDateIndex<Index> deadlineIndex) {
+    this.deadlineIndex = deadlineIndex;
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -299,6 +319,23 @@ public final class DbMessageState implements MutableMessageState {
     // by the +1/-1 mutations replayed before this hook runs.
     crossPartitionMetrics.setStartLocks(crossPartitionStartLockColumnFamily.count());
     crossPartitionMetrics.setBufferedMessages(messageByBusinessIdColumnFamily.count());
+
+    final boolean isBuilt =
+        deadlineIndex.build(
+            context.getClock().millis(),
+            visitor ->
+                deadlineColumnFamily.whileTrue(
+                    key -> {
+                      final long deadline = key.first().getValue();
+                      return visitor.visit(
+                          deadline, new Index(key.second().inner().getValue(), deadline));
+                    }));
+    if (!isBuilt) {
+      LOG.warn(
+          "Expected to index at most {} message deadlines, but there are more; checking the"
+              + " deadlines in the state instead",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
   }
 
   @Override
@@ -314,6 +351,12 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    if (!deadlineIndex.add(record.getDeadline(), new Index(key, record.getDeadline()))) {
+      LOG.warn(
+          "Expected to index at most {} message deadlines, but there are more; dropping the index"
+              + " and checking the deadlines in the state until the next recovery",
+          DueDateIndex.MAX_INDEXED_ITEMS);
+    }
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -542,6 +585,8 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    deadlineIndex.removeLater(
+        new Index(storedMessage.getMessageKey(), storedMessage.getMessage().getDeadline()));
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -625,6 +670,13 @@ public final class DbMessageState implements MutableMessageState {
     return messageColumnFamily.get(this.messageKey);
   }
 
+  @Override
+  public boolean messageDeadlineExists(final long messageKey, final long deadline) {
+    this.messageKey.wrapLong(messageKey);
+    this.deadline.wrapLong(deadline);
+    return deadlineColumnFamily.exists(deadlineMessageKey);
+  }
+
   @Override
   public boolean visitMessagesWithDeadlineBeforeTimestamp(
       final long timestamp, final Index startAt, final ExpiredMessageVisitor visitor) {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.mutable;
 
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndexes;
 import io.camunda.zeebe.engine.state.globallistener.MutableGlobalListenersState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
@@ -152,4 +153,10 @@ public interface MutableProcessingState extends ProcessingState {
   MutableSecretReferenceState getSecretReferenceState();
 
   KeyGenerator getKeyGenerator();
+
+  /**
+   * @return the indexes of the due dates which are checked by the scheduled tasks, kept in sync by
+   *     this state once it recovered
+   */
+  DueDateIndexes getDueDateIndexes();
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.mutable;
 
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.util.CloseableSilently;
 import org.agrona.DirectBuffer;
 
 public interface MutableVariableState extends VariableState {
@@ -83,4 +84,16 @@ public interface MutableVariableState extends VariableState {
    * @param scopeKey the key identifying the scope for which the variable document is stored
    */
   void removeVariableDocumentState(long scopeKey);
+
+  /**
+   * Caches the variable documents of the scopes which are read, such that collecting the variables
+   * of the same scopes again, e.g. for sibling jobs or multi-instance children, doesn't iterate
+   * over their variables again. Changing the variables of a scope invalidates its cached document.
+   *
+   * <p>The cache is not aware of transactions, so it must not outlive a rolled back transaction.
+   * It's cleared when the returned scope is closed.
+   *
+   * @return the scope of the cache, which must be closed before the transaction ends
+   */
+  CloseableSilently cacheDocuments();
 }
@@ -16,9 +16,11 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.instance.VariableDocumentState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,12 +32,19 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * The maximum size of all cached variable documents, beyond which the cache is cleared, such that
+   * a command which reads the variables of many scopes can't exhaust the memory.
+   */
+  private static final int MAX_CACHED_DOCUMENTS_BYTES = 8 * 1024 * 1024;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -66,6 +75,16 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final List<DirectBuffer> orderedVariablesToCollect = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeys = new ArrayList<>();
+
+  // caching the local variable documents of scopes, see cacheDocuments()
+  private final Long2ObjectHashMap<DirectBuffer> cachedLocalDocuments = new Long2ObjectHashMap<>();
+  private final List<DirectBuffer> scopeDocuments = new ArrayList<>();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final CloseableSilently documentCacheScope = this::stopCachingDocuments;
+  private boolean isCachingDocuments;
+  private int cachedDocumentsBytes;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -127,6 +146,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    invalidateCachedDocument(scopeKey);
   }
 
   @Override
@@ -150,6 +170,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    invalidateCachedDocument(scopeKey);
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
@@ -212,6 +233,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    if (isCachingDocuments) {
+      return getCachedVariablesAsDocument(scopeKey);
+    }
 
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
@@ -245,23 +269,35 @@ public class DbVariableState implements MutableVariableState {
 
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
+    // look up the names in the order of the column family's keys, so the variables are written in
+    // the same order as when iterating over the variables of each scope
+    orderedVariablesToCollect.clear();
+    orderedVariablesToCollect.addAll(variablesToCollect);
+    orderedVariablesToCollect.sort(DbVariableState::compareVariableNames);
 
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
+    // look up the remaining variables of each scope at once, instead of iterating over all
+    // variables of the scope, which may be many more than requested
     final MutableInteger written = new MutableInteger(0);
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      variablesColumnFamily.multiGet(
+          remainingVariableKeys(currentScope),
+          (key, value) -> {
+            final DirectBuffer name = key.second().getBuffer();
+            writer.writeString(name);
+            writer.writeRaw(value.getValue());
+
+            variablesToCollect.remove(name);
+            written.increment();
+            return true;
+          });
 
-          variablesToCollect.remove(name.getBuffer());
-          written.increment();
-        },
-        variablesToCollect::isEmpty);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
     writer.writeReservedMapHeader(0, written.get());
 
@@ -271,6 +307,13 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
+    if (isCachingDocuments) {
+      return getCachedVariablesLocalAsDocument(scopeKey);
+    }
+    return readVariablesLocalAsDocument(scopeKey);
+  }
+
+  private DirectBuffer readVariablesLocalAsDocument(final long scopeKey) {
     writer.wrap(documentResultBuffer, 0);
     writer.reserveMapHeader();
 
@@ -346,6 +389,85 @@ public class DbVariableState implements MutableVariableState {
     return Optional.ofNullable(variableDocumentStateByScopeKeyColumnFamily.get(this.scopeKey));
   }
 
+  @Override
+  public CloseableSilently cacheDocuments() {
+    isCachingDocuments = true;
+    return documentCacheScope;
+  }
+
+  private void stopCachingDocuments() {
+    isCachingDocuments = false;
+    cachedLocalDocuments.clear();
+    cachedDocumentsBytes = 0;
+  }
+
+  private void invalidateCachedDocument(final long scopeKey) {
+    final var document = cachedLocalDocuments.remove(scopeKey);
+    if (document != null) {
+      cachedDocumentsBytes -= document.capacity();
+    }
+  }
+
+  private DirectBuffer getCachedVariablesLocalAsDocument(final long scopeKey) {
+    final var cachedDocument = cachedLocalDocuments.get(scopeKey);
+    if (cachedDocument != null) {
+      return cachedDocument;
+    }
+
+    final var document = BufferUtil.cloneBuffer(readVariablesLocalAsDocument(scopeKey));
+    if (document.capacity() <= MAX_CACHED_DOCUMENTS_BYTES) {
+      if (cachedDocumentsBytes + document.capacity() > MAX_CACHED_DOCUMENTS_BYTES) {
+        cachedLocalDocuments.clear();
+        cachedDocumentsBytes = 0;
+      }
+      cachedLocalDocuments.put(scopeKey, document);
+      cachedDocumentsBytes += document.capacity();
+    }
+    return document;
+  }
+
+  /**
+   * Like {@link #getVariablesAsDocument(long)}, but merges the cached local documents of the scope
+   * hierarchy instead of iterating over the variables of each scope.
+   */
+  private DirectBuffer getCachedVariablesAsDocument(final long scopeKey) {
+    // collect the local documents first, since reading them reuses the document result buffer
+    scopeDocuments.clear();
+    long currentScope = scopeKey;
+    do {
+      scopeDocuments.add(getCachedVariablesLocalAsDocument(currentScope));
+      currentScope = getParentScopeKey(currentScope);
+    } while (currentScope >= 0);
+
+    collectedVariables.clear();
+    writer.wrap(documentResultBuffer, 0);
+    writer.reserveMapHeader();
+
+    for (final DirectBuffer document : scopeDocuments) {
+      reader.wrap(document, 0, document.capacity());
+      final int variables = reader.readMapHeader();
+      for (int i = 0; i < variables; i++) {
+        final int nameLength = reader.readStringLength();
+        final int nameOffset = reader.getOffset();
+        reader.skipBytes(nameLength);
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        // variables of a scope shadow the ones of its parent scopes with the same name
+        final var name = new UnsafeBuffer(document, nameOffset, nameLength);
+        if (collectedVariables.add(name)) {
+          writer.writeString(name);
+          writer.writeRaw(document, valueOffset, reader.getOffset() - valueOffset);
+        }
+      }
+    }
+
+    writer.writeReservedMapHeader(0, collectedVariables.size());
+
+    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
@@ -355,6 +477,49 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Returns a key in the given scope for each variable name which remains to be collected, in the
+   * order of the column family's keys. The keys are reused between calls, so they are only valid
+   * until the next call.
+   */
+  private List<DbCompositeKey<DbLong, DbString>> remainingVariableKeys(final long scopeKey) {
+    int count = 0;
+    for (final DirectBuffer name : orderedVariablesToCollect) {
+      if (!variablesToCollect.contains(name)) {
+        continue;
+      }
+
+      if (count == variableKeys.size()) {
+        variableKeys.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+      }
+      final var key = variableKeys.get(count++);
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+    }
+    return variableKeys.subList(0, count);
+  }
+
+  /**
+   * Compares variable names in the order of their serialized {@link DbString} keys: by length
+   * first, then by their unsigned bytes.
+   */
+  private static int compareVariableNames(final DirectBuffer name, final DirectBuffer other) {
+    final int lengthComparison = Integer.compare(name.capacity(), other.capacity());
+    if (lengthComparison != 0) {
+      return lengthComparison;
+    }
+
+    for (int i = 0; i < name.capacity(); i++) {
+      final int byteComparison =
+          Integer.compare(
+              Byte.toUnsignedInt(name.getByte(i)), Byte.toUnsignedInt(other.getByte(i)));
+      if (byteComparison != 0) {
+        return byteComparison;
+      }
+    }
+    return 0;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
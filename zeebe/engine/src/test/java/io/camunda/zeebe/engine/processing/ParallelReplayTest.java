@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.impl.StreamProcessorMode;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.ArrayList;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ParallelReplayTest {
+
+  private static final String PARENT_PROCESS_ID = "parent";
+  private static final String CHILD_PROCESS_ID = "child";
+  private static final String JOB_TYPE = "task";
+
+  private final ListLogStorage sharedStorage = new ListLogStorage();
+
+  @Rule
+  public final EngineRule serialReplay =
+      EngineRule.withSharedStorage(sharedStorage)
+          .withStreamProcessorMode(StreamProcessorMode.REPLAY);
+
+  @Rule
+  public final EngineRule parallelReplay =
+      EngineRule.withSharedStorage(sharedStorage)
+          .withStreamProcessorMode(StreamProcessorMode.REPLAY)
+          .withReplayWorkers(4);
+
+  @Rule public final EngineRule processing = EngineRule.withSharedStorage(sharedStorage);
+
+  @Test
+  public void shouldBuildTheSameStateAsSerialReplay() {
+    // given
+    processing
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PARENT_PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType(JOB_TYPE))
+                .callActivity("call", c -> c.zeebeProcessId(CHILD_PROCESS_ID))
+                .userTask("userTask")
+                .zeebeUserTask()
+                .endEvent()
+                .done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess(CHILD_PROCESS_ID)
+                .startEvent()
+                .intermediateCatchEvent("timer", e -> e.timerWithDuration("PT1H"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    // when - many independent process instances, of which only some advance
+    final var processInstanceKeys = new ArrayList<Long>();
+    for (int i = 0; i < 10; i++) {
+      processInstanceKeys.add(
+          processing
+              .processInstance()
+              .ofBpmnProcessId(PARENT_PROCESS_ID)
+              .withVariables(Map.of("index", i))
+              .create());
+    }
+    for (int i = 0; i < processInstanceKeys.size(); i += 2) {
+      processing
+          .job()
+          .ofInstance(processInstanceKeys.get(i))
+          .withType(JOB_TYPE)
+          .withVariables(Map.of("result", i))
+          .complete();
+    }
+
+    // then
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withElementType(BpmnElementType.INTERMEDIATE_CATCH_EVENT)
+        .limit(processInstanceKeys.size() / 2)
+        .await();
+
+    assertStates();
+  }
+
+  private void assertStates() {
+    Awaitility.await("await that the parallel replay state is equal to the serial replay state")
+        .untilAsserted(
+            () -> {
+              final var parallelReplayState = parallelReplay.collectState();
+              final var serialReplayState = serialReplay.collectState();
+              final var processingState = processing.collectState();
+
+              final var softly = new SoftAssertions();
+
+              processingState.entrySet().stream()
+                  // ignores transient states
+                  .filter(entry -> entry.getKey() != ZbColumnFamilies.DEFAULT)
+                  // Migrations ColumnFamily is not filled using events, but on broker start
+                  .filter(entry -> entry.getKey() != ZbColumnFamilies.MIGRATIONS_STATE)
+                  .forEach(
+                      entry -> {
+                        final var column = entry.getKey();
+                        // wait until the serial replay caught up with the processing
+                        softly
+                            .assertThat(serialReplayState.get(column))
+                            .describedAs(
+                                "The state column '%s' has different entries after serial replay",
+                                column)
+                            .isEqualTo(entry.getValue());
+                        final var serialReplayEntries = serialReplayState.get(column);
+                        final var parallelReplayEntries = parallelReplayState.get(column);
+                        if (serialReplayEntries.isEmpty()) {
+                          softly
+                              .assertThat(parallelReplayEntries)
+                              .describedAs(
+                                  "The state column '%s' should be empty after parallel replay",
+                                  column)
+                              .isEmpty();
+                        } else {
+                          softly
+                              .assertThat(parallelReplayEntries)
+                              .describedAs(
+                                  "The state column '%s' has different entries after parallel replay than after serial replay",
+                                  column)
+                              .containsExactlyInAnyOrderEntriesOf(serialReplayEntries);
+                        }
+                      });
+
+              softly.assertAll();
+            });
+  }
+}
@@ -55,6 +55,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -453,6 +454,43 @@ final class JobBatchCollectorTest {
     assertThat(estimatedLength.ref).isEqualTo(expectedLength);
   }
 
+  @Test
+  void shouldEstimateLengthCorrectlyForLargeBatches() {
+    // given - enough jobs to grow the headers of the jobs and job keys arrays
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    record.getValue().setMaxJobsToActivate(20);
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    setVariables(scopeKey, Map.of("foo", "bar"));
+    for (int i = 0; i < 20; i++) {
+      createJob(scopeKey);
+    }
+
+    final List<Integer> estimatedLengths = new ArrayList<>();
+    final List<Integer> batchLengths = new ArrayList<>();
+    lengthEvaluator.canWriteEventOfLength =
+        length -> {
+          estimatedLengths.add(length);
+          batchLengths.add(record.getLength());
+          return true;
+        };
+
+    // when
+    collector.collectJobs(record, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    // then - every estimate is based on the actual length of the batch before adding the job
+    final var activatedJobs = record.getValue().getJobs();
+    assertThat(activatedJobs).hasSize(20);
+    for (int i = 0; i < activatedJobs.size(); i++) {
+      final var activatedJob = (JobRecord) activatedJobs.get(i);
+      assertThat(estimatedLengths.get(i))
+          .describedAs("Expected estimated length of job %d", i)
+          .isEqualTo(
+              batchLengths.get(i)
+                  + activatedJob.getLength()
+                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER);
+    }
+  }
+
   @Test
   public void shouldCollectOnlyCustomTenantJobs() {
     // given
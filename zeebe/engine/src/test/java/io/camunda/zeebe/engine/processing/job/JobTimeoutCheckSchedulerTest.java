@@ -26,6 +26,7 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamClock;
 import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
@@ -89,7 +90,12 @@ public class JobTimeoutCheckSchedulerTest {
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
-        new JobTimeoutCheckScheduler(jobState, pollingInterval, batchLimit, InstantSource.system());
+        new JobTimeoutCheckScheduler(
+            jobState,
+            processingState.getDueDateIndexes().jobDeadlines(),
+            pollingInterval,
+            batchLimit,
+            InstantSource.system());
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
@@ -120,7 +126,12 @@ public class JobTimeoutCheckSchedulerTest {
     final int batchLimit = 3;
 
     final var task =
-        new JobTimeoutCheckScheduler(jobState, pollingInterval, batchLimit, InstantSource.system());
+        new JobTimeoutCheckScheduler(
+            jobState,
+            processingState.getDueDateIndexes().jobDeadlines(),
+            pollingInterval,
+            batchLimit,
+            InstantSource.system());
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
@@ -164,7 +175,12 @@ public class JobTimeoutCheckSchedulerTest {
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
-        new JobTimeoutCheckScheduler(jobState, pollingInterval, batchLimit, InstantSource.system());
+        new JobTimeoutCheckScheduler(
+            jobState,
+            processingState.getDueDateIndexes().jobDeadlines(),
+            pollingInterval,
+            batchLimit,
+            InstantSource.system());
     task.setProcessingContext(mockContext);
     task.setShouldReschedule(true);
 
@@ -183,4 +199,66 @@ public class JobTimeoutCheckSchedulerTest {
         .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
     assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
   }
+
+  @Test
+  public void shouldContinueWhereLeftOffWithIndexedDeadlines() {
+    // Given
+    when(mockContext.getClock()).thenReturn(StreamClock.system());
+    jobState.onRecovered(mockContext);
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+    final int batchLimit = 3;
+    final var task =
+        new JobTimeoutCheckScheduler(
+            jobState,
+            processingState.getDueDateIndexes().jobDeadlines(),
+            EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL,
+            batchLimit,
+            InstantSource.system());
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    final var inOrder = inOrder(mockTaskResultBuilder);
+    for (long i = 1; i <= 2 * batchLimit; i++) {
+      inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
+    }
+    verify(mockScheduleService, times(2)).runAt(anyLong(), ArgumentMatchers.<Task>any());
+  }
+
+  @Test
+  public void shouldOnlyTimeOutJobsWhoseIndexedDeadlineStillExists() {
+    // Given
+    when(mockContext.getClock()).thenReturn(StreamClock.system());
+    jobState.onRecovered(mockContext);
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+    final long createdJobKey = NUMBER_OF_ACTIVE_JOBS + 1;
+    createAndActivateJobRecord(createdJobKey, newJobRecord().setDeadline(createdJobKey));
+    jobState.delete(1L, jobState.getJob(1L));
+
+    final var task =
+        new JobTimeoutCheckScheduler(
+            jobState,
+            processingState.getDueDateIndexes().jobDeadlines(),
+            EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL,
+            Integer.MAX_VALUE,
+            InstantSource.system());
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    verify(mockTaskResultBuilder, never()).appendCommandRecord(eq(1L), eq(TIME_OUT), any());
+    final var inOrder = inOrder(mockTaskResultBuilder);
+    for (long i = 2; i <= createdJobKey; i++) {
+      inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
+    }
+  }
 }
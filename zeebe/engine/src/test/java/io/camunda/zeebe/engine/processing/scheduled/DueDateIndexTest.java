@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+final class DueDateIndexTest {
+
+  private final Set<String> state = new HashSet<>();
+  private final List<String> polled = new ArrayList<>();
+
+  @Test
+  void shouldNotIndexItemsUntilBuilt() {
+    // given
+    final var index = new DueDateIndex<String>();
+
+    // when
+    index.add(1_000, "a");
+
+    // then
+    assertThat(index.isBuilt()).isFalse();
+    assertThatThrownBy(() -> index.pollDue(1_000, state::contains, this::poll))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldHandOutBuiltAndAddedItemsOnceDue() {
+    // given
+    final var index = new DueDateIndex<String>();
+    state.addAll(List.of("a", "b", "c"));
+    index.build(
+        0,
+        items -> {
+          items.visit(2_000, "b");
+          items.visit(5_000, "c");
+        });
+    index.add(1_000, "a");
+
+    // when
+    final long nextDueDate = index.pollDue(2_000, state::contains, this::poll);
+
+    // then
+    assertThat(polled).containsExactly("a", "b");
+    assertThat(nextDueDate).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldHandOutVisitedItemsAgainAfterRetryInterval() {
+    // given
+    final var index = builtIndex();
+    state.add("a");
+    index.add(1_000, "a");
+    final long retryAt = index.pollDue(1_000, state::contains, this::poll);
+
+    // when
+    index.pollDue(retryAt, state::contains, this::poll);
+
+    // then
+    assertThat(retryAt).isEqualTo(1_000 + DueDateIndex.RETRY_INTERVAL);
+    assertThat(polled).containsExactly("a", "a");
+  }
+
+  @Test
+  void shouldKeepItemsWhichWereNotVisited() {
+    // given
+    final var index = builtIndex();
+    state.add("a");
+    index.add(1_000, "a");
+
+    // when
+    final long nextDueDate = index.pollDue(2_000, state::contains, (dueDate, item) -> false);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldRemoveMarkedItemsOnceTheyNoLongerExist() {
+    // given
+    final var index = builtIndex();
+    state.add("a");
+    index.add(5_000, "a");
+
+    // when
+    index.removeLater("a");
+    state.remove("a");
+
+    // then
+    assertThat(index.pollDue(1_000, state::contains, this::poll)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldKeepMarkedItemsWhichStillExist() {
+    // given
+    final var index = builtIndex();
+    state.add("a");
+    index.add(5_000, "a");
+
+    // when - the removal is rolled back
+    index.removeLater("a");
+
+    // then
+    assertThat(index.pollDue(1_000, state::contains, this::poll)).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldHandOutMissingItemsOnceTheyAreCommitted() {
+    // given
+    final var index = builtIndex();
+    index.add(1_000, "a");
+    final long recheckAt = index.pollDue(1_000, state::contains, this::poll);
+
+    // when
+    state.add("a");
+    index.pollDue(recheckAt, state::contains, this::poll);
+
+    // then
+    assertThat(polled).containsExactly("a");
+  }
+
+  @Test
+  void shouldDropItemsWhichAreStillMissingAfterRetryInterval() {
+    // given
+    final var index = builtIndex();
+    index.add(1_000, "a");
+    final long recheckAt = index.pollDue(1_000, state::contains, this::poll);
+
+    // when
+    final long nextDueDate = index.pollDue(recheckAt, state::contains, this::poll);
+
+    // then
+    assertThat(recheckAt).isEqualTo(1_000 + DueDateIndex.RETRY_INTERVAL);
+    assertThat(nextDueDate).isEqualTo(-1);
+    assertThat(polled).isEmpty();
+  }
+
+  @Test
+  void shouldNotBuildIndexWithTooManyItems() {
+    // given
+    final var index = new DueDateIndex<String>(2);
+
+    // when
+    final boolean isBuilt =
+        index.build(
+            0,
+            items -> {
+              for (final var item : List.of("a", "b", "c", "d")) {
+                if (!items.visit(1_000, item)) {
+                  return;
+                }
+              }
+            });
+
+    // then
+    assertThat(isBuilt).isFalse();
+    assertThat(index.isBuilt()).isFalse();
+  }
+
+  @Test
+  void shouldDropIndexOnceItHoldsTooManyItems() {
+    // given
+    final var index = new DueDateIndex<String>(2);
+    index.build(0, items -> {});
+    index.add(1_000, "a");
+    index.add(1_000, "b");
+
+    // when
+    final boolean isAdded = index.add(1_000, "c");
+
+    // then
+    assertThat(isAdded).isFalse();
+    assertThat(index.isBuilt()).isFalse();
+  }
+
+  private DueDateIndex<String> builtIndex() {
+    final var index = new DueDateIndex<String>();
+    index.build(0, items -> {});
+    return index;
+  }
+
+  private boolean poll(final long dueDate, final String item) {
+    polled.add(item);
+    return true;
+  }
+}
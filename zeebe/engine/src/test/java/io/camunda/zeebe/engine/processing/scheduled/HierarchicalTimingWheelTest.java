@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class HierarchicalTimingWheelTest {
+
+  private static final long RESOLUTION = 100;
+
+  @Test
+  void shouldNotHandOutItemsBeforeTheyAreDue() {
+    // given
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 0);
+    wheel.add(1_000, "a");
+
+    // when
+    final var polled = new ArrayList<String>();
+    final long nextDueDate = wheel.pollDue(999, (dueDate, item) -> polled.add(item));
+
+    // then
+    assertThat(polled).isEmpty();
+    assertThat(nextDueDate).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldHandOutDueItemsInOrderOfTheirDueDate() {
+    // given
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 0);
+    wheel.add(Duration.ofDays(3).toMillis(), "c");
+    wheel.add(150, "a");
+    wheel.add(Duration.ofMinutes(5).toMillis(), "b");
+    wheel.add(Duration.ofDays(5_000).toMillis(), "d");
+
+    // when
+    final var polled = new ArrayList<String>();
+    final long nextDueDate =
+        wheel.pollDue(Duration.ofDays(3).toMillis(), (dueDate, item) -> polled.add(item));
+
+    // then
+    assertThat(polled).containsExactly("a", "b", "c");
+    assertThat(nextDueDate).isEqualTo(Duration.ofDays(5_000).toMillis());
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldHandOutItemsWhichAreAlreadyDue() {
+    // given
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 10_000);
+    wheel.add(5_000, "a");
+
+    // when
+    final var polled = new ArrayList<String>();
+    wheel.pollDue(10_000, (dueDate, item) -> polled.add(item));
+
+    // then
+    assertThat(polled).containsExactly("a");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldKeepItemsWhichWereNotVisited() {
+    // given
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 0);
+    wheel.add(100, "a");
+    wheel.add(200, "b");
+
+    // when
+    final var polled = new ArrayList<String>();
+    final long nextDueDate =
+        wheel.pollDue(
+            1_000,
+            (dueDate, item) -> {
+              polled.add(item);
+              return false;
+            });
+
+    // then
+    assertThat(polled).containsExactly("a");
+    assertThat(nextDueDate).isEqualTo(100);
+    assertThat(wheel.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotHandOutRemovedItems() {
+    // given - items on a fine level, a coarse level, in the overflow and already due
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 10_000);
+    wheel.add(10_500, "fine");
+    wheel.add(Duration.ofDays(3).toMillis(), "coarse");
+    wheel.add(Duration.ofDays(5_000).toMillis(), "overflow");
+    wheel.add(5_000, "due");
+    wheel.add(20_000, "kept");
+
+    // when
+    final boolean removed =
+        wheel.remove("fine")
+            && wheel.remove("coarse")
+            && wheel.remove("overflow")
+            && wheel.remove("due");
+
+    // then
+    assertThat(removed).isTrue();
+    assertThat(wheel.remove("unknown")).isFalse();
+    assertThat(wheel.size()).isOne();
+    assertThat(wheel.nextDueDate()).isEqualTo(20_000);
+    final var polled = new ArrayList<String>();
+    wheel.pollDue(Duration.ofDays(10_000).toMillis(), (dueDate, item) -> polled.add(item));
+    assertThat(polled).containsExactly("kept");
+    assertThat(wheel.nextDueDate()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReplaceDueDateOfReAddedItem() {
+    // given
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 0);
+    wheel.add(1_000, "a");
+
+    // when
+    wheel.add(Duration.ofDays(3).toMillis(), "a");
+
+    // then
+    final var polled = new ArrayList<String>();
+    assertThat(wheel.pollDue(1_000, (dueDate, item) -> polled.add(item)))
+        .isEqualTo(Duration.ofDays(3).toMillis());
+    assertThat(polled).isEmpty();
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldNotHandOutItemsWhenTimeMovesBackwards() {
+    // given - the wheel advanced to the tick of the item, but the item isn't due yet
+    final var wheel = new HierarchicalTimingWheel<String>(RESOLUTION, 0);
+    wheel.add(5_050, "a");
+    final var polled = new ArrayList<String>();
+    wheel.pollDue(5_000, (dueDate, item) -> polled.add(item));
+
+    // when
+    wheel.pollDue(1_000, (dueDate, item) -> polled.add(item));
+
+    // then
+    assertThat(polled).isEmpty();
+    assertThat(wheel.nextDueDate()).isEqualTo(5_050);
+  }
+
+  @Test
+  void shouldHandOutRandomItemsExactlyWhenDue() {
+    // given
+    final var random = new Random(42);
+    final var wheel = new HierarchicalTimingWheel<Integer>(RESOLUTION, 0);
+    final var dueDates = new ArrayList<Long>();
+    for (int i = 0; i < 10_000; i++) {
+      final long dueDate = random.nextLong(Duration.ofDays(30).toMillis());
+      dueDates.add(dueDate);
+      wheel.add(dueDate, i);
+    }
+
+    // when - polling at random intervals
+    final List<Long> polled = new ArrayList<>();
+    long now = 0;
+    while (wheel.size() > 0) {
+      now += random.nextLong(Duration.ofHours(6).toMillis());
+      final long pollTime = now;
+      wheel.pollDue(
+          pollTime,
+          (dueDate, item) -> {
+            assertThat(dueDate).isLessThanOrEqualTo(pollTime);
+            return polled.add(dueDate);
+          });
+      if (wheel.size() > 0) {
+        assertThat(wheel.nextDueDate()).isGreaterThan(pollTime);
+      }
+    }
+
+    // then
+    assertThat(polled).containsExactlyElementsOf(dueDates.stream().sorted().toList());
+  }
+
+  @Test
+  void shouldNotHandOutRandomlyRemovedItems() {
+    // given
+    final var random = new Random(42);
+    final var wheel = new HierarchicalTimingWheel<Integer>(RESOLUTION, 0);
+    final var remainingItems = new ArrayList<Integer>();
+    for (int i = 0; i < 10_000; i++) {
+      wheel.add(random.nextLong(Duration.ofDays(5).toMillis(), Duration.ofDays(30).toMillis()), i);
+    }
+
+    // when - removing half of the items, while the wheel advances and redistributes them
+    final List<Integer> polled = new ArrayList<>();
+    long now = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (i % 2 == 0) {
+        assertThat(wheel.remove(i)).isTrue();
+      } else {
+        remainingItems.add(i);
+      }
+      if (i % 100 == 0) {
+        now += Duration.ofHours(1).toMillis();
+        wheel.pollDue(now, (dueDate, item) -> polled.add(item));
+      }
+    }
+    wheel.pollDue(Duration.ofDays(30).toMillis(), (dueDate, item) -> polled.add(item));
+
+    // then
+    assertThat(polled).containsExactlyInAnyOrderElementsOf(remainingItems);
+    assertThat(wheel.size()).isZero();
+  }
+}
@@ -12,20 +12,26 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
+import io.camunda.zeebe.engine.processing.timer.DueDateTimerCheckScheduler.IndexedDueTimers;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerCheckScheduler.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerCheckScheduler.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerKey;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.util.function.Consumer;
@@ -64,7 +70,7 @@ class DueDateTimerCheckSchedulerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut = createSideEffect(testTimerInstanceState, testActorClock);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -108,7 +114,7 @@ class DueDateTimerCheckSchedulerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut = createSideEffect(testTimerInstanceState, testActorClock);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -119,6 +125,123 @@ class DueDateTimerCheckSchedulerTest {
     }
   }
 
+  @Nested
+  final class IndexedDueTimersTest {
+
+    private final DueDateIndex<TimerKey> dueDateIndex = new DueDateIndex<>();
+    private final TimerInstanceState timerInstanceState = mock(TimerInstanceState.class);
+    private final IndexedDueTimers sut = new IndexedDueTimers(timerInstanceState, dueDateIndex);
+
+    @BeforeEach
+    void buildIndex() {
+      dueDateIndex.build(0, items -> {});
+    }
+
+    @Test
+    void shouldOnlyVisitDueTimers() {
+      // given
+      final var dueTimer = mock(TimerInstance.class);
+      when(timerInstanceState.get(1L, 10L)).thenReturn(dueTimer);
+      dueDateIndex.add(1_000, new TimerKey(1L, 10L));
+      dueDateIndex.add(5_000, new TimerKey(2L, 20L));
+      final var visitor = mock(TimerVisitor.class);
+      when(visitor.visit(any())).thenReturn(true);
+
+      // when
+      final long nextDueDate = sut.visitTimersWithDueDateBefore(1_000, visitor);
+
+      // then
+      verify(visitor).visit(dueTimer);
+      verify(timerInstanceState, never()).get(2L, 20L);
+      assertThat(nextDueDate).isEqualTo(5_000);
+    }
+
+    @Test
+    void shouldNotVisitTimersWhichNoLongerExist() {
+      // given
+      dueDateIndex.add(1_000, new TimerKey(1L, 10L));
+      final var visitor = mock(TimerVisitor.class);
+
+      // when
+      final long recheckAt = sut.visitTimersWithDueDateBefore(1_000, visitor);
+      final long nextDueDate = sut.visitTimersWithDueDateBefore(recheckAt, visitor);
+
+      // then
+      verifyNoInteractions(visitor);
+      assertThat(nextDueDate).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRevisitTriggeredTimersAfterRetryInterval() {
+      // given
+      final var dueTimer = mock(TimerInstance.class);
+      when(timerInstanceState.get(1L, 10L)).thenReturn(dueTimer);
+      dueDateIndex.add(1_000, new TimerKey(1L, 10L));
+      final var visitor = mock(TimerVisitor.class);
+      when(visitor.visit(any())).thenReturn(true);
+
+      // when
+      final long nextDueDate = sut.visitTimersWithDueDateBefore(1_000, visitor);
+
+      // then - the trigger command may be rejected while the timer still exists
+      assertThat(nextDueDate).isGreaterThan(1_000);
+      sut.visitTimersWithDueDateBefore(nextDueDate, visitor);
+      verify(visitor, times(2)).visit(dueTimer);
+    }
+
+    @Test
+    void shouldNotRevisitTimersWhichWereRemovedAfterTrigger() {
+      // given
+      final var dueTimer = mock(TimerInstance.class);
+      when(timerInstanceState.get(1L, 10L)).thenReturn(dueTimer);
+      dueDateIndex.add(1_000, new TimerKey(1L, 10L));
+      final var visitor = mock(TimerVisitor.class);
+      when(visitor.visit(any())).thenReturn(true);
+      final long retryAt = sut.visitTimersWithDueDateBefore(1_000, visitor);
+
+      // when - the triggered event is committed
+      when(timerInstanceState.get(1L, 10L)).thenReturn(null);
+      dueDateIndex.removeLater(new TimerKey(1L, 10L));
+
+      // then
+      assertThat(sut.visitTimersWithDueDateBefore(retryAt, visitor)).isEqualTo(-1);
+      verify(visitor, times(1)).visit(dueTimer);
+    }
+
+    @Test
+    void shouldKeepTimersWhichWereNotVisited() {
+      // given
+      final var dueTimer = mock(TimerInstance.class);
+      when(timerInstanceState.get(1L, 10L)).thenReturn(dueTimer);
+      dueDateIndex.add(1_000, new TimerKey(1L, 10L));
+      final var visitor = mock(TimerVisitor.class);
+      when(visitor.visit(any())).thenReturn(false);
+
+      // when
+      final long nextDueDate = sut.visitTimersWithDueDateBefore(2_000, visitor);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldVisitTimersInStateUntilIndexIsBuilt() {
+      // given
+      final var unbuiltIndex = new DueDateIndex<TimerKey>();
+      final var visitor = mock(TimerVisitor.class);
+      when(timerInstanceState.processTimersWithDueDateBefore(1_000, visitor)).thenReturn(5_000L);
+
+      // when
+      final long nextDueDate =
+          new IndexedDueTimers(timerInstanceState, unbuiltIndex)
+              .visitTimersWithDueDateBefore(1_000, visitor);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(5_000);
+      verify(timerInstanceState).processTimersWithDueDateBefore(1_000, visitor);
+    }
+  }
+
   @Nested
   final class YieldingDecoratorTest {
 
@@ -207,6 +330,20 @@ class DueDateTimerCheckSchedulerTest {
     }
   }
 
+  private static TriggerTimersSideEffect createSideEffect(
+      final TimerInstanceState timerInstanceState, final InstantSource clock) {
+    final var dueDateIndex = new DueDateIndex<TimerKey>();
+    dueDateIndex.build(clock.millis(), items -> {});
+    for (int i = 0; i < 100; i++) {
+      dueDateIndex.add(clock.millis(), new TimerKey(1L, i));
+    }
+    return new TriggerTimersSideEffect(
+        new IndexedDueTimers(timerInstanceState, dueDateIndex),
+        clock,
+        true,
+        Timer.builder("test").register(new SimpleMeterRegistry()));
+  }
+
   private final class TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers
       implements TimerInstanceState {
 
@@ -221,13 +358,7 @@ class DueDateTimerCheckSchedulerTest {
 
     @Override
     public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
-      var yield = false;
-
-      while (!yield) {
-        testActorClock.update();
-        yield = !consumer.visit(timer);
-      }
-      return 0;
+      return -1;
     }
 
     @Override
@@ -236,7 +367,8 @@ class DueDateTimerCheckSchedulerTest {
 
     @Override
     public TimerInstance get(final long elementInstanceKey, final long timerKey) {
-      return null;
+      testActorClock.update();
+      return timer;
     }
   }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.ActivatableJobIndex.Visit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobIndexTest {
+
+  private static final String TYPE = "type";
+  private static final String TENANT = "tenant";
+
+  private final ActivatableJobIndex index = new ActivatableJobIndex();
+
+  @Test
+  void shouldVisitJobsInActivationOrder() {
+    // given - more jobs than fit into a single chunk, added out of order
+    LongStream.rangeClosed(1, 5_000).map(key -> 5_001 - key).forEach(key -> add(0, key));
+    add(3, 10_000L);
+    add(-1, 0L);
+
+    // when
+    final var jobKeys = visit(false);
+
+    // then
+    assertThat(visit(true)).containsExactly(10_000L);
+    assertThat(jobKeys).hasSize(5_001).startsWith(1L, 2L, 3L).endsWith(4_999L, 5_000L, 0L);
+    assertThat(jobKeys.subList(0, 5_000)).isSorted();
+  }
+
+  @Test
+  void shouldRemoveJobsWhichAreNotActivatableAnymore() {
+    // given
+    LongStream.rangeClosed(1, 3_000).forEach(key -> add(0, key));
+    LongStream.rangeClosed(1, 3_000).filter(key -> key % 2 == 0).forEach(key -> removeLater(key));
+
+    // when - the removal of job 2 was rolled back
+    index.removePending((type, tenantId, priority, jobKey) -> jobKey == 2L);
+
+    // then
+    assertThat(index.size()).isEqualTo(1_501);
+    assertThat(visit(false)).hasSize(1_501).startsWith(1L, 2L, 3L, 5L).endsWith(2_999L);
+  }
+
+  @Test
+  void shouldRemoveJobsRejectedByVisitor() {
+    // given
+    LongStream.rangeClosed(1, 10).forEach(key -> add(0, key));
+    final var stale = Set.of(1L, 2L, 5L, 10L);
+
+    // when
+    index.forEachJob(
+        TYPE,
+        List.of(TENANT),
+        false,
+        (tenantId, priority, jobKey) -> stale.contains(jobKey) ? Visit.REMOVE : Visit.NEXT);
+
+    // then
+    assertThat(index.size()).isEqualTo(6);
+    assertThat(visit(false)).containsExactly(3L, 4L, 6L, 7L, 8L, 9L);
+  }
+
+  @Test
+  void shouldNotAddJobsBeyondBound() {
+    // given
+    final var boundedIndex = new ActivatableJobIndex(2);
+    boundedIndex.add(TYPE, TENANT, 0, 1L);
+    boundedIndex.add(TYPE, TENANT, 0, 2L);
+
+    // when
+    final var added = boundedIndex.add(TYPE, TENANT, 0, 3L);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(boundedIndex.size()).isEqualTo(2);
+  }
+
+  private void add(final int priority, final long jobKey) {
+    index.add(TYPE, TENANT, priority, jobKey);
+  }
+
+  private void removeLater(final long jobKey) {
+    index.removeLater(TYPE, TENANT, 0, jobKey);
+  }
+
+  private List<Long> visit(final boolean positivePriority) {
+    final var jobKeys = new ArrayList<Long>();
+    index.forEachJob(
+        TYPE,
+        List.of(TENANT),
+        positivePriority,
+        (tenantId, priority, jobKey) -> {
+          jobKeys.add(jobKey);
+          return Visit.NEXT;
+        });
+    return jobKeys;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.el.ExpressionLanguageMetrics;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.message.TransientPendingMessageStartProcessInstanceAskState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of activating a batch of jobs of a random type, with many jobs queued over
+ * many job types. The activated jobs are timed out again right away, such that the number of queued
+ * jobs stays the same.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobActivationBenchmark {
+
+  @Param({"1000000"})
+  public int jobs;
+
+  @Param({"500"})
+  public int types;
+
+  @Param({"32"})
+  public int batchSize;
+
+  private final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final LongArrayList activatedKeys = new LongArrayList();
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private MutableJobState jobState;
+  private DirectBuffer[] typeBuffers;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("job-activation");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final var context = db.createContext();
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            db,
+            context,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, db, context),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingMessageStartProcessInstanceAskState(),
+            new EngineConfiguration(),
+            InstantSource.system(),
+            ExpressionLanguageMetrics.noop());
+    jobState = processingState.getJobState();
+
+    typeBuffers = new DirectBuffer[types];
+    for (int i = 0; i < types; i++) {
+      typeBuffers[i] = new UnsafeBuffer(("type-" + i).getBytes());
+    }
+
+    final var job = new JobRecord().setRetries(3).setDeadline(256L);
+    for (int key = 0; key < jobs; key++) {
+      job.setType(typeBuffers[key % types]).setPriority(key % 3 - 1);
+      jobState.insertJobRecordActivatable(key, job);
+      jobState.makeJobActivatableByPriority(
+          job.getTypeBuffer(), key, job.getTenantId(), job.getPriority());
+    }
+    // builds the in-memory index of the activatable jobs, as the stream processor does
+    processingState.onRecovered(null);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int activateJobs() {
+    final var type = typeBuffers[ThreadLocalRandom.current().nextInt(types)];
+
+    activatedKeys.clear();
+    jobState.forEachActivatableJobs(
+        type,
+        tenantIds,
+        (key, job) -> {
+          activatedKeys.addLong(key);
+          return activatedKeys.size() < batchSize;
+        });
+
+    for (int i = 0; i < activatedKeys.size(); i++) {
+      final long key = activatedKeys.getLong(i);
+      final var job = jobState.getJob(key);
+      jobState.activate(key, job);
+      // time the job out the way the current applier does, to keep the queue at the same size
+      jobState.updateJobState(key, JobState.State.ACTIVATABLE);
+      jobState.removeJobDeadline(key, job.getDeadline());
+      jobState.makeJobActivatableByPriority(
+          job.getTypeBuffer(), key, job.getTenantId(), job.getPriority());
+    }
+    return activatedKeys.size();
+  }
+}
@@ -756,6 +756,90 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldNotListJobActivatedAfterRecovery() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    createActivatableJob(1L, jobRecord);
+    createActivatableJob(2L, newJobRecord().setType(type));
+    recoverJobState();
+
+    // when
+    jobState.activate(1L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListJobsMadeActivatableAfterRecoveryInPriorityOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    createActivatableJob(1L, newJobRecord().setType(type).setPriority(10));
+    recoverJobState();
+
+    // when
+    createActivatableJob(2L, newJobRecord().setType(type).setPriority(20));
+    createActivatableJob(3L, newJobRecord().setType(type).setPriority(-5));
+    createActivatableJob(4L, newJobRecord().setType(type));
+    jobState.updateJobPriority(1L, 30);
+
+    // then - the job's entry with its previous priority is not listed anymore
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 4L, 3L);
+  }
+
+  @Test
+  public void shouldListJobMadeActivatableAgainAfterRecovery() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    createActivatableJob(1L, jobRecord);
+    recoverJobState();
+
+    // when - the job is made not activatable, and activatable again before the next activation
+    jobState.parkForSecretResolution(1L, jobRecord);
+    jobState.makeActivatableAfterSecretResolution(1L);
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfMultipleTenantsInPriorityOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    createActivatableJob(1L, newJobRecord("tenant-a").setType(type).setPriority(5));
+    createActivatableJob(2L, newJobRecord("tenant-b").setType(type).setPriority(10));
+    recoverJobState();
+    createActivatableJob(3L, newJobRecord("tenant-a").setType(type).setPriority(10));
+    createActivatableJob(4L, newJobRecord("tenant-c").setType(type).setPriority(20));
+    createActivatableJob(5L, newJobRecord("tenant-b").setType(type));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-a", "tenant-b");
+
+    // then
+    assertThat(jobKeys).containsExactly(2L, 3L, 1L, 5L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsInPriorityOrderBeforeRecovery() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    createActivatableJob(1L, newJobRecord("tenant-a").setType(type).setPriority(5));
+    createActivatableJob(2L, newJobRecord("tenant-b").setType(type).setPriority(10));
+    createActivatableJob(3L, newJobRecord("tenant-a").setType(type).setPriority(-5));
+    createActivatableJob(4L, newJobRecord("tenant-b").setType(type));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-a", "tenant-b");
+
+    // then
+    assertThat(jobKeys).containsExactly(2L, 1L, 4L, 3L);
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
@@ -875,6 +959,18 @@ public final class JobStateTest {
     jobState.activate(key, record);
   }
 
+  /** Creates an activatable job the way the current job appliers do. */
+  private void createActivatableJob(final long key, final JobRecord record) {
+    jobState.insertJobRecordActivatable(key, record);
+    jobState.makeJobActivatableByPriority(
+        record.getTypeBuffer(), key, record.getTenantId(), record.getPriority());
+  }
+
+  /** Builds the in-memory index of the activatable jobs, as the stream processor does. */
+  private void recoverJobState() {
+    jobState.onRecovered(null);
+  }
+
   /** Creates an activatable job and parks it the way the secret resolution flow does. */
   private void parkJobForSecretResolution(final long key, final JobRecord record) {
     jobState.insertJobRecordActivatable(key, record);
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
@@ -225,6 +226,29 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameInScopeAndKeyOrder() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("b"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("aa"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child,
+            Arrays.asList(wrapString("aa"), wrapString("b"), wrapString("a"), wrapString("c")));
+
+    // then -- the same order as collecting all variables of the scopes
+    assertThat(MsgPackConverter.convertToJson(variablesDocument))
+        .isEqualTo(MsgPackConverter.convertToJson(variableState.getVariablesAsDocument(child)))
+        .isEqualTo("{\"c\":4,\"a\":3,\"b\":1,\"aa\":2}");
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
@@ -479,6 +503,92 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldCollectVariablesFromMultipleScopesWhileCachingDocuments() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+    final DirectBuffer expectedDocument = cloneBuffer(variableState.getVariablesAsDocument(child));
+
+    // when
+    final DirectBuffer variablesDocument;
+    try (final var ignored = variableState.cacheDocuments()) {
+      variableState.getVariablesAsDocument(child);
+      variablesDocument = cloneBuffer(variableState.getVariablesAsDocument(child));
+    }
+
+    // then
+    assertThat(variablesDocument).isEqualTo(expectedDocument);
+    assertEquality(variablesDocument, "{'a': 1, 'b': 3, 'c': 4}");
+  }
+
+  @Test
+  public void shouldCollectChangedVariablesWhileCachingDocuments() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    try (final var ignored = variableState.cacheDocuments()) {
+      variableState.getVariablesAsDocument(child);
+      variableState.getVariablesAsDocument(child2);
+
+      // when
+      setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+      setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+
+      // then
+      assertEquality(variableState.getVariablesAsDocument(child), "{'a': 3, 'b': 2, 'c': 4}");
+      assertEquality(variableState.getVariablesAsDocument(child2), "{'a': 3}");
+      assertEquality(variableState.getVariablesLocalAsDocument(child), "{'b': 2, 'c': 4}");
+    }
+  }
+
+  @Test
+  public void shouldNotCollectRemovedVariablesWhileCachingDocuments() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    try (final var ignored = variableState.cacheDocuments()) {
+      variableState.getVariablesAsDocument(child);
+
+      // when
+      variableState.removeAllVariables(child);
+
+      // then
+      assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1}");
+    }
+  }
+
+  @Test
+  public void shouldNotCacheDocumentsAfterClosingCache() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    try (final var ignored = variableState.cacheDocuments()) {
+      variableState.getVariablesAsDocument(parent);
+    }
+
+    // when
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1, 'b': 2}");
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
@@ -762,6 +762,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withReplayWorkers(final int replayWorkers) {
+    environmentRule.replayWorkers(replayWorkers);
+    return this;
+  }
+
   public void interceptInterPartitionIntent(final int partitionId, final Intent targetIntent) {
     final var hasInterceptedPartition = new AtomicBoolean(false);
     interceptInterPartitionCommands(
@@ -71,6 +71,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayWorkers = 0;
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -427,6 +428,10 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void replayWorkers(final int replayWorkers) {
+    this.replayWorkers = replayWorkers;
+  }
+
   public ActorScheduler getActorScheduler() {
     return actorSchedulerRule.get();
   }
@@ -446,6 +451,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get(), clock);
       streams.withStreamProcessorMode(streamProcessorMode);
       streams.maxCommandsInBatch(maxCommandsInBatch);
+      streams.replayWorkers(replayWorkers);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
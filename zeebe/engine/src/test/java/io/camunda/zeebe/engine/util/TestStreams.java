@@ -98,6 +98,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayWorkers = 0;
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -335,6 +336,9 @@ public final class TestStreams {
                 List.of(new Engine(wrappedFactory, new EngineConfiguration(), securityConfig)))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
+            .replayWorkers(
+                replayWorkers,
+                () -> List.of(new Engine(factory, new EngineConfiguration(), securityConfig)))
             .partitionCommandSender(isReplay ? null : mock(InterPartitionCommandSender.class))
             .meterRegistry(meterRegistry)
             .clock(StreamClock.controllable(clock));
@@ -421,6 +425,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void replayWorkers(final int replayWorkers) {
+    this.replayWorkers = replayWorkers;
+  }
+
   public MutableProcessingState getProcessingState(final String streamName) {
     return Optional.ofNullable(streamContextMap.get(streamName))
         .map(c -> c.processingState)
@@ -56,6 +56,7 @@ import io.camunda.exporter.index.TargetIndexLocator;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.PendingBatch;
 import io.camunda.exporter.tasks.CamundaBackgroundTaskManager;
 import io.camunda.exporter.tasks.CamundaBackgroundTaskManagerFactory;
 import io.camunda.search.schema.MappingSource;
@@ -76,9 +77,15 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,6 +111,10 @@ public class CamundaExporter implements Exporter {
   private long flushDelayMs;
   private ScheduledTask scheduledFlushTask;
 
+  // only set if more than one bulk may be in flight; otherwise bulks are flushed synchronously
+  private ExecutorService bulkExecutor;
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+
   public CamundaExporter() {
     // the metadata will be initialized on open
     this(new TargetIndexLocator(), new DefaultExporterResourceProvider(), null);
@@ -153,6 +164,7 @@ public class CamundaExporter implements Exporter {
       }
 
       writer = createBatchWriter();
+      bulkExecutor = createBulkExecutor();
       controller.readMetadata().ifPresent(metadata::deserialize);
       taskManager.start();
       final long now = context.clock().millis();
@@ -183,6 +195,12 @@ public class CamundaExporter implements Exporter {
       }
     }
 
+    if (bulkExecutor != null) {
+      awaitInFlightBulks();
+      bulkExecutor.shutdownNow();
+      bulkExecutor = null;
+    }
+
     if (clientAdapter != null) {
       CloseHelper.close(
           error -> LOG.warn("Failed to close elasticsearch client", error), clientAdapter);
@@ -345,6 +363,17 @@ public class CamundaExporter implements Exporter {
     return builder.build();
   }
 
+  private ExecutorService createBulkExecutor() {
+    final int maxInFlight = configuration.getBulk().getMaxInFlight();
+    if (maxInFlight <= 1) {
+      return null;
+    }
+
+    return Executors.newFixedThreadPool(
+        maxInFlight,
+        Thread.ofPlatform().name("CamundaExporter-p" + partitionId + "-bulk-", 0).factory());
+  }
+
   private void scheduleDelayedFlush(final long now) {
     long nextDelayMs = flushDelayMs;
     if (lastFlushTimestamp > 0) {
@@ -370,13 +399,15 @@ public class CamundaExporter implements Exporter {
   }
 
   private void flush() {
+    if (bulkExecutor != null) {
+      flushPipelined();
+      return;
+    }
+
     if (writer.getBatchSize() > 0) {
       try (final var ignored = metrics.measureFlushDuration()) {
         metrics.recordBulkSize(writer.getBatchSize());
-        final long maxBulkBytes = configuration.getBulk().getMemoryLimit() * 1024L * 1024L;
-        final BatchRequest batchRequest =
-            clientAdapter.createBatchRequest().withMetrics(metrics).withMaxBytes(maxBulkBytes);
-        writer.flush(batchRequest);
+        writer.flush(createBatchRequest());
         metrics.recordFlushOccurrence(Instant.now());
         metrics.stopFlushLatencyMeasurement();
       } catch (final PersistenceException ex) {
@@ -391,11 +422,144 @@ public class CamundaExporter implements Exporter {
     updateLastExportedPosition(lastPosition);
   }
 
+  /**
+   * Hands the current batch over to the bulk executor instead of executing it on the exporter
+   * thread, so the next batch can be collected while up to {@code bulk.maxInFlight} bulks are in
+   * flight. Positions are only acknowledged once all earlier bulks succeeded, and bulks writing to
+   * a common document are executed one after the other to preserve the order of the writes.
+   *
+   * <p>Failures of in-flight bulks are reported before the current batch is detached from the
+   * writer, such that the exporter is invoked with the same record again, as with synchronous
+   * flushes. The failed bulks themselves are retried in the background.
+   */
+  private void flushPipelined() {
+    acknowledgeCompletedBulks();
+    while (inFlightBulks.size() >= configuration.getBulk().getMaxInFlight()) {
+      inFlightBulks.getFirst().awaitCompletion();
+      acknowledgeCompletedBulks();
+    }
+
+    if (writer.getBatchSize() > 0) {
+      final PendingBatch batch;
+      try {
+        metrics.recordBulkSize(writer.getBatchSize());
+        batch = writer.detach(createBatchRequest());
+        metrics.stopFlushLatencyMeasurement();
+      } catch (final PersistenceException ex) {
+        metrics.recordFailedFlush();
+        throw new ExporterException(ex.getMessage(), ex);
+      }
+
+      final var bulk = new InFlightBulk(batch, lastPosition, metadata.serialize());
+      submit(bulk);
+      inFlightBulks.addLast(bulk);
+    }
+
+    lastFlushTimestamp = context.clock().millis();
+    if (inFlightBulks.isEmpty()) {
+      updateLastExportedPosition(lastPosition);
+    }
+  }
+
+  private void acknowledgeCompletedBulks() {
+    while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().hasSucceeded()) {
+      final var bulk = inFlightBulks.removeFirst();
+      metrics.recordFlushOccurrence(Instant.now());
+      controller.updateLastExportedRecordPosition(bulk.position, bulk.metadata);
+    }
+
+    Throwable failure = null;
+    // resubmit in order, such that a retried bulk still waits for earlier bulks it overlaps with
+    for (final var bulk : inFlightBulks) {
+      if (bulk.hasFailed()) {
+        failure = failure == null ? bulk.failure() : failure;
+        metrics.recordFailedFlush();
+        submit(bulk);
+      }
+    }
+
+    if (failure != null) {
+      throw new ExporterException(failure.getMessage(), failure);
+    }
+  }
+
+  private void submit(final InFlightBulk bulk) {
+    final var dependencies =
+        inFlightBulks.stream()
+            .takeWhile(earlier -> earlier != bulk)
+            .filter(earlier -> earlier.batch.overlapsWith(bulk.batch))
+            .map(earlier -> earlier.result)
+            .toArray(CompletableFuture[]::new);
+
+    bulk.result =
+        CompletableFuture.allOf(dependencies)
+            .thenRunAsync(() -> executeBulk(bulk.batch), bulkExecutor);
+  }
+
+  private void executeBulk(final PendingBatch batch) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      batch.execute();
+    } catch (final PersistenceException ex) {
+      throw new CompletionException(ex);
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    while (!inFlightBulks.isEmpty()) {
+      final var bulk = inFlightBulks.removeFirst();
+      bulk.awaitCompletion();
+      if (!bulk.hasSucceeded()) {
+        LOG.warn(
+            "Failed to flush in-flight bulk before closing exporter, {} bulks were discarded.",
+            inFlightBulks.size() + 1,
+            bulk.failure());
+        inFlightBulks.clear();
+        return;
+      }
+
+      controller.updateLastExportedRecordPosition(bulk.position, bulk.metadata);
+    }
+  }
+
+  private BatchRequest createBatchRequest() {
+    final long maxBulkBytes = configuration.getBulk().getMemoryLimit() * 1024L * 1024L;
+    return clientAdapter.createBatchRequest().withMetrics(metrics).withMaxBytes(maxBulkBytes);
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
   }
 
+  private static final class InFlightBulk {
+    private final PendingBatch batch;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> result;
+
+    private InFlightBulk(final PendingBatch batch, final long position, final byte[] metadata) {
+      this.batch = batch;
+      this.position = position;
+      this.metadata = metadata;
+    }
+
+    private boolean hasSucceeded() {
+      return result.isDone() && !result.isCompletedExceptionally();
+    }
+
+    private boolean hasFailed() {
+      return result.isCompletedExceptionally();
+    }
+
+    private Throwable failure() {
+      return result.exceptionNow();
+    }
+
+    private void awaitCompletion() {
+      result.handle((ignored, error) -> null).join();
+    }
+  }
+
   record CamundaExporterRecordFilter() implements RecordFilter {
     private static final Set<ValueType> VALUE_TYPES_2_EXPORT =
         Set.of(
@@ -128,6 +128,12 @@ public final class ConfigValidator {
               + delayBetweenRuns);
     }
 
+    final int maxInFlight = configuration.getBulk().getMaxInFlight();
+    if (maxInFlight < 1) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 1. Current value: " + maxInFlight);
+    }
+
     final int processCacheMaxCacheSize = configuration.getProcessCache().getMaxCacheSize();
     if (processCacheMaxCacheSize < 1) {
       throw new ExporterException(
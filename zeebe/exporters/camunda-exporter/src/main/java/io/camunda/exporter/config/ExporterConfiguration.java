@@ -215,6 +215,8 @@ public class ExporterConfiguration {
     private int size = 5_000;
     // bulk memory utilisation before flush (in Mb)
     private int memoryLimit = 20;
+    // maximum number of bulks executed concurrently; 1 flushes synchronously
+    private int maxInFlight = 1;
 
     public int getDelay() {
       return delay;
@@ -241,6 +243,8 @@ public class ExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlight="
+          + maxInFlight
           + '}';
     }
 
@@ -251,6 +255,14 @@ public class ExporterConfiguration {
     public void setMemoryLimit(final int memoryLimit) {
       this.memoryLimit = memoryLimit;
     }
+
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
   }
 
   public static class HistoryConfiguration {
@@ -26,9 +26,11 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -110,6 +112,51 @@ public final class ExporterBatchWriter {
       return;
     }
 
+    applyCachedEntities(batchRequest);
+
+    batchRequest.execute(customErrorHandler);
+    metrics.recordBulkMemorySize(totalMemoryEstimate);
+    observeRecordTimestamps();
+    reset();
+  }
+
+  /**
+   * Applies all cached entities to the given batch request and hands the result over to the
+   * returned {@link PendingBatch}, without executing it. The writer is reset afterwards, so the
+   * next batch can be collected while the returned one is still in flight.
+   *
+   * <p>Unlike {@link #flush(BatchRequest)}, the cached entities are not retained if executing the
+   * batch fails; the caller is responsible for retrying the returned batch.
+   *
+   * @param batchRequest the batch request to add the cached entities to
+   * @return the pending batch, or {@code null} if there is nothing to flush
+   * @throws PersistenceException if a handler fails to add its entity to the batch request
+   */
+  public PendingBatch detach(final BatchRequest batchRequest) throws PersistenceException {
+    if (cachedEntities.isEmpty()) {
+      return null;
+    }
+
+    applyCachedEntities(batchRequest);
+
+    final Set<String> documentIds = new HashSet<>();
+    for (final var key : cachedEntitiesToFlush.keySet()) {
+      documentIds.add(key.index().name() + "/" + key.key().entityId());
+    }
+    final var pendingBatch =
+        new PendingBatch(
+            batchRequest,
+            customErrorHandler,
+            metrics,
+            documentIds,
+            totalMemoryEstimate,
+            new ArrayList<>(cachedRecordTimestamps.values()));
+    cachedRecordTimestamps.clear();
+    reset();
+    return pendingBatch;
+  }
+
+  private void applyCachedEntities(final BatchRequest batchRequest) throws PersistenceException {
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Flushing batch: totalMemoryEstimation={} bytes ({} MB), cachedEntities={}, entitiesToFlush={}",
@@ -141,11 +188,6 @@ public final class ExporterBatchWriter {
 
       handler.flush(index, entity, batchRequest);
     }
-
-    batchRequest.execute(customErrorHandler);
-    metrics.recordBulkMemorySize(totalMemoryEstimate);
-    observeRecordTimestamps();
-    reset();
   }
 
   public int getBatchMemoryEstimateInMb() {
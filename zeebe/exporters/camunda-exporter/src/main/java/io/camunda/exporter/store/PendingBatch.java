@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.errorhandling.Error;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A batch which was detached from an {@link ExporterBatchWriter} and is ready to be executed. It
+ * can be executed from any thread, and executed again if a previous attempt failed.
+ */
+public final class PendingBatch {
+  private final BatchRequest batchRequest;
+  private final BiConsumer<String, Error> customErrorHandler;
+  private final CamundaExporterMetrics metrics;
+  private final Set<String> documentIds;
+  private final long memoryEstimate;
+  private final Collection<Long> recordTimestamps;
+
+  PendingBatch(
+      final BatchRequest batchRequest,
+      final BiConsumer<String, Error> customErrorHandler,
+      final CamundaExporterMetrics metrics,
+      final Set<String> documentIds,
+      final long memoryEstimate,
+      final Collection<Long> recordTimestamps) {
+    this.batchRequest = batchRequest;
+    this.customErrorHandler = customErrorHandler;
+    this.metrics = metrics;
+    this.documentIds = documentIds;
+    this.memoryEstimate = memoryEstimate;
+    this.recordTimestamps = recordTimestamps;
+  }
+
+  public void execute() throws PersistenceException {
+    batchRequest.execute(customErrorHandler);
+    metrics.recordBulkMemorySize(memoryEstimate);
+    metrics.observeRecordExportLatencies(recordTimestamps);
+  }
+
+  /**
+   * Returns true if both batches write to at least one common document, in which case they must not
+   * be executed concurrently to preserve the order of the writes.
+   */
+  public boolean overlapsWith(final PendingBatch other) {
+    final var smaller = documentIds.size() <= other.documentIds.size() ? this : other;
+    final var larger = smaller == this ? other : this;
+    for (final var documentId : smaller.documentIds) {
+      if (larger.documentIds.contains(documentId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  int getDocumentCount() {
+    return documentIds.size();
+  }
+}
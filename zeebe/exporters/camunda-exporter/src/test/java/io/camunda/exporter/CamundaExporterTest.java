@@ -10,9 +10,13 @@ package io.camunda.exporter;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.CacheLoader;
@@ -20,6 +24,7 @@ import io.camunda.exporter.adapters.ClientAdapter;
 import io.camunda.exporter.cache.ExporterEntityCacheProvider;
 import io.camunda.exporter.cache.form.CachedFormEntity;
 import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.handlers.ExportHandler;
 import io.camunda.exporter.index.TargetIndexLocator;
 import io.camunda.exporter.store.BatchRequest;
@@ -28,6 +33,7 @@ import io.camunda.search.test.utils.TestObjectMapper;
 import io.camunda.webapps.schema.descriptors.index.AuditLogCleanupIndex;
 import io.camunda.webapps.schema.descriptors.index.HistoryDeletionIndex;
 import io.camunda.webapps.schema.entities.usertask.TaskEntity.TaskImplementation;
+import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.common.cache.batchoperation.CachedBatchOperationEntity;
 import io.camunda.zeebe.exporter.common.cache.decisionRequirements.CachedDecisionRequirementsEntity;
 import io.camunda.zeebe.exporter.common.cache.process.CachedProcessEntity;
@@ -36,11 +42,16 @@ import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,7 +73,7 @@ final class CamundaExporterTest {
       new ExporterTestContext()
           .setConfiguration(new ExporterTestConfiguration<>("test", configuration));
   private final ExporterTestController testController = new ExporterTestController();
-  private ClientAdapter stubbedClientAdapterInUse;
+  private StubClientAdapter stubbedClientAdapterInUse;
 
   @SuppressWarnings("FieldCanBeLocal")
   @AutoClose
@@ -164,6 +175,9 @@ final class CamundaExporterTest {
         mock(
             SearchEngineClient.class,
             Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+    private final List<BatchRequest> batchRequests = new CopyOnWriteArrayList<>();
+    private Supplier<BatchRequest> batchRequestFactory =
+        () -> mock(BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SELF));
 
     @Override
     public ObjectMapper objectMapper() {
@@ -177,7 +191,9 @@ final class CamundaExporterTest {
 
     @Override
     public BatchRequest createBatchRequest() {
-      return mock(BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SELF));
+      final var batchRequest = batchRequestFactory.get();
+      batchRequests.add(batchRequest);
+      return batchRequest;
     }
 
     @Override
@@ -454,4 +470,84 @@ final class CamundaExporterTest {
       assertThat(flushTask.isCanceled()).isEqualTo(true);
     }
   }
+
+  @Nested
+  final class PipelinedFlushTest {
+    private final ProtocolFactory protocolFactory = new ProtocolFactory();
+
+    @BeforeEach
+    void beforeEach() {
+      // bulk size = 1 so that every export() triggers a size-based flush
+      configuration.getBulk().setSize(1);
+      configuration.getBulk().setMaxInFlight(2);
+      exporter =
+          new CamundaExporter(
+              targetIndexLocator,
+              resourceProvider,
+              new ExporterMetadata(TestObjectMapper.objectMapper()));
+      exporter.configure(testContext);
+      exporter.open(testController);
+    }
+
+    @Test
+    void shouldAcknowledgePositionOfAllBulksOnClose() throws PersistenceException {
+      // given
+      exporter.export(recordAt(1));
+      exporter.export(recordAt(2));
+      exporter.export(recordAt(3));
+
+      // when
+      exporter.close();
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(3);
+      assertThat(stubbedClientAdapterInUse.batchRequests).hasSize(3);
+      for (final var batchRequest : stubbedClientAdapterInUse.batchRequests) {
+        verify(batchRequest).execute(any());
+      }
+    }
+
+    @Test
+    void shouldNotAcknowledgePositionBeyondFailedBulk() throws PersistenceException {
+      // given - the first bulk fails once
+      final var failingRequest =
+          mock(BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SELF));
+      doThrow(new PersistenceException("expected")).doNothing().when(failingRequest).execute(any());
+      final var defaultFactory = stubbedClientAdapterInUse.batchRequestFactory;
+      stubbedClientAdapterInUse.batchRequestFactory = () -> failingRequest;
+      exporter.export(recordAt(1));
+      stubbedClientAdapterInUse.batchRequestFactory = defaultFactory;
+
+      // when - records are exported with retries, as the exporter director would do
+      final var failures = new AtomicInteger();
+      for (final long position : List.of(2L, 3L, 4L)) {
+        final var record = recordAt(position);
+        Awaitility.await("record %d is exported".formatted(position))
+            .pollInterval(Duration.ofMillis(10))
+            .until(() -> tryExport(record, failures));
+        assertThat(testController.getPosition()).isLessThan(position);
+      }
+      exporter.close();
+
+      // then
+      assertThat(failures).hasValue(1);
+      verify(failingRequest, times(2)).execute(any());
+      assertThat(testController.getPosition()).isEqualTo(4);
+    }
+
+    private boolean tryExport(final Record<?> record, final AtomicInteger failures) {
+      try {
+        exporter.export(record);
+        return true;
+      } catch (final ExporterException e) {
+        failures.incrementAndGet();
+        return false;
+      }
+    }
+
+    private Record<?> recordAt(final long position) {
+      return protocolFactory.generateRecord(
+          ValueType.VARIABLE, b -> b.withPosition(position).withIntent(VariableIntent.CREATED));
+    }
+  }
 }
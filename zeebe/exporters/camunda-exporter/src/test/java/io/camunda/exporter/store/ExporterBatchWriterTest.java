@@ -255,4 +255,75 @@ class ExporterBatchWriterTest {
     // then
     assertThat(batchWriter.getMemoryEstimateInBytes()).isEqualTo(0);
   }
+
+  @Test
+  void shouldDetachCachedEntitiesWithoutExecutingThem() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final String id = "1";
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.extractIdAndIndexes(any(), eq(record)))
+        .thenReturn(List.of(new IdAndIndex(id, TargetIndex.mainIndex("test-index"))));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+
+    // when
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    final PendingBatch pendingBatch = batchWriter.detach(batchRequest);
+
+    // then
+    verify(handler).flush(TargetIndex.mainIndex("test-index"), entity, batchRequest);
+    verify(batchRequest, never()).execute(any());
+    assertThat(pendingBatch.getDocumentCount()).isEqualTo(1);
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+    assertThat(batchWriter.getEntitiesToFlushSize()).isEqualTo(0);
+    assertThat(batchWriter.getMemoryEstimateInBytes()).isEqualTo(0);
+
+    // when
+    pendingBatch.execute();
+
+    // then
+    verify(batchRequest).execute(any());
+  }
+
+  @Test
+  void shouldNotDetachEmptyBatch() throws PersistenceException {
+    // when
+    final PendingBatch pendingBatch = batchWriter.detach(mock(BatchRequest.class));
+
+    // then
+    assertThat(pendingBatch).isNull();
+  }
+
+  @Test
+  void shouldDetectOverlappingPendingBatches() throws PersistenceException {
+    // given
+    final TestRecord record1 = new TestRecord(0, NULL_VAL);
+    final TestRecord record2 = new TestRecord(1, NULL_VAL);
+    final TestRecord record3 = new TestRecord(2, NULL_VAL);
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.extractIdAndIndexes(any(), eq(record1)))
+        .thenReturn(List.of(new IdAndIndex("1", TargetIndex.mainIndex("test-index"))));
+    when(handler.extractIdAndIndexes(any(), eq(record2)))
+        .thenReturn(List.of(new IdAndIndex("2", TargetIndex.mainIndex("test-index"))));
+    when(handler.extractIdAndIndexes(any(), eq(record3)))
+        .thenReturn(List.of(new IdAndIndex("1", TargetIndex.mainIndex("test-index"))));
+    when(handler.createNewEntity(anyString()))
+        .thenAnswer(invocation -> new TestExporterEntity().setId(invocation.getArgument(0)));
+
+    // when
+    batchWriter.addRecord(record1);
+    final PendingBatch first = batchWriter.detach(mock(BatchRequest.class));
+    batchWriter.addRecord(record2);
+    final PendingBatch second = batchWriter.detach(mock(BatchRequest.class));
+    batchWriter.addRecord(record3);
+    final PendingBatch third = batchWriter.detach(mock(BatchRequest.class));
+
+    // then
+    assertThat(first.overlapsWith(second)).isFalse();
+    assertThat(second.overlapsWith(third)).isFalse();
+    assertThat(first.overlapsWith(third)).isTrue();
+    assertThat(third.overlapsWith(first)).isTrue();
+  }
 }
@@ -31,6 +31,7 @@ public class ExporterConfiguration {
   private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
   private int queueSize = RdbmsWriterConfig.DEFAULT_QUEUE_SIZE;
   private int queueMemoryLimit = RdbmsWriterConfig.DEFAULT_QUEUE_MEMORY_LIMIT;
+  private int flushConcurrency = RdbmsWriterConfig.DEFAULT_FLUSH_CONCURRENCY;
   private HistoryConfiguration history = new HistoryConfiguration();
   // batch operation configuration
   private boolean exportBatchOperationItemsOnCreation =
@@ -94,6 +95,14 @@ public class ExporterConfiguration {
     this.queueMemoryLimit = queueMemoryLimit;
   }
 
+  public int getFlushConcurrency() {
+    return flushConcurrency;
+  }
+
+  public void setFlushConcurrency(final int flushConcurrency) {
+    this.flushConcurrency = flushConcurrency;
+  }
+
   public boolean isExportBatchOperationItemsOnCreation() {
     return exportBatchOperationItemsOnCreation;
   }
@@ -188,6 +197,19 @@ public class ExporterConfiguration {
               "queueMemoryLimit must be greater or equal 0 but was %d", queueMemoryLimit));
     }
 
+    if (flushConcurrency < 0) {
+      errors.add(
+          String.format(
+              "flushConcurrency must be greater or equal 0 but was %d", flushConcurrency));
+    } else if (flushConcurrency > 0 && (flushInterval.isZero() || queueSize == 0)) {
+      // the position of an asynchronous flush is only acknowledged with the next flush
+      errors.add(
+          String.format(
+              "flushConcurrency requires a flushInterval and queueSize greater than 0 but was"
+                  + " flushInterval=%s, queueSize=%d",
+              flushInterval, queueSize));
+    }
+
     if (batchOperationItemInsertBlockSize < 1) {
       errors.add(
           String.format(
@@ -252,6 +274,7 @@ public class ExporterConfiguration {
         .physicalTenantId(physicalTenantId)
         .queueSize(queueSize)
         .queueMemoryLimit(queueMemoryLimit)
+        .flushConcurrency(flushConcurrency)
         .batchOperationItemInsertBlockSize(batchOperationItemInsertBlockSize)
         .exportBatchOperationItemsOnCreation(exportBatchOperationItemsOnCreation)
         .history(historyConfig)
@@ -266,6 +289,10 @@ public class ExporterConfiguration {
         .variableInsertBatchSize(insertBatching.getMaxVariableInsertBatchSize())
         .jobInsertBatchSize(insertBatching.getMaxJobInsertBatchSize())
         .flowNodeInsertBatchSize(insertBatching.getMaxFlowNodeInsertBatchSize())
+        .incidentInsertBatchSize(insertBatching.getMaxIncidentInsertBatchSize())
+        .sequenceFlowInsertBatchSize(insertBatching.getMaxSequenceFlowInsertBatchSize())
+        .messageSubscriptionInsertBatchSize(
+            insertBatching.getMaxMessageSubscriptionInsertBatchSize())
         .build();
   }
 
@@ -287,6 +314,8 @@ public class ExporterConfiguration {
         + queueSize
         + ", queueMemoryLimit="
         + queueMemoryLimit
+        + ", flushConcurrency="
+        + flushConcurrency
         + ", history="
         + history
         + ", exportBatchOperationItemsOnCreation="
@@ -325,6 +354,12 @@ public class ExporterConfiguration {
         RdbmsWriterConfig.InsertBatchingConfig.DEFAULT_JOB_INSERT_BATCH_SIZE;
     private int maxFlowNodeInsertBatchSize =
         RdbmsWriterConfig.InsertBatchingConfig.DEFAULT_FLOW_NODE_INSERT_BATCH_SIZE;
+    private int maxIncidentInsertBatchSize =
+        RdbmsWriterConfig.InsertBatchingConfig.DEFAULT_INCIDENT_INSERT_BATCH_SIZE;
+    private int maxSequenceFlowInsertBatchSize =
+        RdbmsWriterConfig.InsertBatchingConfig.DEFAULT_SEQUENCE_FLOW_INSERT_BATCH_SIZE;
+    private int maxMessageSubscriptionInsertBatchSize =
+        RdbmsWriterConfig.InsertBatchingConfig.DEFAULT_MESSAGE_SUBSCRIPTION_INSERT_BATCH_SIZE;
 
     public int getMaxVariableInsertBatchSize() {
       return maxVariableInsertBatchSize;
@@ -358,6 +393,31 @@ public class ExporterConfiguration {
       this.maxFlowNodeInsertBatchSize = maxFlowNodeInsertBatchSize;
     }
 
+    public int getMaxIncidentInsertBatchSize() {
+      return maxIncidentInsertBatchSize;
+    }
+
+    public void setMaxIncidentInsertBatchSize(final int maxIncidentInsertBatchSize) {
+      this.maxIncidentInsertBatchSize = maxIncidentInsertBatchSize;
+    }
+
+    public int getMaxSequenceFlowInsertBatchSize() {
+      return maxSequenceFlowInsertBatchSize;
+    }
+
+    public void setMaxSequenceFlowInsertBatchSize(final int maxSequenceFlowInsertBatchSize) {
+      this.maxSequenceFlowInsertBatchSize = maxSequenceFlowInsertBatchSize;
+    }
+
+    public int getMaxMessageSubscriptionInsertBatchSize() {
+      return maxMessageSubscriptionInsertBatchSize;
+    }
+
+    public void setMaxMessageSubscriptionInsertBatchSize(
+        final int maxMessageSubscriptionInsertBatchSize) {
+      this.maxMessageSubscriptionInsertBatchSize = maxMessageSubscriptionInsertBatchSize;
+    }
+
     public List<String> validate() {
       final List<String> errors = new ArrayList<>();
 
@@ -389,6 +449,27 @@ public class ExporterConfiguration {
                 maxFlowNodeInsertBatchSize));
       }
 
+      if (maxIncidentInsertBatchSize < 1) {
+        errors.add(
+            String.format(
+                "insertBatching.maxIncidentInsertBatchSize must be greater than 0 but was %d",
+                maxIncidentInsertBatchSize));
+      }
+
+      if (maxSequenceFlowInsertBatchSize < 1) {
+        errors.add(
+            String.format(
+                "insertBatching.maxSequenceFlowInsertBatchSize must be greater than 0 but was %d",
+                maxSequenceFlowInsertBatchSize));
+      }
+
+      if (maxMessageSubscriptionInsertBatchSize < 1) {
+        errors.add(
+            String.format(
+                "insertBatching.maxMessageSubscriptionInsertBatchSize must be greater than 0 but was %d",
+                maxMessageSubscriptionInsertBatchSize));
+      }
+
       return errors;
     }
   }
@@ -70,6 +70,12 @@ public final class RdbmsExporter {
   // Track the oldest record timestamp in the current batch for exporting latency calculation
   private long oldestRecordTimestampInBatch = -1;
 
+  // Last position and oldest record timestamp of the batch which is being flushed. The flush may be
+  // committed asynchronously while the next batch is already exported, so the post-flush listeners
+  // must not use lastPosition and oldestRecordTimestampInBatch.
+  private long flushingPosition = -1;
+  private long oldestRecordTimestampInFlushingBatch = -1;
+
   // Async replication support — null when disabled
   private final ReplicationControllerFactory replicationControllerFactory;
   private ReplicationController replicationController;
@@ -181,14 +187,15 @@ public final class RdbmsExporter {
         .getExporterPositionService()
         .registerLockPositionHook(partitionId, () -> lastFlushedPosition);
 
+    rdbmsWriters.getExecutionQueue().registerPreFlushListener(this::startFlushingBatch);
     rdbmsWriters.getExecutionQueue().registerPreFlushListener(this::updatePositionInRdbms);
     rdbmsWriters.getExecutionQueue().registerPostFlushListener(this::recordExportingLatency);
     rdbmsWriters
         .getExecutionQueue()
-        .registerPostFlushListener(() -> lastFlushedPosition = lastPosition);
+        .registerPostFlushListener(() -> lastFlushedPosition = flushingPosition);
     rdbmsWriters
         .getExecutionQueue()
-        .registerPostFlushListener(() -> replicationController.onFlush(lastPosition));
+        .registerPostFlushListener(() -> replicationController.onFlush(flushingPosition));
 
     if (!flushAfterEachRecord()) {
       currentFlushTask =
@@ -361,12 +368,23 @@ public final class RdbmsExporter {
     }
   }
 
+  private void startFlushingBatch() {
+    flushingPosition = lastPosition;
+    // a previous flush of the batch may have failed, in which case its records are flushed again
+    if (oldestRecordTimestampInFlushingBatch < 0
+        || (oldestRecordTimestampInBatch >= 0
+            && oldestRecordTimestampInBatch < oldestRecordTimestampInFlushingBatch)) {
+      oldestRecordTimestampInFlushingBatch = oldestRecordTimestampInBatch;
+    }
+    // Reset for the next batch
+    oldestRecordTimestampInBatch = -1;
+  }
+
   private void recordExportingLatency() {
-    if (oldestRecordTimestampInBatch >= 0) {
-      final long latencyMs = System.currentTimeMillis() - oldestRecordTimestampInBatch;
+    if (oldestRecordTimestampInFlushingBatch >= 0) {
+      final long latencyMs = System.currentTimeMillis() - oldestRecordTimestampInFlushingBatch;
       rdbmsWriters.getMetrics().recordExportingLatency(latencyMs);
-      // Reset for the next batch
-      oldestRecordTimestampInBatch = -1;
+      oldestRecordTimestampInFlushingBatch = -1;
     }
   }
 
@@ -109,6 +109,39 @@ class ExporterConfigurationTest {
     assertThatThrownBy(configuration::validate).hasMessageContaining("queueSize must be");
   }
 
+  @Test
+  public void shouldFailWithNegativeFlushConcurrency() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.setFlushConcurrency(-1);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("flushConcurrency must be greater or equal 0");
+  }
+
+  @Test
+  public void shouldFailWithFlushConcurrencyWhenFlushingAfterEachRecord() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.setFlushConcurrency(4);
+    configuration.setFlushInterval(Duration.ZERO);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("flushConcurrency requires a flushInterval and queueSize");
+  }
+
+  @Test
+  public void shouldPassFlushConcurrencyToWriterConfig() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.setFlushConcurrency(4);
+
+    // when
+    configuration.validate();
+    final var writerConfig =
+        configuration.createRdbmsWriterConfig(1, "default", InstantSource.system());
+
+    // then
+    assertThat(writerConfig.flushConcurrency()).isEqualTo(4);
+  }
+
   @Test
   public void shouldFailWithNegativeDefaultHistoryTTL() {
     final ExporterConfiguration.HistoryConfiguration historyConfiguration =
@@ -420,6 +453,33 @@ class ExporterConfigurationTest {
         .hasMessageContaining("insertBatching.maxAuditLogInsertBatchSize must be");
   }
 
+  @Test
+  public void shouldFailWithZeroIncidentInsertBatchSize() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.getInsertBatching().setMaxIncidentInsertBatchSize(0);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("insertBatching.maxIncidentInsertBatchSize must be");
+  }
+
+  @Test
+  public void shouldFailWithZeroSequenceFlowInsertBatchSize() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.getInsertBatching().setMaxSequenceFlowInsertBatchSize(0);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("insertBatching.maxSequenceFlowInsertBatchSize must be");
+  }
+
+  @Test
+  public void shouldFailWithZeroMessageSubscriptionInsertBatchSize() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.getInsertBatching().setMaxMessageSubscriptionInsertBatchSize(0);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("insertBatching.maxMessageSubscriptionInsertBatchSize must be");
+  }
+
   @Test
   public void shouldUseBatchSizesFromConfig() {
     // given
@@ -428,6 +488,9 @@ class ExporterConfigurationTest {
     configuration.getInsertBatching().setMaxAuditLogInsertBatchSize(50);
     configuration.getInsertBatching().setMaxJobInsertBatchSize(30);
     configuration.getInsertBatching().setMaxFlowNodeInsertBatchSize(35);
+    configuration.getInsertBatching().setMaxIncidentInsertBatchSize(40);
+    configuration.getInsertBatching().setMaxSequenceFlowInsertBatchSize(45);
+    configuration.getInsertBatching().setMaxMessageSubscriptionInsertBatchSize(55);
 
     // when
     final var writerConfig =
@@ -438,6 +501,10 @@ class ExporterConfigurationTest {
     assertThat(writerConfig.insertBatchingConfig().auditLogInsertBatchSize()).isEqualTo(50);
     assertThat(writerConfig.insertBatchingConfig().jobInsertBatchSize()).isEqualTo(30);
     assertThat(writerConfig.insertBatchingConfig().flowNodeInsertBatchSize()).isEqualTo(35);
+    assertThat(writerConfig.insertBatchingConfig().incidentInsertBatchSize()).isEqualTo(40);
+    assertThat(writerConfig.insertBatchingConfig().sequenceFlowInsertBatchSize()).isEqualTo(45);
+    assertThat(writerConfig.insertBatchingConfig().messageSubscriptionInsertBatchSize())
+        .isEqualTo(55);
   }
 
   @Test
@@ -238,6 +238,26 @@ class RdbmsExporterTest {
     verify(replicationController).onFlush(2L);
   }
 
+  @Test
+  void shouldAcknowledgePositionOfFlushedBatchWhenFlushIsCommittedAsynchronously() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+    final var record = mockRecord(ValueType.JOB, 1);
+    when(record.getTimestamp()).thenReturn(System.currentTimeMillis() - 100);
+    exporter.export(record);
+
+    // when - the next record is exported while the batch is committed in the background
+    executionQueue.preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    exporter.export(mockRecord(ValueType.JOB, 2));
+    executionQueue.postFlushListeners.forEach(PostFlushListener::onPostFlush);
+
+    // then - only the position of the committed batch is acknowledged
+    verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
+    verify(replicationController).onFlush(1L);
+    verify(replicationController, never()).onFlush(2L);
+    verify(metrics).recordExportingLatency(Mockito.longThat(latency -> latency >= 100));
+  }
+
   @Test
   void shouldUpdatePositionAfterEachRecordWhenQueueSizeIsZero() {
     // given
@@ -967,6 +987,11 @@ class RdbmsExporterTest {
       return 0;
     }
 
+    @Override
+    public void awaitFlush() {
+      // no-op
+    }
+
     @Override
     public boolean tryMergeWithExistingQueueItem(final QueueItemMerger combiners) {
       return false;
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.el;
 
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import org.camunda.feel.FeelEngineClock;
 
@@ -30,4 +31,18 @@ public class ExpressionLanguageFactory {
       final FeelEngineClock feelEngineClock, final ExpressionLanguageMetrics metrics) {
     return new FeelExpressionLanguage(feelEngineClock, metrics);
   }
+
+  /**
+   * @param feelEngineClock the clock to use for FEEL expressions
+   * @param metrics the metrics to record expression evaluations
+   * @param expressionCache the cache of parsed expressions, e.g. {@link
+   *     FeelExpressionCache#shared()} to share them with the other expression languages
+   * @return a new instance of the {@link ExpressionLanguage} with metrics
+   */
+  public static ExpressionLanguage createExpressionLanguage(
+      final FeelEngineClock feelEngineClock,
+      final ExpressionLanguageMetrics metrics,
+      final FeelExpressionCache expressionCache) {
+    return new FeelExpressionLanguage(feelEngineClock, metrics, expressionCache);
+  }
 }
@@ -41,6 +41,12 @@ public interface ExpressionLanguageMetrics {
    */
   void recordEvaluationDurationFailure(final long durationNanos);
 
+  /** Records that a parsed expression was found in the expression cache. */
+  void recordCacheHit();
+
+  /** Records that an expression was not found in the expression cache and had to be parsed. */
+  void recordCacheMiss();
+
   /**
    * Checks if the given evaluation duration exceeds the slow evaluation threshold.
    *
@@ -70,6 +76,12 @@ public interface ExpressionLanguageMetrics {
       @Override
       public void recordEvaluationDurationFailure(final long durationNanos) {}
 
+      @Override
+      public void recordCacheHit() {}
+
+      @Override
+      public void recordCacheMiss() {}
+
       @Override
       public long getSlowEvaluationThresholdMs() {
         return SLOW_EVALUATION_THRESHOLD_MS;
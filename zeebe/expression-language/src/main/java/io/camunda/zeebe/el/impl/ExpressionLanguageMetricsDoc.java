@@ -95,6 +95,29 @@ public enum ExpressionLanguageMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return OutcomeKeyNames.values();
     }
+  },
+
+  /** Number of lookups of parsed FEEL expressions in the expression cache */
+  EXPRESSION_CACHE_LOOKUPS {
+    @Override
+    public String getName() {
+      return "zeebe.feel.expression.cache.lookups";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups of parsed FEEL expressions in the expression cache";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return CacheKeyNames.values();
+    }
   };
 
   /** Outcome values for expression parsing and evaluation */
@@ -103,6 +126,23 @@ public enum ExpressionLanguageMetricsDoc implements ExtendedMeterDocumentation {
     FAILURE
   }
 
+  /** Results of an expression cache lookup */
+  public enum CacheResult {
+    HIT,
+    MISS
+  }
+
+  /** Key names for expression cache metrics */
+  public enum CacheKeyNames implements KeyName {
+    /** The result of the lookup (hit or miss) */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    }
+  }
+
   /** Key names for expression metrics */
   public enum OutcomeKeyNames implements KeyName {
     /** The outcome of the operation (success or failure) */
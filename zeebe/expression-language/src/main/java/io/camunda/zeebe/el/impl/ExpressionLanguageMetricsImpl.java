@@ -8,9 +8,12 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.ExpressionLanguageMetrics;
+import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.CacheKeyNames;
+import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.CacheResult;
 import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.Outcome;
 import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.OutcomeKeyNames;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
@@ -29,6 +32,8 @@ public class ExpressionLanguageMetricsImpl implements ExpressionLanguageMetrics
   private final Timer parsingDurationFailureTimer;
   private final Timer evaluationDurationSuccessTimer;
   private final Timer evaluationDurationFailureTimer;
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
   private final long slowEvaluationThresholdMs;
 
   /**
@@ -55,6 +60,8 @@ public class ExpressionLanguageMetricsImpl implements ExpressionLanguageMetrics
     parsingDurationFailureTimer = registerParsingDurationTimer(registry, Outcome.FAILURE);
     evaluationDurationSuccessTimer = registerEvaluationDurationTimer(registry, Outcome.SUCCESS);
     evaluationDurationFailureTimer = registerEvaluationDurationTimer(registry, Outcome.FAILURE);
+    cacheHitCounter = registerCacheLookupCounter(registry, CacheResult.HIT);
+    cacheMissCounter = registerCacheLookupCounter(registry, CacheResult.MISS);
   }
 
   /**
@@ -97,6 +104,16 @@ public class ExpressionLanguageMetricsImpl implements ExpressionLanguageMetrics
     evaluationDurationFailureTimer.record(durationNanos, TimeUnit.NANOSECONDS);
   }
 
+  @Override
+  public void recordCacheHit() {
+    cacheHitCounter.increment();
+  }
+
+  @Override
+  public void recordCacheMiss() {
+    cacheMissCounter.increment();
+  }
+
   /**
    * Checks if the given evaluation duration exceeds the slow evaluation threshold.
    *
@@ -130,4 +147,13 @@ public class ExpressionLanguageMetricsImpl implements ExpressionLanguageMetrics
         .tag(OutcomeKeyNames.OUTCOME.asString(), outcome.name().toLowerCase())
         .register(registry);
   }
+
+  private Counter registerCacheLookupCounter(
+      final MeterRegistry registry, final CacheResult result) {
+    final var meterDoc = ExpressionLanguageMetricsDoc.EXPRESSION_CACHE_LOOKUPS;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(CacheKeyNames.RESULT.asString(), result.name().toLowerCase())
+        .register(registry);
+  }
 }
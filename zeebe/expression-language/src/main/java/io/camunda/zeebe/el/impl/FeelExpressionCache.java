@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.zeebe.el.Expression;
+
+/**
+ * A bounded cache of parsed FEEL expressions by their expression text, such that identical
+ * expressions share one parsed syntax tree, e.g. across the versions of a process.
+ *
+ * <p>Only the result of parsing is cached, which is either a {@link FeelExpression} or an {@link
+ * InvalidExpression}. Both are immutable and don't depend on the FEEL engine which parsed them, so
+ * the cache can be shared by all expression languages of the broker, regardless of their clock.
+ *
+ * <p>This class is thread safe.
+ */
+public final class FeelExpressionCache {
+
+  /** The default maximum number of cached expressions. */
+  public static final long DEFAULT_MAX_SIZE = 10_000;
+
+  private static final FeelExpressionCache SHARED = new FeelExpressionCache(DEFAULT_MAX_SIZE);
+  private static final FeelExpressionCache DISABLED = new FeelExpressionCache(null);
+
+  private final Cache<String, Expression> cache;
+
+  /**
+   * @param maxSize the maximum number of cached expressions; least recently and least frequently
+   *     used expressions are evicted beyond that
+   */
+  public FeelExpressionCache(final long maxSize) {
+    this(Caffeine.newBuilder().maximumSize(maxSize).build());
+  }
+
+  private FeelExpressionCache(final Cache<String, Expression> cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * @return the cache shared by all expression languages of this JVM
+   */
+  public static FeelExpressionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * @return a cache which never caches any expression
+   */
+  public static FeelExpressionCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * @param expression the FEEL expression, without the leading {@code =}
+   * @return the parsed expression, or {@code null} if it's not cached
+   */
+  Expression get(final String expression) {
+    return cache == null ? null : cache.getIfPresent(expression);
+  }
+
+  /**
+   * @param expression the FEEL expression, without the leading {@code =}
+   * @param parsedExpression the result of parsing the expression
+   */
+  void put(final String expression, final Expression parsedExpression) {
+    if (cache != null) {
+      cache.put(expression, parsedExpression);
+    }
+  }
+
+  /**
+   * @return whether expressions are cached at all
+   */
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * @return the approximate number of cached expressions
+   */
+  public long size() {
+    return cache == null ? 0 : cache.estimatedSize();
+  }
+
+  /** Removes all cached expressions. */
+  public void clear() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+}
@@ -47,6 +47,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelEngine feelEngine;
   private final ExpressionLanguageMetrics metrics;
+  private final FeelExpressionCache expressionCache;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
     this(clock, ExpressionLanguageMetrics.noop());
@@ -58,6 +59,13 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   public FeelExpressionLanguage(
       final FeelEngineClock clock, final ExpressionLanguageMetrics metrics) {
+    this(clock, metrics, FeelExpressionCache.disabled());
+  }
+
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock,
+      final ExpressionLanguageMetrics metrics,
+      final FeelExpressionCache expressionCache) {
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -65,6 +73,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
             .clock(clock)
             .build();
     this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+    this.expressionCache =
+        Objects.requireNonNull(expressionCache, "expressionCache must not be null");
   }
 
   @Override
@@ -109,6 +119,23 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   }
 
   private Expression parseFeelExpression(final String expression) {
+    if (!expressionCache.isEnabled()) {
+      return parseUncachedFeelExpression(expression);
+    }
+
+    final var cachedExpression = expressionCache.get(expression);
+    if (cachedExpression != null) {
+      metrics.recordCacheHit();
+      return cachedExpression;
+    }
+
+    metrics.recordCacheMiss();
+    final var parsedExpression = parseUncachedFeelExpression(expression);
+    expressionCache.put(expression, parsedExpression);
+    return parsedExpression;
+  }
+
+  private Expression parseUncachedFeelExpression(final String expression) {
     final long startNanos = System.nanoTime();
     try {
       final Either<Failure, ParsedExpression> parseResult = feelEngine.parseExpression(expression);
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc;
+import io.camunda.zeebe.el.impl.ExpressionLanguageMetricsImpl;
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.util.Either;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class FeelExpressionCacheTest {
+
+  private static final EvaluationContext EMPTY_CONTEXT = name -> Either.left(null);
+
+  @AutoClose private MeterRegistry meterRegistry;
+  private FeelExpressionCache expressionCache;
+  private ExpressionLanguage expressionLanguage;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    expressionCache = new FeelExpressionCache(100);
+    expressionLanguage = createExpressionLanguage(meterRegistry);
+  }
+
+  @Test
+  void shouldShareParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var otherExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+    assertThat(expressionCache.size()).isOne();
+    assertThat(getCacheLookups("hit")).isOne();
+    assertThat(getCacheLookups("miss")).isOne();
+  }
+
+  @Test
+  void shouldShareParsedExpressionWithOtherExpressionLanguage() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+    final var otherExpressionLanguage = createExpressionLanguage(new SimpleMeterRegistry());
+
+    // when
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
+  @Test
+  void shouldShareInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x ?! 5");
+
+    // when
+    final var otherExpression = expressionLanguage.parseExpression("=x ?! 5");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+    assertThat(otherExpression.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldNotCacheStaticExpression() {
+    // when
+    expressionLanguage.parseExpression("static_value");
+
+    // then
+    assertThat(expressionCache.size()).isZero();
+    assertThat(getCacheLookups("miss")).isZero();
+  }
+
+  @Test
+  void shouldEvaluateCachedExpression() {
+    // given
+    expressionLanguage.parseExpression("=1 + 2");
+    final var expression = expressionLanguage.parseExpression("=1 + 2");
+
+    // when
+    final var result = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+
+    // then
+    assertThat(result.getNumber()).isEqualTo(3L);
+  }
+
+  @Test
+  void shouldNotShareParsedExpressionIfCacheIsDisabled() {
+    // given
+    final var uncachedExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new TestFeelEngineClock(),
+            new ExpressionLanguageMetricsImpl(meterRegistry),
+            FeelExpressionCache.disabled());
+    final var expression = uncachedExpressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var otherExpression = uncachedExpressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(otherExpression).isNotSameAs(expression);
+  }
+
+  private ExpressionLanguage createExpressionLanguage(final MeterRegistry registry) {
+    return ExpressionLanguageFactory.createExpressionLanguage(
+        new TestFeelEngineClock(), new ExpressionLanguageMetricsImpl(registry), expressionCache);
+  }
+
+  private double getCacheLookups(final String result) {
+    return meterRegistry
+        .get(ExpressionLanguageMetricsDoc.EXPRESSION_CACHE_LOOKUPS.getName())
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 public class FeelExpressionTest {
@@ -170,6 +171,63 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getList()).isEqualTo(List.of(asMsgPack("1"), asMsgPack("2")));
   }
 
+  @Test
+  public void accessNestedPropertyOfLargeDocument() {
+    final var items = new StringBuilder("[");
+    for (int i = 0; i < 1_000; i++) {
+      items.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"price\":1.5}");
+    }
+    final var order = "{\"id\":\"order\",\"items\":" + items + "],\"total\":42}";
+    final var context = Map.of("order", asMsgPack(order));
+
+    final var evaluationResult =
+        evaluateExpression("order.items[501].id", name -> Either.left(context.get(name)));
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(500L);
+  }
+
+  @Test
+  public void returnNestedContextAfterVariableIsOverwritten() {
+    // given - a variable buffer that is reused after the evaluation, like the variable state does
+    final var variable = new UnsafeBuffer(new byte[64]);
+    final var value = asMsgPack("{\"y\":{\"z\":1}}");
+    variable.putBytes(0, value, 0, value.capacity());
+    final var variableView = new UnsafeBuffer(variable, 0, value.capacity());
+
+    // when
+    final var evaluationResult =
+        evaluateExpression("x.y", name -> Either.left(name.equals("x") ? variableView : null));
+    variable.setMemory(0, value.capacity(), (byte) 0);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{\"z\":1}"));
+  }
+
+  @Test
+  public void readEntriesOfContext() {
+    final var context = Map.of("x", asMsgPack("{\"a\":1,\"b\":{\"c\":2}}"));
+
+    final var evaluationResult =
+        evaluateExpression(
+            "for entry in get entries(x) return entry.key", name -> Either.left(context.get(name)));
+
+    assertThat(evaluationResult.getListOfStrings()).containsExactly("a", "b");
+  }
+
+  @Test
+  public void putEntryIntoContext() {
+    final var context = Map.of("x", asMsgPack("{\"a\":1,\"b\":{\"c\":2}}"));
+
+    final var evaluationResult =
+        evaluateExpression("context put(x, \"d\", x.b.c)", name -> Either.left(context.get(name)));
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer())
+        .isEqualTo(asMsgPack("{\"a\":1,\"b\":{\"c\":2},\"d\":2}"));
+  }
+
   @Test
   public void getCurrentTime() {
     final var localDateTime = LocalDateTime.parse("2020-09-21T07:20:00");
@@ -8,9 +8,10 @@
 package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
-import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -19,17 +20,30 @@ import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * A FEEL context over a MessagePack map, which reads the entries of the map only when they are
+ * accessed.
+ *
+ * <p>The context doesn't copy the map: its values, including nested maps, are views of the given
+ * buffer. The buffer must therefore not be modified as long as the context, or any value read from
+ * it, is in use.
+ */
 public class MessagePackContext extends CustomContext {
 
+  /** The MessagePack map, including its header. */
   public final DirectBuffer messagePackMap;
+
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
-    messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+  /**
+   * @param messagePackMap the MessagePack map, including its header
+   * @param size the number of entries of the map
+   */
+  MessagePackContext(final DirectBuffer messagePackMap, final int size) {
+    this.messagePackMap = messagePackMap;
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size);
   }
 
   @Override
@@ -37,62 +51,120 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
+  /**
+   * A view of a value of a {@link MessagePackContext}. Since the context's buffer is never
+   * modified, the value doesn't have to be copied to be read lazily, unlike any other buffer.
+   */
+  static final class ValueView extends UnsafeBuffer {
 
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
+    ValueView() {
+      super(0, 0);
+    }
 
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
+    ValueView(final DirectBuffer buffer, final int offset, final int length) {
+      super(buffer, offset, length);
     }
-    return spans.result();
   }
 
-  record Span(int offset, int length) {}
-
   private static final class MessagePackMapVariableProvider implements VariableProvider {
+    private static final int KEY_OFFSET = 0;
+    private static final int KEY_LENGTH = 1;
+    private static final int VALUE_OFFSET = 2;
+    private static final int VALUE_LENGTH = 3;
+    private static final int ENTRY_FIELDS = 4;
+
     private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final int size;
+    private final ValueView resultView = new ValueView();
+
+    /**
+     * The offsets and lengths of the keys and values of the entries, indexed on the first access.
+     */
+    private int[] entrySpans;
 
-    private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+    private MessagePackMapVariableProvider(final DirectBuffer entries, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.size = size;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final var spans = indexEntries();
+      final var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+      // look up the entries from the last one, since the last one wins for duplicate keys
+      for (int i = size - 1; i >= 0; i--) {
+        final int span = i * ENTRY_FIELDS;
+        if (isKey(spans[span + KEY_OFFSET], spans[span + KEY_LENGTH], nameBytes)) {
+          resultView.wrap(entries, spans[span + VALUE_OFFSET], spans[span + VALUE_LENGTH]);
+          return Option.apply(resultView);
+        }
+      }
+      return Option.empty();
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      final var spans = indexEntries();
+      final var keys = new LinkedHashSet<String>();
+      for (int i = 0; i < size; i++) {
+        final int span = i * ENTRY_FIELDS;
+        keys.add(bufferAsString(entries, spans[span + KEY_OFFSET], spans[span + KEY_LENGTH]));
+      }
+      return CollectionConverters.asScala(keys);
     }
 
     @Override
     public Map<String, Object> getVariables() {
-      final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
-      return clonedMap.result();
+      final var spans = indexEntries();
+      final var variables = Map.<String, Object>newBuilder();
+      variables.sizeHint(size);
+      for (int i = 0; i < size; i++) {
+        final int span = i * ENTRY_FIELDS;
+        variables.addOne(
+            new Tuple2<>(
+                bufferAsString(entries, spans[span + KEY_OFFSET], spans[span + KEY_LENGTH]),
+                new ValueView(entries, spans[span + VALUE_OFFSET], spans[span + VALUE_LENGTH])));
+      }
+      return variables.result();
+    }
+
+    private boolean isKey(final int keyOffset, final int keyLength, final byte[] name) {
+      if (keyLength != name.length) {
+        return false;
+      }
+      for (int i = 0; i < keyLength; i++) {
+        if (entries.getByte(keyOffset + i) != name[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /** Reads the offsets and lengths of the entries, without copying their keys or values. */
+    private int[] indexEntries() {
+      if (entrySpans != null) {
+        return entrySpans;
+      }
+
+      final var spans = new int[size * ENTRY_FIELDS];
+      final var reader = new MsgPackReader();
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
+      for (int i = 0; i < size; i++) {
+        final int span = i * ENTRY_FIELDS;
+        final var keyToken = reader.readToken();
+        final int keyLength = keyToken.getValueBuffer().capacity();
+        spans[span + KEY_OFFSET] = reader.getOffset() - keyLength;
+        spans[span + KEY_LENGTH] = keyLength;
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+        spans[span + VALUE_OFFSET] = valueOffset;
+        spans[span + VALUE_LENGTH] = reader.getOffset() - valueOffset;
+      }
+      entrySpans = spans;
+      return spans;
     }
   }
 }
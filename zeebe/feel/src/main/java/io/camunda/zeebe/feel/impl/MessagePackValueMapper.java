@@ -9,9 +9,12 @@ package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.feel.impl.Loggers.LOGGER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
+import io.camunda.zeebe.feel.impl.MessagePackContext.ValueView;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import org.agrona.DirectBuffer;
@@ -52,7 +55,13 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         }
         yield new ValList(CollectionConverters.asScala(items).toSeq());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP -> {
+        final var size = token.getSize();
+        msgPackReader.skipValues(2L * size);
+        final var map =
+            new ValueView(msgPackReader.getBuffer(), offset, msgPackReader.getOffset() - offset);
+        yield new ValContext(new MessagePackContext(map, size));
+      }
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -73,9 +82,22 @@ public final class MessagePackValueMapper extends JavaValueMapper {
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
     if (x instanceof final DirectBuffer buffer) {
       msgPackReader.wrap(buffer, 0, buffer.capacity());
+      final var token = msgPackReader.readToken();
+      if (!isContainer(token) || buffer instanceof ValueView) {
+        return Option.apply(read(token, 0));
+      }
+
+      // maps are read lazily from the buffer, but the buffer may be reused by its owner, e.g. the
+      // variable state, so it's copied once; nested values are views of the copy
+      final var copy = cloneBuffer(buffer);
+      msgPackReader.wrap(copy, 0, copy.capacity());
       return Option.apply(readNext());
     } else {
       return Option.empty();
     }
   }
+
+  private static boolean isContainer(final MsgPackToken token) {
+    return token.getType() == MsgPackType.MAP || token.getType() == MsgPackType.ARRAY;
+  }
 }
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -30,6 +31,7 @@ final class JournalMetrics {
   private final Timer segmentTruncateTime;
   private final Timer segmentFlushTime;
   private final Timer journalFlushTime;
+  private final DistributionSummary journalFlushBatchSize;
   private final AtomicLong segmentCount;
   private final AtomicLong journalOpenDuration;
   private final Timer segmentAllocationTime;
@@ -45,6 +47,11 @@ final class JournalMetrics {
     segmentTruncateTime = makeTimer(SEGMENT_TRUNCATE_TIME);
     segmentFlushTime = makeTimer(SEGMENT_FLUSH_TIME);
     journalFlushTime = makeTimer(JOURNAL_FLUSH_TIME);
+    journalFlushBatchSize =
+        DistributionSummary.builder(JOURNAL_FLUSH_BATCH_SIZE.getName())
+            .description(JOURNAL_FLUSH_BATCH_SIZE.getDescription())
+            .serviceLevelObjectives(JOURNAL_FLUSH_BATCH_SIZE.getDistributionSLOs())
+            .register(registry);
 
     segmentCount = new AtomicLong(0L);
     Gauge.builder(SEGMENT_COUNT.getName(), segmentCount::get)
@@ -81,6 +88,10 @@ final class JournalMetrics {
     return MicrometerUtil.timer(journalFlushTime, Timer.start(registry));
   }
 
+  void observeFlushBatch(final long flushedRecords) {
+    journalFlushBatchSize.record(flushedRecords);
+  }
+
   void observeSegmentTruncation(final Runnable segmentTruncation) {
     segmentTruncateTime.record(segmentTruncation);
   }
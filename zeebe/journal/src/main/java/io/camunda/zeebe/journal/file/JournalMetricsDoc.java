@@ -115,6 +115,35 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   },
+  /** Number of records which were made durable by a single journal flush */
+  JOURNAL_FLUSH_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of records which were made durable by a single journal flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
   /** Number of segments */
   SEGMENT_COUNT {
     @Override
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A sparse {@link JournalIndex} which keeps its entries in sorted primitive arrays instead of
+ * skip-list maps. Records are almost always indexed in ascending order, so indexing is usually an
+ * append, and lookups are a binary search over the arrays. Compared to {@link SparseJournalIndex},
+ * this avoids boxing and per-entry node allocations, which matters for journals with many retained
+ * entries.
+ *
+ * <p>Since ASQNs are monotonically increasing with the record index, index to ASQN and ASQN to
+ * index mappings share the same arrays and are both sorted.
+ *
+ * <p>The index is written by the journal writer and by readers (which index records as they read
+ * them), and read concurrently by all readers, so all accesses are guarded by a lock.
+ */
+final class PrimitiveJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  PrimitiveJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density != 0) {
+      return;
+    }
+
+    final long asqn = indexedEntry.asqn();
+    final var stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable IndexInfo lookup(final long index) {
+    final var stamp = lock.readLock();
+    try {
+      final int floor = floor(indexes, size, index);
+      return floor >= 0 ? new IndexInfo(indexes[floor], positions[floor]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public @Nullable Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final var stamp = lock.readLock();
+    try {
+      final int floor = floor(asqns, asqnSize, asqn);
+      if (floor < 0) {
+        return null;
+      }
+
+      if (asqnIndexes[floor] <= indexUpperBound) {
+        return asqnIndexes[floor];
+      }
+
+      final int boundedFloor = floor(asqnIndexes, asqnSize, indexUpperBound);
+      return boundedFloor >= 0 ? asqnIndexes[boundedFloor] : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, indexExclusive) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, indexExclusive) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      final int firstPosition = ceiling(indexes, size, indexExclusive);
+      removeHead(indexes, firstPosition, size);
+      removeHead(positions, firstPosition, size);
+      size -= firstPosition;
+
+      // keep the closest lower ASQN mapping, so that ASQN lookups still find a lower bound
+      final int firstAsqn = floor(asqnIndexes, asqnSize, indexExclusive);
+      if (firstAsqn > 0) {
+        removeHead(asqnIndexes, firstAsqn, asqnSize);
+        removeHead(asqns, firstAsqn, asqnSize);
+        asqnSize -= firstAsqn;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final var stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    final int slot = Arrays.binarySearch(indexes, 0, size, index);
+    if (slot >= 0) {
+      positions[slot] = position;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size << 1);
+      positions = Arrays.copyOf(positions, size << 1);
+    }
+
+    if (insertAt < size) {
+      System.arraycopy(indexes, insertAt, indexes, insertAt + 1, size - insertAt);
+      System.arraycopy(positions, insertAt, positions, insertAt + 1, size - insertAt);
+    }
+
+    indexes[insertAt] = index;
+    positions[insertAt] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    final int slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+    if (slot >= 0) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize << 1);
+      asqns = Arrays.copyOf(asqns, asqnSize << 1);
+    }
+
+    if (insertAt < asqnSize) {
+      System.arraycopy(asqnIndexes, insertAt, asqnIndexes, insertAt + 1, asqnSize - insertAt);
+      System.arraycopy(asqns, insertAt, asqns, insertAt + 1, asqnSize - insertAt);
+    }
+
+    asqnIndexes[insertAt] = index;
+    asqns[insertAt] = asqn;
+    asqnSize++;
+  }
+
+  /** Returns the slot of the greatest value less than or equal to the key, or -1 if none. */
+  private static int floor(final long[] values, final int length, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, length, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the smallest value greater than or equal to the key, or length if none. */
+  private static int ceiling(final long[] values, final int length, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, length, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+
+  private static void removeHead(final Object values, final int count, final int length) {
+    if (count > 0) {
+      System.arraycopy(values, count, values, 0, length - count);
+    }
+  }
+}
@@ -52,6 +52,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final boolean trustWrittenRecords;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -65,13 +66,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean trustWrittenRecords) {
     this.file = file;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.trustWrittenRecords = trustWrittenRecords;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -164,6 +167,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return writer.getAppendedBytes();
   }
 
+  /**
+   * Returns whether the record with the given index was written or already verified by this
+   * process, such that readers can skip verifying its checksum again. Always false, unless the
+   * journal was configured to trust written records.
+   *
+   * @param index the index of the record to read
+   * @return true if the record's checksum does not need to be verified
+   */
+  boolean isVerified(final long index) {
+    return trustWrittenRecords && writer.isVerified(index);
+  }
+
   /**
    * Returns the segment file.
    *
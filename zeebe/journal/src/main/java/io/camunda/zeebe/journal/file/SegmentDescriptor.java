@@ -17,6 +17,9 @@
 package io.camunda.zeebe.journal.file;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 
 /**
  * The segment descriptor stores the metadata of a single segment {@link Segment} of a {@link
@@ -50,6 +53,10 @@ import static com.google.common.base.Preconditions.checkArgument;
  * @param lastPosition
  *     <p>(32-bit unsigned integer) position of the last entry in this segment. Can be 0 if not set,
  *     even if an entry exists
+ * @param checksumAlgorithm
+ *     <p>(8-bit unsigned integer) id of the {@link ChecksumAlgorithm} used to compute the checksums
+ *     of the records in this segment. Segments written before this field was added use {@link
+ *     ChecksumAlgorithm#CRC32C}
  */
 record SegmentDescriptor(
     byte version,
@@ -59,6 +66,7 @@ record SegmentDescriptor(
     int maxSegmentSize,
     long lastIndex,
     int lastPosition,
+    ChecksumAlgorithm checksumAlgorithm,
     short encodingLength) {
 
   public SegmentDescriptor withUpdatedIndices(final long lastIndex, final int lastPosition) {
@@ -70,12 +78,21 @@ record SegmentDescriptor(
         maxSegmentSize,
         lastIndex,
         lastPosition,
+        checksumAlgorithm,
         encodingLength);
   }
 
   public SegmentDescriptor reset() {
     return new SegmentDescriptor(
-        version, actingSchemaVersion, id, index, maxSegmentSize, 0, 0, encodingLength);
+        version,
+        actingSchemaVersion,
+        id,
+        index,
+        maxSegmentSize,
+        0,
+        0,
+        checksumAlgorithm,
+        encodingLength);
   }
 
   /**
@@ -93,6 +110,7 @@ record SegmentDescriptor(
     private long id;
     private long index;
     private int maxSegmentSize;
+    private ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.CRC32C;
 
     /**
      * Sets the segment identifier.
@@ -130,6 +148,17 @@ record SegmentDescriptor(
       return this;
     }
 
+    /**
+     * Sets the algorithm used to compute the checksums of the segment's records.
+     *
+     * @param checksumAlgorithm The checksum algorithm.
+     * @return The segment descriptor builder.
+     */
+    Builder withChecksumAlgorithm(final ChecksumAlgorithm checksumAlgorithm) {
+      this.checksumAlgorithm = checkNotNull(checksumAlgorithm, "checksumAlgorithm cannot be null");
+      return this;
+    }
+
     /**
      * Builds the segment descriptor.
      *
@@ -144,6 +173,7 @@ record SegmentDescriptor(
           maxSegmentSize,
           0,
           0,
+          checksumAlgorithm,
           SegmentDescriptorSerializer.currentEncodingLength());
     }
   }
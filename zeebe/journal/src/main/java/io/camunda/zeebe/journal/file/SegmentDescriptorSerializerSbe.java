@@ -8,6 +8,7 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.DirectBuffer;
@@ -33,8 +34,6 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentDescriptorSerializer.class);
 
-  private static final int ACTING_SCHEMA_VERSION = SegmentDescriptorDecoder.SCHEMA_VERSION;
-
   private static final int DESCRIPTOR_HEADER_OFFSET =
       VERSION_LENGTH + MessageHeaderEncoder.ENCODED_LENGTH + DescriptorMetadataEncoder.BLOCK_LENGTH;
 
@@ -65,6 +64,7 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
    * <ol>
    *   <li>id, index, maxSegmentSize
    *   <li>add lastIndex, lastPosition
+   *   <li>add checksumAlgorithm
    * </ol>
    */
   @Override
@@ -80,19 +80,22 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
   @Override
   public void writeTo(final SegmentDescriptor segmentDescriptor, final ByteBuffer buffer) {
     clear();
+    final int actingSchemaVersion = segmentDescriptor.actingSchemaVersion();
     if (segmentDescriptor.version() >= VERSION
-        && segmentDescriptor.actingSchemaVersion() == segmentDescriptorEncoder.sbeSchemaVersion()) {
+        && actingSchemaVersion >= SegmentDescriptorEncoder.lastIndexSinceVersion()
+        && actingSchemaVersion <= SegmentDescriptorEncoder.SCHEMA_VERSION) {
       writeSegmentDescriptor(segmentDescriptor, buffer);
     } else {
-      // Do not overwrite the descriptor for older versions. The new version has a higher length and
-      // will overwrite the first entry.
+      // Do not overwrite the descriptor for versions with a different length, as a longer
+      // descriptor would overwrite the first entry, and a shorter one would move its position.
       LOG.trace(
-          "Segment descriptor version is {}, and sbe schema version is {}, which is different from current version {}, and current sbe schema version {}."
+          "Segment descriptor version is {}, and sbe schema version is {}, which is not compatible with current version {}, and sbe schema versions [{}, {}]."
               + "Skipping update to the descriptor.",
           segmentDescriptor.version(),
-          ACTING_SCHEMA_VERSION,
+          actingSchemaVersion,
           VERSION,
-          segmentDescriptorEncoder.sbeSchemaVersion());
+          SegmentDescriptorEncoder.lastIndexSinceVersion(),
+          SegmentDescriptorEncoder.SCHEMA_VERSION);
     }
   }
 
@@ -118,25 +121,45 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
     }
   }
 
+  /**
+   * Writes the descriptor at its acting schema version, such that descriptors of segments created
+   * with an older, shorter schema can still be updated in place without overwriting the first
+   * entry.
+   */
   private void writeSegmentDescriptor(
       final SegmentDescriptor segmentDescriptor, final ByteBuffer buffer) {
     directBuffer.wrap(buffer);
     directBuffer.putByte(0, CUR_VERSION);
 
+    final int actingSchemaVersion = segmentDescriptor.actingSchemaVersion();
+    final boolean hasChecksumAlgorithm =
+        actingSchemaVersion >= SegmentDescriptorEncoder.checksumAlgorithmSinceVersion();
+    final int blockLength =
+        hasChecksumAlgorithm
+            ? SegmentDescriptorEncoder.BLOCK_LENGTH
+            : SegmentDescriptorEncoder.checksumAlgorithmEncodingOffset();
+
     // descriptor header
+    headerEncoder
+        .wrap(directBuffer, DESCRIPTOR_HEADER_OFFSET)
+        .blockLength(blockLength)
+        .templateId(SegmentDescriptorEncoder.TEMPLATE_ID)
+        .schemaId(SegmentDescriptorEncoder.SCHEMA_ID)
+        .version(actingSchemaVersion);
     segmentDescriptorEncoder
-        .wrapAndApplyHeader(directBuffer, DESCRIPTOR_HEADER_OFFSET, headerEncoder)
+        .wrap(directBuffer, DESCRIPTOR_HEADER_OFFSET + headerEncoder.encodedLength())
         .id(segmentDescriptor.id())
         .index(segmentDescriptor.index())
         .maxSegmentSize(segmentDescriptor.maxSegmentSize())
         .lastIndex(segmentDescriptor.lastIndex())
         .lastPosition(segmentDescriptor.lastPosition());
+    if (hasChecksumAlgorithm) {
+      segmentDescriptorEncoder.checksumAlgorithm(segmentDescriptor.checksumAlgorithm().id());
+    }
 
     final long checksum =
         checksumGen.compute(
-            buffer,
-            DESCRIPTOR_HEADER_OFFSET,
-            headerEncoder.encodedLength() + segmentDescriptorEncoder.encodedLength());
+            buffer, DESCRIPTOR_HEADER_OFFSET, headerEncoder.encodedLength() + blockLength);
     metadataEncoder
         .wrapAndApplyHeader(directBuffer, VERSION_LENGTH, headerEncoder)
         .checksum(checksum);
@@ -197,6 +220,7 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
     final var maxSegmentSize = segmentDescriptorDecoder.maxSegmentSize();
     final var lastIndex = Math.max(0, segmentDescriptorDecoder.lastIndex());
     final var lastPosition = Math.max(0, (int) segmentDescriptorDecoder.lastPosition());
+    final var checksumAlgorithm = readChecksumAlgorithm(actingSchemaVersion);
     encodedLength =
         (short) (offset + headerDecoder.encodedLength() + segmentDescriptorDecoder.encodedLength());
 
@@ -208,9 +232,23 @@ class SegmentDescriptorSerializerSbe implements SegmentDescriptorSerializer {
         maxSegmentSize,
         lastIndex,
         lastPosition,
+        checksumAlgorithm,
         encodedLength);
   }
 
+  private ChecksumAlgorithm readChecksumAlgorithm(final int actingSchemaVersion) {
+    if (actingSchemaVersion < SegmentDescriptorDecoder.checksumAlgorithmSinceVersion()) {
+      // segments created before the algorithm was configurable always use CRC32C
+      return ChecksumAlgorithm.CRC32C;
+    }
+
+    try {
+      return ChecksumAlgorithm.ofId((byte) segmentDescriptorDecoder.checksumAlgorithm());
+    } catch (final IllegalArgumentException e) {
+      throw new CorruptedJournalException("Failed to read segment descriptor", e);
+    }
+  }
+
   /**
    * Loads the metadata's checksum field.
    *
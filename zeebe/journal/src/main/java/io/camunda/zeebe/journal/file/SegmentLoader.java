@@ -36,12 +36,22 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final boolean trustWrittenRecords;
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, false);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final boolean trustWrittenRecords) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.trustWrittenRecords = trustWrittenRecords;
   }
 
   Segment createSegment(
@@ -116,7 +126,9 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        descriptor.checksumAlgorithm(),
+        trustWrittenRecords);
   }
 
   Segment loadExistingSegment(
@@ -165,7 +177,8 @@ final class SegmentLoader {
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        trustWrittenRecords);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -29,7 +29,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().encodingLength();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    recordReader =
+        new JournalRecordReaderUtil(new SBESerializer(), segment.descriptor().checksumAlgorithm());
     this.buffer = buffer;
     reset();
   }
@@ -60,7 +61,9 @@ final class SegmentReader implements Iterator<JournalRecord> {
     // Read version so that buffer's position is advanced.
     FrameUtil.readVersion(buffer);
 
-    final var currentEntry = recordReader.read(buffer, getNextIndex(), FrameUtil.getLength());
+    final long nextIndex = getNextIndex();
+    final var currentEntry =
+        recordReader.read(buffer, nextIndex, FrameUtil.getLength(), !segment.isVerified(nextIndex));
     // currentEntry should not be null as hasNext returns true
     currentIndex = currentEntry.index();
     return currentEntry;
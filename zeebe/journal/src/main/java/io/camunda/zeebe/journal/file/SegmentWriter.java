@@ -29,12 +29,15 @@ import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.jspecify.annotations.Nullable;
@@ -55,12 +58,18 @@ final class SegmentWriter {
   private @Nullable JournalRecord lastEntry;
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
-  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ChecksumGenerator checksumGenerator;
+  private final List<ChecksumGenerator> otherChecksumGenerators;
   private final JournalRecordSerializer serializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
 
+  // The range of records which were written or read (and thus verified) by this writer. These are
+  // volatile as readers access them concurrently via the segment.
+  private volatile long firstVerifiedIndex = Long.MAX_VALUE;
+  private volatile long lastVerifiedIndex = Long.MIN_VALUE;
+
   SegmentWriter(
       final MappedByteBuffer buffer,
       final Segment segment,
@@ -69,7 +78,14 @@ final class SegmentWriter {
       final JournalMetrics metrics) {
     this.segment = segment;
     descriptorLength = segment.descriptor().encodingLength();
-    recordUtil = new JournalRecordReaderUtil(serializer);
+    final var checksumAlgorithm = segment.descriptor().checksumAlgorithm();
+    checksumGenerator = new ChecksumGenerator(checksumAlgorithm);
+    otherChecksumGenerators =
+        Arrays.stream(ChecksumAlgorithm.values())
+            .filter(algorithm -> algorithm != checksumAlgorithm)
+            .map(ChecksumGenerator::new)
+            .toList();
+    recordUtil = new JournalRecordReaderUtil(serializer, checksumAlgorithm);
     this.index = index;
     firstIndex = segment.index();
     this.buffer = buffer;
@@ -117,6 +133,14 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Returns whether the record with the given index was written by this writer, or was read and
+   * verified by it when it was opened or truncated.
+   */
+  boolean isVerified(final long index) {
+    return index >= firstVerifiedIndex && index <= lastVerifiedIndex;
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
@@ -236,7 +260,12 @@ final class SegmentWriter {
         checksumGenerator.compute(
             buffer, startPosition + frameLength + metadataLength, recordLength);
 
-    if (expectedChecksum != null && expectedChecksum != checksum) {
+    if (expectedChecksum != null
+        && !isExpectedChecksum(
+            expectedChecksum,
+            checksum,
+            startPosition + frameLength + metadataLength,
+            recordLength)) {
       buffer.position(startPosition);
       throw new InvalidChecksum(
           String.format(
@@ -259,6 +288,27 @@ final class SegmentWriter {
     return record;
   }
 
+  /**
+   * Returns true if the checksum of a replicated record matches its data. Replicas roll segments at
+   * different indexes, so the sender may have computed the checksum with another algorithm than the
+   * one of this segment. If it does not match the checksum computed with this segment's algorithm,
+   * the record is verified with the other algorithms, and stored with this segment's checksum.
+   */
+  private boolean isExpectedChecksum(
+      final long expectedChecksum, final long checksum, final int offset, final int length) {
+    if (expectedChecksum == checksum) {
+      return true;
+    }
+
+    for (final var generator : otherChecksumGenerators) {
+      if (generator.compute(buffer, offset, length) == expectedChecksum) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private JournalRecord updateLastWrittenEntry(
       final int startPosition,
       final int frameLength,
@@ -278,6 +328,7 @@ final class SegmentWriter {
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
+    lastVerifiedIndex = lastEntry.index();
     return lastEntry;
   }
 
@@ -326,6 +377,7 @@ final class SegmentWriter {
         // Here normally we expect to jump to last entry directly. But to handle the case where new
         // entries where written after descriptor was updated, iterate until the end.
         long nextIndex = lastIndex;
+        firstVerifiedIndex = lastIndex;
         while (FrameUtil.hasValidVersion(buffer)) {
           advanceToNextEntry(nextIndex);
           nextIndex++;
@@ -354,12 +406,15 @@ final class SegmentWriter {
     lastEntry = recordUtil.read(buffer, nextIndex, FrameUtil.getLength());
     updateLastAsqn(lastEntry.asqn());
     lastEntryPosition = position;
+    lastVerifiedIndex = lastEntry.index();
     index.index(lastEntry, position);
     buffer.mark();
   }
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
+    firstVerifiedIndex = firstIndex;
+    lastVerifiedIndex = firstIndex - 1;
 
     buffer.position(descriptorLength);
     buffer.mark();
@@ -400,6 +455,7 @@ final class SegmentWriter {
 
     // Reset the last entry.
     lastEntry = null;
+    lastVerifiedIndex = Math.min(lastVerifiedIndex, index);
 
     // Truncate the index.
     this.index.deleteAfter(index);
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Objects.requireNonNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 import org.jspecify.annotations.Nullable;
@@ -35,6 +36,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final ChecksumAlgorithm DEFAULT_CHECKSUM_ALGORITHM = ChecksumAlgorithm.CRC32C;
+  private static final boolean DEFAULT_TRUST_WRITTEN_RECORDS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -45,6 +49,9 @@ public class SegmentedJournalBuilder {
 
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private ChecksumAlgorithm checksumAlgorithm = DEFAULT_CHECKSUM_ALGORITHM;
+  private boolean trustWrittenRecords = DEFAULT_TRUST_WRITTEN_RECORDS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private @Nullable JournalMetaStore journalMetaStore;
@@ -133,6 +140,55 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index should be backed by sorted primitive arrays instead of
+   * concurrent skip-list maps. The primitive index avoids boxing and per-entry node allocations,
+   * which reduces heap usage and GC pressure for journals with many retained entries.
+   *
+   * <p>By default, the skip-list based index is used.
+   *
+   * @param primitiveJournalIndex true to use the primitive array based index
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets the algorithm used to compute the checksums of records in new segments. The algorithm is
+   * stored in each segment's descriptor, so existing segments remain readable after changing it.
+   *
+   * <p>Replicated records are verified with whichever algorithm matches the checksum computed by
+   * the leader, and stored with the checksum of the segment's own algorithm. Replicas may therefore
+   * use different algorithms, e.g. while the algorithm is changed in a rolling fashion.
+   *
+   * <p>By default, {@link ChecksumAlgorithm#CRC32C} is used.
+   *
+   * @param checksumAlgorithm the algorithm for new segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withChecksumAlgorithm(final ChecksumAlgorithm checksumAlgorithm) {
+    this.checksumAlgorithm = checkNotNull(checksumAlgorithm, "checksumAlgorithm cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether readers skip verifying the checksums of records which this process wrote, or
+   * already verified when opening the journal. This saves CPU when the same records are read
+   * repeatedly, e.g. during replay or when replicating to followers, at the cost of not detecting
+   * corruption that happens after a record was written.
+   *
+   * <p>By default, readers verify every record they read.
+   *
+   * @param trustWrittenRecords true to skip verifying records written by this process
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withTrustWrittenRecords(final boolean trustWrittenRecords) {
+    this.trustWrittenRecords = trustWrittenRecords;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -168,9 +224,13 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, trustWrittenRecords);
     final var metaStore = requireNonNull(journalMetaStore, "must specify a journal meta store");
     final var segmentsManager =
         new SegmentsManager(
@@ -180,7 +240,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            metaStore);
+            metaStore,
+            checksumAlgorithm);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, metaStore);
   }
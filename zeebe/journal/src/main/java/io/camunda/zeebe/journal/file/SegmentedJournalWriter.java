@@ -167,6 +167,7 @@ final class SegmentedJournalWriter {
     } finally {
       // store whatever we managed to flush to avoid doing it again
       if (flushedIndex > lastFlushedIndex) {
+        journalMetrics.observeFlushBatch(flushedIndex - lastFlushedIndex);
         lastFlushedIndex = flushedIndex;
 
         LOGGER.trace(
@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.io.File;
 import java.io.IOException;
@@ -57,6 +58,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final ChecksumAlgorithm checksumAlgorithm;
 
   private volatile @Nullable Segment currentSegment;
 
@@ -67,7 +69,8 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final ChecksumAlgorithm checksumAlgorithm) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -75,6 +78,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.checksumAlgorithm = checksumAlgorithm;
   }
 
   @Override
@@ -130,6 +134,7 @@ final class SegmentsManager implements AutoCloseable {
             .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
+            .withChecksumAlgorithm(checksumAlgorithm)
             .build();
     if (nextSegment != null) {
       try {
@@ -244,6 +249,7 @@ final class SegmentsManager implements AutoCloseable {
             .withId(1)
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
+            .withChecksumAlgorithm(checksumAlgorithm)
             .build();
     currentSegment = createSegment(descriptor, INITIAL_ASQN);
     segments.put(index, currentSegment);
@@ -275,6 +281,7 @@ final class SegmentsManager implements AutoCloseable {
               .withId(FIRST_SEGMENT_ID)
               .withIndex(INITIAL_INDEX)
               .withMaxSegmentSize(maxSegmentSize)
+              .withChecksumAlgorithm(checksumAlgorithm)
               .build();
 
       currentSegment = createSegment(descriptor, INITIAL_ASQN);
@@ -302,6 +309,7 @@ final class SegmentsManager implements AutoCloseable {
               .withId(FIRST_SEGMENT_ID)
               .withIndex(INITIAL_INDEX)
               .withMaxSegmentSize(maxSegmentSize)
+              .withChecksumAlgorithm(checksumAlgorithm)
               .build();
 
       currentSegment = createSegment(descriptor, INITIAL_ASQN);
@@ -324,6 +332,7 @@ final class SegmentsManager implements AutoCloseable {
             .withId(requireNonNull(currentSegment, "current segment is null").id() + 1)
             .withIndex(INITIAL_INDEX)
             .withMaxSegmentSize(maxSegmentSize)
+            .withChecksumAlgorithm(checksumAlgorithm)
             .build();
     nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
   }
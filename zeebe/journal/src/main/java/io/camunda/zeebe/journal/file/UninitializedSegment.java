@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import java.nio.MappedByteBuffer;
 
 /**
@@ -18,7 +19,9 @@ record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    ChecksumAlgorithm checksumAlgorithm,
+    boolean trustWrittenRecords) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -31,6 +34,7 @@ record UninitializedSegment(
             .withId(segmentId)
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
+            .withChecksumAlgorithm(checksumAlgorithm)
             .build();
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
     descriptorSerializer.writeTo(updatedDescriptor, buffer);
@@ -41,6 +45,7 @@ record UninitializedSegment(
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        trustWrittenRecords);
   }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.journal.record;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -18,10 +19,16 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
-  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ChecksumGenerator checksumGenerator;
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
+    this(serializer, ChecksumAlgorithm.CRC32C);
+  }
+
+  public JournalRecordReaderUtil(
+      final JournalRecordSerializer serializer, final ChecksumAlgorithm checksumAlgorithm) {
     this.serializer = serializer;
+    checksumGenerator = new ChecksumGenerator(checksumAlgorithm);
   }
 
   /**
@@ -30,6 +37,21 @@ public final class JournalRecordReaderUtil {
    */
   public JournalRecord read(
       final ByteBuffer buffer, final long expectedIndex, final int frameLength) {
+    return read(buffer, expectedIndex, frameLength, true);
+  }
+
+  /**
+   * Reads the JournalRecord in the buffer at the current position. After the methods returns, the
+   * position of {@code buffer} will be advanced to the next record.
+   *
+   * @param verifyChecksum if false, the record's checksum is not verified; only use this for
+   *     records which were already verified
+   */
+  public JournalRecord read(
+      final ByteBuffer buffer,
+      final long expectedIndex,
+      final int frameLength,
+      final boolean verifyChecksum) {
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
 
@@ -56,15 +78,16 @@ public final class JournalRecordReaderUtil {
               buffer.position(), metadata));
     }
 
-    // verify checksum
-    final long checksum =
-        checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
+    if (verifyChecksum) {
+      final long checksum =
+          checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
 
-    if (checksum != metadata.checksum()) {
-      buffer.reset();
-      throw new CorruptedJournalException(
-          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
-              .formatted(checksum, metadata.checksum()));
+      if (checksum != metadata.checksum()) {
+        buffer.reset();
+        throw new CorruptedJournalException(
+            "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
+                .formatted(checksum, metadata.checksum()));
+      }
     }
 
     // Read record
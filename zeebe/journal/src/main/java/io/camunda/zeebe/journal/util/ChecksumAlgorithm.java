@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+/**
+ * The algorithms which can be used to compute the checksum of journal records. The algorithm is
+ * stored in each segment's descriptor, so that segments written with a different algorithm remain
+ * readable.
+ *
+ * <p>The ids are persisted, and must never be changed or reused.
+ */
+public enum ChecksumAlgorithm {
+  /** CRC32C, hardware accelerated on most platforms; the default. */
+  CRC32C((byte) 0),
+  /** 64-bit xxHash, a non-cryptographic hash which is faster than CRC32C for larger records. */
+  XXH64((byte) 1);
+
+  private final byte id;
+
+  ChecksumAlgorithm(final byte id) {
+    this.id = id;
+  }
+
+  public byte id() {
+    return id;
+  }
+
+  /**
+   * Returns the algorithm with the given id.
+   *
+   * @param id the persisted id of the algorithm
+   * @return the matching algorithm
+   * @throws IllegalArgumentException if no algorithm has the given id
+   */
+  public static ChecksumAlgorithm ofId(final byte id) {
+    for (final var algorithm : values()) {
+      if (algorithm.id == id) {
+        return algorithm;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown checksum algorithm id " + id);
+  }
+}
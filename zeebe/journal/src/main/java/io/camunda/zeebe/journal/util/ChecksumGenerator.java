@@ -8,14 +8,37 @@
 package io.camunda.zeebe.journal.util;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.zip.CRC32C;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/** Computes checksums with the given {@link ChecksumAlgorithm}. Not thread safe. */
 public final class ChecksumGenerator {
 
+  private static final long XXH64_SEED = 0;
+
+  private final ChecksumAlgorithm algorithm;
   private final CRC32C crc32 = new CRC32C();
+  private final UnsafeBuffer view = new UnsafeBuffer();
+
+  public ChecksumGenerator() {
+    this(ChecksumAlgorithm.CRC32C);
+  }
+
+  public ChecksumGenerator(final ChecksumAlgorithm algorithm) {
+    this.algorithm = Objects.requireNonNull(algorithm, "must specify a checksum algorithm");
+  }
+
+  public ChecksumAlgorithm algorithm() {
+    return algorithm;
+  }
 
   public long compute(final DirectBuffer buffer, final int offset, final int length) {
+    if (algorithm == ChecksumAlgorithm.XXH64) {
+      return XxHash64.hash(buffer, offset, length, XXH64_SEED);
+    }
+
     if (buffer.byteArray() != null) {
       return compute(buffer.byteArray(), offset, length);
     } else if (buffer.byteBuffer() != null) {
@@ -29,15 +52,31 @@ public final class ChecksumGenerator {
 
   /** Compute checksum of given ByteBuffer */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
-    crc32.reset();
-    crc32.update(slice.limit(length));
-    return crc32.getValue();
+    return switch (algorithm) {
+      case CRC32C -> {
+        final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
+        crc32.reset();
+        crc32.update(slice.limit(length));
+        yield crc32.getValue();
+      }
+      case XXH64 -> {
+        view.wrap(buffer, offset, length);
+        yield XxHash64.hash(view, 0, length, XXH64_SEED);
+      }
+    };
   }
 
   public long compute(final byte[] byteArray, final int offset, final int length) {
-    crc32.reset();
-    crc32.update(byteArray, offset, length);
-    return crc32.getValue();
+    return switch (algorithm) {
+      case CRC32C -> {
+        crc32.reset();
+        crc32.update(byteArray, offset, length);
+        yield crc32.getValue();
+      }
+      case XXH64 -> {
+        view.wrap(byteArray, offset, length);
+        yield XxHash64.hash(view, 0, length, XXH64_SEED);
+      }
+    };
   }
 }
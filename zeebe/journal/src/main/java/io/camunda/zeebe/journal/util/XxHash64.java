@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+import java.nio.ByteOrder;
+import org.agrona.DirectBuffer;
+
+/**
+ * Implementation of the 64-bit xxHash algorithm (XXH64) over {@link DirectBuffer}, reading the
+ * input in little endian order as specified by the reference implementation. Reading directly from
+ * the buffer avoids copying memory mapped data to the heap.
+ */
+final class XxHash64 {
+
+  private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME_3 = 0x165667B19E3779F9L;
+  private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+  private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  private XxHash64() {}
+
+  static long hash(final DirectBuffer buffer, final int offset, final int length, final long seed) {
+    final int end = offset + length;
+    int position = offset;
+    long hash;
+
+    if (length >= 32) {
+      long v1 = seed + PRIME_1 + PRIME_2;
+      long v2 = seed + PRIME_2;
+      long v3 = seed;
+      long v4 = seed - PRIME_1;
+
+      final int limit = end - 32;
+      do {
+        v1 = round(v1, buffer.getLong(position, ORDER));
+        v2 = round(v2, buffer.getLong(position + 8, ORDER));
+        v3 = round(v3, buffer.getLong(position + 16, ORDER));
+        v4 = round(v4, buffer.getLong(position + 24, ORDER));
+        position += 32;
+      } while (position <= limit);
+
+      hash =
+          Long.rotateLeft(v1, 1)
+              + Long.rotateLeft(v2, 7)
+              + Long.rotateLeft(v3, 12)
+              + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      hash = seed + PRIME_5;
+    }
+
+    hash += length;
+
+    while (position + 8 <= end) {
+      hash ^= round(0, buffer.getLong(position, ORDER));
+      hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+      position += 8;
+    }
+
+    if (position + 4 <= end) {
+      hash ^= (buffer.getInt(position, ORDER) & 0xFFFF_FFFFL) * PRIME_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+      position += 4;
+    }
+
+    while (position < end) {
+      hash ^= (buffer.getByte(position) & 0xFFL) * PRIME_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME_1;
+      position++;
+    }
+
+    return avalanche(hash);
+  }
+
+  private static long round(final long accumulator, final long input) {
+    return Long.rotateLeft(accumulator + input * PRIME_2, 31) * PRIME_1;
+  }
+
+  private static long mergeRound(final long accumulator, final long value) {
+    return (accumulator ^ round(0, value)) * PRIME_1 + PRIME_4;
+  }
+
+  private static long avalanche(long hash) {
+    hash ^= hash >>> 33;
+    hash *= PRIME_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the append and read throughput of the journal per {@link ChecksumAlgorithm}, and the
+ * effect of trusting records written by this process on reads.
+ *
+ * <p>The journal is reset every {@link #entries} appends to bound its disk usage; the reset is
+ * amortized over all appends of the batch.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalChecksumBenchmark {
+
+  @Param({"CRC32C", "XXH64"})
+  public ChecksumAlgorithm algorithm;
+
+  @Param({"false", "true"})
+  public boolean trustWrittenRecords;
+
+  @Param({"128", "4096"})
+  public int recordSize;
+
+  @Param({"100000"})
+  public int entries;
+
+  private Path directory;
+  private SegmentedJournal readJournal;
+  private SegmentedJournal appendJournal;
+  private JournalReader reader;
+  private DirectBufferWriter data;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final byte[] bytes = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    data = new DirectBufferWriter(new UnsafeBuffer(bytes));
+
+    directory = Files.createTempDirectory("journal-checksum-benchmark");
+    readJournal = openJournal(directory.resolve("read"));
+    appendJournal = openJournal(directory.resolve("append"));
+    for (int i = 0; i < entries; i++) {
+      readJournal.append(data);
+    }
+    reader = readJournal.openReader();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    reader.close();
+    readJournal.close();
+    appendJournal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public JournalRecord append() {
+    if (appendJournal.getLastIndex() >= entries) {
+      appendJournal.reset(1);
+    }
+
+    return appendJournal.append(data);
+  }
+
+  @Benchmark
+  public JournalRecord read() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next();
+  }
+
+  private SegmentedJournal openJournal(final Path journalDirectory) {
+    return SegmentedJournal.builder(new SimpleMeterRegistry())
+        .withDirectory(journalDirectory.toFile())
+        .withMetaStore(new MockJournalMetastore())
+        .withChecksumAlgorithm(algorithm)
+        .withTrustWrittenRecords(trustWrittenRecords)
+        .build();
+  }
+}
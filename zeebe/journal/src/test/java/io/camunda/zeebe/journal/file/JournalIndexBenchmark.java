@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the {@link PrimitiveJournalIndex}. Run with {@code
+ * -prof gc} to compare the allocation rate; the retained heap of a fully populated index is logged
+ * once per trial.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JournalIndexBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalIndexBenchmark.class);
+
+  @Param({"SPARSE", "PRIMITIVE"})
+  public IndexType type;
+
+  @Param({"10000000"})
+  public int entries;
+
+  @Param({"100"})
+  public int density;
+
+  private JournalIndex index;
+  private JournalRecord appendedRecord;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final long heapBefore = usedHeap();
+    index = type.factory.apply(density);
+    for (long i = density; i <= entries; i += density) {
+      index.index(record(i), (int) i);
+    }
+    final long heapAfter = usedHeap();
+    LOG.info(
+        "{} index with {} indexed entries retains ~{} bytes",
+        type,
+        entries / density,
+        heapAfter - heapBefore);
+
+    appendedRecord = record((long) entries + density);
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, entries));
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, entries * 2L));
+  }
+
+  @Benchmark
+  public void indexAndDeleteAfter() {
+    index.index(appendedRecord, entries + density);
+    index.deleteAfter(entries);
+  }
+
+  private static JournalRecord record(final long index) {
+    return new TestJournalRecord(index, index * 2, 0, null, null, 0);
+  }
+
+  private static long usedHeap() {
+    final var runtime = Runtime.getRuntime();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  public enum IndexType {
+    SPARSE(SparseJournalIndex::new),
+    PRIMITIVE(PrimitiveJournalIndex::new);
+
+    private final IntFunction<JournalIndex> factory;
+
+    IndexType(final IntFunction<JournalIndex> factory) {
+      this.factory = factory;
+    }
+  }
+}
@@ -20,11 +20,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class SegmentDescriptorSerializerTest {
@@ -67,6 +69,29 @@ class SegmentDescriptorSerializerTest {
     assertThat(serializer.encodingLength()).isEqualTo(serializer.encodingLength());
   }
 
+  @ParameterizedTest
+  @EnumSource(ChecksumAlgorithm.class)
+  void shouldWriteAndReadChecksumAlgorithm(final ChecksumAlgorithm algorithm) {
+    // given
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder()
+            .withId(2)
+            .withIndex(100)
+            .withMaxSegmentSize(1024)
+            .withChecksumAlgorithm(algorithm)
+            .build();
+
+    final ByteBuffer buffer = ByteBuffer.allocate(serializer.encodingLength());
+    serializer.writeTo(descriptor, buffer);
+
+    // when
+    final SegmentDescriptor descriptorRead = readDescriptor(buffer);
+
+    // then
+    assertThat(descriptorRead).isEqualTo(descriptor);
+    assertThat(descriptorRead.checksumAlgorithm()).isEqualTo(algorithm);
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {-1, 0, 100})
   void shouldValidateDescriptorHeader(final int invalidVersion) {
@@ -149,6 +174,58 @@ class SegmentDescriptorSerializerTest {
     assertThat(descriptorRead.actingSchemaVersion()).isEqualTo((byte) 1);
   }
 
+  @Test
+  void shouldReadV2WithSbeVersion2MessageAsCrc32c() {
+    // given
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(100).withMaxSegmentSize(1024).build();
+
+    final ByteBuffer buffer = ByteBuffer.allocate(serializer.encodingLength());
+    final UnsafeBuffer directBuffer = new UnsafeBuffer();
+    directBuffer.wrap(buffer);
+    writeDescriptorV2minor2(descriptor, directBuffer, buffer);
+
+    // when
+    final SegmentDescriptor descriptorRead = readDescriptor(buffer);
+
+    // then
+    assertThat(descriptorRead.id()).isEqualTo(2);
+    assertThat(descriptorRead.index()).isEqualTo(100);
+    assertThat(descriptorRead.maxSegmentSize()).isEqualTo(1024);
+    assertThat(descriptorRead.lastIndex()).isEqualTo(10);
+    assertThat(descriptorRead.lastPosition()).isEqualTo(100);
+    assertThat(descriptorRead.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32C);
+    assertThat(descriptorRead.actingSchemaVersion()).isEqualTo((byte) 2);
+    assertThat(descriptorRead.encodingLength()).isLessThan((short) serializer.encodingLength());
+  }
+
+  @Test
+  void shouldUpdateV2WithSbeVersion2DescriptorInPlace() {
+    // given
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(100).withMaxSegmentSize(1024).build();
+
+    final ByteBuffer buffer = ByteBuffer.allocate(serializer.encodingLength());
+    final UnsafeBuffer directBuffer = new UnsafeBuffer();
+    directBuffer.wrap(buffer);
+    writeDescriptorV2minor2(descriptor, directBuffer, buffer);
+    final SegmentDescriptor descriptorToUpdate = readDescriptor(buffer);
+    // the first entry would start right after the shorter descriptor
+    final byte firstEntryByte = 0x7F;
+    buffer.put(descriptorToUpdate.encodingLength(), firstEntryByte);
+
+    // when
+    serializer.writeTo(descriptorToUpdate.withUpdatedIndices(20, 200), buffer);
+
+    // then
+    final SegmentDescriptor descriptorRead = readDescriptor(buffer);
+    assertThat(descriptorRead.lastIndex()).isEqualTo(20);
+    assertThat(descriptorRead.lastPosition()).isEqualTo(200);
+    assertThat(descriptorRead.actingSchemaVersion()).isEqualTo((byte) 2);
+    assertThat(descriptorRead.encodingLength()).isEqualTo(descriptorToUpdate.encodingLength());
+    assertThat(buffer.get(descriptorToUpdate.encodingLength())).isEqualTo(firstEntryByte);
+  }
+
   private SegmentDescriptor readDescriptor(final ByteBuffer buffer) {
     return new SegmentDescriptorSerializerSbe().readFrom(buffer);
   }
@@ -194,4 +271,49 @@ class SegmentDescriptorSerializerTest {
         .wrapAndApplyHeader(directBuffer, versionLength, headerEncoder)
         .checksum(checksum);
   }
+
+  private void writeDescriptorV2minor2(
+      final SegmentDescriptor descriptor,
+      final UnsafeBuffer directBuffer,
+      final ByteBuffer buffer) {
+
+    final byte version = 2;
+    directBuffer.putByte(0, version);
+
+    // descriptor header
+    final int versionLength = Byte.BYTES;
+    final int descHeaderOffset =
+        versionLength
+            + MessageHeaderEncoder.ENCODED_LENGTH
+            + DescriptorMetadataEncoder.BLOCK_LENGTH;
+    final int blockLength = 32;
+
+    final SegmentDescriptorEncoder segmentDescriptorEncoder = new SegmentDescriptorEncoder();
+    final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+
+    headerEncoder
+        .wrap(directBuffer, descHeaderOffset)
+        .blockLength(blockLength)
+        .templateId(SegmentDescriptorEncoder.TEMPLATE_ID)
+        .schemaId(SegmentDescriptorEncoder.SCHEMA_ID)
+        .version(2);
+
+    segmentDescriptorEncoder.wrap(
+        directBuffer, descHeaderOffset + MessageHeaderEncoder.ENCODED_LENGTH);
+    segmentDescriptorEncoder
+        .id(descriptor.id())
+        .index(descriptor.index())
+        .maxSegmentSize(descriptor.maxSegmentSize())
+        .lastIndex(10)
+        .lastPosition(100);
+
+    final long checksum =
+        new ChecksumGenerator()
+            .compute(buffer, descHeaderOffset, headerEncoder.encodedLength() + blockLength);
+    final DescriptorMetadataEncoder metadataEncoder = new DescriptorMetadataEncoder();
+
+    metadataEncoder
+        .wrapAndApplyHeader(directBuffer, versionLength, headerEncoder)
+        .checksum(checksum);
+  }
 }
@@ -28,6 +28,7 @@ import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
 import io.camunda.zeebe.journal.record.RecordData;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.CheckedRunnable;
@@ -834,6 +835,150 @@ class SegmentedJournalTest {
     PosixPathAssert.assertThat(firstSegment).hasRealSizeLessThan(segmentSize);
   }
 
+  @Test
+  void shouldReadSegmentsWrittenWithDifferentChecksumAlgorithms(final @TempDir Path tmpDir) {
+    // given
+    final var builder =
+        SegmentedJournal.builder(meterRegistry)
+            .withMaxSegmentSize(4 * 1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    try (final var crcJournal = builder.withChecksumAlgorithm(ChecksumAlgorithm.CRC32C).build()) {
+      for (int i = 0; i < 200; i++) {
+        crcJournal.append(new DirectBufferWriter(data));
+      }
+    }
+
+    // when
+    try (final var xxhJournal = builder.withChecksumAlgorithm(ChecksumAlgorithm.XXH64).build()) {
+      for (int i = 0; i < 200; i++) {
+        xxhJournal.append(new DirectBufferWriter(data));
+      }
+
+      // then
+      assertThat(xxhJournal.getFirstSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.CRC32C);
+      assertThat(xxhJournal.getLastSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.XXH64);
+
+      final var reader = xxhJournal.openReader();
+      closeables.add(reader);
+      long expectedIndex = 1;
+      while (reader.hasNext()) {
+        final var record = reader.next();
+        assertThat(record.index()).isEqualTo(expectedIndex++);
+        assertThat(record.data()).isEqualTo(data);
+      }
+      assertThat(expectedIndex).isEqualTo(401);
+    }
+  }
+
+  @Test
+  void shouldReplicateRecordsWhenChecksumAlgorithmChangesAtDifferentIndexes() {
+    // given - leader and follower roll segments at different indexes, and switch from CRC32C to
+    // XXH64 at different indexes
+    final var data = new DirectBufferWriter(BufferUtil.wrapString("x".repeat(128)));
+    final var leaderBuilder =
+        SegmentedJournal.builder(meterRegistry)
+            .withMaxSegmentSize(4 * 1024)
+            .withDirectory(directory.resolve("leader").toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var followerBuilder =
+        SegmentedJournal.builder(meterRegistry)
+            .withMaxSegmentSize(3 * 1024)
+            .withDirectory(directory.resolve("follower").toFile())
+            .withMetaStore(new MockJournalMetastore());
+
+    // when
+    try (final var leader = leaderBuilder.withChecksumAlgorithm(ChecksumAlgorithm.CRC32C).build();
+        final var follower =
+            followerBuilder.withChecksumAlgorithm(ChecksumAlgorithm.CRC32C).build()) {
+      for (int i = 1; i <= 60; i++) {
+        replicate(leader.append(i, data), follower);
+      }
+    }
+
+    try (final var leader = leaderBuilder.withChecksumAlgorithm(ChecksumAlgorithm.CRC32C).build();
+        final var follower =
+            followerBuilder.withChecksumAlgorithm(ChecksumAlgorithm.XXH64).build()) {
+      for (int i = 61; i <= 100; i++) {
+        replicate(leader.append(i, data), follower);
+      }
+    }
+
+    try (final var leader = leaderBuilder.withChecksumAlgorithm(ChecksumAlgorithm.XXH64).build();
+        final var follower =
+            followerBuilder.withChecksumAlgorithm(ChecksumAlgorithm.XXH64).build()) {
+      for (int i = 101; i <= 160; i++) {
+        replicate(leader.append(i, data), follower);
+      }
+
+      // then
+      assertThat(leader.getFirstSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.CRC32C);
+      assertThat(leader.getLastSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.XXH64);
+      assertThat(follower.getFirstSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.CRC32C);
+      assertThat(follower.getLastSegment().descriptor().checksumAlgorithm())
+          .isEqualTo(ChecksumAlgorithm.XXH64);
+
+      final var leaderReader = leader.openReader();
+      final var followerReader = follower.openReader();
+      closeables.add(leaderReader);
+      closeables.add(followerReader);
+      while (leaderReader.hasNext()) {
+        final var expected = leaderReader.next();
+        assertThat(followerReader.hasNext()).isTrue();
+        final var actual = followerReader.next();
+        assertThat(actual.index()).isEqualTo(expected.index());
+        assertThat(actual.asqn()).isEqualTo(expected.asqn());
+        assertThat(actual.data()).isEqualTo(expected.data());
+      }
+      assertThat(followerReader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldNotTrustWrittenRecordsByDefault() {
+    // given
+    journal = openJournal(2);
+
+    // when
+    journal.append(1, journalFactory.entry());
+
+    // then
+    assertThat(journal.getFirstSegment().isVerified(1)).isFalse();
+  }
+
+  @Test
+  void shouldTrustRecordsWrittenByThisProcess(final @TempDir Path tmpDir) {
+    // given
+    final var data = new DirectBufferWriter(BufferUtil.wrapString("test"));
+    try (final var trustingJournal =
+        SegmentedJournal.builder(meterRegistry)
+            .withMaxSegmentSize(4 * 1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore())
+            .withTrustWrittenRecords(true)
+            .build()) {
+      trustingJournal.append(1, data);
+      trustingJournal.append(2, data);
+      final var segment = trustingJournal.getFirstSegment();
+      assertThat(segment.isVerified(1)).isTrue();
+      assertThat(segment.isVerified(2)).isTrue();
+
+      // when
+      trustingJournal.deleteAfter(1);
+
+      // then
+      assertThat(segment.isVerified(1)).isTrue();
+      assertThat(segment.isVerified(2)).isFalse();
+      assertThat(segment.isVerified(3)).isFalse();
+    }
+  }
+
   @Test
   void shouldValidateAsqnBeforeCreatingNewSegment() {
     // given
@@ -1128,4 +1273,8 @@ class SegmentedJournalTest {
       }
     };
   }
+
+  private static void replicate(final JournalRecord record, final SegmentedJournal follower) {
+    follower.append(record.checksum(), BufferUtil.bufferAsArray(record.serializedRecord()));
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class ChecksumGeneratorTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "'', ef46db3751d8e999",
+    "a, d24ec4f1a98c6e5b",
+    "abc, 44bc2cf5ad770999",
+    "Nobody inspects the spammish repetition, fbcea83c8a378bf1",
+  })
+  void shouldComputeReferenceXxHash64(final String input, final String expectedHash) {
+    // given
+    final var generator = new ChecksumGenerator(ChecksumAlgorithm.XXH64);
+    final byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+
+    // when
+    final long checksum = generator.compute(bytes, 0, bytes.length);
+
+    // then
+    assertThat(checksum).isEqualTo(Long.parseUnsignedLong(expectedHash, 16));
+  }
+
+  @ParameterizedTest
+  @EnumSource(ChecksumAlgorithm.class)
+  void shouldComputeSameChecksumForAllBufferTypes(final ChecksumAlgorithm algorithm) {
+    // given
+    final var generator = new ChecksumGenerator(algorithm);
+    final byte[] bytes = new byte[1024 + 13];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    final var directBuffer = ByteBuffer.allocateDirect(bytes.length).put(0, bytes);
+    final int offset = 7;
+    final int length = 1024 + 3;
+
+    // when
+    final long fromArray = generator.compute(bytes, offset, length);
+    final long fromHeapBuffer = generator.compute(ByteBuffer.wrap(bytes), offset, length);
+    final long fromDirectBuffer = generator.compute(directBuffer, offset, length);
+    final long fromUnsafeBuffer = generator.compute(new UnsafeBuffer(directBuffer), offset, length);
+
+    // then
+    assertThat(fromHeapBuffer).isEqualTo(fromArray);
+    assertThat(fromDirectBuffer).isEqualTo(fromArray);
+    assertThat(fromUnsafeBuffer).isEqualTo(fromArray);
+  }
+
+  @ParameterizedTest
+  @EnumSource(ChecksumAlgorithm.class)
+  void shouldResolveAlgorithmById(final ChecksumAlgorithm algorithm) {
+    assertThat(ChecksumAlgorithm.ofId(algorithm.id())).isEqualTo(algorithm);
+  }
+
+  @ParameterizedTest
+  @EnumSource(ChecksumAlgorithm.class)
+  void shouldDetectSingleBitFlip(final ChecksumAlgorithm algorithm) {
+    // given
+    final var generator = new ChecksumGenerator(algorithm);
+    final byte[] bytes = new byte[256];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    final long checksum = generator.compute(bytes, 0, bytes.length);
+
+    // when
+    bytes[100] ^= 0x1;
+
+    // then
+    assertThat(generator.compute(bytes, 0, bytes.length)).isNotEqualTo(checksum);
+  }
+
+  @Test
+  void shouldKeepCrc32cAsDefault() {
+    // given
+    final byte[] bytes = "journal".getBytes(StandardCharsets.US_ASCII);
+    final var crc = new CRC32C();
+    crc.update(bytes);
+
+    // when
+    final long checksum = new ChecksumGenerator().compute(bytes, 0, bytes.length);
+
+    // then
+    assertThat(checksum).isEqualTo(crc.getValue());
+  }
+}
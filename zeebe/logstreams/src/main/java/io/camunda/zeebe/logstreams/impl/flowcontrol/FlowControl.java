@@ -233,6 +233,13 @@ public final class FlowControl {
     }
   }
 
+  /**
+   * @return the highest position written to the log, or -1 if nothing was written yet
+   */
+  public long getLastWrittenPosition() {
+    return lastWrittenPosition;
+  }
+
   public @Nullable Limit getRequestLimit() {
     return requestLimit;
   }
@@ -0,0 +1,314 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer.calculateBatchLength;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.util.Either;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link WriteSequencer} which does not serialize writers through a lock. Writers claim a range
+ * of positions for their batch with a CAS on the next position, and store the batch in a ring of
+ * pending batches indexed by its first position. Pending batches are then appended to the {@link
+ * LogStorage} strictly in position order by a single publisher at a time: any writer which finds
+ * the next batch ready becomes the publisher, and appends all contiguous pending batches, including
+ * those stored by other writers.
+ *
+ * <p>Since batches are appended in order, a writer whose batch follows a slow writer's batch does
+ * not wait for it; its batch is appended by whichever writer publishes the preceding batch. As
+ * such, a successful {@link #tryWrite(WriteContext, List, long) tryWrite} guarantees the batch will
+ * be passed to the log storage, but it may not have been yet when the call returns.
+ *
+ * <p>If appending a batch fails, the failure is logged and the batch's flow control entry is
+ * released, but its writer is not notified, as it may have returned already.
+ *
+ * <p>This is not wait-free: at most {@link #PENDING_CAPACITY} positions can be claimed ahead of the
+ * last published position, and writers spin when that window is full.
+ */
+final class LockFreeSequencer implements WriteSequencer {
+  static final int PENDING_CAPACITY = 1 << 12;
+  private static final int PENDING_MASK = PENDING_CAPACITY - 1;
+  private static final Logger LOG = LoggerFactory.getLogger(LockFreeSequencer.class);
+
+  private final int maxFragmentSize;
+  private final LogStorage logStorage;
+  private final InstantSource clock;
+  private final SequencerMetrics sequencerMetrics;
+  private final FlowControl flowControl;
+
+  private final AtomicLong nextPosition;
+  private final AtomicReferenceArray<PendingBatch> pendingBatches =
+      new AtomicReferenceArray<>(PENDING_CAPACITY);
+  private final AtomicBoolean publishing = new AtomicBoolean();
+  private final AtomicInteger activeWriters = new AtomicInteger();
+  private volatile long publishedPosition;
+  private volatile boolean isClosed = false;
+
+  LockFreeSequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl) {
+    LOG.trace("Starting new lock-free sequencer at position {}", initialPosition);
+    this.logStorage = logStorage;
+    this.clock = Objects.requireNonNull(clock);
+    nextPosition = new AtomicLong(initialPosition);
+    publishedPosition = initialPosition;
+    this.maxFragmentSize = maxFragmentSize;
+    this.sequencerMetrics =
+        Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
+    this.flowControl = flowControl;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canWriteEvents(final int eventCount, final int batchSize) {
+    return Sequencer.fitsInFragment(maxFragmentSize, eventCount, batchSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  // False positive: https://github.com/checkstyle/checkstyle/issues/14891
+  @SuppressWarnings("checkstyle:MissingSwitchDefault")
+  public Either<WriteFailure, Long> tryWrite(
+      final WriteContext context,
+      final List<LogAppendEntry> appendEntries,
+      final long sourcePosition) {
+    if (isClosed) {
+      LOG.warn("Rejecting write of {}, sequencer is closed", appendEntries);
+      return Either.left(WriteFailure.CLOSED);
+    }
+    if (appendEntries.isEmpty()) {
+      return Either.left(WriteFailure.INVALID_ARGUMENT);
+    }
+    for (final var entry : appendEntries) {
+      if (!Sequencer.isEntryValid(entry)) {
+        LOG.warn("Reject write of invalid entry {}", entry);
+        return Either.left(WriteFailure.INVALID_ARGUMENT);
+      }
+    }
+    final InFlightEntry inFlightEntry;
+    switch (flowControl.tryAcquire(context, appendEntries)) {
+      case Either.Left<Rejection, InFlightEntry>(final var rejected) -> {
+        return switch (rejected) {
+          case RequestLimitExhausted -> Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED);
+          case WriteRateLimitExhausted -> Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED);
+          case PartitionPaused -> Either.left(WriteFailure.PARTITION_PAUSED);
+        };
+      }
+      case Either.Right<Rejection, InFlightEntry>(final var accepted) -> inFlightEntry = accepted;
+    }
+
+    final int batchSize = appendEntries.size();
+    final int batchLength = calculateBatchLength(appendEntries);
+    // allocated before claiming, as nothing may fail between claiming and storing the batch;
+    // otherwise the claimed positions would never be published and block all following batches
+    final var pendingBatch =
+        new PendingBatch(sourcePosition, appendEntries, batchSize, batchLength, inFlightEntry);
+
+    final long highestPosition;
+    final int claimRetries;
+    activeWriters.incrementAndGet();
+    try {
+      if (flowControl.isPaused()) {
+        // Frozen after this writer passed tryAcquire but before it claimed its positions; reject
+        // (releasing the reservation). Writes paused while we are active are awaited in pauseWrites
+        inFlightEntry.cleanup();
+        return Either.left(WriteFailure.PARTITION_PAUSED);
+      }
+
+      claimRetries = claim(pendingBatch);
+      highestPosition = pendingBatch.firstPosition + batchSize - 1;
+      pendingBatches.set(slot(pendingBatch.firstPosition), pendingBatch);
+      tryPublish();
+    } finally {
+      activeWriters.decrementAndGet();
+    }
+
+    sequencerMetrics.observeClaimContention(claimRetries);
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(highestPosition);
+  }
+
+  /**
+   * Freezes write admission and drains in-flight writers for a leadership transfer. Any writer
+   * which has not yet claimed positions once admission is frozen is rejected, and every batch
+   * claimed before is appended before this returns. After this returns nothing can be appended
+   * until {@link #resumeWrites()}.
+   */
+  @Override
+  public void pauseWrites() {
+    flowControl.pause();
+    while (activeWriters.get() > 0 || publishedPosition != nextPosition.get()) {
+      tryPublish();
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Resumes write admission after a leadership transfer. */
+  @Override
+  public void resumeWrites() {
+    flowControl.resume();
+  }
+
+  /**
+   * Closes the sequencer. After closing, writes are rejected but reads are still allowed to drain
+   * the queue. Closing the sequencer is not atomic so some writes may occur shortly after closing.
+   */
+  @Override
+  public void close() {
+    LOG.info("Closing sequencer for writing");
+    isClosed = true;
+  }
+
+  /**
+   * Claims the positions for the given batch, waiting for a free pending slot if too many batches
+   * are claimed but not yet published.
+   *
+   * @return how many times the claim failed because another writer claimed concurrently
+   */
+  private int claim(final PendingBatch batch) {
+    int retries = 0;
+    while (true) {
+      final long firstPosition = nextPosition.get();
+      if (firstPosition - publishedPosition >= PENDING_CAPACITY) {
+        // help out in case the publisher just released, then wait for the window to move
+        tryPublish();
+        Thread.onSpinWait();
+      } else if (nextPosition.compareAndSet(firstPosition, firstPosition + batch.batchSize)) {
+        batch.firstPosition = firstPosition;
+        return retries;
+      } else {
+        retries++;
+      }
+    }
+  }
+
+  /**
+   * Appends all pending batches which directly follow the last published position, if no other
+   * writer is doing so already. A writer storing the next batch while another is publishing may not
+   * see the publishing flag released, so after releasing it we check again for a ready batch.
+   */
+  private void tryPublish() {
+    while (publishing.compareAndSet(false, true)) {
+      try {
+        publishPending();
+      } finally {
+        publishing.set(false);
+      }
+
+      if (nextPending() == null) {
+        return;
+      }
+    }
+  }
+
+  private void publishPending() {
+    PendingBatch batch;
+    while ((batch = nextPending()) != null) {
+      final long firstPosition = batch.firstPosition;
+      final long highestPosition = firstPosition + batch.batchSize - 1;
+      pendingBatches.set(slot(firstPosition), null);
+      final boolean appended;
+      try {
+        appended = append(batch, firstPosition, highestPosition);
+      } finally {
+        // the positions were handed out already, so never block the following batches
+        publishedPosition = highestPosition + 1;
+      }
+
+      if (appended) {
+        flowControl.onAppended(batch.inFlightEntry);
+      }
+    }
+  }
+
+  /**
+   * Appends the given batch to the log storage. The batch may have been stored by another writer,
+   * so a failure is not thrown to the publishing writer; instead the batch's flow control entry is
+   * released, as it will never be written nor processed, and publishing continues with the next
+   * batch.
+   *
+   * @return true if the batch was appended, false otherwise
+   */
+  private boolean append(
+      final PendingBatch batch, final long firstPosition, final long highestPosition) {
+    try {
+      final var sequencedBatch =
+          new SequencedBatch(
+              clock.millis(),
+              firstPosition,
+              batch.sourcePosition,
+              batch.entries,
+              batch.batchLength);
+      final var appendListener = flowControl.registerEntry(highestPosition, batch.inFlightEntry);
+      logStorage.append(firstPosition, highestPosition, sequencedBatch, appendListener);
+      return true;
+    } catch (final Exception e) {
+      LOG.error(
+          "Failed to append batch with positions {} to {}, dropping it",
+          firstPosition,
+          highestPosition,
+          e);
+      batch.inFlightEntry.cleanup();
+      return false;
+    }
+  }
+
+  private PendingBatch nextPending() {
+    final long position = publishedPosition;
+    final var batch = pendingBatches.get(slot(position));
+    return batch != null && batch.firstPosition == position ? batch : null;
+  }
+
+  private static int slot(final long position) {
+    return (int) (position & PENDING_MASK);
+  }
+
+  private static final class PendingBatch {
+    private final long sourcePosition;
+    private final List<LogAppendEntry> entries;
+    private final int batchSize;
+    private final int batchLength;
+    private final InFlightEntry inFlightEntry;
+
+    // written before the batch is published to the pending ring, which makes it visible
+    private long firstPosition;
+
+    private PendingBatch(
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int batchSize,
+        final int batchLength,
+        final InFlightEntry inFlightEntry) {
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.batchSize = batchSize;
+      this.batchLength = batchLength;
+      this.inFlightEntry = inFlightEntry;
+    }
+  }
+}
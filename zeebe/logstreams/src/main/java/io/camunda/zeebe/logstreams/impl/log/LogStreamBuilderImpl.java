@@ -28,6 +28,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   @Nullable private Limit requestLimit;
   @Nullable private RateLimit writeRateLimit;
   private int inFlightCapacity;
+  private boolean lockFreeSequencer;
   @Nullable private MeterRegistry meterRegistry;
 
   @Override
@@ -84,6 +85,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    this.lockFreeSequencer = lockFreeSequencer;
+    return this;
+  }
+
   @Override
   public LogStream build() {
 
@@ -103,6 +110,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         requestLimit,
         writeRateLimit,
         inFlightCapacity,
+        lockFreeSequencer,
         requireNonNull(meterRegistry, "Must specify a meter registry"));
   }
 }
@@ -36,7 +36,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final int partitionId;
   private final LogStorage logStorage;
   private final FlowControl flowControl;
-  private final Sequencer sequencer;
+  private final WriteSequencer sequencer;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -48,6 +48,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       @Nullable final Limit requestLimit,
       @Nullable final RateLimit writeRateLimit,
       final int inFlightCapacity,
+      final boolean lockFreeSequencer,
       final MeterRegistry meterRegistry) {
     this.logName = logName;
 
@@ -59,14 +60,14 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             requestLimit,
             writeRateLimit,
             inFlightCapacity);
+    final long initialPosition = getWriteBuffersInitialPosition();
+    final var sequencerMetrics = new SequencerMetrics(meterRegistry);
     sequencer =
-        new Sequencer(
-            logStorage,
-            getWriteBuffersInitialPosition(),
-            maxFragmentSize,
-            clock,
-            new SequencerMetrics(meterRegistry),
-            flowControl);
+        lockFreeSequencer
+            ? new LockFreeSequencer(
+                logStorage, initialPosition, maxFragmentSize, clock, sequencerMetrics, flowControl)
+            : new Sequencer(
+                logStorage, initialPosition, maxFragmentSize, clock, sequencerMetrics, flowControl);
     logStorage.addCommitListener(this);
   }
 
@@ -15,11 +15,9 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
-import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.Either;
-import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
@@ -32,7 +30,7 @@ import org.slf4j.LoggerFactory;
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
  */
-final class Sequencer implements LogStreamWriter, Closeable {
+final class Sequencer implements WriteSequencer {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
   private final int maxFragmentSize;
 
@@ -64,11 +62,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
   /** {@inheritDoc} */
   @Override
   public boolean canWriteEvents(final int eventCount, final int batchSize) {
-    final int framedMessageLength =
-        batchSize
-            + eventCount * (DataFrameDescriptor.HEADER_LENGTH + FRAME_ALIGNMENT)
-            + FRAME_ALIGNMENT;
-    return framedMessageLength <= maxFragmentSize;
+    return fitsInFragment(maxFragmentSize, eventCount, batchSize);
   }
 
   /** {@inheritDoc} */
@@ -171,7 +165,8 @@ final class Sequencer implements LogStreamWriter, Closeable {
    * {@link FlowControl#tryAcquire} but still awaiting the lock is rejected once it takes the lock
    * in {@link #tryWrite}. After this returns nothing can be appended until {@link #resumeWrites()}.
    */
-  void pauseWrites() {
+  @Override
+  public void pauseWrites() {
     lock.lock();
     try {
       flowControl.pause();
@@ -181,7 +176,8 @@ final class Sequencer implements LogStreamWriter, Closeable {
   }
 
   /** Resumes write admission after a leadership transfer. */
-  void resumeWrites() {
+  @Override
+  public void resumeWrites() {
     flowControl.resume();
   }
 
@@ -195,7 +191,16 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
-  private static boolean isEntryValid(final LogAppendEntry entry) {
+  static boolean fitsInFragment(
+      final int maxFragmentSize, final int eventCount, final int batchSize) {
+    final int framedMessageLength =
+        batchSize
+            + eventCount * (DataFrameDescriptor.HEADER_LENGTH + FRAME_ALIGNMENT)
+            + FRAME_ALIGNMENT;
+    return framedMessageLength <= maxFragmentSize;
+  }
+
+  static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_LENGTH_BYTES;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_SIZE;
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.CLAIM_CONTENTION;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.LOCK_HOLD_TIME;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.LOCK_WAIT_TIME;
 
@@ -17,6 +18,7 @@ import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.camunda.zeebe.util.micrometer.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Meter.Type;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -28,6 +30,7 @@ final class SequencerMetrics {
   private final MeterRegistry meterRegistry;
   private final DistributionSummary batchSize;
   private final DistributionSummary batchLengthBytes;
+  private final Counter claimContention;
   private final ConcurrentHashMap<FlowControlContext, Timer> lockWaitTimers =
       new ConcurrentHashMap<>();
   private final ConcurrentHashMap<FlowControlContext, Timer> lockHoldTimers =
@@ -45,6 +48,10 @@ final class SequencerMetrics {
             .description(BATCH_LENGTH_BYTES.getDescription())
             .serviceLevelObjectives(BATCH_LENGTH_BYTES.getDistributionSLOs())
             .register(meterRegistry);
+    claimContention =
+        Counter.builder(CLAIM_CONTENTION.getName())
+            .description(CLAIM_CONTENTION.getDescription())
+            .register(meterRegistry);
   }
 
   void observeBatchSize(final int size) {
@@ -56,6 +63,12 @@ final class SequencerMetrics {
     batchLengthBytes.record(batchLengthKiloBytes);
   }
 
+  void observeClaimContention(final int retries) {
+    if (retries > 0) {
+      claimContention.increment(retries);
+    }
+  }
+
   void observeLockWaitTime(final WriteContext waiter, final long durationNanos) {
     final var timer =
         lockWaitTimers.computeIfAbsent(
@@ -199,6 +212,33 @@ final class SequencerMetrics {
         return new KeyName[] {LockKeyNames.WRITER};
       }
 
+      @Override
+      public KeyName[] getAdditionalKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /**
+     * Number of times a writer of the lock-free sequencer had to retry claiming positions, because
+     * another writer claimed positions concurrently
+     */
+    CLAIM_CONTENTION {
+      @Override
+      public String getDescription() {
+        return "Number of times a writer of the lock-free sequencer had to retry claiming positions,"
+            + " because another writer claimed positions concurrently";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.sequencer.claim.contention";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.COUNTER;
+      }
+
       @Override
       public KeyName[] getAdditionalKeyNames() {
         return PartitionKeyNames.values();
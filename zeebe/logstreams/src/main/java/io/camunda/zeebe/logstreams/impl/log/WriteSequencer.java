@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import java.io.Closeable;
+
+/**
+ * A {@link LogStreamWriter} which assigns positions to concurrently written batches and appends
+ * them to the log storage in position order. See {@link Sequencer} and {@link LockFreeSequencer}.
+ */
+interface WriteSequencer extends LogStreamWriter, Closeable {
+
+  /**
+   * Freezes write admission and drains in-flight writers. After this returns, nothing can be
+   * appended until {@link #resumeWrites()} is called.
+   */
+  void pauseWrites();
+
+  /** Resumes write admission after {@link #pauseWrites()}. */
+  void resumeWrites();
+
+  @Override
+  void close();
+}
@@ -74,6 +74,16 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry);
 
+  /**
+   * Selects the sequencer which assigns positions to concurrent writes. By default, writes are
+   * serialized through a lock; if enabled, writers instead claim positions without locking and
+   * their batches are appended in position order by whichever writer finds them ready.
+   *
+   * @param lockFreeSequencer true to use the lock-free sequencer, false to use the locking one
+   * @return this builder
+   */
+  LogStreamBuilder withLockFreeSequencer(boolean lockFreeSequencer);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
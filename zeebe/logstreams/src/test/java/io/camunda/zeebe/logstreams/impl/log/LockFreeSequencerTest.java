@@ -0,0 +1,318 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsImpl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.Mockito;
+
+@SuppressWarnings("resource")
+@Execution(ExecutionMode.CONCURRENT)
+final class LockFreeSequencerTest {
+
+  @AutoClose ExecutorService executor;
+
+  @Test
+  void writingMultipleEntriesIncreasesPositions() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, new SimpleMeterRegistry());
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    final var first = sequencer.tryWrite(WriteContext.internal(), entries);
+    final var second = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(first).isRight().right().isEqualTo(3L);
+    EitherAssert.assertThat(second).isRight().right().isEqualTo(4L);
+    final var inOrder = Mockito.inOrder(logStorage);
+    inOrder.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
+    inOrder.verify(logStorage).append(eq(4L), eq(4L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndMultipleEntries() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer = newSequencer(logStorage, new SimpleMeterRegistry());
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, 100_000, entries, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and every batch was appended
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(numberOfWriters * 100_000L * 3);
+  }
+
+  @Test
+  void shouldNotBlockWriterWhileAnotherBatchIsAppended() throws Exception {
+    // given
+    final var blockingLatch = new CountDownLatch(1);
+    final var enteredAppendLatch = new CountDownLatch(1);
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doAnswer(
+            invocation -> {
+              enteredAppendLatch.countDown();
+              blockingLatch.await();
+              return null;
+            })
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    final var sequencer = newSequencer(logStorage, new SimpleMeterRegistry());
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    executor.submit(() -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    enteredAppendLatch.await();
+
+    // when
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- the second batch is accepted, and appended by the first writer once it is unblocked
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(2L);
+    Mockito.verify(logStorage, Mockito.never())
+        .append(eq(2L), eq(2L), any(BufferWriter.class), any());
+    blockingLatch.countDown();
+    Mockito.verify(logStorage, Mockito.timeout(5_000))
+        .append(eq(2L), eq(2L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void shouldRejectWritesWhilePausedForTransfer() {
+    // given
+    final var sequencer = newSequencer(Mockito.mock(LogStorage.class), new SimpleMeterRegistry());
+
+    // when
+    sequencer.pauseWrites();
+
+    // then
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isLeft()
+        .left()
+        .isEqualTo(WriteFailure.PARTITION_PAUSED);
+
+    sequencer.resumeWrites();
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isRight();
+  }
+
+  @Test
+  void shouldDrainPendingBatchesBeforePauseCompletes() throws Exception {
+    // given
+    final var blockingLatch = new CountDownLatch(1);
+    final var enteredAppendLatch = new CountDownLatch(1);
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doAnswer(
+            invocation -> {
+              enteredAppendLatch.countDown();
+              blockingLatch.await();
+              return null;
+            })
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    final var sequencer = newSequencer(logStorage, new SimpleMeterRegistry());
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    executor.submit(() -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    enteredAppendLatch.await();
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // when
+    final var pauseReturned = new AtomicBoolean(false);
+    final var pauseThread =
+        new Thread(
+            () -> {
+              sequencer.pauseWrites();
+              pauseReturned.set(true);
+            });
+    pauseThread.start();
+    Awaitility.await("pause thread waits for the pending batches to be appended")
+        .during(Duration.ofMillis(100))
+        .atMost(Duration.ofSeconds(5))
+        .untilFalse(pauseReturned);
+
+    // then
+    blockingLatch.countDown();
+    Awaitility.await("pause completes after the pending batches are appended")
+        .atMost(Duration.ofSeconds(5))
+        .untilTrue(pauseReturned);
+    Mockito.verify(logStorage).append(eq(2L), eq(2L), any(BufferWriter.class), any());
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isLeft()
+        .left()
+        .isEqualTo(WriteFailure.PARTITION_PAUSED);
+    pauseThread.join();
+  }
+
+  @Test
+  void shouldReleaseFlowControlAndKeepPublishingWhenAppendFails() {
+    // given -- only a single user command may be in flight
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    final var flowControl =
+        new FlowControl(
+            new LogStreamMetricsImpl(new SimpleMeterRegistry()),
+            FixedLimit.of(1),
+            RateLimit.disabled());
+    final var sequencer = newSequencer(logStorage, new SimpleMeterRegistry(), flowControl);
+    final var context = WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+
+    // when
+    final var failed = sequencer.tryWrite(context, TestEntry.ofDefaults());
+    final var next = sequencer.tryWrite(context, TestEntry.ofDefaults());
+
+    // then -- the failure is not thrown to the writer, and the failed batch's request is released
+    EitherAssert.assertThat(failed).isRight().right().isEqualTo(1L);
+    EitherAssert.assertThat(next).isRight().right().isEqualTo(2L);
+    Mockito.verify(logStorage).append(eq(2L), eq(2L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void shouldRegisterClaimContentionMetric() {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var sequencer = newSequencer(Mockito.mock(LogStorage.class), meterRegistry);
+
+    // when -- a single writer never contends
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    final var counter = meterRegistry.find("zeebe.sequencer.claim.contention").counter();
+    Assertions.assertThat(counter).isNotNull();
+    Assertions.assertThat(counter.count()).isZero();
+    Assertions.assertThat(meterRegistry.find("zeebe.sequencer.batch.size").summary().count())
+        .isOne();
+  }
+
+  private static LockFreeSequencer newSequencer(
+      final LogStorage logStorage, final MeterRegistry meterRegistry) {
+    return newSequencer(
+        logStorage,
+        meterRegistry,
+        new FlowControl(new LogStreamMetricsImpl(new SimpleMeterRegistry())));
+  }
+
+  private static LockFreeSequencer newSequencer(
+      final LogStorage logStorage,
+      final MeterRegistry meterRegistry,
+      final FlowControl flowControl) {
+    return new LockFreeSequencer(
+        logStorage,
+        1L,
+        16,
+        InstantSource.system(),
+        new SequencerMetrics(meterRegistry),
+        flowControl);
+  }
+
+  private Thread newWriterThread(
+      final LockFreeSequencer sequencer,
+      final long batchesToWrite,
+      final List<LogAppendEntry> batchToWrite,
+      final Consumer<Throwable> failedAssertionHandler) {
+    final var thread =
+        new Thread(
+            () -> {
+              var batchesWritten = 0L;
+              var lastWrittenPosition = 0L;
+              while (batchesWritten < batchesToWrite) {
+                final var result = sequencer.tryWrite(WriteContext.internal(), batchToWrite);
+                if (result.isRight()) {
+                  Assertions.assertThat(result.get()).isGreaterThan(lastWrittenPosition);
+                  lastWrittenPosition = result.get();
+                  batchesWritten += 1;
+                } else {
+                  LockSupport.parkNanos(1_000_000);
+                }
+              }
+            });
+    thread.setUncaughtExceptionHandler((t, e) -> failedAssertionHandler.accept(e));
+
+    return thread;
+  }
+
+  private static final class VerifyingLogStorage implements LogStorage {
+
+    // only appended to by a single publisher at a time, which hands over through a volatile write
+    private volatile long position = -1;
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (position != -1) {
+        Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
+      }
+      position = highestPosition;
+      listener.onCommit(position, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
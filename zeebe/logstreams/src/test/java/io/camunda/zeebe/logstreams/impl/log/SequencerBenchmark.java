@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsImpl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the multi-threaded write throughput of the locking {@link Sequencer} with the {@link
+ * LockFreeSequencer}. The log storage serializes each batch, as the real storage would, but does
+ * not persist it. Use {@code -t} to vary the number of concurrent writers.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+  @Param({"LOCKING", "LOCK_FREE"})
+  public SequencerType type;
+
+  @Param({"1", "10"})
+  public int batchSize;
+
+  private WriteSequencer sequencer;
+  private List<LogAppendEntry> batch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    sequencer = type.create(new SerializingLogStorage());
+
+    batch = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(TestEntry.ofDefaults());
+    }
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> tryWrite() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  public enum SequencerType {
+    LOCKING,
+    LOCK_FREE;
+
+    private WriteSequencer create(final LogStorage logStorage) {
+      final var sequencerMetrics = new SequencerMetrics(new SimpleMeterRegistry());
+      final var flowControl = new FlowControl(new LogStreamMetricsImpl(new SimpleMeterRegistry()));
+      final int maxFragmentSize = 4 * 1024 * 1024;
+      return switch (this) {
+        case LOCKING ->
+            new Sequencer(
+                logStorage,
+                1,
+                maxFragmentSize,
+                InstantSource.system(),
+                sequencerMetrics,
+                flowControl);
+        case LOCK_FREE ->
+            new LockFreeSequencer(
+                logStorage,
+                1,
+                maxFragmentSize,
+                InstantSource.system(),
+                sequencerMetrics,
+                flowControl);
+      };
+    }
+  }
+
+  private static final class SerializingLogStorage implements LogStorage {
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4 * 1024 * 1024]);
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      bufferWriter.write(buffer, 0);
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
@@ -35,6 +35,7 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
   protected final ActorControl actor = new ActorControl(this);
   private final Map<String, String> context;
   private final String name;
+  private final @Nullable PartitionId partitionId;
 
   /**
    * Creates a new actor with name and context derived from the given parameters.
@@ -54,6 +55,7 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     final var actorName = Objects.requireNonNullElse(name, getClass().getSimpleName());
     this.name = partitionId != null ? buildActorName(actorName, partitionId.number()) : actorName;
     context = buildContext(this.name, partitionId, additionalContext);
+    this.partitionId = partitionId;
   }
 
   /** Creates an actor, named by its class, without a partition or additional context. */
@@ -104,6 +106,14 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     return name;
   }
 
+  /**
+   * @return the partition the actor belongs to, as provided to the constructor, or {@code null} if
+   *     it does not belong to a partition
+   */
+  public final @Nullable PartitionId getPartitionId() {
+    return partitionId;
+  }
+
   /**
    * @return a map that defines the context where the actor is run, as provided to the constructor.
    */
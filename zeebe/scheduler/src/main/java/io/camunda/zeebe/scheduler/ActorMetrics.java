@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.IntSupplier;
 
 public interface ActorMetrics {
 
@@ -18,6 +19,13 @@ public interface ActorMetrics {
 
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
+  /**
+   * @param threadName the name of the actor thread
+   * @param queueDepth supplies the number of tasks queued for the thread
+   * @return the metrics of the given actor thread
+   */
+  ActorThreadMetrics forThread(final String threadName, final IntSupplier queueDepth);
+
   static ActorMetrics ofNullable(final MeterRegistry registry) {
     if (registry == null) {
       return disabled();
@@ -41,9 +49,29 @@ public interface ActorMetrics {
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
+
+      @Override
+      public ActorThreadMetrics forThread(final String threadName, final IntSupplier queueDepth) {
+        return ActorThreadMetrics.noop();
+      }
     };
   }
 
+  interface ActorThreadMetrics {
+    ActorThreadMetrics NOOP = crossGroup -> {};
+
+    /**
+     * Counts a task stolen by the thread from the queue of another thread.
+     *
+     * @param crossGroup true if the victim belongs to another affinity group
+     */
+    void countSteal(final boolean crossGroup);
+
+    static ActorThreadMetrics noop() {
+      return NOOP;
+    }
+  }
+
   interface ActorMetricsScoped extends CloseableSilently {
     ActorMetricsScoped NOOP =
         new ActorMetricsScoped() {
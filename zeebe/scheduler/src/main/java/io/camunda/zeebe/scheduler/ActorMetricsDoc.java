@@ -119,6 +119,50 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** The approximate number of actor tasks queued for an actor thread */
+  THREAD_QUEUE_DEPTH {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.queue.depth";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The approximate number of actor tasks queued for an actor thread";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME};
+    }
+  },
+  /** Number of actor tasks an actor thread stole from the queues of other threads */
+  THREAD_STEAL_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.steals";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of actor tasks an actor thread stole from the queues of other threads";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME, ActorMetricsKeyName.CROSS_GROUP};
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +179,20 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the actor thread */
+    THREAD_NAME {
+      @Override
+      public String asString() {
+        return "threadName";
+      }
+    },
+    /** Whether the task was stolen from a thread of another affinity group */
+    CROSS_GROUP {
+      @Override
+      public String asString() {
+        return "crossGroup";
+      }
     }
   }
 }
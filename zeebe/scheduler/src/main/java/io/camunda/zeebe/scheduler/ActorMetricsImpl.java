@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 final class ActorMetricsImpl implements ActorMetrics {
   private final Map<SubscriptionType, Timer> schedulingLatency =
@@ -85,6 +86,25 @@ final class ActorMetricsImpl implements ActorMetrics {
     schedulingLatency.get(subscriptionType).record(waitTimeNs, TimeUnit.NANOSECONDS);
   }
 
+  @Override
+  public ActorThreadMetrics forThread(final String threadName, final IntSupplier queueDepth) {
+    Gauge.builder(THREAD_QUEUE_DEPTH.getName(), queueDepth::getAsInt)
+        .description(THREAD_QUEUE_DEPTH.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .register(registry);
+    final var localSteals = createStealCount(threadName, false);
+    final var crossGroupSteals = createStealCount(threadName, true);
+    return crossGroup -> (crossGroup ? crossGroupSteals : localSteals).increment();
+  }
+
+  private Counter createStealCount(final String threadName, final boolean crossGroup) {
+    return Counter.builder(THREAD_STEAL_COUNT.getName())
+        .description(THREAD_STEAL_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .tag(ActorMetricsKeyName.CROSS_GROUP.asString(), Boolean.toString(crossGroup))
+        .register(registry);
+  }
+
   record ActorMetricsScopedEnabled(
       MeterRegistry registry,
       Timer executionLatency,
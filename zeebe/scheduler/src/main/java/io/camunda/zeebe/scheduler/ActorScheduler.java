@@ -62,13 +62,28 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     final ActorTask task = actor.actor.task;
     task.setActorMetrics(metrics.scoped(actor.getName()));
+    task.setAffinityKey(affinityKey(actor, schedulingHints));
 
-    return switch (schedulingHints) {
+    return switch (schedulingHints.kind()) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
       case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
     };
   }
 
+  /**
+   * Actors without an explicit affinity are grouped by partition, so that e.g. the stream
+   * processor, log storage appender and snapshot director of a partition preferably run on the same
+   * threads.
+   */
+  private static int affinityKey(final Actor actor, final SchedulingHints schedulingHints) {
+    if (schedulingHints.hasAffinity()) {
+      return schedulingHints.affinityKey();
+    }
+
+    final var partitionId = actor.getPartitionId();
+    return partitionId != null ? partitionId.number() : SchedulingHints.NO_AFFINITY;
+  }
+
   private void checkRunningState() {
     if (state.get() != SchedulerState.RUNNING) {
       throw new IllegalStateException("Actor scheduler is not running");
@@ -128,8 +143,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    private int cpuBoundAffinityGroupCount = 1;
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private boolean ioBoundVirtualThreads = false;
     private ActorThreadGroup ioBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -193,6 +210,27 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getCpuBoundAffinityGroupCount() {
+      return cpuBoundAffinityGroupCount;
+    }
+
+    /**
+     * Splits the CPU bound threads into the given number of affinity groups. Actors with an
+     * affinity key (see {@link SchedulingHints#affinityKey()}) are always scheduled on a thread of
+     * the same group, and idle threads only steal work from another group if that group is
+     * backlogged. This keeps the state of a partition in the caches of fewer cores. Defaults to 1,
+     * i.e. all threads form a single group. The count is capped at the number of threads.
+     */
+    public ActorSchedulerBuilder setCpuBoundAffinityGroupCount(final int affinityGroupCount) {
+      if (affinityGroupCount < 1) {
+        throw new IllegalArgumentException(
+            "Expected affinity group count to be at least 1, but was %d"
+                .formatted(affinityGroupCount));
+      }
+      cpuBoundAffinityGroupCount = affinityGroupCount;
+      return this;
+    }
+
     public int getIoBoundActorThreadCount() {
       return ioBoundThreadsCount;
     }
@@ -202,6 +240,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isIoBoundVirtualThreads() {
+      return ioBoundVirtualThreads;
+    }
+
+    /**
+     * If enabled, every I/O bound actor runs on its own virtual thread (see {@link
+     * VirtualIoThreadGroup}), and the I/O bound thread count is ignored. Defaults to false.
+     */
+    public ActorSchedulerBuilder setIoBoundVirtualThreads(final boolean ioBoundVirtualThreads) {
+      this.ioBoundVirtualThreads = ioBoundVirtualThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -241,7 +292,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            ioBoundVirtualThreads ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
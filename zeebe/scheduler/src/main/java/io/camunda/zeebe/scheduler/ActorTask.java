@@ -50,6 +50,7 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int affinityKey = SchedulingHints.NO_AFFINITY;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -538,6 +539,14 @@ public class ActorTask {
     return fastLaneJobs.size() + submittedJobs.size();
   }
 
+  int getAffinityKey() {
+    return affinityKey;
+  }
+
+  void setAffinityKey(final int affinityKey) {
+    this.affinityKey = affinityKey;
+  }
+
   ActorMetricsScoped getActorMetrics() {
     return metrics;
   }
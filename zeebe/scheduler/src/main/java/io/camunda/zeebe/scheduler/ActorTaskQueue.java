@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.UnsafeApi;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 
@@ -17,6 +18,7 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
   @SuppressWarnings("unused")
   protected long p31, p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43, p44, p45;
   private final ActorTaskQueueNode empty = new ActorTaskQueueNode();
+  private final AtomicInteger size = new AtomicInteger();
 
   public ActorTaskQueue() {
     headOrdered(empty);
@@ -32,6 +34,7 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     final ActorTaskQueueNode previousTail = swapTail(tail);
     previousTail.nextOrdered(tail);
     tail.prevOrdered(previousTail);
+    size.incrementAndGet();
   }
 
   /**
@@ -92,6 +95,7 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
       }
 
       headOrdered(next);
+      size.decrementAndGet();
     }
 
     return value;
@@ -106,6 +110,14 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return head == tail;
   }
 
+  /**
+   * @return the number of appended but not yet popped nodes; this includes nodes whose task was
+   *     already stolen, since stealing does not remove the node
+   */
+  public int approximateSize() {
+    return size.get();
+  }
+
   private void headOrdered(final ActorTaskQueueNode head) {
     UnsafeApi.putReferenceRelease(this, HEAD_OFFSET, head);
   }
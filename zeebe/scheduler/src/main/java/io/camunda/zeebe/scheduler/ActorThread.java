@@ -17,10 +17,12 @@ import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+import org.agrona.concurrent.NoOpIdleStrategy;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
 
@@ -29,6 +31,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
 
+  /** The actor thread whose loop runs on the current virtual thread, see {@link #startVirtual()} */
+  private static final ThreadLocal<ActorThread> VIRTUAL_ACTOR_THREAD = new ThreadLocal<>();
+
   static {
     try {
       STATE_HANDLE =
@@ -51,6 +56,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private volatile Thread runner = this;
 
   public ActorThread(
       final String name,
@@ -165,11 +171,15 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * Yes, we could work with a thread-local. Except thread locals are slow as f***
      * since they are kept in a map datastructure on the current thread.
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
-     * itself. If we can cast down, the current thread is the current ActorTaskRunner.
+     * itself. If we can cast down, the current thread is the current ActorTaskRunner. Only actor
+     * threads started with startVirtual need the thread-local.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    return thread.isVirtual() ? VIRTUAL_ACTOR_THREAD.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -216,6 +226,31 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Runs this actor thread's loop on a new virtual thread, instead of starting this (platform)
+   * thread. Blocking calls then only park the virtual thread, not its carrier.
+   *
+   * <p>Instead of the given idle strategy, the virtual thread parks while idle until {@link
+   * #hintWorkAvailable()} is called or the next timer is due, so idle actors don't keep waking up
+   * to poll for work.
+   */
+  public void startVirtual() {
+    if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
+      idleStrategy = new VirtualThreadIdleStrategy();
+      runner =
+          Thread.ofVirtual()
+              .name(getName())
+              .unstarted(
+                  () -> {
+                    VIRTUAL_ACTOR_THREAD.set(this);
+                    run();
+                  });
+      runner.start();
+    } else {
+      throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
+    }
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -236,6 +271,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   public CompletableFuture<Void> close() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.RUNNING, ActorThreadState.TERMINATING)) {
+      // an idle thread may be parked, so wake it up to notice the state change right away
+      hintWorkAvailable();
       return terminationFuture;
     } else {
       throw new IllegalStateException("Cannot stop runner, not in state 'RUNNING'.");
@@ -293,7 +330,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(runner);
     }
 
     protected void onIdle() {
@@ -302,6 +339,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
         isIdle = true;
       }
 
+      idle();
+    }
+
+    /** Called whenever the thread has no work, after it became idle. */
+    protected void idle() {
       idleStrategy.idle();
     }
 
@@ -310,4 +352,31 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       isIdle = false;
     }
   }
+
+  /**
+   * Parks the virtual thread of a {@link #startVirtual() virtual} actor thread while it is idle,
+   * until {@link #hintWorkAvailable()} unparks it or the next timer is due. A hint which arrives
+   * before the thread parks is not lost, since it leaves the permit of the thread available.
+   */
+  private final class VirtualThreadIdleStrategy extends ActorTaskRunnerIdleStrategy {
+
+    /**
+     * Bounds the park time, e.g. for clocks which are moved forward by tests, and for callbacks
+     * which are submitted without a hint, like the cancellation of a timer from another thread.
+     */
+    private static final long MAX_PARK_PERIOD_MS = 1_000;
+
+    private VirtualThreadIdleStrategy() {
+      super(NoOpIdleStrategy.INSTANCE);
+    }
+
+    @Override
+    protected void idle() {
+      final long parkPeriodMs =
+          Math.min(timerJobQueue.nextDeadline() - clock.getTimeMillis(), MAX_PARK_PERIOD_MS);
+      if (parkPeriodMs > 0) {
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(parkPeriodMs));
+      }
+    }
+  }
 }
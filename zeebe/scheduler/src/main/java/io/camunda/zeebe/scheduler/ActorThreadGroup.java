@@ -12,7 +12,6 @@ import static io.camunda.zeebe.util.Unit.unit;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -30,11 +29,41 @@ public abstract class ActorThreadGroup {
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, 1, builder, schedulerName);
+  }
+
+  /**
+   * For groups which create their threads on demand, and must therefore override {@link
+   * #submit(ActorTask)}, {@link #start()} and {@link #closeAsync()}.
+   */
+  protected ActorThreadGroup(final String groupName, final String schedulerName) {
+    this.groupName = groupName;
+    this.schedulerName = schedulerName;
+    numOfThreads = 0;
+    threads = new ActorThread[0];
+    tasks = null;
+  }
+
+  /**
+   * @param affinityGroupCount the number of groups the threads are split into, see {@link
+   *     ActorSchedulerBuilder#setCpuBoundAffinityGroupCount(int)}
+   */
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int affinityGroupCount,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks =
+        new WorkStealingGroup(
+            groupName,
+            numOfThreads,
+            Math.min(affinityGroupCount, numOfThreads),
+            builder.getActorMetrics());
 
     threads = new ActorThread[numOfThreads];
 
@@ -59,10 +88,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int affinityKey = actorTask.getAffinityKey();
+    if (current != null
+        && current.getActorThreadGroup() == this
+        && tasks.isInAffinityGroup(current.getRunnerId(), affinityKey)) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId = tasks.chooseThread(affinityKey);
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
@@ -7,15 +7,54 @@
  */
 package io.camunda.zeebe.scheduler;
 
-public enum SchedulingHints {
-  CPU_BOUND,
-  IO_BOUND;
+import java.util.Objects;
+
+/**
+ * Hints to the scheduler about how to best schedule an actor.
+ *
+ * @param kind whether the actor is CPU or I/O bound
+ * @param affinityKey actors with the same affinity key, e.g. the actors of the same partition, are
+ *     preferably run on the same group of threads, see {@link
+ *     ActorScheduler.ActorSchedulerBuilder#setCpuBoundAffinityGroupCount(int)}; {@link
+ *     #NO_AFFINITY} if the actor has no affinity, in which case the scheduler uses the actor's
+ *     partition if it has one
+ */
+public record SchedulingHints(Kind kind, int affinityKey) {
+  public static final int NO_AFFINITY = -1;
+
+  public static final SchedulingHints CPU_BOUND = new SchedulingHints(Kind.CPU_BOUND, NO_AFFINITY);
+  public static final SchedulingHints IO_BOUND = new SchedulingHints(Kind.IO_BOUND, NO_AFFINITY);
+
+  public SchedulingHints {
+    Objects.requireNonNull(kind, "must specify whether the actor is CPU or I/O bound");
+    if (affinityKey < NO_AFFINITY) {
+      throw new IllegalArgumentException(
+          "Expected affinity key to be at least 0, or %d for no affinity, but was %d"
+              .formatted(NO_AFFINITY, affinityKey));
+    }
+  }
 
   public static SchedulingHints cpuBound() {
-    return SchedulingHints.CPU_BOUND;
+    return CPU_BOUND;
   }
 
   public static SchedulingHints ioBound() {
-    return SchedulingHints.IO_BOUND;
+    return IO_BOUND;
+  }
+
+  /**
+   * @return the same hints, with the given affinity key, e.g. a partition number
+   */
+  public SchedulingHints withAffinity(final int affinityKey) {
+    return new SchedulingHints(kind, affinityKey);
+  }
+
+  public boolean hasAffinity() {
+    return affinityKey != NO_AFFINITY;
+  }
+
+  public enum Kind {
+    CPU_BOUND,
+    IO_BOUND
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorTask.ActorLifecyclePhase;
+import io.camunda.zeebe.util.Loggers;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread group for the I/O bound tasks which runs every actor on its own virtual thread, instead of
+ * sharing a fixed number of platform threads. A job blocking on I/O then only parks the virtual
+ * thread of its actor, so slow calls of one actor (e.g. a backup upload) no longer delay other I/O
+ * bound actors.
+ *
+ * <p>Each actor gets a dedicated {@link ActorThread} whose loop runs on a virtual thread, so an
+ * actor's jobs are still executed one at a time, and timers and job recycling work as usual. The
+ * runner is created when the actor is submitted, and terminates once the actor is closed or failed.
+ * While its actor has no work, the runner parks until the actor is scheduled again or its next
+ * timer is due.
+ *
+ * <p>On Java 21, a virtual thread is pinned to its carrier thread while it blocks in native code or
+ * inside a {@code synchronized} block. A blocking JNI call, e.g. creating a RocksDB checkpoint, or
+ * blocking I/O while holding a monitor therefore still occupies one of the carrier threads, whose
+ * number defaults to the number of available processors. Such calls don't benefit from this group,
+ * and enough of them at once can delay all virtual actors.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+
+  private final ActorSchedulerBuilder builder;
+  private final Map<ActorTask, ActorRunner> runners = new ConcurrentHashMap<>();
+  private final AtomicInteger nextRunnerId = new AtomicInteger();
+  private volatile boolean closed;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super("zb-fs-workers", builder.getSchedulerName());
+    this.builder = builder;
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    if (closed) {
+      return;
+    }
+
+    final var runner =
+        runners.compute(
+            actorTask,
+            (task, existing) -> {
+              final var taskRunner = existing != null ? existing : new ActorRunner(task);
+              task.schedulingState.set(QUEUED);
+              taskRunner.queue.append(task);
+              return taskRunner;
+            });
+
+    if (runner.started.compareAndSet(false, true)) {
+      runner.thread.startVirtual();
+    } else {
+      runner.thread.hintWorkAvailable();
+    }
+  }
+
+  @Override
+  public void start() {
+    // runners are started when their actor is submitted
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
+    closed = true;
+
+    final var terminationFutures = new ArrayList<CompletableFuture<Void>>();
+    for (final var runner : runners.values()) {
+      try {
+        terminationFutures.add(runner.thread.close());
+      } catch (final IllegalStateException e) {
+        // the runner was not started yet, or terminates already because its actor is closed
+      }
+    }
+
+    return CompletableFuture.allOf(terminationFutures.toArray(CompletableFuture[]::new))
+        .thenAccept(
+            ok ->
+                Loggers.ACTOR_LOGGER.debug(
+                    "Closing actor thread ground '{}': closed successfully", groupName));
+  }
+
+  /**
+   * Removes the runner of the given task if its actor is closed and no job is queued, such that a
+   * later submission of the same actor starts a new runner.
+   *
+   * @return true if the runner was removed and must terminate
+   */
+  private boolean retire(final ActorRunner runner) {
+    final var phase = runner.task.getLifecyclePhase();
+    if (phase != ActorLifecyclePhase.CLOSED && phase != ActorLifecyclePhase.FAILED) {
+      return false;
+    }
+
+    final var retired = new AtomicBoolean();
+    runners.computeIfPresent(
+        runner.task,
+        (task, existing) -> {
+          if (existing == runner && runner.queue.isEmpty()) {
+            retired.set(true);
+            return null;
+          }
+          return existing;
+        });
+    return retired.get();
+  }
+
+  private final class ActorRunner implements TaskScheduler {
+    private final ActorTask task;
+    private final ActorTaskQueue queue = new ActorTaskQueue();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ActorThread thread;
+
+    private ActorRunner(final ActorTask task) {
+      this.task = task;
+      final int runnerId = nextRunnerId.getAndIncrement();
+      thread =
+          builder
+              .getActorThreadFactory()
+              .newThread(
+                  String.format("%s-virtual-%d", groupName, runnerId),
+                  runnerId,
+                  VirtualIoThreadGroup.this,
+                  this,
+                  builder.getActorClock(),
+                  builder.getActorTimerQueue(),
+                  builder.getActorMetrics(),
+                  builder.getIdleStrategySupplier().get());
+    }
+
+    @Override
+    public ActorTask getNextTask() {
+      final var nextTask = queue.pop();
+      if (nextTask == null && retire(this)) {
+        thread.close();
+      }
+      return nextTask;
+    }
+  }
+}
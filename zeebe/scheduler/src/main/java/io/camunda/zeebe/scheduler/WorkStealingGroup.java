@@ -9,18 +9,51 @@ package io.camunda.zeebe.scheduler;
 
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadMetrics;
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread. The threads can be split into contiguous
+ * affinity groups: tasks with an affinity key are only submitted to threads of their group, and a
+ * thread only steals from another group if one of its queues is backlogged.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
+  /**
+   * A queue of another affinity group must hold at least this many nodes before its tasks are
+   * stolen. A single queued task will usually be picked up by its own thread soon, and moving it to
+   * another group would defeat the affinity.
+   */
+  static final int CROSS_GROUP_STEAL_THRESHOLD = 2;
+
   private final int numOfThreads;
+  private final int affinityGroupCount;
   private final ActorTaskQueue[] taskQueues;
+  private final ActorThreadMetrics[] threadMetrics;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this("", numOfThreads, 1, ActorMetrics.disabled());
+  }
+
+  public WorkStealingGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int affinityGroupCount,
+      final ActorMetrics metrics) {
+    if (affinityGroupCount < 1 || affinityGroupCount > numOfThreads) {
+      throw new IllegalArgumentException(
+          "Expected affinity group count to be between 1 and %d, but was %d"
+              .formatted(numOfThreads, affinityGroupCount));
+    }
+
     this.numOfThreads = numOfThreads;
+    this.affinityGroupCount = affinityGroupCount;
     taskQueues = new ActorTaskQueue[numOfThreads];
+    threadMetrics = new ActorThreadMetrics[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
-      taskQueues[i] = new ActorTaskQueue();
+      final var queue = new ActorTaskQueue();
+      taskQueues[i] = queue;
+      threadMetrics[i] =
+          metrics.forThread(String.format("%s-%d", groupName, i), queue::approximateSize);
     }
   }
 
@@ -35,6 +68,28 @@ public final class WorkStealingGroup implements TaskScheduler {
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * @return true if a task with the given affinity key may be submitted to the given thread
+   */
+  public boolean isInAffinityGroup(final int threadId, final int affinityKey) {
+    return affinityKey == SchedulingHints.NO_AFFINITY
+        || affinityGroupCount == 1
+        || groupOf(threadId) == affinityKey % affinityGroupCount;
+  }
+
+  /**
+   * @return a random thread of the affinity group of the given key, or any thread if the key is
+   *     {@link SchedulingHints#NO_AFFINITY}
+   */
+  public int chooseThread(final int affinityKey) {
+    if (affinityKey == SchedulingHints.NO_AFFINITY || affinityGroupCount == 1) {
+      return ThreadLocalRandom.current().nextInt(numOfThreads);
+    }
+
+    final int group = affinityKey % affinityGroupCount;
+    return ThreadLocalRandom.current().nextInt(groupStart(group), groupStart(group + 1));
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -43,23 +98,47 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int runnerId = currentThread.getRunnerId();
+    ActorTask nextTask = taskQueues[runnerId].pop();
 
     if (nextTask == null) {
-      nextTask = trySteal(currentThread);
+      final int group = groupOf(runnerId);
+      nextTask = trySteal(runnerId, groupStart(group), groupStart(group + 1), false);
+      if (nextTask != null) {
+        threadMetrics[runnerId].countSteal(false);
+      } else if (affinityGroupCount > 1) {
+        nextTask = trySteal(runnerId, 0, numOfThreads, true);
+        if (nextTask != null) {
+          threadMetrics[runnerId].countSteal(true);
+        }
+      }
     }
 
     return nextTask;
   }
 
+  private int groupOf(final int threadId) {
+    // inverse of groupStart: the largest group whose first thread is at most threadId
+    return ((threadId + 1) * affinityGroupCount - 1) / numOfThreads;
+  }
+
+  private int groupStart(final int group) {
+    return group * numOfThreads / affinityGroupCount;
+  }
+
   /**
    * Work stealing: when this runner (aka. the "thief") has no more tasks to run, it attempts to
    * take ("steal") a task from another runner (aka. the "victim").
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>The victims are the runners in {@code [from, to)}. When stealing across affinity groups,
+   * runners of the thief's own group are skipped, and only backlogged victims are considered, see
+   * {@link #CROSS_GROUP_STEAL_THRESHOLD}.
    */
-  private ActorTask trySteal(final ActorThread currentThread) {
+  private ActorTask trySteal(
+      final int thiefId, final int from, final int to, final boolean crossGroup) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,12 +154,17 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int victims = to - from;
+    final int offset = ThreadLocalRandom.current().nextInt(victims);
+    final int thiefGroup = groupOf(thiefId);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + victims; i++) {
+      final int runnerId = from + i % victims;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != thiefId
+          && (!crossGroup
+              || (groupOf(runnerId) != thiefGroup
+                  && taskQueues[runnerId].approximateSize() >= CROSS_GROUP_STEAL_THRESHOLD))) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
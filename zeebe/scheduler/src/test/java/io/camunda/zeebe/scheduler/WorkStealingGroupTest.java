@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.cluster.PartitionId;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  @Test
+  void shouldChooseThreadOfAffinityGroup() {
+    // given - threads 0-1 form group 0, threads 2-4 form group 1
+    final var group = new WorkStealingGroup("test", 5, 2, ActorMetrics.disabled());
+
+    // when
+    final var chosenThreads =
+        IntStream.range(0, 100).map(i -> group.chooseThread(3)).boxed().toList();
+
+    // then
+    assertThat(chosenThreads).allMatch(threadId -> threadId >= 2 && threadId <= 4);
+  }
+
+  @Test
+  void shouldChooseAnyThreadWithoutAffinity() {
+    // given
+    final var group = new WorkStealingGroup("test", 4, 2, ActorMetrics.disabled());
+
+    // when
+    final var chosenThreads =
+        IntStream.range(0, 1000)
+            .map(i -> group.chooseThread(SchedulingHints.NO_AFFINITY))
+            .boxed()
+            .toList();
+
+    // then
+    assertThat(chosenThreads).containsOnly(0, 1, 2, 3);
+  }
+
+  @Test
+  void shouldOnlyMatchThreadsOfAffinityGroup() {
+    // given
+    final var group = new WorkStealingGroup("test", 4, 2, ActorMetrics.disabled());
+
+    // then
+    assertThat(group.isInAffinityGroup(0, 2)).isTrue();
+    assertThat(group.isInAffinityGroup(1, 2)).isTrue();
+    assertThat(group.isInAffinityGroup(2, 2)).isFalse();
+    assertThat(group.isInAffinityGroup(3, 1)).isTrue();
+    assertThat(group.isInAffinityGroup(0, SchedulingHints.NO_AFFINITY)).isTrue();
+  }
+
+  @Test
+  void shouldRejectMoreGroupsThanThreads() {
+    assertThatThrownBy(() -> new WorkStealingGroup("test", 2, 3, ActorMetrics.disabled()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRunPartitionActorsOnThreadsOfTheirGroup() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setCpuBoundAffinityGroupCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+    final var actor = new RecordingActor(new PartitionId("raft-partition", 1));
+
+    try {
+      // when
+      scheduler.submitActor(actor).join();
+      for (int i = 0; i < 100; i++) {
+        actor.recordThread().join();
+      }
+
+      // then - partition 1 is assigned to the second group, i.e. threads 2 and 3
+      assertThat(actor.runnerIds).isSubsetOf(2, 3);
+    } finally {
+      actor.closeAsync().join();
+      scheduler.close();
+    }
+  }
+
+  private static final class RecordingActor extends Actor {
+    private final Set<Integer> runnerIds = ConcurrentHashMap.newKeySet();
+
+    private RecordingActor(final PartitionId partitionId) {
+      super("recording", partitionId);
+    }
+
+    private ActorFuture<Void> recordThread() {
+      return actor.call(
+          () -> {
+            runnerIds.add(ActorThread.current().getRunnerId());
+            return null;
+          });
+    }
+  }
+}
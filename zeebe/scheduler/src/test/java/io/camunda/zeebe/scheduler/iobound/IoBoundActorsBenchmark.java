@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of I/O bound actors on the fixed I/O threads with running each actor on
+ * its own virtual thread. Every operation lets each actor perform one blocking write, simulated by
+ * sleeping for the injected I/O latency, and waits until all writes are done.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IoBoundActorsBenchmark {
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"16"})
+  public int actorCount;
+
+  @Param({"1"})
+  public int ioLatencyMillis;
+
+  private ActorScheduler scheduler;
+  private List<BlockingWriter> writers;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(2)
+            .setIoBoundVirtualThreads(virtualThreads)
+            .build();
+    scheduler.start();
+
+    writers = new ArrayList<>(actorCount);
+    for (int i = 0; i < actorCount; i++) {
+      final var writer = new BlockingWriter(Duration.ofMillis(ioLatencyMillis));
+      scheduler.submitActor(writer, SchedulingHints.ioBound()).join();
+      writers.add(writer);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    writers.forEach(writer -> writer.closeAsync().join());
+    scheduler.close();
+  }
+
+  @Benchmark
+  public void writeOnAllActors() {
+    final var writes = new ArrayList<ActorFuture<Void>>(actorCount);
+    for (final var writer : writers) {
+      writes.add(writer.write());
+    }
+    writes.forEach(ActorFuture::join);
+  }
+
+  private static final class BlockingWriter extends Actor {
+    private final Duration latency;
+
+    private BlockingWriter(final Duration latency) {
+      this.latency = latency;
+    }
+
+    private ActorFuture<Void> write() {
+      return actor.call(
+          () -> {
+            Thread.sleep(latency);
+            return null;
+          });
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualIoThreadGroup;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoThreadGroupTest {
+
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = newScheduler();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var actor = new TestActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    final var runsOnVirtualThread = actor.call(() -> Thread.currentThread().isVirtual()).join();
+    final var threadGroup = actor.call(() -> ActorThread.current().getActorThreadGroup()).join();
+    assertThat(runsOnVirtualThread).isTrue();
+    assertThat(threadGroup).isInstanceOf(VirtualIoThreadGroup.class);
+  }
+
+  @Test
+  void shouldNotBlockOtherActorsWhileBlocking() {
+    // given - a single I/O thread would be blocked by the first actor
+    final var blockingActor = new TestActor();
+    final var otherActor = new TestActor();
+    scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+    final var latch = new CountDownLatch(1);
+
+    try {
+      // when
+      blockingActor.call(
+          () -> {
+            latch.await();
+            return null;
+          });
+
+      // then
+      assertThat(otherActor.call(() -> "done")).succeedsWithin(Duration.ofSeconds(5));
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  void shouldExecuteJobsOfAnActorOneAtATime() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var concurrentJobs = new AtomicInteger();
+    final var maxConcurrentJobs = new AtomicInteger();
+
+    // when
+    final var jobs = new ArrayList<ActorFuture<Void>>();
+    for (int i = 0; i < 100; i++) {
+      jobs.add(
+          actor.call(
+              () -> {
+                maxConcurrentJobs.accumulateAndGet(concurrentJobs.incrementAndGet(), Math::max);
+                Thread.sleep(1);
+                concurrentJobs.decrementAndGet();
+                return null;
+              }));
+    }
+    jobs.forEach(ActorFuture::join);
+
+    // then
+    assertThat(maxConcurrentJobs).hasValue(1);
+  }
+
+  @Test
+  void shouldRunActorAgainAfterItWasClosed() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    actor.closeAsync().join();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(actor.call(() -> "done")).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldRunTimerOfParkedRunnerWhenDue() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var timerFired = new CompletableFuture<Long>();
+    final long scheduledAt = System.nanoTime();
+
+    // when - the runner parks until the timer is due, at most for a second otherwise
+    actor.run(
+        () -> actor.schedule(100, () -> timerFired.complete(System.nanoTime() - scheduledAt)));
+
+    // then
+    assertThat(timerFired)
+        .succeedsWithin(Duration.ofMillis(900))
+        .satisfies(elapsed -> assertThat(elapsed).isGreaterThanOrEqualTo(100_000_000L));
+  }
+
+  @Test
+  void shouldWakeUpParkedRunnerWhenJobIsSubmitted() {
+    // given - an idle actor without timers, whose runner is parked
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var runner = actor.call(Thread::currentThread).join();
+    Awaitility.await("until the runner is parked")
+        .until(() -> runner.getState() == Thread.State.TIMED_WAITING);
+
+    // when
+    final var result = actor.call(() -> "done");
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ofMillis(500)).isEqualTo("done");
+  }
+
+  @Test
+  void shouldStopParkedRunnerWithoutWaitingForItToWakeUp() throws Exception {
+    // given - an idle actor without timers, whose runner is parked
+    final var stoppedScheduler = newScheduler();
+    final var actor = new TestActor();
+    stoppedScheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var runner = actor.call(Thread::currentThread).join();
+    Awaitility.await("until the runner is parked")
+        .until(() -> runner.getState() == Thread.State.TIMED_WAITING);
+
+    // when
+    final var stopped = stoppedScheduler.stop();
+
+    // then
+    assertThat(stopped).succeedsWithin(Duration.ofMillis(500));
+    assertThat(runner.join(Duration.ofMillis(500))).isTrue();
+  }
+
+  private static ActorScheduler newScheduler() {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setIoBoundVirtualThreads(true)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+
+  private static final class TestActor extends Actor {}
+}
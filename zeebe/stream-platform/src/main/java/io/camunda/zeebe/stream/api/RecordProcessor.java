@@ -16,6 +16,11 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
  */
 public interface RecordProcessor {
 
+  /**
+   * Returned by {@link #replayAffinityKey(TypedRecord)} for events which must be replayed serially.
+   */
+  long NO_REPLAY_AFFINITY = -1;
+
   /**
    * Called by platform to initialize the processor
    *
@@ -56,6 +61,37 @@ public interface RecordProcessor {
    */
   void replay(TypedRecord record);
 
+  /**
+   * Returns a key identifying the state which replaying the given event exclusively reads and
+   * writes, e.g. the key of a process instance. Events with different keys may be replayed
+   * concurrently, by different instances of this processor, each in its own transaction. Events
+   * with the same key are always replayed in log order by the same instance.
+   *
+   * <p>Implementors must return {@link #NO_REPLAY_AFFINITY} for any event that touches state which
+   * is shared between keys. Such events are replayed serially, after all events preceding them.
+   *
+   * @param record the event to replay
+   * @return a non-negative key, or {@link #NO_REPLAY_AFFINITY} if the event must be replayed
+   *     serially
+   */
+  default long replayAffinityKey(final TypedRecord<?> record) {
+    return NO_REPLAY_AFFINITY;
+  }
+
+  /**
+   * Returns the key of the state which replaying the given event reads and writes besides the state
+   * shared between keys, for an event without {@link #replayAffinityKey(TypedRecord) affinity key}.
+   * The event is then replayed serially, but only after the preceding events with the same affinity
+   * key and the preceding serial events, instead of after all preceding events.
+   *
+   * @param record the event to replay serially
+   * @return a non-negative key, or {@link #NO_REPLAY_AFFINITY} if the event may touch the state of
+   *     any key
+   */
+  default long serialReplayAffinityKey(final TypedRecord<?> record) {
+    return NO_REPLAY_AFFINITY;
+  }
+
   /**
    * Called by platform to process a single record.
    *
@@ -0,0 +1,303 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.util.CloseableSilently;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Replays events with different {@link RecordProcessor#replayAffinityKey(TypedRecord) affinity
+ * keys} concurrently. Events are queued on one of a fixed number of lanes by their affinity key,
+ * such that events with the same key are always replayed in order by the same lane. Each lane has
+ * its own instances of the record processors and its own transaction context, and replays its
+ * queued events on a worker thread when {@link #replayPending(boolean)} is called.
+ *
+ * <p>Events without affinity key are queued as serial events, which are replayed in log order by
+ * the given {@link SerialReplay}, on the actor. A serial event waits only for the preceding events
+ * of the lanes in its {@link RecordProcessor#serialReplayAffinityKey(TypedRecord) scope}, and the
+ * lanes in its scope wait for it in turn. Consecutive events of a lane, as well as consecutive
+ * serial events, are grouped into segments which are replayed and committed in one transaction.
+ *
+ * <p>Since the segments commit their transactions independently, the caller is responsible to
+ * commit any state the queued events depend on before replaying them. If a segment fails, the
+ * segments which were committed already are remembered, and {@link #replayPending(boolean)} can be
+ * called again to replay only the remaining segments.
+ */
+final class ParallelReplayer implements CloseableSilently {
+
+  private final List<Lane> lanes;
+  private final ExecutorService executor;
+  private final Executor serialExecutor;
+  private final SerialReplay serialReplay;
+
+  // the queued segments, in an order in which each segment comes after its dependencies
+  private final List<Segment> segments = new ArrayList<>();
+  // per lane, the last segment and whether it can still take events
+  private final @Nullable Segment[] lastLaneSegments;
+  private final boolean[] laneSegmentOpen;
+  // per lane, the last serial segment which the next segment of the lane has to wait for
+  private final @Nullable Segment[] laneSerialDependencies;
+  private @Nullable Segment lastSerialSegment;
+  private boolean serialSegmentOpen;
+
+  ParallelReplayer(
+      final StreamProcessorContext context,
+      final int workerCount,
+      final Supplier<List<RecordProcessor>> recordProcessors,
+      final SerialReplay serialReplay) {
+    executor =
+        Executors.newFixedThreadPool(
+            workerCount,
+            Thread.ofPlatform()
+                .name("replay-worker-" + context.getPartitionId() + "-", 0)
+                .daemon()
+                .factory());
+    serialExecutor = context.getActor()::run;
+    this.serialReplay = serialReplay;
+    lanes =
+        IntStream.range(0, workerCount)
+            .mapToObj(i -> createLane(context, recordProcessors.get()))
+            .toList();
+    lastLaneSegments = new Segment[workerCount];
+    laneSegmentOpen = new boolean[workerCount];
+    laneSerialDependencies = new Segment[workerCount];
+  }
+
+  private static Lane createLane(
+      final StreamProcessorContext context, final List<RecordProcessor> recordProcessors) {
+    final var transactionContext = context.getZeebeDb().createContext();
+    final var processorContext =
+        new RecordProcessorContextImpl(
+            context.getPartitionId(),
+            context.getScheduleService(),
+            context.getZeebeDb(),
+            transactionContext,
+            context.getPartitionCommandSender(),
+            context.getKeyGeneratorControls(),
+            context.getClock(),
+            context.getMeterRegistry());
+    // the lanes only replay events, so their lifecycle listeners are never notified
+    recordProcessors.forEach(processor -> processor.init(processorContext));
+    return new Lane(transactionContext, new RecordProcessorLookup(recordProcessors));
+  }
+
+  /**
+   * Queues the given event on the lane of the given affinity key. The event must not share any
+   * buffer with the log stream reader, since it is replayed later on another thread.
+   */
+  void enqueue(final long affinityKey, final TypedRecord<?> event) {
+    final int lane = laneOf(affinityKey);
+    if (!laneSegmentOpen[lane]) {
+      final var segment = new Segment(lanes.get(lane));
+      segment.addDependency(lastLaneSegments[lane]);
+      segment.addDependency(laneSerialDependencies[lane]);
+      segments.add(segment);
+      lastLaneSegments[lane] = segment;
+      laneSegmentOpen[lane] = true;
+    }
+    lastLaneSegments[lane].events.add(event);
+  }
+
+  /**
+   * Queues the given event as serial event, which touches the state of the given affinity key
+   * besides the shared state. The event must not share any buffer with the log stream reader, since
+   * it is replayed later.
+   *
+   * @param affinityKey the {@link RecordProcessor#serialReplayAffinityKey(TypedRecord) serial
+   *     affinity key} of the event, or {@link RecordProcessor#NO_REPLAY_AFFINITY} if it may touch
+   *     the state of any lane
+   */
+  void enqueueSerial(final long affinityKey, final TypedRecord<?> event) {
+    final int[] scope =
+        affinityKey == RecordProcessor.NO_REPLAY_AFFINITY
+            ? IntStream.range(0, lanes.size()).toArray()
+            : new int[] {laneOf(affinityKey)};
+
+    // the open serial segment can't wait for a lane segment which already waits for it
+    if (serialSegmentOpen
+        && Arrays.stream(scope)
+            .anyMatch(
+                lane ->
+                    laneSegmentOpen[lane] && lastLaneSegments[lane].dependsOn(lastSerialSegment))) {
+      serialSegmentOpen = false;
+    }
+    if (!serialSegmentOpen) {
+      final var segment = new Segment(null);
+      segment.addDependency(lastSerialSegment);
+      segments.add(segment);
+      lastSerialSegment = segment;
+      serialSegmentOpen = true;
+    }
+
+    final var serialSegment = lastSerialSegment;
+    for (final int lane : scope) {
+      if (laneSegmentOpen[lane]) {
+        serialSegment.addDependency(lastLaneSegments[lane]);
+        laneSegmentOpen[lane] = false;
+      }
+      laneSerialDependencies[lane] = serialSegment;
+    }
+    serialSegment.events.add(event);
+  }
+
+  boolean hasPendingEvents() {
+    return !segments.isEmpty();
+  }
+
+  /**
+   * Replays all queued segments which are not committed yet. Lane segments are replayed on the
+   * worker threads, serial segments on the actor, each in its own transaction. Doesn't block; the
+   * returned future is completed once all segments are done, successfully or not.
+   *
+   * <p>The queued segments are kept until {@link #clear()} is called, so the replay can be retried
+   * after a failure. A failed segment rolls back its transaction, and segments which depend on it
+   * are not replayed.
+   *
+   * @param withoutWal whether the segments commit their transactions without the write-ahead log
+   * @return a future which is completed once all segments are committed, or exceptionally with the
+   *     failure of the first failed segment
+   */
+  ActorFuture<Void> replayPending(final boolean withoutWal) {
+    final var replayed = new CompletableActorFuture<Void>();
+    final var replays = new ArrayList<CompletableFuture<Void>>(segments.size());
+    for (final var segment : segments) {
+      if (segment.committed) {
+        segment.replay = CompletableFuture.completedFuture(null);
+      } else {
+        segment.replay =
+            CompletableFuture.allOf(
+                    segment.dependencies.stream()
+                        .map(dependency -> dependency.replay)
+                        .toArray(CompletableFuture[]::new))
+                .thenRunAsync(
+                    () -> replay(segment, withoutWal),
+                    segment.lane != null ? executor : serialExecutor);
+      }
+      replays.add(segment.replay);
+    }
+
+    CompletableFuture.allOf(replays.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (ignore, error) -> {
+              if (error == null) {
+                replayed.complete(null);
+              } else {
+                replayed.completeExceptionally(
+                    error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+              }
+            });
+    return replayed;
+  }
+
+  /** Discards all queued events, whether they were replayed or not. */
+  void clear() {
+    segments.clear();
+    Arrays.fill(lastLaneSegments, null);
+    Arrays.fill(laneSegmentOpen, false);
+    Arrays.fill(laneSerialDependencies, null);
+    lastSerialSegment = null;
+    serialSegmentOpen = false;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private int laneOf(final long affinityKey) {
+    return (int) Math.floorMod(affinityKey, (long) lanes.size());
+  }
+
+  private void replay(final Segment segment, final boolean withoutWal) {
+    try {
+      if (segment.lane != null) {
+        segment.lane.replay(segment.events, withoutWal);
+      } else {
+        serialReplay.replay(segment.events, withoutWal);
+      }
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+    segment.committed = true;
+  }
+
+  /** Replays serial events on the actor. */
+  @FunctionalInterface
+  interface SerialReplay {
+
+    /**
+     * Replays the given events in a single transaction and commits it, or rolls it back on failure.
+     */
+    void replay(List<TypedRecord<?>> events, boolean withoutWal) throws Exception;
+  }
+
+  private static final class Segment {
+    // the lane which replays the segment, or null for a serial segment
+    private final @Nullable Lane lane;
+    private final List<TypedRecord<?>> events = new ArrayList<>();
+    private final List<Segment> dependencies = new ArrayList<>(2);
+    // written by the thread which replayed the segment, read on the actor after the replay
+    private volatile boolean committed;
+    private @Nullable CompletableFuture<Void> replay;
+
+    private Segment(final @Nullable Lane lane) {
+      this.lane = lane;
+    }
+
+    private void addDependency(final @Nullable Segment dependency) {
+      if (dependency != null && !dependencies.contains(dependency)) {
+        dependencies.add(dependency);
+      }
+    }
+
+    private boolean dependsOn(final @Nullable Segment segment) {
+      return dependencies.contains(segment);
+    }
+  }
+
+  private record Lane(
+      TransactionContext transactionContext, RecordProcessorLookup recordProcessorLookup) {
+
+    private void replay(final List<TypedRecord<?>> events, final boolean withoutWal)
+        throws Exception {
+      final var transaction = transactionContext.getCurrentTransaction();
+      try {
+        transaction.run(() -> events.forEach(e -> recordProcessorLookup.get(e).replay(e)));
+        if (withoutWal) {
+          transaction.commitWithoutWal();
+        } else {
+          transaction.commit();
+        }
+      } catch (final Exception e) {
+        try {
+          transaction.rollback();
+        } catch (final Exception rollbackError) {
+          e.addSuppressed(rollbackError);
+        }
+        throw e;
+      }
+    }
+  }
+}
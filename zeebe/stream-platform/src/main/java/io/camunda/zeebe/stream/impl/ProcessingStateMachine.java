@@ -25,6 +25,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -44,6 +45,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -98,6 +100,15 @@ import org.slf4j.Logger;
  *                                    +--------------+
  *
  * </pre>
+ *
+ * <p>If the pipeline depth is greater than 1, processing is pipelined: when the records of a
+ * processed command cannot be written right away, e.g. because the log is backpressured, the next
+ * command is processed against the uncommitted state of the same transaction, up to the pipeline
+ * depth. The pipelined batches are written in order, and committed together once all of them are
+ * written. Only then their responses are sent and side effects executed. Every pipelined batch but
+ * the first starts at a save point of the transaction. If writing a batch fails, the state changes
+ * of this and all later batches are discarded, the written batches are committed, and the failed
+ * command is processed again without pipelining, to handle its error as usual.
  */
 public final class ProcessingStateMachine {
 
@@ -121,6 +132,10 @@ public final class ProcessingStateMachine {
       "Expected to process record '{} {}' successfully on stream processor, but caught unrecoverable exception.";
   private static final String NOTIFY_PROCESSED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_WRITE_PIPELINED_BATCH_FAILED =
+      "Expected to write the follow-up records of pipelined command '{}', but failed. Processing it again without pipelining.";
+  private static final String ERROR_MESSAGE_PROCESS_PIPELINED_COMMAND_FAILED =
+      "Expected to process pipelined command '{} {}', but caught exception. Processing it again without pipelining.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
@@ -165,7 +180,7 @@ public final class ProcessingStateMachine {
   private @Nullable CloseableSilently processingTimer;
   private boolean reachedEnd = true;
   private final StreamProcessorContext context;
-  private final List<RecordProcessor> recordProcessors;
+  private final RecordProcessorLookup recordProcessorLookup;
   private @Nullable ProcessingResult currentProcessingResult;
   private @Nullable List<LogAppendEntry> pendingWrites;
   private @Nullable Collection<ProcessingResponse> pendingResponses;
@@ -173,6 +188,11 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final int pipelineDepth;
+  // processed batches of the current transaction which are not committed yet, in processing order
+  private final ArrayDeque<PipelinedBatch> pipeline = new ArrayDeque<>();
+  // commands up to this position are processed without pipelining, to handle their errors as usual
+  private long sequentialUntilPosition = StreamProcessor.UNSET_POSITION;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -183,10 +203,10 @@ public final class ProcessingStateMachine {
   public ProcessingStateMachine(
       final StreamProcessorContext context,
       final BooleanSupplier shouldProcessNext,
-      final List<RecordProcessor> recordProcessors,
+      final RecordProcessorLookup recordProcessorLookup,
       final ScheduledCommandCache scheduledCommandCache) {
     this.context = context;
-    this.recordProcessors = recordProcessors;
+    this.recordProcessorLookup = recordProcessorLookup;
     this.scheduledCommandCache = scheduledCommandCache;
     actor = context.getActor();
     recordValues = context.getRecordValues();
@@ -196,6 +216,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    pipelineDepth = context.getPipelineDepth();
 
     // Waiting between write attempts is safe: processing of the next record is guarded by
     // `inProcessing`, and no other job on this actor touches the open transaction or writes to
@@ -284,6 +305,10 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (!pipeline.isEmpty()) {
+      // nothing left to process for now, so wait until the pipelined batches are written
+      inProcessing = true;
+      drainPipeline();
     }
   }
 
@@ -313,6 +338,12 @@ public final class ProcessingStateMachine {
         metadata.getIntent(),
         metadata.getValueType());
 
+    if (!pipeline.isEmpty()) {
+      // allows to discard the changes of this command only, see tryAbortPipelinedCommand
+      zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      zeebeDbTransaction.setSavePoint();
+    }
+
     try {
       // Here we need to get the current time, since we want to calculate
       // how long it took between writing to the dispatcher and processing.
@@ -335,6 +366,9 @@ public final class ProcessingStateMachine {
       finalizeCommandProcessing();
       writeRecords();
     } catch (final RecoverableException recoverableException) {
+      if (tryAbortPipelinedCommand(recoverableException)) {
+        return;
+      }
       // recoverable
       LOG.error(
           ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING,
@@ -347,6 +381,9 @@ public final class ProcessingStateMachine {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE, loggedEvent, metadata);
       throw unrecoverableException;
     } catch (final ExceededBatchRecordSizeException exceededBatchRecordSizeException) {
+      if (tryAbortPipelinedCommand(exceededBatchRecordSizeException)) {
+        return;
+      }
       if (processedCommandsCount > 0) {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
@@ -364,6 +401,9 @@ public final class ProcessingStateMachine {
             });
       }
     } catch (final Exception e) {
+      if (tryAbortPipelinedCommand(e)) {
+        return;
+      }
       onError(
           e,
           () -> {
@@ -418,11 +458,7 @@ public final class ProcessingStateMachine {
         }
       }
 
-      currentProcessor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(command.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(command));
+      currentProcessor = recordProcessorLookup.get(command);
 
       currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
 
@@ -691,6 +727,11 @@ public final class ProcessingStateMachine {
   }
 
   private void writeRecords() {
+    if (shouldPipeline()) {
+      pipelineRecords();
+      return;
+    }
+
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
     actor.runOnCompletion(
         writeFuture,
@@ -751,24 +792,8 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : requireNonNull(pendingResponses)) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(requireNonNull(pendingResponses));
+              return executePostCommitTasks(requireNonNull(currentProcessingResult));
             },
             abortCondition);
 
@@ -791,10 +816,279 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return requireNonNull(currentProcessingResult).executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
+    }
+  }
+
+  private boolean shouldPipeline() {
+    return !pipeline.isEmpty()
+        || (pipelineDepth > 1
+            && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+            && requireNonNull(currentRecord).getPosition() > sequentialUntilPosition);
+  }
+
+  /**
+   * Adds the processed batch of the current command to the pipeline, and tries to write the
+   * pipelined batches. If they can't be written right away, the next command is processed, unless
+   * the pipeline is full.
+   */
+  private void pipelineRecords() {
+    final var currentRecord = requireNonNull(this.currentRecord);
+    final var processingResult = requireNonNull(currentProcessingResult);
+    final var batch =
+        new PipelinedBatch(
+            currentRecord.getPosition(),
+            currentRecord.getKey(),
+            typedCommand.getIntent(),
+            typedCommand,
+            requireNonNull(pendingWrites),
+            requireNonNull(pendingResponses),
+            processingResult,
+            requireNonNull(processingTimer));
+    if (processingResult.isEmpty()) {
+      // we skipped the processing entirely; we have no results. The listener is notified once the
+      // batch is committed, as it may still be discarded and processed again
+      batch.skippedRecord = CopiedRecords.copyLoggedEvent(currentRecord);
+    }
+    pipeline.addLast(batch);
+
+    final boolean written;
+    try {
+      written = tryWritePipeline();
+    } catch (final Exception e) {
+      onPipelineWriteFailure(e);
+      return;
+    }
+
+    if (written) {
+      commitPipeline();
+    } else if (pipeline.size() < pipelineDepth) {
+      // the command will be overwritten by the next one, but is needed to notify the listener
+      batch.command = CopiedRecords.copyTypedRecord(context.getPartitionId(), currentRecord);
+      markProcessingCompleted();
+      actor.submit(this::tryToReadNextRecord);
+    } else {
+      drainPipeline();
+    }
+  }
+
+  /**
+   * Tries to write the records of all pipelined batches which are not written yet, in order.
+   *
+   * @return true if all batches are written, false if the log stream is backpressured
+   * @throws IllegalArgumentException if the writer rejected the records of a batch as invalid
+   */
+  private boolean tryWritePipeline() {
+    for (final var batch : pipeline) {
+      if (batch.written) {
+        continue;
+      }
+
+      if (!batch.processingResult.isEmpty() && !batch.writes.isEmpty()) {
+        final var writeResult =
+            logStreamWriter.tryWrite(
+                WriteContext.processingResult(batch.intent), batch.writes, batch.position);
+        if (writeResult.isLeft()) {
+          if (writeResult.getLeft() == WriteFailure.INVALID_ARGUMENT) {
+            throw new IllegalArgumentException(
+                "Expected to write %d processing results for record at position %d, but the writer rejected them as invalid"
+                    .formatted(batch.writes.size(), batch.position));
+          }
+          return false;
+        }
+        writtenPosition = writeResult.get();
+      }
+      batch.written = true;
     }
+    return true;
+  }
+
+  private void drainPipeline() {
+    final ActorFuture<Boolean> writeFuture =
+        writeRetryStrategy.runWithRetry(this::tryWritePipeline, abortCondition);
+    actor.runOnCompletion(
+        writeFuture,
+        (written, throwable) -> {
+          if (throwable != null) {
+            onPipelineWriteFailure(throwable);
+          } else {
+            commitPipeline();
+          }
+        });
+  }
+
+  private void onPipelineWriteFailure(final Throwable error) {
+    var failedIndex = 0;
+    for (final var batch : pipeline) {
+      if (!batch.written) {
+        break;
+      }
+      failedIndex++;
+    }
+
+    final var failedBatch = pipeline.stream().skip(failedIndex).findFirst().orElseThrow();
+    LOG.warn(ERROR_MESSAGE_WRITE_PIPELINED_BATCH_FAILED, failedBatch.position, error);
+    discardPipelinedBatches(failedIndex, pipeline.size() - failedIndex, failedBatch.position);
+  }
+
+  /**
+   * Discards the state changes of the pipelined command which failed to be processed, if there are
+   * other pipelined batches.
+   *
+   * @return true if the command was pipelined and is processed again later, false otherwise
+   */
+  private boolean tryAbortPipelinedCommand(final Exception error) {
+    if (pipeline.isEmpty()) {
+      return false;
+    }
+
+    final var position = requireNonNull(currentRecord).getPosition();
+    LOG.debug(ERROR_MESSAGE_PROCESS_PIPELINED_COMMAND_FAILED, currentRecord, metadata, error);
+    processedCommandsCount = 0;
+    requireNonNull(processingTimer).close();
+    // the command is not part of the pipeline yet, but has its own save point
+    discardPipelinedBatches(pipeline.size(), 1, position);
+    return true;
+  }
+
+  /**
+   * Discards the state changes of all pipelined batches from the given index on, and of commands
+   * which are not part of the pipeline yet, by rolling back the given number of save points. The
+   * batch at index 0 has no save point, and is discarded with the whole transaction. The remaining
+   * batches are written and committed, and all records after them are read again, the first one of
+   * them without pipelining. The current record is reset, as it is either discarded or was already
+   * completed when it was pipelined, so it must not be marked as processed again.
+   */
+  private void discardPipelinedBatches(
+      final int fromIndex, final int savePoints, final long firstDiscardedPosition) {
+    try {
+      final var transaction = requireNonNull(zeebeDbTransaction);
+      if (fromIndex == 0) {
+        transaction.rollback();
+      } else {
+        for (int i = 0; i < savePoints; i++) {
+          transaction.rollbackToSavePoint();
+        }
+      }
+    } catch (final Exception e) {
+      throw new UnrecoverableException(
+          "Expected to discard the state changes of pipelined commands, but failed", e);
+    }
+
+    while (pipeline.size() > fromIndex) {
+      // the discarded commands are timed again when they are processed again
+      pipeline.removeLast().processingTimer.close();
+    }
+    sequentialUntilPosition = firstDiscardedPosition;
+    logStreamReader.seek(firstDiscardedPosition);
+    currentRecord = null;
+
+    if (pipeline.isEmpty()) {
+      inProcessing = false;
+      actor.submit(this::tryToReadNextRecord);
+    } else {
+      inProcessing = true;
+      drainPipeline();
+    }
+  }
+
+  /**
+   * Commits the state changes of all pipelined batches, which must all be written, then releases
+   * their responses and side effects in processing order.
+   */
+  private void commitPipeline() {
+    final var zeebeDbTransaction = requireNonNull(this.zeebeDbTransaction);
+    final var lastBatch = requireNonNull(pipeline.peekLast());
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              lastSuccessfulProcessedRecordPosition = lastBatch.position;
+              processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              processingMetrics.recordsWritten(writtenPosition - lastWrittenPosition);
+              lastWrittenPosition = writtenPosition;
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            throw new UncommittedStateException(throwable);
+          }
+
+          pipeline.forEach(batch -> scheduledCommandCache.remove(batch.intent, batch.key));
+          executePipelinedSideEffects();
+        });
+  }
+
+  private void executePipelinedSideEffects() {
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              for (final var batch : pipeline) {
+                if (!batch.responsesSent) {
+                  writeResponses(batch.responses);
+                  batch.responsesSent = true;
+                }
+                if (!executePostCommitTasks(batch.processingResult)) {
+                  return false;
+                }
+              }
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
+          }
+
+          for (final var batch : pipeline) {
+            if (batch.skippedRecord != null) {
+              notifySkippedListener(batch.skippedRecord);
+              processingMetrics.eventSkipped();
+            }
+            notifyProcessedListener(batch.command);
+            // observe the processing duration
+            batch.processingTimer.close();
+          }
+          pipeline.clear();
+
+          // continue with next record; after discarding pipelined batches there is no current
+          // record, as the discarded commands are read again
+          if (currentRecord != null) {
+            markProcessingCompleted();
+          } else {
+            inProcessing = false;
+          }
+          actor.submit(this::tryToReadNextRecord);
+        });
   }
 
   private void notifyProcessedListener(final TypedRecord processedRecord) {
@@ -882,6 +1176,40 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  /** A processed batch which is part of the current, uncommitted transaction. */
+  private static final class PipelinedBatch {
+    private final long position;
+    private final long key;
+    private final Intent intent;
+    private final List<LogAppendEntry> writes;
+    private final Collection<ProcessingResponse> responses;
+    private final ProcessingResult processingResult;
+    private final CloseableSilently processingTimer;
+    private TypedRecord<?> command;
+    private @Nullable LoggedEvent skippedRecord;
+    private boolean written;
+    private boolean responsesSent;
+
+    private PipelinedBatch(
+        final long position,
+        final long key,
+        final Intent intent,
+        final TypedRecord<?> command,
+        final List<LogAppendEntry> writes,
+        final Collection<ProcessingResponse> responses,
+        final ProcessingResult processingResult,
+        final CloseableSilently processingTimer) {
+      this.position = position;
+      this.key = key;
+      this.intent = intent;
+      this.command = command;
+      this.writes = writes;
+      this.responses = responses;
+      this.processingResult = processingResult;
+      this.processingTimer = processingTimer;
+    }
+  }
+
   private static final class PreviousRecord {
 
     private long position;
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.List;
+
+/**
+ * Resolves the {@link RecordProcessor} responsible for a record through a table indexed by the
+ * ordinal of its value type. The table is computed once from {@link
+ * RecordProcessor#accepts(ValueType)}, so resolving a processor neither iterates over the
+ * processors nor allocates.
+ */
+final class RecordProcessorLookup {
+
+  private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+  private final RecordProcessor[] processorsByValueType = new RecordProcessor[VALUE_TYPES.length];
+
+  RecordProcessorLookup(final List<RecordProcessor> recordProcessors) {
+    for (final var valueType : VALUE_TYPES) {
+      // the first processor which accepts a value type is responsible for it
+      for (final var processor : recordProcessors) {
+        if (processor.accepts(valueType)) {
+          processorsByValueType[valueType.ordinal()] = processor;
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the processor responsible for the value type of the given record
+   * @throws NoSuchProcessorException if no processor accepts the value type of the record
+   */
+  RecordProcessor get(final TypedRecord<?> record) {
+    final var processor = processorsByValueType[record.getValueType().ordinal()];
+    if (processor == null) {
+      throw NoSuchProcessorException.forRecord(record);
+    }
+    return processor;
+  }
+}
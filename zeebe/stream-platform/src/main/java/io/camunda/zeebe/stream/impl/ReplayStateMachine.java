@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import static java.util.Objects.requireNonNull;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
@@ -34,9 +35,11 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.exception.RecoverableException;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.jspecify.annotations.Nullable;
@@ -50,6 +53,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   private static final String LOG_STMT_REPLAY_FINISHED = "Processor finished replay, with {}";
   private static final String ERROR_INCONSISTENT_LOG =
       "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
+  // upper bound of events queued for the parallel replay at once, if bulk replay is inactive
+  private static final int PARALLEL_REPLAY_MAX_EVENTS = 1_000;
   private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
       "Expected to read the metadata for the record '%s', but an exception was thrown.";
 
@@ -74,6 +79,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final ZeebeDb<?> zeebeDb;
+  private final int bulkReplayMaxEvents;
+  private final int maxRecoverableRetries;
+  // whether the replay is catching up with the log in bulk mode, see bulkReplayMaxEvents
+  private boolean bulkReplay;
+  private int transactionEventCount;
+  private @Nullable Batch currentBatch;
+  private final @Nullable ParallelReplayer parallelReplayer;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
@@ -90,30 +103,41 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   private State currentState = State.AWAIT_RECORD;
   private final BooleanSupplier shouldPause;
   private final ReplayMetrics replayMetrics;
-  private final List<RecordProcessor> recordProcessors;
+  private final RecordProcessorLookup recordProcessorLookup;
   private final int partitionId;
   private final EventDescription currentStateDescription = new EventDescription("idle");
 
   public ReplayStateMachine(
-      final List<RecordProcessor> recordProcessors,
+      final RecordProcessorLookup recordProcessorLookup,
       final StreamProcessorContext context,
       final BooleanSupplier shouldReplayNext) {
     partitionId = context.getPartitionId();
-    this.recordProcessors = recordProcessors;
+    this.recordProcessorLookup = recordProcessorLookup;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
     actor = context.getActor();
     recordValues = context.getRecordValues();
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
+    zeebeDb = context.getZeebeDb();
+    bulkReplayMaxEvents = context.getBulkReplayMaxEvents();
+    maxRecoverableRetries = context.getMaxRecoverableRetries();
     keyGeneratorControls = context.getKeyGeneratorControls();
     lastProcessedPositionState = context.getLastProcessedPositionState();
 
     typedEvent = new TypedRecordImpl(context.getLogStream().getPartitionId());
-    replayStrategy = new RecoverableRetryStrategy(actor, context.getMaxRecoverableRetries());
+    replayStrategy = new RecoverableRetryStrategy(actor, maxRecoverableRetries);
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
+    parallelReplayer =
+        streamProcessorMode == StreamProcessorMode.REPLAY && context.getReplayWorkers() > 0
+            ? new ParallelReplayer(
+                context,
+                context.getReplayWorkers(),
+                context.getReplayWorkerProcessors(),
+                this::replaySerially)
+            : null;
   }
 
   /**
@@ -131,11 +155,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
 
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    bulkReplay = bulkReplayMaxEvents > 0;
 
     LOG.info(
-        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
+        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}, bulk-replay: {}, parallel-replay: {}]",
         snapshotPosition,
-        streamProcessorMode);
+        streamProcessorMode,
+        bulkReplay,
+        parallelReplayer != null);
 
     if (streamProcessorMode == StreamProcessorMode.REPLAY) {
       logStream.registerRecordAvailableListener(this);
@@ -166,31 +193,48 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        final var startNanos = System.nanoTime();
+        final var transactionStart =
+            new TransactionStart(
+                lastReadRecordPosition, batchSourceEventPosition, lastReplayedEventPosition);
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(() -> tryToReplayBatches(transactionStart), abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(
+                                requireNonNull(currentBatch).current(), typedEvent.getMetadata()),
                         failure);
                   } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
+                    final Runnable onBatchesReplayed =
+                        () -> {
+                          // observe the replay duration
+                          replayDurationTimer.close();
+                          replayMetrics.observeThroughput(
+                              transactionEventCount, System.nanoTime() - startNanos);
+                          // the position should be visible only after the batch is replayed
+                          // successfully
+                          lastSourceEventPosition =
+                              Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                          replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                          actor.submit(this::replayNextEvent);
+                        };
+                    if (parallelReplayer != null && parallelReplayer.hasPendingEvents()) {
+                      replayPendingInParallel(parallelReplayer, 0, onBatchesReplayed);
+                    } else {
+                      onBatchesReplayed.run();
+                    }
                   }
                 });
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
+        finishBulkReplay();
         onRecordsReplayed();
 
       } else {
+        finishBulkReplay();
         currentStateDescription.status("awaiting record to replay");
         currentState = State.AWAIT_RECORD;
       }
@@ -204,31 +248,172 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batch in a single transaction. In bulk replay, following batches are replayed
+   * in the same transaction until {@link #bulkReplayMaxEvents} events were read, and the
+   * transaction is committed without the write-ahead log.
+   *
+   * <p>In parallel replay, following batches are read in the same transaction as well, but the
+   * events are only queued on the {@link ParallelReplayer}. The transaction merely advances the key
+   * generator, and the queued events are replayed once it is committed, see {@link
+   * #replayPendingInParallel(ParallelReplayer, int, Runnable)}.
+   */
+  private boolean tryToReplayBatches(final TransactionStart transactionStart) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       requireNonNull(zeebeDbTransaction).rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      if (parallelReplayer != null) {
+        parallelReplayer.clear();
+      }
+      // read all batches of the transaction from the beginning again
+      lastReadRecordPosition = transactionStart.lastReadRecordPosition();
+      batchSourceEventPosition = transactionStart.batchSourceEventPosition();
+      lastReplayedEventPosition = transactionStart.lastReplayedEventPosition();
+      logStreamBatchReader.seekToNextBatch(
+          lastReadRecordPosition != StreamProcessor.UNSET_POSITION
+              ? lastReadRecordPosition
+              : snapshotPosition);
     }
 
+    transactionEventCount = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     requireNonNull(zeebeDbTransaction)
         .run(
             () -> {
-              batch.forEachRemaining(this::replayEvent);
-
-              if (batchSourceEventPosition > snapshotPosition) {
-                lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+              do {
+                currentBatch = logStreamBatchReader.next();
+                currentBatch.forEachRemaining(this::replayEvent);
+              } while ((bulkReplay || parallelReplayer != null)
+                  && transactionEventCount
+                      < (bulkReplay ? bulkReplayMaxEvents : PARALLEL_REPLAY_MAX_EVENTS)
+                  && logStreamBatchReader.hasNext());
+
+              // queued events are marked as processed only once they are replayed
+              if (parallelReplayer == null || !parallelReplayer.hasPendingEvents()) {
+                markAsProcessed();
               }
             });
 
-    requireNonNull(zeebeDbTransaction).commit();
+    commitTransaction();
     zeebeDbTransaction = null;
 
     return true;
   }
 
+  private void markAsProcessed() {
+    if (batchSourceEventPosition > snapshotPosition) {
+      lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+    }
+  }
+
+  private void commitTransaction() throws Exception {
+    if (bulkReplay) {
+      requireNonNull(zeebeDbTransaction).commitWithoutWal();
+    } else {
+      requireNonNull(zeebeDbTransaction).commit();
+    }
+  }
+
+  /**
+   * Replays the events queued on the {@link ParallelReplayer}, without blocking the actor, and
+   * marks them as processed afterwards. If the replay fails with a recoverable exception, e.g. a
+   * transient {@link io.camunda.zeebe.db.ZeebeDbException}, it is retried; the segments which were
+   * committed before the failure are kept, and only the remaining ones are replayed again.
+   */
+  private void replayPendingInParallel(
+      final ParallelReplayer replayer, final int retryCount, final Runnable onReplayed) {
+    actor.runOnCompletion(
+        replayer.replayPending(bulkReplay),
+        (ignore, failure) -> {
+          if (failure == null) {
+            replayer.clear();
+            replayStrategy
+                .runWithRetry(this::tryToMarkAsProcessed, abortCondition)
+                .onComplete(
+                    (success, error) -> {
+                      if (error != null) {
+                        throw new RuntimeException(
+                            "Failed to mark position '%d' as processed"
+                                .formatted(batchSourceEventPosition),
+                            error);
+                      }
+                      onReplayed.run();
+                    });
+
+          } else if (failure instanceof RecoverableException
+              && retryCount < maxRecoverableRetries) {
+            if (!abortCondition.getAsBoolean()) {
+              LOG.warn(
+                  "Failed to replay events in parallel (retry {}/{}), will retry the uncommitted events: {}",
+                  retryCount + 1,
+                  maxRecoverableRetries,
+                  failure.getMessage(),
+                  failure);
+              actor.submit(() -> replayPendingInParallel(replayer, retryCount + 1, onReplayed));
+            }
+
+          } else {
+            throw new RuntimeException(
+                "Failed to replay events in parallel up to position '%d'"
+                    .formatted(lastReadRecordPosition),
+                failure);
+          }
+        });
+  }
+
+  private boolean tryToMarkAsProcessed() throws Exception {
+    if (zeebeDbTransaction != null) {
+      zeebeDbTransaction.rollback();
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    requireNonNull(zeebeDbTransaction).run(this::markAsProcessed);
+    commitTransaction();
+    zeebeDbTransaction = null;
+    return true;
+  }
+
+  /**
+   * Replays the given serial events of the {@link ParallelReplayer} with the main record processors
+   * in a single transaction. Called on the actor, once the events they depend on are committed.
+   */
+  private void replaySerially(final List<TypedRecord<?>> events, final boolean withoutWal)
+      throws Exception {
+    final var transaction = transactionContext.getCurrentTransaction();
+    try {
+      transaction.run(() -> events.forEach(e -> recordProcessorLookup.get(e).replay(e)));
+      if (withoutWal) {
+        transaction.commitWithoutWal();
+      } else {
+        transaction.commit();
+      }
+    } catch (final Exception e) {
+      try {
+        transaction.rollback();
+      } catch (final Exception rollbackError) {
+        e.addSuppressed(rollbackError);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Ends the bulk replay once it caught up with the log. Since its transactions were committed
+   * without the write-ahead log, the state is flushed to make the replayed state, including the
+   * last processed position, durable before continuing.
+   */
+  private void finishBulkReplay() {
+    if (!bulkReplay) {
+      return;
+    }
+
+    bulkReplay = false;
+    zeebeDb.flush();
+    LOG.debug(
+        "Finished bulk replay and flushed state. [last-source-event-position: {}]",
+        lastSourceEventPosition);
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
@@ -236,20 +421,18 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
                 < 0)) { // some events might not have a source pointer
       readMetadata(currentEvent);
       final var currentTypedEvent = requireNonNull(readRecordValue(currentEvent));
-      LOG.trace("Replaying event {}: {}", currentTypedEvent.getPosition(), currentTypedEvent);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Replaying event {}: {}", currentTypedEvent.getPosition(), currentTypedEvent);
+      }
       currentStateDescription.set(
           "replaying event",
           currentTypedEvent.getPosition(),
           currentTypedEvent.getIntent(),
           currentTypedEvent.getValueType());
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+      final var processor = recordProcessorLookup.get(currentTypedEvent);
 
-      processor.replay(currentTypedEvent);
+      applyEvent(processor, currentEvent, currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
 
@@ -268,6 +451,26 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
     onRecordReplayed(currentEvent);
   }
 
+  private void applyEvent(
+      final RecordProcessor processor,
+      final LoggedEvent currentEvent,
+      final TypedRecord<?> currentTypedEvent) {
+    if (parallelReplayer == null) {
+      processor.replay(currentTypedEvent);
+      return;
+    }
+
+    // the events are replayed later, after the transaction which reads them is committed
+    final var copiedEvent = CopiedRecords.copyTypedRecord(partitionId, currentEvent);
+    final long affinityKey = processor.replayAffinityKey(currentTypedEvent);
+    if (affinityKey != RecordProcessor.NO_REPLAY_AFFINITY) {
+      parallelReplayer.enqueue(affinityKey, copiedEvent);
+    } else {
+      parallelReplayer.enqueueSerial(
+          processor.serialReplayAffinityKey(currentTypedEvent), copiedEvent);
+    }
+  }
+
   private boolean isEngineAuthoredKeyRecord(final LoggedEvent event) {
     // read the metadata explicitly. metadata object is updated only if the event was replayed. Not
     // for commands.
@@ -307,6 +510,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    transactionEventCount++;
     // release the reference to the event as soon as possible
     currentStateDescription.status("awaiting record to replay");
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
@@ -362,8 +566,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   @Override
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    if (parallelReplayer != null) {
+      parallelReplayer.close();
+    }
   }
 
+  private record TransactionStart(
+      long lastReadRecordPosition, long batchSourceEventPosition, long lastReplayedEventPosition) {}
+
   private enum State {
     AWAIT_RECORD,
     REPLAY_EVENT
@@ -114,6 +114,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   private @Nullable ActorFuture<LastProcessingPositions> replayCompletedFuture;
 
   private final List<RecordProcessor> recordProcessors = new ArrayList<>();
+  private final RecordProcessorLookup recordProcessorLookup;
   private @Nullable AsyncScheduleServiceContext asyncScheduleServiceContext;
 
   protected StreamProcessor(final StreamProcessorBuilder processorBuilder) {
@@ -134,6 +135,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     metrics = new StreamProcessorMetrics(streamProcessorContext.getMeterRegistry());
     metrics.initializeProcessorPhase(streamProcessorContext.getStreamProcessorPhase());
     recordProcessors.addAll(processorBuilder.getRecordProcessors());
+    recordProcessorLookup = processorBuilder.getRecordProcessorLookup();
   }
 
   public static StreamProcessorBuilder builder() {
@@ -181,7 +183,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
       healthCheckTick();
 
       replayStateMachine =
-          new ReplayStateMachine(recordProcessors, streamProcessorContext, this::shouldProcessNext);
+          new ReplayStateMachine(
+              recordProcessorLookup, streamProcessorContext, this::shouldProcessNext);
 
       requireNonNull(openFuture).complete(unit());
 
@@ -288,7 +291,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
         new ProcessingStateMachine(
             streamProcessorContext,
             this::shouldProcessNext,
-            recordProcessors,
+            recordProcessorLookup,
             scheduledCommandCache);
 
     logStream.registerRecordAvailableListener(this);
@@ -329,6 +332,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
   private long recoverFromSnapshot() {
     final TransactionContext transactionContext = zeebeDb.createContext();
+    streamProcessorContext.zeebeDb(zeebeDb);
     streamProcessorContext.transactionContext(transactionContext);
     streamProcessorContext.keyGeneratorControls(
         new DbKeyGenerator(partitionId, zeebeDb, transactionContext));
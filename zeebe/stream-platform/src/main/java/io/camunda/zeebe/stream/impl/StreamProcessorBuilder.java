@@ -25,6 +25,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 public final class StreamProcessorBuilder {
@@ -35,6 +36,7 @@ public final class StreamProcessorBuilder {
   private @Nullable ZeebeDb zeebeDb;
 
   private @Nullable List<RecordProcessor> recordProcessors;
+  private @Nullable RecordProcessorLookup recordProcessorLookup;
   private StageableScheduledCommandCache scheduledCommandCache = new NoopScheduledCommandCache();
 
   public StreamProcessorBuilder() {
@@ -115,6 +117,10 @@ public final class StreamProcessorBuilder {
     return requireNonNull(recordProcessors);
   }
 
+  RecordProcessorLookup getRecordProcessorLookup() {
+    return requireNonNull(recordProcessorLookup);
+  }
+
   public StreamProcessorBuilder scheduledCommandCache(
       final StageableScheduledCommandCache scheduledCommandCache) {
     this.scheduledCommandCache = scheduledCommandCache;
@@ -127,6 +133,7 @@ public final class StreamProcessorBuilder {
 
   public StreamProcessor build() {
     validate();
+    recordProcessorLookup = new RecordProcessorLookup(requireNonNull(recordProcessors));
 
     return new StreamProcessor(this);
   }
@@ -151,6 +158,21 @@ public final class StreamProcessorBuilder {
           "maxRecoverableRetries must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxRecoverableRetries()));
     }
+    if (streamProcessorContext.getBulkReplayMaxEvents() < 0) {
+      throw new IllegalArgumentException(
+          "bulkReplayMaxEvents must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getBulkReplayMaxEvents()));
+    }
+    if (streamProcessorContext.getReplayWorkers() < 0) {
+      throw new IllegalArgumentException(
+          "replayWorkers must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getReplayWorkers()));
+    }
+    if (streamProcessorContext.getPipelineDepth() < 1) {
+      throw new IllegalArgumentException(
+          "pipelineDepth must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getPipelineDepth()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -163,6 +185,41 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables bulk replay if positive: while catching up with the log, up to this many events are
+   * replayed in one transaction, which is committed without the write-ahead log. The state is
+   * flushed once the replay has caught up.
+   */
+  public StreamProcessorBuilder bulkReplayMaxEvents(final int bulkReplayMaxEvents) {
+    streamProcessorContext.bulkReplayMaxEvents(bulkReplayMaxEvents);
+    return this;
+  }
+
+  /**
+   * Enables pipelined processing if greater than 1: while the follow-up records of a processed
+   * batch cannot be written yet, up to this many batches are processed in the same transaction.
+   * Their state changes are committed, and their responses and side effects released, once all of
+   * their records are written.
+   */
+  public StreamProcessorBuilder pipelineDepth(final int pipelineDepth) {
+    streamProcessorContext.pipelineDepth(pipelineDepth);
+    return this;
+  }
+
+  /**
+   * Enables parallel replay in {@link StreamProcessorMode#REPLAY} if positive: events which the
+   * record processors route to an affinity key, see {@link
+   * RecordProcessor#replayAffinityKey(io.camunda.zeebe.stream.api.records.TypedRecord)}, are
+   * replayed by this many worker threads, each with its own record processors created by the given
+   * supplier. All other events are replayed serially. Experimental.
+   */
+  public StreamProcessorBuilder replayWorkers(
+      final int replayWorkers, final Supplier<List<RecordProcessor>> replayWorkerProcessors) {
+    streamProcessorContext.replayWorkers(
+        replayWorkers, requireNonNull(replayWorkerProcessors, "replayWorkerProcessors"));
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
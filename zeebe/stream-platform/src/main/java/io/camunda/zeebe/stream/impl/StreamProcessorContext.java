@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.cluster.PartitionId;
 import io.camunda.cluster.PhysicalTenantIds;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -20,6 +21,7 @@ import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamClock.ControllableStreamClock;
 import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
@@ -28,7 +30,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.List;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
@@ -42,6 +46,7 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private @Nullable LogStreamReader logStreamReader;
   private @Nullable RecordValues recordValues;
   private @Nullable TransactionContext transactionContext;
+  private @Nullable ZeebeDb<?> zeebeDb;
 
   private @Nullable BooleanSupplier abortCondition;
   private StreamProcessorListener streamProcessorListener = NOOP_LISTENER;
@@ -59,6 +64,10 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private @Nullable KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private int maxRecoverableRetries = DEFAULT_MAX_RECOVERABLE_RETRIES;
+  private int bulkReplayMaxEvents = 0;
+  private int pipelineDepth = 1;
+  private int replayWorkers = 0;
+  private @Nullable Supplier<List<RecordProcessor>> replayWorkerProcessors;
   private EventFilter processingFilter = e -> true;
   private @Nullable ControllableStreamClock clock;
   private @Nullable MeterRegistry meterRegistry;
@@ -249,6 +258,63 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxRecoverableRetries;
   }
 
+  public StreamProcessorContext bulkReplayMaxEvents(final int bulkReplayMaxEvents) {
+    this.bulkReplayMaxEvents = bulkReplayMaxEvents;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of events replayed in one transaction while catching up with the
+   *     log, or 0 if bulk replay is disabled
+   */
+  public int getBulkReplayMaxEvents() {
+    return bulkReplayMaxEvents;
+  }
+
+  public StreamProcessorContext pipelineDepth(final int pipelineDepth) {
+    this.pipelineDepth = pipelineDepth;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of processed batches which may wait for their records to be written,
+   *     including the one currently processed; 1 if processing is not pipelined
+   */
+  public int getPipelineDepth() {
+    return pipelineDepth;
+  }
+
+  public StreamProcessorContext replayWorkers(
+      final int replayWorkers, final Supplier<List<RecordProcessor>> replayWorkerProcessors) {
+    this.replayWorkers = replayWorkers;
+    this.replayWorkerProcessors = replayWorkerProcessors;
+    return this;
+  }
+
+  /**
+   * @return the number of worker threads replaying events of independent process instances in
+   *     parallel in {@link StreamProcessorMode#REPLAY}, or 0 if the events are replayed serially
+   */
+  public int getReplayWorkers() {
+    return replayWorkers;
+  }
+
+  /**
+   * @return creates a new, not yet initialized, set of record processors for each replay worker
+   */
+  public Supplier<List<RecordProcessor>> getReplayWorkerProcessors() {
+    return requireNonNull(replayWorkerProcessors);
+  }
+
+  public StreamProcessorContext zeebeDb(final ZeebeDb<?> zeebeDb) {
+    this.zeebeDb = zeebeDb;
+    return this;
+  }
+
+  public ZeebeDb<?> getZeebeDb() {
+    return requireNonNull(zeebeDb);
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
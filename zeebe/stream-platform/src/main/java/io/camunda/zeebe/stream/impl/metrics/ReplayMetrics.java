@@ -14,11 +14,13 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class ReplayMetrics {
 
   private final AtomicLong lastSourcePosition = new AtomicLong();
+  private final AtomicLong eventsPerSecond = new AtomicLong();
 
   private final Clock clock;
   private final Counter replayEventsCount;
@@ -30,6 +32,7 @@ public final class ReplayMetrics {
     replayEventsCount = registerReplayEventsCount(registry);
     replayDurationTimer = registerReplayDuration(registry);
     registerLastSourcePosition(registry);
+    registerEventsPerSecond(registry);
   }
 
   private Timer registerReplayDuration(final MeterRegistry registry) {
@@ -54,6 +57,13 @@ public final class ReplayMetrics {
         .register(registry);
   }
 
+  private void registerEventsPerSecond(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_EVENTS_PER_SECOND;
+    Gauge.builder(meterDoc.getName(), eventsPerSecond, AtomicLong::longValue)
+        .description(meterDoc.getDescription())
+        .register(registry);
+  }
+
   public void event() {
     replayEventsCount.increment();
   }
@@ -62,6 +72,18 @@ public final class ReplayMetrics {
     return MicrometerUtil.timer(replayDurationTimer, Timer.start(clock));
   }
 
+  /**
+   * Updates the replay throughput with a committed replay transaction.
+   *
+   * @param events the number of events replayed in the transaction
+   * @param durationNanos the time it took to replay and commit the transaction
+   */
+  public void observeThroughput(final long events, final long durationNanos) {
+    if (durationNanos > 0) {
+      eventsPerSecond.set(events * TimeUnit.SECONDS.toNanos(1) / durationNanos);
+    }
+  }
+
   public void setLastSourcePosition(final long position) {
     lastSourcePosition.set(position);
   }
@@ -206,6 +206,24 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of events per second replayed in the last replay transaction */
+  REPLAY_EVENTS_PER_SECOND {
+    @Override
+    public String getDescription() {
+      return "Number of events per second replayed in the last replay transaction";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.events.per.second";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+  },
+
   /** Number of records processed by stream processor */
   STREAM_PROCESSOR_EVENTS {
     @Override
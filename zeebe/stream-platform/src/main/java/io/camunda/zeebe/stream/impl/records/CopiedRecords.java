@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.stream.impl.records;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -50,4 +51,33 @@ public final class CopiedRecords {
         rawEvent.getSourceEventPosition(),
         rawEvent.getTimestamp());
   }
+
+  /**
+   * Copies the given event into a typed record which does not share any buffer with the event, so
+   * it remains valid after the reader moved on, and can be handed to another thread.
+   */
+  public static TypedRecordImpl copyTypedRecord(final int partitionId, final LoggedEvent rawEvent) {
+    final var copiedEvent = copyLoggedEvent(rawEvent);
+
+    final var copiedMetadata = new RecordMetadata();
+    copiedEvent.readMetadata(copiedMetadata);
+    final var copiedValue = UnifiedRecordValue.fromValueType(copiedMetadata.getValueType());
+    copiedEvent.readValue(copiedValue);
+
+    final var copiedRecord = new TypedRecordImpl(partitionId);
+    copiedRecord.wrap(copiedEvent, copiedMetadata, copiedValue);
+    return copiedRecord;
+  }
+
+  /**
+   * Copies the given event into an event which does not share any buffer with it, so it remains
+   * valid after the reader moved on.
+   */
+  public static LoggedEvent copyLoggedEvent(final LoggedEvent rawEvent) {
+    final var buffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(buffer, 0);
+    final var copiedEvent = new LoggedEventImpl();
+    copiedEvent.wrap(buffer, 0);
+    return copiedEvent;
+  }
 }
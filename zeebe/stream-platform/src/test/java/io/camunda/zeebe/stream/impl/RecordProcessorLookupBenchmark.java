@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving the record processor of a record by asking each processor whether it accepts
+ * the value type, as the state machines used to, with the precomputed {@link
+ * RecordProcessorLookup}. Run with {@code -prof gc} to compare the allocation rate.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecordProcessorLookupBenchmark {
+
+  @Param({"PROCESS_INSTANCE", "CHECKPOINT"})
+  public ValueType valueType;
+
+  private List<RecordProcessor> recordProcessors;
+  private RecordProcessorLookup lookup;
+  private TypedRecord<?> record;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // mirrors the broker, where the engine comes before the checkpoint processor
+    recordProcessors =
+        List.of(
+            new AcceptingProcessor(EnumSet.range(ValueType.JOB, ValueType.SCALE)),
+            new AcceptingProcessor(EnumSet.of(ValueType.CHECKPOINT)));
+    lookup = new RecordProcessorLookup(recordProcessors);
+
+    final var metadata = new RecordMetadata().valueType(valueType);
+    record = new UnwrittenRecord(1, 1, UnifiedRecordValue.fromValueType(valueType), metadata);
+  }
+
+  @Benchmark
+  public RecordProcessor filterProcessors() {
+    return recordProcessors.stream()
+        .filter(p -> p.accepts(record.getValueType()))
+        .findFirst()
+        .orElseThrow(() -> NoSuchProcessorException.forRecord(record));
+  }
+
+  @Benchmark
+  public RecordProcessor lookupProcessor() {
+    return lookup.get(record);
+  }
+
+  private record AcceptingProcessor(EnumSet<ValueType> valueTypes) implements RecordProcessor {
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueTypes.contains(valueType);
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
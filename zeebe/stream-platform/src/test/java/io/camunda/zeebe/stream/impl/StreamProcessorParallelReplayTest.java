@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATED;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorParallelReplayTest {
+
+  private static final int REPLAY_WORKERS = 2;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  private final Map<Long, AtomicInteger> replays = new ConcurrentHashMap<>();
+  private final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+  private volatile Consumer<TypedRecord<?>> beforeReplay = record -> {};
+
+  @BeforeEach
+  void setup() {
+    streamPlatform.withRecordProcessors(List.of(new ReplayRecordingProcessor()));
+  }
+
+  @Test
+  void shouldRetryUncommittedEventsAfterPartialCommit() {
+    // given - the events of instance 2 after the serial job event fail once, after all other
+    // events were committed
+    failOnce.add(5L);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(1)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.event()
+            .key(2)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .causedBy(0),
+        RecordToWrite.event().key(3).job(JobIntent.CREATED, Records.job(1)).causedBy(0),
+        RecordToWrite.event()
+            .key(4)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.event()
+            .key(5)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .causedBy(0));
+
+    // when
+    final var streamProcessor = startStreamProcessorWithParallelReplay();
+
+    // then - only the failed event is replayed again, the committed ones are kept
+    await("should mark the replayed events as processed")
+        .until(() -> streamProcessor.getLastProcessedPositionAsync().join(), pos -> pos > 0);
+    assertThat(replays)
+        .containsOnlyKeys(1L, 2L, 3L, 4L, 5L)
+        .allSatisfy(
+            (key, count) -> assertThat(count).as("replays of %d", key).hasValue(key == 5L ? 2 : 1));
+    assertThat(streamProcessor.isFailed()).isFalse();
+  }
+
+  @Test
+  void shouldReplaySerialEventWithoutWaitingForOtherInstances() throws InterruptedException {
+    // given - instance 2 is blocked until the serial event of instance 1 was replayed
+    final var serialEventReplayed = new CountDownLatch(1);
+    final var blockedEventReplayed = new CountDownLatch(1);
+    beforeReplay =
+        record -> {
+          if (record.getKey() == 2L && awaitUninterruptibly(serialEventReplayed)) {
+            blockedEventReplayed.countDown();
+          } else if (record.getKey() == 3L) {
+            serialEventReplayed.countDown();
+          }
+        };
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(1)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.event()
+            .key(2)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .causedBy(0),
+        RecordToWrite.event()
+            .key(3)
+            .processInstance(ELEMENT_ACTIVATED, Records.processInstance(1))
+            .causedBy(0));
+
+    // when
+    startStreamProcessorWithParallelReplay();
+
+    // then - the serial event only waited for the events of its own instance
+    assertThat(blockedEventReplayed.await(10, TimeUnit.SECONDS))
+        .describedAs("the serial event is replayed while instance 2 is still blocked")
+        .isTrue();
+    await("should replay all events").until(() -> replays.size() == 3);
+  }
+
+  private StreamProcessor startStreamProcessorWithParallelReplay() {
+    return streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        false,
+        cfg ->
+            cfg.streamProcessorMode(StreamProcessorMode.REPLAY)
+                .replayWorkers(REPLAY_WORKERS, () -> List.of(new ReplayRecordingProcessor())));
+  }
+
+  private static boolean awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Replays element activating events by their process instance, element activated events serially
+   * but scoped to their process instance, and any other event serially. Records the replays by the
+   * key of the event.
+   */
+  private final class ReplayRecordingProcessor implements RecordProcessor {
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {
+      beforeReplay.accept(record);
+      replays.computeIfAbsent(record.getKey(), key -> new AtomicInteger()).incrementAndGet();
+      if (failOnce.remove(record.getKey())) {
+        throw new ZeebeDbException(new RuntimeException("expected"));
+      }
+    }
+
+    @Override
+    public long replayAffinityKey(final TypedRecord<?> record) {
+      return record.getIntent() == ELEMENT_ACTIVATING
+          ? ((ProcessInstanceRecordValue) record.getValue()).getProcessInstanceKey()
+          : NO_REPLAY_AFFINITY;
+    }
+
+    @Override
+    public long serialReplayAffinityKey(final TypedRecord<?> record) {
+      return record.getIntent() == ELEMENT_ACTIVATED
+          ? ((ProcessInstanceRecordValue) record.getValue()).getProcessInstanceKey()
+          : NO_REPLAY_AFFINITY;
+    }
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException("only replays events");
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException("only replays events");
+    }
+  }
+}
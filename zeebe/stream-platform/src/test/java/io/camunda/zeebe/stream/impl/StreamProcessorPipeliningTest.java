@@ -0,0 +1,411 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.Either;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipeliningTest {
+
+  private static final long TIMEOUT_MILLIS = 5_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+  private static final int PIPELINE_DEPTH = 3;
+  private static final int COMMAND_COUNT = PIPELINE_DEPTH + 1;
+  private static final int REQUEST_STREAM_ID = 1;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  private final KeyRecordingProcessor processor = new KeyRecordingProcessor();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ScriptedWriter writer;
+  private List<Long> commandPositions;
+
+  @BeforeEach
+  void setup() {
+    final var logContext = streamPlatform.createLogContext(new ListLogStorage(), 1);
+    final var logStreamWriter = logContext.setupWriter();
+    commandPositions =
+        IntStream.range(0, COMMAND_COUNT)
+            .mapToObj(
+                i ->
+                    logStreamWriter
+                        .tryWrite(
+                            WriteContext.internal(),
+                            List.of(
+                                RecordToWrite.command()
+                                    .processInstance(
+                                        ACTIVATE_ELEMENT, Records.processInstance(i + 1))))
+                        .get())
+            .toList();
+
+    // the commands are written, the stream processor writes through the scripted writer
+    writer = new ScriptedWriter(logStreamWriter);
+    final var spyLogStream = spy(logContext.logStream());
+    when(spyLogStream.newLogStreamWriter()).thenReturn(writer);
+    streamPlatform.setLogContext(
+        new StreamPlatform.LogContext(spyLogStream, logContext.meterRegistry()));
+    streamPlatform.withRecordProcessors(List.of(processor));
+  }
+
+  @Test
+  void shouldNotProcessMoreCommandsThanPipelineDepthWhileBackpressured() {
+    // given
+    writer.backpressure(true);
+
+    // when
+    startStreamProcessor();
+
+    // then - the pipeline is full, and nothing is committed or released
+    await("pipeline is filled")
+        .untilAsserted(() -> assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH));
+    verify(streamPlatform.getMockCommandResponseWriter(), after(500).never())
+        .tryWriteResponse(anyInt(), anyLong());
+    assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH);
+    assertThat(processor.executedPostCommitTasks()).isEmpty();
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+        .isLessThan(commandPositions.getFirst());
+
+    // when
+    writer.backpressure(false);
+
+    // then
+    assertEachCommandProcessedOnce();
+    assertThat(processor.invocations()).isEqualTo(COMMAND_COUNT);
+  }
+
+  @Test
+  void shouldProcessAllPipelinedCommandsAgainIfFirstBatchCannotBeWritten() {
+    // given
+    final var skippedCommandPosition = commandPositions.get(1);
+    processor.skip(skippedCommandPosition);
+    writer.backpressure(true);
+    startStreamProcessor();
+    await("pipeline is filled")
+        .untilAsserted(() -> assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH));
+
+    // when
+    writer.rejectOnce(commandPositions.getFirst());
+    writer.backpressure(false);
+
+    // then - all pipelined commands are processed again, against the rolled back state
+    assertEachCommandProcessedOnce();
+    assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH + COMMAND_COUNT);
+    commandPositions.stream()
+        .limit(PIPELINE_DEPTH)
+        .forEach(position -> assertThat(processor.keysGeneratedFor(position)).hasSize(2));
+
+    // the skipped command is only reported once it is committed, and the processing of the
+    // discarded commands is timed as well
+    verify(streamPlatform.getMockStreamProcessorListener(), after(500).times(1))
+        .onSkipped(argThat(event -> event.getPosition() == skippedCommandPosition));
+    assertThat(processingDurationCount()).isEqualTo(PIPELINE_DEPTH + COMMAND_COUNT);
+  }
+
+  @Test
+  void shouldCommitWrittenBatchesIfLaterBatchCannotBeWritten() {
+    // given
+    writer.backpressure(true);
+    startStreamProcessor();
+    await("pipeline is filled")
+        .untilAsserted(() -> assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH));
+
+    // when
+    writer.rejectOnce(commandPositions.get(1));
+    writer.backpressure(false);
+
+    // then - the first batch is committed once, the later ones are processed again
+    assertEachCommandProcessedOnce();
+    assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH - 1 + COMMAND_COUNT);
+    assertThat(processor.keysGeneratedFor(commandPositions.get(0))).hasSize(1);
+    assertThat(processor.keysGeneratedFor(commandPositions.get(1))).hasSize(2);
+    assertThat(processor.keysGeneratedFor(commandPositions.get(2))).hasSize(2);
+  }
+
+  @Test
+  void shouldDiscardStateChangesOfFailedPipelinedCommand() {
+    // given
+    final var failingCommandPosition = commandPositions.get(PIPELINE_DEPTH - 1);
+    processor.failOnce(failingCommandPosition);
+    writer.backpressure(true);
+    startStreamProcessor();
+    await("failing command is processed")
+        .untilAsserted(() -> assertThat(processor.invocations()).isEqualTo(PIPELINE_DEPTH));
+
+    // when
+    writer.backpressure(false);
+
+    // then - the failed command is processed again against the state before it, so it doesn't go
+    // through the error handling
+    assertEachCommandProcessedOnce();
+    assertThat(processor.invocations()).isEqualTo(COMMAND_COUNT + 1);
+    assertThat(processor.keysGeneratedFor(failingCommandPosition)).hasSize(2);
+    assertThat(processor.processingErrors()).isZero();
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(COMMAND_COUNT))
+        .onProcessed(any());
+    verify(streamPlatform.getMockStreamProcessorListener(), never())
+        .onSkipped(argThat(event -> commandPositions.contains(event.getPosition())));
+  }
+
+  private void startStreamProcessor() {
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.pipelineDepth(PIPELINE_DEPTH).meterRegistry(meterRegistry));
+  }
+
+  private long processingDurationCount() {
+    return meterRegistry.find(StreamMetricsDoc.PROCESSING_DURATION.getName()).timers().stream()
+        .mapToLong(Timer::count)
+        .sum();
+  }
+
+  /**
+   * Verifies that the state changes, follow-up records, responses and post commit tasks of every
+   * command are committed, written and released exactly once, i.e. nothing of a discarded batch
+   * survived.
+   */
+  private void assertEachCommandProcessedOnce() {
+    await("all commands are processed")
+        .untilAsserted(
+            () ->
+                assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+                    .isEqualTo(commandPositions.getLast()));
+
+    // skipped commands have no response, post commit task nor follow-up event
+    final var respondingPositions =
+        commandPositions.stream().filter(position -> !processor.isSkipped(position)).toList();
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    verify(responseWriter, TIMEOUT.times(respondingPositions.size()))
+        .tryWriteResponse(anyInt(), anyLong());
+    respondingPositions.forEach(
+        position ->
+            verify(responseWriter, TIMEOUT.times(1))
+                .tryWriteResponse(eq(REQUEST_STREAM_ID), eq(position)));
+    await("all post commit tasks are executed")
+        .untilAsserted(
+            () ->
+                assertThat(processor.executedPostCommitTasks())
+                    .containsExactlyElementsOf(respondingPositions));
+
+    assertThat(
+            streamPlatform
+                .events()
+                .filter(event -> event.getSourceEventPosition() > 0)
+                .map(LoggedEvent::getSourceEventPosition))
+        .describedAs("follow-up events are written once per command")
+        .containsExactlyElementsOf(respondingPositions);
+
+    // a command which is processed again generates the same key, so its discarded state changes
+    // were rolled back
+    final var committedKeys =
+        commandPositions.stream().map(processor::committedKeyFor).distinct().toList();
+    assertThat(committedKeys).hasSize(COMMAND_COUNT);
+    assertThat(streamPlatform.getCurrentKey()).isEqualTo(committedKeys.getLast());
+  }
+
+  /**
+   * Generates a key for every processed command, which changes the state, and responds with it,
+   * unless the command is to be skipped. Records the generated keys per command position, to verify
+   * that the state changes of discarded commands are rolled back.
+   */
+  private static final class KeyRecordingProcessor implements RecordProcessor {
+
+    private final Map<Long, List<Long>> generatedKeys = new ConcurrentHashMap<>();
+    private final List<Long> executedPostCommitTasks = new CopyOnWriteArrayList<>();
+    private final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+    private final Set<Long> skipped = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicInteger processingErrors = new AtomicInteger();
+    private KeyGenerator keyGenerator;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      keyGenerator = recordProcessorContext.getKeyGenerator();
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      invocations.incrementAndGet();
+      final long position = record.getPosition();
+      final long key = keyGenerator.nextKey();
+      generatedKeys.computeIfAbsent(position, p -> new CopyOnWriteArrayList<>()).add(key);
+      if (failOnce.remove(position)) {
+        throw new IllegalStateException("expected");
+      }
+      if (skipped.contains(position)) {
+        return processingResultBuilder.build();
+      }
+
+      final var value = Records.processInstance(1);
+      processingResultBuilder.appendRecord(
+          key,
+          value,
+          new RecordMetadata()
+              .recordType(RecordType.EVENT)
+              .valueType(ValueType.PROCESS_INSTANCE)
+              .intent(ELEMENT_ACTIVATED));
+      processingResultBuilder.withResponse(
+          RecordType.EVENT,
+          key,
+          ELEMENT_ACTIVATED,
+          value,
+          ValueType.PROCESS_INSTANCE,
+          RejectionType.NULL_VAL,
+          "",
+          position,
+          REQUEST_STREAM_ID);
+      processingResultBuilder.appendPostCommitTask(() -> executedPostCommitTasks.add(position));
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      processingErrors.incrementAndGet();
+      return processingResultBuilder.build();
+    }
+
+    private void failOnce(final long position) {
+      failOnce.add(position);
+    }
+
+    private void skip(final long position) {
+      skipped.add(position);
+    }
+
+    private boolean isSkipped(final long position) {
+      return skipped.contains(position);
+    }
+
+    private int invocations() {
+      return invocations.get();
+    }
+
+    private int processingErrors() {
+      return processingErrors.get();
+    }
+
+    private List<Long> executedPostCommitTasks() {
+      return executedPostCommitTasks;
+    }
+
+    private List<Long> keysGeneratedFor(final long position) {
+      return generatedKeys.getOrDefault(position, List.of());
+    }
+
+    private long committedKeyFor(final long position) {
+      final var keys = keysGeneratedFor(position);
+      assertThat(keys).describedAs("keys generated for command %d", position).isNotEmpty();
+      assertThat(keys)
+          .describedAs("keys generated for command %d, which is processed again", position)
+          .containsOnly(keys.getFirst());
+      return keys.getLast();
+    }
+  }
+
+  /** Writes through to the log, unless it is told to be backpressured or to reject a batch. */
+  private static final class ScriptedWriter implements LogStreamWriter {
+
+    private final LogStreamWriter delegate;
+    private final AtomicBoolean backpressured = new AtomicBoolean();
+    private final Set<Long> rejectOnce = ConcurrentHashMap.newKeySet();
+
+    private ScriptedWriter(final LogStreamWriter delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean canWriteEvents(final int eventCount, final int batchSize) {
+      return delegate.canWriteEvents(eventCount, batchSize);
+    }
+
+    @Override
+    public Either<WriteFailure, Long> tryWrite(
+        final WriteContext context,
+        final List<LogAppendEntry> appendEntries,
+        final long sourcePosition) {
+      if (backpressured.get()) {
+        return Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED);
+      }
+      if (rejectOnce.remove(sourcePosition)) {
+        return Either.left(WriteFailure.INVALID_ARGUMENT);
+      }
+      return delegate.tryWrite(context, appendEntries, sourcePosition);
+    }
+
+    private void backpressure(final boolean backpressured) {
+      this.backpressured.set(backpressured);
+    }
+
+    /** Rejects the next batch of follow-up records of the command at the given position. */
+    private void rejectOnce(final long sourcePosition) {
+      rejectOnce.add(sourcePosition);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.protocol.Protocol;
@@ -333,8 +334,9 @@ final class StreamProcessorReplayTest {
 
   private static void verifyProcessingErrorLifecycle(final RecordProcessor processorWhichFails) {
     final var inOrder = inOrder(processorWhichFails);
-    inOrder.verify(processorWhichFails, TIMEOUT).init(any());
+    // the responsible processor is looked up once, when the stream processor is built
     inOrder.verify(processorWhichFails, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
+    inOrder.verify(processorWhichFails, TIMEOUT).init(any());
     inOrder.verify(processorWhichFails, TIMEOUT).process(any(), any());
     inOrder.verify(processorWhichFails, TIMEOUT).onProcessingError(any(), any(), any());
     inOrder.verifyNoMoreInteractions();
@@ -472,4 +474,37 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayMultipleBatchesInBulk() {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(2),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(4));
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.streamProcessorMode(StreamProcessorMode.PROCESSING).bulkReplayMaxEvents(4));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, times(3)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+  }
 }
@@ -200,10 +200,10 @@ public final class StreamProcessorTest {
 
     // then
     final var inOrder = inOrder(defaultRecordProcessor);
-    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
+    // the responsible processor is looked up once, when the stream processor is built
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).replay(any());
-    inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
     inOrder.verifyNoMoreInteractions();
   }
@@ -225,8 +225,9 @@ public final class StreamProcessorTest {
 
     // then
     final var inOrder = inOrder(defaultRecordProcessor);
-    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
+    // the responsible processor is looked up once, when the stream processor is built
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
@@ -323,8 +324,9 @@ public final class StreamProcessorTest {
 
     // then
     final var inOrder = inOrder(defaultRecordProcessor);
-    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
+    // the responsible processor is looked up once, when the stream processor is built
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT.atLeast(5))
@@ -931,6 +933,44 @@ public final class StreamProcessorTest {
     verify(commandResponseWriter, TIMEOUT.times(1)).tryWriteResponse(anyInt(), anyLong());
   }
 
+  @Test
+  void shouldProcessAndRespondWithPipelinedProcessing() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.withResponse(
+        RecordType.EVENT,
+        3,
+        ELEMENT_ACTIVATING,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        1,
+        12);
+    when(defaultMockedRecordProcessor.process(any(), any()))
+        .thenReturn(resultBuilder.build())
+        .thenReturn(EmptyProcessingResult.INSTANCE);
+
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.pipelineDepth(4));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(defaultMockedRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    verify(streamPlatform.getMockCommandResponseWriter(), TIMEOUT.times(1))
+        .tryWriteResponse(anyInt(), anyLong());
+    await("last processed position is committed")
+        .untilAsserted(
+            () ->
+                assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(2));
+  }
+
   @Test
   public void shouldWriteMultipleResponses() {
     // given
@@ -1436,8 +1476,9 @@ public final class StreamProcessorTest {
 
     // then
     final var inOrder = inOrder(defaultRecordProcessor);
-    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
+    // the responsible processor is looked up once, when the stream processor is built
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
@@ -1518,7 +1559,7 @@ public final class StreamProcessorTest {
     // then -- command is skipped and processor is not used
     verify(streamPlatform.getMockStreamProcessorListener(), timeout(TIMEOUT_MILLIS))
         .onSkipped(any());
-    verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).accepts(any());
+    verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).replay(any());
     verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).process(any(), any());
   }
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db;
 
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -57,6 +58,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key, Supplier<ValueType> valueSupplier);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than calling {@link
+   * #get(KeyType)} for each key, and visits the found key-value pairs in the order of the given
+   * keys. Keys which don't exist are skipped. Like {@link #get(KeyType)}, this sees the uncommitted
+   * writes of the current transaction.
+   *
+   * <p>The visitor receives the given key instances, so each key must be a separate instance. The
+   * value is only valid until the visitor returns, and should not be stored. If the visitor returns
+   * false, the remaining pairs are not visited.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which visits the found key-value pairs
+   */
+  void multiGet(List<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Called when a point lookup is served from the column family's read-through cache. */
+  void observeCacheHit();
+
+  /** Called when a point lookup of a cached column family has to read from RocksDB. */
+  void observeCacheMiss();
 }
@@ -53,12 +53,71 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of point lookups served from the read-through cache of a column family */
+  CACHE_HITS {
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of point lookups served from the read-through cache of a column family";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return CACHE_KEYS;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of point lookups of a cached column family which had to read from RocksDB */
+  CACHE_MISSES {
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of point lookups of a cached column family which had to read from RocksDB";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return CACHE_KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
     }
   };
 
+  private static final KeyName[] CACHE_KEYS =
+      new KeyName[] {PartitionKeyNames.PARTITION, ColumnFamilyMetricsKeyName.COLUMN_FAMILY};
+
   @SuppressWarnings("NullableProblems")
   public enum ColumnFamilyMetricsKeyName implements KeyName {
     /** The name of the column family */
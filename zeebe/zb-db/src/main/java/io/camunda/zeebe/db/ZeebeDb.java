@@ -54,6 +54,15 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * Flushes all in-memory writes to disk and waits until they are persisted, such that changes
+   * committed without the write-ahead log (see {@link ZeebeDbTransaction#commitWithoutWal()}) are
+   * durable.
+   *
+   * @throws ZeebeDbException if the flush fails
+   */
+  default void flush() {}
+
   TransactionContext createContext();
 
   /**
@@ -31,6 +31,19 @@ public interface ZeebeDbTransaction {
    */
   void commit() throws Exception;
 
+  /**
+   * Commits the transaction like {@link #commit()}, but never writes it to the write-ahead log,
+   * even if the log is enabled. The changes are only durable once the database is flushed, see
+   * {@link ZeebeDb#flush()}. Use this only for changes which can be recovered otherwise, e.g. by
+   * replaying the log stream.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  default void commitWithoutWal() throws Exception {
+    commit();
+  }
+
   /**
    * Rolls the transaction back to the latest commit, discards all changes in between.
    *
@@ -38,4 +51,20 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that later changes can be discarded via {@link
+   * #rollbackToSavePoint()} without discarding the changes made before. Save points are nested, and
+   * are removed on commit and rollback.
+   */
+  void setSavePoint();
+
+  /**
+   * Discards all changes made since the latest save point, and removes that save point.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if
+   *     there is no save point
+   */
+  void rollbackToSavePoint() throws Exception;
 }
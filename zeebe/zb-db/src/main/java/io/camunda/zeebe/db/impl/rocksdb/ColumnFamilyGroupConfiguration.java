@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import org.rocksdb.RocksDB;
+
+/**
+ * Maps a group of logical column families (e.g. {@code ZbColumnFamilies}) to their own physical
+ * RocksDB column family, which can be tuned independently of the default column family. This lets
+ * hot, short-lived data (e.g. jobs or timers) be compacted separately from large, cold data (e.g.
+ * deployed processes or variables).
+ *
+ * @param name the name of the physical column family; must not be {@code default}
+ * @param columnFamilies the names of the logical column families stored in this group, as given by
+ *     their enum constant names
+ * @param columnFamilyOptions RocksDB column family options for this group, e.g. {@code
+ *     compaction_style} or {@code compression_per_level}; these take precedence over the global
+ *     {@link RocksDbConfiguration#getColumnFamilyOptions()}, which take precedence over our
+ *     defaults
+ * @param blockCacheShare if greater than 0, the group gets a dedicated block cache sized as this
+ *     fraction of the block cache budget of a partition; otherwise it shares the partition's block
+ *     cache. A dedicated cache is allocated in addition to the partition's block cache.
+ * @param bloomFilterBitsPerKey bits per key of the group's bloom filter; 0 disables the filter
+ */
+public record ColumnFamilyGroupConfiguration(
+    String name,
+    Set<String> columnFamilies,
+    Properties columnFamilyOptions,
+    double blockCacheShare,
+    int bloomFilterBitsPerKey) {
+
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
+  public ColumnFamilyGroupConfiguration {
+    Objects.requireNonNull(name, "must specify a column family group name");
+    if (name.isBlank() || name.equals(new String(RocksDB.DEFAULT_COLUMN_FAMILY))) {
+      throw new IllegalArgumentException(
+          "Expected column family group name to be neither blank nor 'default', but was '%s'"
+              .formatted(name));
+    }
+    columnFamilies = Set.copyOf(columnFamilies);
+    columnFamilyOptions = Objects.requireNonNullElseGet(columnFamilyOptions, Properties::new);
+    if (blockCacheShare < 0 || blockCacheShare > 1) {
+      throw new IllegalArgumentException(
+          "Expected block cache share of column family group '%s' to be between 0 and 1, but was %s"
+              .formatted(name, blockCacheShare));
+    }
+    if (bloomFilterBitsPerKey < 0) {
+      throw new IllegalArgumentException(
+          "Expected bloom filter bits per key of column family group '%s' to be at least 0, but was %d"
+              .formatted(name, bloomFilterBitsPerKey));
+    }
+  }
+
+  public ColumnFamilyGroupConfiguration(final String name, final Set<String> columnFamilies) {
+    this(name, columnFamilies, new Properties(), 0, DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
+  }
+}
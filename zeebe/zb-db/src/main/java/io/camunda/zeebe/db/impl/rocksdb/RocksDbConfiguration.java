@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +47,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final int DEFAULT_COLUMN_FAMILY_CACHE_CAPACITY = 10_000;
   public static final MemoryAllocationStrategy DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY =
       MemoryAllocationStrategy.FRACTION;
   private Properties columnFamilyOptions = new Properties();
@@ -77,6 +82,27 @@ public final class RocksDbConfiguration {
   private MemoryAllocationStrategy memoryAllocationStrategy =
       DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY;
 
+  /**
+   * Groups of logical column families which are stored in their own physical RocksDB column family,
+   * each tuned independently. Logical column families which are not part of any group are stored in
+   * the default column family. Per default there are no groups, and everything is stored in the
+   * default column family.
+   *
+   * <p>Existing state is migrated when the database is opened: the entries of a logical column
+   * family are moved to its configured physical column family when it is first accessed.
+   */
+  private List<ColumnFamilyGroupConfiguration> columnFamilyGroups = List.of();
+
+  /**
+   * Logical column families, by enum constant name, whose point lookups are served from an
+   * in-memory read-through cache. The cache only holds committed values, and is invalidated by
+   * writes. Per default no column family is cached.
+   */
+  private Set<String> cachedColumnFamilies = Set.of();
+
+  /** Maximum number of entries kept in the read-through cache of each cached column family. */
+  private int columnFamilyCacheCapacity = DEFAULT_COLUMN_FAMILY_CACHE_CAPACITY;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -180,6 +206,57 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public List<ColumnFamilyGroupConfiguration> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroups(
+      final List<ColumnFamilyGroupConfiguration> columnFamilyGroups) {
+    final var groupNames = new HashSet<String>();
+    final var groupedColumnFamilies = new HashMap<String, String>();
+    for (final var group : columnFamilyGroups) {
+      if (!groupNames.add(group.name())) {
+        throw new IllegalArgumentException(
+            "Expected column family group names to be unique, but '%s' is configured twice"
+                .formatted(group.name()));
+      }
+      for (final var columnFamily : group.columnFamilies()) {
+        final var otherGroup = groupedColumnFamilies.putIfAbsent(columnFamily, group.name());
+        if (otherGroup != null) {
+          throw new IllegalArgumentException(
+              "Expected column family '%s' to be part of at most one group, but it is part of '%s' and '%s'"
+                  .formatted(columnFamily, otherGroup, group.name()));
+        }
+      }
+    }
+
+    this.columnFamilyGroups = List.copyOf(columnFamilyGroups);
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = Set.copyOf(cachedColumnFamilies);
+    return this;
+  }
+
+  public int getColumnFamilyCacheCapacity() {
+    return columnFamilyCacheCapacity;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheCapacity(final int columnFamilyCacheCapacity) {
+    if (columnFamilyCacheCapacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected column family cache capacity to be greater than 0, but was %d"
+              .formatted(columnFamilyCacheCapacity));
+    }
+    this.columnFamilyCacheCapacity = columnFamilyCacheCapacity;
+    return this;
+  }
+
   public enum MemoryAllocationStrategy {
     PARTITION,
     BROKER,
@@ -58,6 +58,9 @@ public sealed interface RocksDbResources {
   /** Write buffer budget for a single partition's DB, after splitting any shared budget. */
   long writeBufferBudgetPerPartition();
 
+  /** Block cache budget for a single partition's DB, after splitting any shared budget. */
+  long blockCacheBudgetPerPartition();
+
   record RuntimeInfo(long hostMemory, int partitionCount) {
     public RuntimeInfo(final int partitionCount) {
       this(
@@ -78,10 +81,12 @@ public sealed interface RocksDbResources {
 
     private final LRUCache cache;
     private final WriteBufferManager writeBufferManager;
+    private final long memoryLimit;
     private final long writeBufferBudget;
     private final int partitionCount;
 
     public Shared(final long memoryLimit, final int partitionCount) {
+      this.memoryLimit = memoryLimit;
       cache = new LRUCache(memoryLimit, 8, false, 0.15);
       // Use up to 2/3 of the memory budget for write buffers
       writeBufferBudget = (long) (memoryLimit * (2 / 3.0));
@@ -94,6 +99,11 @@ public sealed interface RocksDbResources {
       return writeBufferBudget / partitionCount;
     }
 
+    @Override
+    public long blockCacheBudgetPerPartition() {
+      return memoryLimit / partitionCount;
+    }
+
     /**
      * Returns the shared block cache instance. Must be closed when the broker is stopped or when
      * all partitions are closed.
@@ -138,5 +148,10 @@ public sealed interface RocksDbResources {
     public long writeBufferBudgetPerPartition() {
       return memoryLimit - blockCacheBudget;
     }
+
+    @Override
+    public long blockCacheBudgetPerPartition() {
+      return blockCacheBudget;
+    }
   }
 }
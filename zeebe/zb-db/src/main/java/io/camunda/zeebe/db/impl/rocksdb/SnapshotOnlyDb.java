@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyContext;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RawTransactionalColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.ColumnFamilyScope;
@@ -22,6 +23,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +31,7 @@ import java.util.Set;
 import org.agrona.CloseHelper;
 import org.agrona.collections.MutableBoolean;
 import org.rocksdb.Checkpoint;
-import org.rocksdb.Options;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
@@ -40,10 +42,15 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
   private static final Logger LOG = Loggers.DB_LOGGER;
 
   private final RocksDB db;
+  private final List<ColumnFamilyHandle> handles;
   private final List<AutoCloseable> managedResources;
 
-  public SnapshotOnlyDb(final RocksDB db, final List<AutoCloseable> managedResources) {
+  public SnapshotOnlyDb(
+      final RocksDB db,
+      final List<ColumnFamilyHandle> handles,
+      final List<AutoCloseable> managedResources) {
     this.db = db;
+    this.handles = handles;
     this.managedResources = managedResources;
   }
 
@@ -99,12 +106,18 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db =
+        RocksDB.openReadOnly(
+            options.dbOptions(), path, options.existingColumnFamilyDescriptors(path), handles);
     managedResources.add(db);
+    managedResources.addAll(handles);
 
-    return new SnapshotOnlyDb<>(db, managedResources);
+    return new SnapshotOnlyDb<>(db, handles, managedResources);
   }
 
   private UnsupportedOperationException unsupported(final String operation) {
@@ -134,28 +147,35 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
               cfContext.withPrefixKey(
                   new DbNullKey(),
                   (prefixKey, prefixLength) -> {
-                    try (final RocksIterator iterator = db.newIterator(readOptions)) {
-                      RawTransactionalColumnFamily.forEachPreallocated(
-                          iterator,
-                          cf,
-                          prefixKey,
-                          0,
-                          prefixLength,
-                          (key, keyOffset, keyLen, value, valueOffset, valueLen) -> {
-                            try {
-                              toCf.rawPut(toTx, key, keyLen, value, valueLen);
-                            } catch (final Exception e) {
-                              LOG.error(
-                                  "Failed to copy column family '{}' on key {} and value with length {} terminating.",
-                                  cf,
-                                  new String(key, 0, keyLen),
-                                  value.length,
-                                  e);
-                              abort.set(true);
-                              return false;
-                            }
-                            return true;
-                          });
+                    // a logical column family may be stored in any physical column family,
+                    // depending on the column family groups the snapshot was taken with
+                    for (final var handle : handles) {
+                      if (abort.get()) {
+                        break;
+                      }
+                      try (final RocksIterator iterator = db.newIterator(handle, readOptions)) {
+                        RawTransactionalColumnFamily.forEachPreallocated(
+                            iterator,
+                            cf,
+                            prefixKey,
+                            0,
+                            prefixLength,
+                            (key, keyOffset, keyLen, value, valueOffset, valueLen) -> {
+                              try {
+                                toCf.rawPut(toTx, key, keyLen, value, valueLen);
+                              } catch (final Exception e) {
+                                LOG.error(
+                                    "Failed to copy column family '{}' on key {} and value with length {} terminating.",
+                                    cf,
+                                    new String(key, 0, keyLen),
+                                    value.length,
+                                    e);
+                                abort.set(true);
+                                return false;
+                              }
+                              return true;
+                            });
+                      }
                     }
                   });
             });
@@ -24,18 +24,21 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Supplier;
 import org.agrona.CloseHelper;
+import org.jspecify.annotations.Nullable;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
-import org.rocksdb.Options;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
@@ -108,17 +111,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources, true);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -129,11 +130,18 @@ public final class ZeebeRocksDbFactory<
   private RocksDbOptions prepareOptions(
       final List<AutoCloseable> managedResources, final boolean avoidFlush) {
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var blockCache = createPartitionBlockCache(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache, null);
     managedResources.add(columnFamilyOptions);
+    final var groupColumnFamilyOptions = new HashMap<String, ColumnFamilyOptions>();
+    for (final var group : rocksDbConfiguration.getColumnFamilyGroups()) {
+      final var groupOptions = createColumnFamilyOptions(managedResources, blockCache, group);
+      managedResources.add(groupOptions);
+      groupColumnFamilyOptions.put(group.name(), groupOptions);
+    }
     final var dbOptions = createDefaultDbOptions(managedResources, avoidFlush);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, groupColumnFamilyOptions);
   }
 
   private DBOptions createDefaultDbOptions(
@@ -154,7 +162,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // we only use the default CF, unless column family groups are configured
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -167,6 +175,15 @@ public final class ZeebeRocksDbFactory<
             .setLogFileTimeToRoll(Duration.ofMinutes(30).toSeconds())
             .setKeepLogFileNum(2);
 
+    if (!rocksDbConfiguration.getColumnFamilyGroups().isEmpty()) {
+      dbOptions
+          // column family groups are created when first configured
+          .setCreateMissingColumnFamilies(true)
+          // the WAL is usually disabled, so all column families must be flushed together for
+          // checkpoints to be consistent across them
+          .setAtomicFlush(true);
+    }
+
     if (rocksDbResources instanceof final Shared sharedMemory) {
       dbOptions.setWriteBufferManager(sharedMemory.getSharedWriteBufferManager());
     }
@@ -202,9 +219,24 @@ public final class ZeebeRocksDbFactory<
    * @return configured ColumnFamilyOptions with merged user and default settings
    */
   public ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, createPartitionBlockCache(closeables), null);
+  }
+
+  /**
+   * Creates the column family options of the given group, or of the default column family if no
+   * group is given. Group options take precedence over user-provided options, which take precedence
+   * over our defaults.
+   */
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final Cache partitionBlockCache,
+      final @Nullable ColumnFamilyGroupConfiguration group) {
     final var options = createDefaultColumnFamilyOptionsAsProperties(rocksDbResources);
     // Overwrite with user-provided options
     options.putAll(rocksDbConfiguration.getColumnFamilyOptions());
+    if (group != null) {
+      options.putAll(group.columnFamilyOptions());
+    }
 
     final var columnFamilyOptions = ColumnFamilyOptions.getColumnFamilyOptionsFromProps(options);
     if (columnFamilyOptions == null) {
@@ -212,13 +244,26 @@ public final class ZeebeRocksDbFactory<
           String.format(
               "Expected to create column family options for RocksDB, "
                   + "but one or many values are undefined in the context of RocksDB "
-                  + "[User-provided ColumnFamilyOptions: %s]. "
+                  + "[User-provided ColumnFamilyOptions: %s, column family group: %s]. "
                   + "See RocksDB's cf_options.h and options_helper.cc for available keys and values.",
-              rocksDbConfiguration.getColumnFamilyOptions()));
+              rocksDbConfiguration.getColumnFamilyOptions(), group));
     }
 
     // Apply configuration that cannot be set via Properties
-    final var tableConfig = createTableFormatConfig(closeables, rocksDbResources);
+    final TableFormatConfig tableConfig;
+    if (group == null) {
+      tableConfig =
+          createTableFormatConfig(
+              closeables,
+              partitionBlockCache,
+              ColumnFamilyGroupConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
+    } else {
+      final var blockCache =
+          group.blockCacheShare() > 0
+              ? createGroupBlockCache(closeables, group)
+              : partitionBlockCache;
+      tableConfig = createTableFormatConfig(closeables, blockCache, group.bloomFilterBitsPerKey());
+    }
     columnFamilyOptions.setTableFormatConfig(tableConfig);
     return columnFamilyOptions;
   }
@@ -254,9 +299,13 @@ public final class ZeebeRocksDbFactory<
     final var maxWriteBuffers = rocksDbConfiguration.getMaxWriteBufferNumber();
     props.setProperty("max_write_buffer_number", RocksDbOptionsFormatter.format(maxWriteBuffers));
 
+    // every physical column family has its own memtables, so the budget is split between them
+    final var physicalColumnFamilies = 1 + rocksDbConfiguration.getColumnFamilyGroups().size();
     final var writeBufferSize =
         Math.round(
-            ((double) memory.writeBufferBudgetPerPartition() / maxWriteBuffers)
+            ((double) memory.writeBufferBudgetPerPartition()
+                    / physicalColumnFamilies
+                    / maxWriteBuffers)
                 * (1 - memtablePrefixFilterMemory));
 
     props.setProperty("write_buffer_size", RocksDbOptionsFormatter.format(writeBufferSize));
@@ -301,29 +350,42 @@ public final class ZeebeRocksDbFactory<
     return props;
   }
 
+  private Cache createPartitionBlockCache(final List<AutoCloseable> closeables) {
+    return switch (rocksDbResources) {
+      case final Shared shared -> shared.getSharedCache();
+      case final PerPartition perPartition -> {
+        final var newCache = perPartition.createNewCache();
+        closeables.add(newCache);
+        yield newCache;
+      }
+    };
+  }
+
+  private Cache createGroupBlockCache(
+      final List<AutoCloseable> closeables, final ColumnFamilyGroupConfiguration group) {
+    final var capacity =
+        Math.round(rocksDbResources.blockCacheBudgetPerPartition() * group.blockCacheShare());
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
+    closeables.add(cache);
+    return cache;
+  }
+
   private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final RocksDbResources memory) {
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
-
-    final var blockCache =
-        switch (memory) {
-          case final Shared shared -> shared.getSharedCache();
-          case final PerPartition perPartition -> {
-            final var newCache = perPartition.createNewCache();
-            closeables.add(newCache);
-            yield newCache;
-          }
-        };
-
-    return new BlockBasedTableConfig()
+      final List<AutoCloseable> closeables, final Cache blockCache, final int bloomBitsPerKey) {
+    final var tableConfig = new BlockBasedTableConfig();
+    if (bloomBitsPerKey > 0) {
+      final var filter = new BloomFilter(bloomBitsPerKey, false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
+
+    return tableConfig
         .setBlockCache(blockCache)
         // increasing block size means reducing memory usage, but increasing read iops
         .setBlockSize(32 * 1024L)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
-        .setFilterPolicy(filter)
         // caching and pinning indexes and filters is important to keep reads/seeks fast when we
         // have many memtables, and pinning them ensures they are never evicted from the block
         // cache
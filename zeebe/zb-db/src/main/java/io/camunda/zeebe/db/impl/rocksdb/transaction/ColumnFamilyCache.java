@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, least-recently-used cache of the committed values of a single logical column family,
+ * shared by all {@link TransactionalColumnFamily} instances of that column family within a
+ * database. Keys include the column family prefix, exactly as they are stored in RocksDB.
+ *
+ * <p>The cache never holds uncommitted values: a write invalidates the key immediately, and again
+ * when its transaction is committed (see {@link ZeebeTransaction}). Until then, the writing
+ * transaction bypasses the cache for that key, since only RocksDB sees its own pending writes. To
+ * prevent a reader from caching a value it read just before a concurrent commit, values are only
+ * cached if no invalidation happened since the reader observed the {@link #version()}.
+ */
+final class ColumnFamilyCache {
+
+  private final Map<DirectBuffer, byte[]> entries;
+  private long version;
+
+  ColumnFamilyCache(final int capacity) {
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<DirectBuffer, byte[]> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * @return the cached value of the given key, or null if it is not cached; the returned array must
+   *     not be modified
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return the current version, to pass to {@link #put(DirectBuffer, byte[], long)}
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches the given value, unless any key was invalidated since the given version was observed.
+   * The key is copied, but the value is not, and must not be modified afterwards.
+   */
+  synchronized void put(final DirectBuffer key, final byte[] value, final long observedVersion) {
+    if (version == observedVersion) {
+      final var keyCopy = new byte[key.capacity()];
+      key.getBytes(0, keyCopy);
+      entries.put(new UnsafeBuffer(keyCopy), value);
+    }
+  }
+
+  synchronized void invalidate(final DirectBuffer key) {
+    version++;
+    entries.remove(key);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.impl.DbBytes;
 import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 import org.slf4j.Logger;
@@ -25,6 +26,9 @@ public class RawTransactionalColumnFamily {
   protected final ZeebeTransactionDb<ZbColumnFamilies> transactionDb;
   protected final ZbColumnFamilies columnFamily;
   protected final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final ColumnFamilyCache cache;
 
   public RawTransactionalColumnFamily(
       final ZeebeTransactionDb<ZbColumnFamilies> transactionDb,
@@ -32,6 +36,9 @@ public class RawTransactionalColumnFamily {
     this.transactionDb = transactionDb;
     this.columnFamily = columnFamily;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
+    cache = transactionDb.getColumnFamilyCache(columnFamily);
   }
 
   /**
@@ -99,11 +106,7 @@ public class RawTransactionalColumnFamily {
 
   public byte[] get(final ZeebeTransaction transaction, final byte[] key, final int keyLen)
       throws Exception {
-    return transaction.get(
-        transactionDb.getDefaultNativeHandle(),
-        transactionDb.getReadOptionsNativeHandle(),
-        key,
-        keyLen);
+    return transaction.get(nativeHandle, transactionDb.getReadOptionsNativeHandle(), key, keyLen);
   }
 
   /** Raw put into the DB ignoring the prefix key and "virtual" column family. */
@@ -114,7 +117,10 @@ public class RawTransactionalColumnFamily {
       final byte[] value,
       final int valueLen)
       throws Exception {
-    transaction.put(transactionDb.getDefaultNativeHandle(), key, keyLen, value, valueLen);
+    transaction.put(nativeHandle, key, keyLen, value, valueLen);
+    if (cache != null) {
+      transaction.invalidateCachedKey(cache, new UnsafeBuffer(key, 0, keyLen));
+    }
   }
 
   /**
@@ -247,7 +253,7 @@ public class RawTransactionalColumnFamily {
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   public interface Visitor {
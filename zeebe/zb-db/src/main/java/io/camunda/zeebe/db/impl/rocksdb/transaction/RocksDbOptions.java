@@ -7,19 +7,90 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 
 /**
  * RocksDB has separate options for the database and the column families. Zeebe configuration can
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Zeebe stores all logical column families in the default RocksDB column family, unless column
+ * family groups are configured, in which case each group is stored in its own physical column
+ * family, with its own options.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options used to open the default column family
+ * @param groupCfOptions The column family options of each configured column family group, by name
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<String, ColumnFamilyOptions> groupCfOptions) {
+
+  /**
+   * Returns the descriptors of all physical column families to open the database at the given path
+   * with: the default column family, all configured groups, and any column family which already
+   * exists in the database, e.g. a group which is not configured anymore. RocksDB requires all
+   * existing column families to be opened; unknown ones are opened with the default options.
+   *
+   * <p>The default column family is always the first descriptor.
+   */
+  public List<ColumnFamilyDescriptor> columnFamilyDescriptors(final String path)
+      throws RocksDBException {
+    final var names = new LinkedHashSet<String>();
+    names.add(new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8));
+    names.addAll(groupCfOptions.keySet());
+    names.addAll(listColumnFamilies(path));
+    return descriptors(names);
+  }
+
+  /**
+   * Returns the descriptors of the physical column families which exist in the database at the
+   * given path, e.g. to open it read-only, where missing column families cannot be created. The
+   * default column family is always the first descriptor.
+   */
+  public List<ColumnFamilyDescriptor> existingColumnFamilyDescriptors(final String path)
+      throws RocksDBException {
+    final var names = new LinkedHashSet<String>();
+    names.add(new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8));
+    names.addAll(listColumnFamilies(path));
+    return descriptors(names);
+  }
+
+  private List<String> listColumnFamilies(final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    try (final var options = new Options(dbOptions, cfOptions)) {
+      final var names = new ArrayList<String>();
+      for (final var name : RocksDB.listColumnFamilies(options, path)) {
+        names.add(new String(name, StandardCharsets.UTF_8));
+      }
+      return names;
+    }
+  }
+
+  private List<ColumnFamilyDescriptor> descriptors(final Collection<String> names) {
+    final var descriptors = new ArrayList<ColumnFamilyDescriptor>(names.size());
+    for (final var name : names) {
+      descriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), groupCfOptions.getOrDefault(name, cfOptions)));
+    }
+    return descriptors;
+  }
+}
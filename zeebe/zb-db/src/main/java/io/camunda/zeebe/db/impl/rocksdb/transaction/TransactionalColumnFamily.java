@@ -23,15 +23,21 @@ import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
 import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.agrona.collections.MutableLong;
 import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -63,6 +69,10 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final ColumnFamilyCache cache;
+  private final UnsafeBuffer cacheKey = new UnsafeBuffer(0, 0);
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -81,6 +91,9 @@ class TransactionalColumnFamily<
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
+    cache = transactionDb.getColumnFamilyCache(columnFamily);
   }
 
   @Override
@@ -94,11 +107,12 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 valueLength);
+            invalidateCachedKey(transaction);
           });
     }
   }
@@ -113,11 +127,12 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            invalidateCachedKey(transaction);
           });
     }
   }
@@ -131,11 +146,12 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            invalidateCachedKey(transaction);
           });
     }
   }
@@ -146,12 +162,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = readValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -170,12 +181,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] valueBytes =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] valueBytes = readValue(transaction);
             if (valueBytes != null) {
               final var newValue = valueSupplier.get();
               newValue.wrap(new UnsafeBuffer(valueBytes), 0, valueBytes.length);
@@ -186,6 +192,33 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    final var values = new MutableReference<List<byte[]>>();
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(transaction -> values.set(readValues(transaction, keys)));
+    }
+
+    for (int i = 0; i < keys.size(); i++) {
+      final var value = values.get().get(i);
+      if (value == null) {
+        continue;
+      }
+
+      columnFamilyContext.wrapValueView(value);
+      final var valueBuffer = columnFamilyContext.getValueView();
+      valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+      if (!visitor.visit(keys.get(i), valueInstance)) {
+        return;
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -317,9 +350,10 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            invalidateCachedKey(transaction);
           });
     }
   }
@@ -331,9 +365,10 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            invalidateCachedKey(transaction);
           });
     }
   }
@@ -344,12 +379,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = readValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -381,6 +411,112 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  /**
+   * Reads the value of the key currently written to the column family context. If the column family
+   * is cached, the value is served from the cache if possible, and cached otherwise, unless the key
+   * was written by the current transaction.
+   */
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    if (cache == null) {
+      return transaction.get(
+          nativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    if (transaction.hasWrittenCachedKey(cache, cacheKey)) {
+      return transaction.get(
+          nativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    final var cachedValue = cache.get(cacheKey);
+    if (cachedValue != null) {
+      metrics.observeCacheHit();
+      return cachedValue;
+    }
+
+    metrics.observeCacheMiss();
+    final var version = cache.version();
+    final var value =
+        transaction.get(
+            nativeHandle,
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    if (value != null) {
+      cache.put(cacheKey, value, version);
+    }
+    return value;
+  }
+
+  /**
+   * Reads the values of the given keys with a single multi-get, in the order of the keys. If the
+   * column family is cached, only the keys which are not cached are read, following the same rules
+   * as {@link #readValue(ZeebeTransaction)}.
+   */
+  private List<byte[]> readValues(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    final List<byte[]> keyBytes = new ArrayList<>(keys.size());
+    for (final var key : keys) {
+      columnFamilyContext.writeKey(key);
+      keyBytes.add(
+          Arrays.copyOf(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+    }
+
+    if (cache == null) {
+      return transaction.multiGet(handle, transactionDb.getReadOptions(), keyBytes);
+    }
+
+    final List<byte[]> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    final var missedIndexes = new IntArrayList();
+    final List<byte[]> missedKeys = new ArrayList<>();
+    final var version = cache.version();
+    for (int i = 0; i < keyBytes.size(); i++) {
+      cacheKey.wrap(keyBytes.get(i));
+      final var cachedValue =
+          transaction.hasWrittenCachedKey(cache, cacheKey) ? null : cache.get(cacheKey);
+      if (cachedValue != null) {
+        metrics.observeCacheHit();
+        values.set(i, cachedValue);
+      } else {
+        missedIndexes.addInt(i);
+        missedKeys.add(keyBytes.get(i));
+      }
+    }
+
+    if (missedKeys.isEmpty()) {
+      return values;
+    }
+
+    final var readValues = transaction.multiGet(handle, transactionDb.getReadOptions(), missedKeys);
+    for (int i = 0; i < missedKeys.size(); i++) {
+      final var value = readValues.get(i);
+      values.set(missedIndexes.getInt(i), value);
+
+      cacheKey.wrap(missedKeys.get(i));
+      if (!transaction.hasWrittenCachedKey(cache, cacheKey)) {
+        metrics.observeCacheMiss();
+        if (value != null) {
+          cache.put(cacheKey, value, version);
+        }
+      }
+    }
+    return values;
+  }
+
+  private void invalidateCachedKey(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+      transaction.invalidateCachedKey(cache, cacheKey);
+    }
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -399,7 +535,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -415,7 +551,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -437,7 +573,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -12,12 +12,24 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.WBWIRocksIterator;
 import org.rocksdb.WriteBatchWithIndex;
 import org.rocksdb.WriteOptions;
 
@@ -28,10 +40,24 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final WriteBatchWithIndex writeBatch;
   private final RocksDB db;
   private final WriteOptions writeOptions;
+  private final WriteOptions withoutWalWriteOptions;
+  private final Map<ColumnFamilyCache, Set<DirectBuffer>> writtenCachedKeys =
+      new IdentityHashMap<>();
 
   private boolean inCurrentTransaction;
 
   public ZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this(db, writeOptions, writeOptions);
+  }
+
+  /**
+   * @param withoutWalWriteOptions the options used by {@link #commitWithoutWal()}, which must
+   *     disable the write-ahead log
+   */
+  public ZeebeTransaction(
+      final RocksDB db,
+      final WriteOptions writeOptions,
+      final WriteOptions withoutWalWriteOptions) {
     // overwriteKey=true collapses repeated writes for the same key into a single index entry.
     // This ensures the delta-only WriteBatchWithIndex#newIterator does not return duplicates per
     // key. While we don't use it, it's still good to be prepared for it, and there is no cost to
@@ -39,6 +65,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     writeBatch = new WriteBatchWithIndex(true);
     this.db = db;
     this.writeOptions = writeOptions;
+    this.withoutWalWriteOptions = withoutWalWriteOptions;
     try {
       // clear() uses placement new (Rep::Clear in write_batch_with_index.cc) — the native pointer
       // is stable across resets, so caching the handle here is safe for the object's lifetime.
@@ -82,6 +109,52 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Returns the values of the given keys, in the same order, or null for keys which don't exist.
+   * Pending writes of this transaction are resolved from its write batch, and all other keys are
+   * looked up with a single multi-get, instead of one JNI call per key.
+   */
+  public List<byte[]> multiGet(
+      final ColumnFamilyHandle handle, final ReadOptions readOptions, final List<byte[]> keys)
+      throws RocksDBException {
+    if (writeBatch.count() == 0) {
+      return db.multiGetAsList(readOptions, Collections.nCopies(keys.size(), handle), keys);
+    }
+
+    final List<byte[]> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    final var unwrittenIndexes = new IntArrayList();
+    final List<byte[]> unwrittenKeys = new ArrayList<>();
+    try (final WBWIRocksIterator batchIterator = writeBatch.newIterator(handle)) {
+      for (int i = 0; i < keys.size(); i++) {
+        final var key = keys.get(i);
+        batchIterator.seek(key);
+        if (!batchIterator.isValid()
+            || !Arrays.equals(key, batchIterator.entry().getKey().data())) {
+          unwrittenIndexes.addInt(i);
+          unwrittenKeys.add(key);
+          continue;
+        }
+
+        switch (batchIterator.entry().getType()) {
+          case PUT -> values.set(i, batchIterator.entry().getValue().data());
+          case DELETE, SINGLE_DELETE -> values.set(i, null);
+          // other write types are not used by us, but RocksDB knows how to resolve them
+          default -> values.set(i, writeBatch.getFromBatchAndDB(db, handle, readOptions, key));
+        }
+      }
+    }
+
+    if (!unwrittenKeys.isEmpty()) {
+      final var committedValues =
+          db.multiGetAsList(
+              readOptions, Collections.nCopies(unwrittenKeys.size(), handle), unwrittenKeys);
+      for (int i = 0; i < unwrittenIndexes.size(); i++) {
+        values.set(unwrittenIndexes.getInt(i), committedValues.get(i));
+      }
+    }
+    return values;
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     // WriteBatchWithIndex.delete is an instance method; the receiver must be the first arg.
@@ -93,12 +166,33 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Invalidates the given key in the cache, and remembers it as written by this transaction, so it
+   * is invalidated again once the transaction is committed, and bypasses the cache until then.
+   */
+  void invalidateCachedKey(final ColumnFamilyCache cache, final DirectBuffer key) {
+    cache.invalidate(key);
+    final var keys = writtenCachedKeys.computeIfAbsent(cache, ignored -> new HashSet<>());
+    if (!keys.contains(key)) {
+      final var keyCopy = new byte[key.capacity()];
+      key.getBytes(0, keyCopy);
+      keys.add(new UnsafeBuffer(keyCopy));
+    }
+  }
+
+  /** Returns true if the given key was written by this transaction, which is not committed yet. */
+  boolean hasWrittenCachedKey(final ColumnFamilyCache cache, final DirectBuffer key) {
+    final var keys = writtenCachedKeys.get(cache);
+    return keys != null && keys.contains(key);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return writeBatch.newIteratorWithBase(handle, db.newIterator(handle, options));
   }
 
   void resetTransaction() {
     writeBatch.clear();
+    writtenCachedKeys.clear();
     inCurrentTransaction = true;
   }
 
@@ -121,8 +215,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   @Override
   public void commit() throws RocksDBException {
+    commit(writeOptions);
+  }
+
+  @Override
+  public void commitWithoutWal() throws RocksDBException {
+    commit(withoutWalWriteOptions);
+  }
+
+  private void commit(final WriteOptions options) throws RocksDBException {
     try {
-      commitInternal();
+      commitInternal(options);
     } catch (final RocksDBException rdbex) {
       final String errorMessage = "Unexpected error occurred during RocksDB transaction commit.";
       if (isRocksDbExceptionRecoverable(rdbex)) {
@@ -145,15 +248,45 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() {
+    writeBatch.setSavePoint();
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      // keys written after the save point stay in writtenCachedKeys, which only means that they
+      // bypass the cache until the transaction ends
+      writeBatch.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
+    commitInternal(writeOptions);
+  }
+
+  private void commitInternal(final WriteOptions options) throws RocksDBException {
     inCurrentTransaction = false;
-    db.write(writeOptions, writeBatch);
+    db.write(options, writeBatch);
     writeBatch.clear();
+    // readers may have cached the previously committed values while this transaction was open
+    writtenCachedKeys.forEach((cache, keys) -> keys.forEach(cache::invalidate));
+    writtenCachedKeys.clear();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     writeBatch.clear();
+    // the keys were invalidated when written, so the cache still only holds committed values
+    writtenCachedKeys.clear();
   }
 
   @Override
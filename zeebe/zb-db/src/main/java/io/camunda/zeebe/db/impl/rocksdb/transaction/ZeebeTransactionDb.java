@@ -18,6 +18,7 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.PrefixReadOptions;
@@ -25,22 +26,30 @@ import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
-import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -49,6 +58,7 @@ public class ZeebeTransactionDb<
     implements ZeebeDb<ColumnFamilyNames> {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final RocksDB rocksDB;
@@ -56,23 +66,39 @@ public class ZeebeTransactionDb<
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final WriteOptions withoutWalWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final Map<String, ColumnFamilyHandle> physicalHandles;
+  private final Map<String, ColumnFamilyHandle> groupHandleByColumnFamily;
+  private final Map<Enum<? extends EnumValue>, ColumnFamilyHandle> resolvedHandles =
+      new ConcurrentHashMap<>();
+  private final Map<Enum<? extends EnumValue>, ColumnFamilyCache> caches =
+      new ConcurrentHashMap<>();
+  private final Set<String> cachedColumnFamilies;
+  private final int columnFamilyCacheCapacity;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
 
   protected ZeebeTransactionDb(
-      final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> physicalHandles,
       final RocksDB rocksDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration,
       final MeterRegistry meterRegistry) {
-    this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.physicalHandles = physicalHandles;
+    defaultHandle =
+        physicalHandles.get(new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8));
+    groupHandleByColumnFamily = new HashMap<>();
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheCapacity = rocksDbConfiguration.getColumnFamilyCacheCapacity();
+    for (final var group : rocksDbConfiguration.getColumnFamilyGroups()) {
+      final var groupHandle = physicalHandles.get(group.name());
+      group.columnFamilies().forEach(name -> groupHandleByColumnFamily.put(name, groupHandle));
+    }
     this.rocksDB = rocksDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -86,6 +112,8 @@ public class ZeebeTransactionDb<
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
+    withoutWalWriteOptions = new WriteOptions().setDisableWAL(true);
+    closables.add(withoutWalWriteOptions);
   }
 
   public static <
@@ -99,27 +127,30 @@ public class ZeebeTransactionDb<
           final AccessMetricsConfiguration metrics,
           final Supplier<MeterRegistry> meterRegistryFactory)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList(
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var cfDescriptors = options.columnFamilyDescriptors(path);
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final RocksDB rocksDB = RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(rocksDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final var physicalHandles = new LinkedHashMap<String, ColumnFamilyHandle>();
+    for (int i = 0; i < cfDescriptors.size(); i++) {
+      final var handle = cfHandles.get(i);
+      closables.add(handle);
+      physicalHandles.put(
+          new String(cfDescriptors.get(i).getName(), StandardCharsets.UTF_8), handle);
+    }
 
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
+        physicalHandles,
         rocksDB,
         closables,
         rocksDbConfiguration,
@@ -141,16 +172,105 @@ public class ZeebeTransactionDb<
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * Returns the handle of the physical column family which stores the given logical column family:
+   * the handle of its group if it is part of one, otherwise the default handle.
+   *
+   * <p>When the handle of a logical column family is resolved for the first time, any of its
+   * entries which are still stored in another physical column family, e.g. because it was only
+   * added to a group after the state was written, are moved to the resolved one.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<? extends EnumValue> columnFamily) {
+    if (physicalHandles.size() == 1) {
+      return defaultHandle;
+    }
+
+    return resolvedHandles.computeIfAbsent(columnFamily, this::resolveColumnFamilyHandle);
+  }
+
+  protected long getColumnFamilyNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    return getNativeHandle(getColumnFamilyHandle(columnFamily));
+  }
+
+  /**
+   * Returns the read-through cache shared by all instances of the given logical column family, or
+   * null if it is not configured to be cached.
+   */
+  protected ColumnFamilyCache getColumnFamilyCache(final Enum<? extends EnumValue> columnFamily) {
+    if (!cachedColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return caches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamilyCacheCapacity));
+  }
+
+  private ColumnFamilyHandle resolveColumnFamilyHandle(
+      final Enum<? extends EnumValue> columnFamily) {
+    final var handle = groupHandleByColumnFamily.getOrDefault(columnFamily.name(), defaultHandle);
+    for (final var source : physicalHandles.entrySet()) {
+      if (source.getValue() != handle) {
+        moveColumnFamily(columnFamily, source.getKey(), source.getValue(), handle);
+      }
+    }
+
+    return handle;
+  }
+
+  private void moveColumnFamily(
+      final Enum<? extends EnumValue> columnFamily,
+      final String sourceName,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target) {
+    final long prefix = ((EnumValue) columnFamily).getValue();
+    final var begin = new byte[Long.BYTES];
+    final var end = new byte[Long.BYTES];
+    new UnsafeBuffer(begin).putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    new UnsafeBuffer(end).putLong(0, prefix + 1, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    long movedEntries = 0;
+    try (final var iterator = rocksDB.newIterator(source, prefixReadOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seek(begin); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (!BufferUtil.startsWith(begin, 0, begin.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        movedEntries++;
+        if (batch.count() >= MIGRATION_BATCH_SIZE) {
+          rocksDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (movedEntries > 0) {
+        // a single range tombstone instead of one per key; copying again after a crash between
+        // writing the copies and deleting the range is harmless, as the values are the same
+        batch.deleteRange(source, begin, end);
+        rocksDB.write(defaultWriteOptions, batch);
+        LOG.info(
+            "Moved {} entries of column family {} out of physical column family '{}'",
+            movedEntries,
+            columnFamily,
+            sourceName);
+      }
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to move column family %s out of physical column family '%s'"
+              .formatted(columnFamily, sourceName),
+          e);
+    }
   }
 
   @Override
@@ -198,9 +318,19 @@ public class ZeebeTransactionDb<
     return Optional.ofNullable(propertyValue);
   }
 
+  @Override
+  public void flush() {
+    try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      rocksDB.flush(flushOptions, new ArrayList<>(physicalHandles.values()));
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to flush the database", e);
+    }
+  }
+
   @Override
   public TransactionContext createContext() {
-    final var zeebeTransaction = new ZeebeTransaction(rocksDB, defaultWriteOptions);
+    final var zeebeTransaction =
+        new ZeebeTransaction(rocksDB, defaultWriteOptions, withoutWalWriteOptions);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
@@ -28,6 +29,7 @@ public final class ColumnFamilyTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
   private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
   private ColumnFamily<DbLong, DbLong> columnFamily;
   private DbLong key;
   private DbLong value;
@@ -39,9 +41,9 @@ public final class ColumnFamilyTest {
 
     key = new DbLong();
     value = new DbLong();
+    transactionContext = zeebeDb.createContext();
     columnFamily =
-        zeebeDb.createColumnFamily(
-            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
   }
 
   @Test
@@ -802,6 +804,103 @@ public final class ColumnFamilyTest {
     assertThat(keys).isEmpty();
   }
 
+  @Test
+  public void shouldMultiGetValuesInOrderOfKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys(3, 1, 2),
+        (key, value) -> {
+          values.add(key.getValue() * 1000 + value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(3030L, 1010L, 2020L);
+  }
+
+  @Test
+  public void shouldSkipMissingKeysOnMultiGet() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys(1, 2, 3, 4),
+        (key, value) -> {
+          values.add(value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, 30L);
+  }
+
+  @Test
+  public void shouldStopMultiGetIfVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys(1, 2, 3),
+        (key, value) -> {
+          values.add(value.getValue());
+          return values.size() < 2;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedWrites() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          upsertKeyValuePair(1, 11);
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+          upsertKeyValuePair(4, 40);
+
+          columnFamily.multiGet(
+              keys(1, 2, 3, 4),
+              (key, value) -> {
+                values.add(value.getValue());
+                return true;
+              });
+        });
+
+    // then
+    assertThat(values).containsExactly(11L, 30L, 40L);
+  }
+
+  private static List<DbLong> keys(final long... keys) {
+    final List<DbLong> dbKeys = new ArrayList<>();
+    for (final long key : keys) {
+      final var dbKey = new DbLong();
+      dbKey.wrapLong(key);
+      dbKeys.add(dbKey);
+    }
+    return dbKeys;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
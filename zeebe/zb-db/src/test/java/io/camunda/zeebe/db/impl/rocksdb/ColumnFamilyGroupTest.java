@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.protocol.ColumnFamilyScope;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class ColumnFamilyGroupTest {
+
+  private static final String GROUP = "hot";
+
+  @Test
+  void shouldStoreGroupedColumnFamilyInOwnPhysicalColumnFamily(final @TempDir File path)
+      throws Exception {
+    // given
+    final var factory = newFactory(List.of(hotGroup()));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 10);
+      insert(db, ZbColumnFamilies.VARIABLES, 5);
+    }
+
+    // then
+    assertThat(countPhysicalEntries(path, GROUP)).isEqualTo(10);
+    assertThat(countPhysicalEntries(path, "default")).isEqualTo(5);
+  }
+
+  @Test
+  void shouldMoveExistingStateWhenColumnFamilyIsGrouped(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = newFactory(List.of()).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 10);
+    }
+
+    // when
+    try (final var db = newFactory(List.of(hotGroup())).createDb(path)) {
+      // then
+      assertContains(db, ZbColumnFamilies.JOBS, 10);
+    }
+
+    assertThat(countPhysicalEntries(path, GROUP)).isEqualTo(10);
+    assertThat(countPhysicalEntries(path, "default")).isZero();
+  }
+
+  @Test
+  void shouldMoveStateBackWhenGroupIsRemoved(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = newFactory(List.of(hotGroup())).createDb(path)) {
+      insert(db, ZbColumnFamilies.JOBS, 10);
+    }
+
+    // when
+    try (final var db = newFactory(List.of()).createDb(path)) {
+      // then
+      assertContains(db, ZbColumnFamilies.JOBS, 10);
+    }
+
+    assertThat(countPhysicalEntries(path, GROUP)).isZero();
+    assertThat(countPhysicalEntries(path, "default")).isEqualTo(10);
+  }
+
+  @Test
+  void shouldCopySnapshotWithGroupedColumnFamilies(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var group =
+        new ColumnFamilyGroupConfiguration(
+            GROUP, Set.of(ZbColumnFamilies.DEPRECATED_PROCESS_VERSION.name()));
+    final var factory = newFactory(List.of(group));
+    final var snapshotPath = new File(tempDir, "snapshot");
+    final var copyPath = new File(tempDir, "copy");
+    try (final var db = factory.createDb(path)) {
+      insert(db, ZbColumnFamilies.DEPRECATED_PROCESS_VERSION, 10);
+      db.createSnapshot(snapshotPath);
+    }
+
+    // when
+    new RocksDBSnapshotCopy(factory)
+        .copySnapshot(snapshotPath.toPath(), copyPath.toPath(), Set.of(ColumnFamilyScope.GLOBAL));
+
+    // then
+    try (final var db = factory.createDb(copyPath)) {
+      assertContains(db, ZbColumnFamilies.DEPRECATED_PROCESS_VERSION, 10);
+    }
+  }
+
+  @Test
+  void shouldRejectColumnFamilyInMultipleGroups() {
+    // given
+    final var configuration = new RocksDbConfiguration();
+    final var first = new ColumnFamilyGroupConfiguration("first", Set.of("JOBS"));
+    final var second = new ColumnFamilyGroupConfiguration("second", Set.of("JOBS", "TIMERS"));
+
+    // when - then
+    assertThatThrownBy(() -> configuration.setColumnFamilyGroups(List.of(first, second)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("JOBS");
+  }
+
+  @Test
+  void shouldRejectDefaultGroupName() {
+    assertThatThrownBy(() -> new ColumnFamilyGroupConfiguration("default", Set.of("JOBS")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ColumnFamilyGroupConfiguration hotGroup() {
+    final var options = new Properties();
+    options.put("compaction_pri", "kByCompensatedSize");
+    return new ColumnFamilyGroupConfiguration(
+        GROUP, Set.of(ZbColumnFamilies.JOBS.name()), options, 0.25, 16);
+  }
+
+  private static ZeebeRocksDbFactory<ZbColumnFamilies> newFactory(
+      final List<ColumnFamilyGroupConfiguration> groups) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyGroups(groups),
+        new ConsistencyChecksSettings(),
+        new AccessMetricsConfiguration(Kind.NONE),
+        SimpleMeterRegistry::new);
+  }
+
+  private static void insert(
+      final ZeebeDb<ZbColumnFamilies> db, final ZbColumnFamilies columnFamily, final int count) {
+    final var key = new DbLong();
+    final var value = new DbLong();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    for (int i = 0; i < count; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i * 2L);
+      column.insert(key, value);
+    }
+  }
+
+  private static void assertContains(
+      final ZeebeDb<ZbColumnFamilies> db, final ZbColumnFamilies columnFamily, final int count) {
+    final var key = new DbLong();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), key, new DbLong());
+    for (int i = 0; i < count; i++) {
+      key.wrapLong(i);
+      assertThat(column.get(key)).extracting(DbLong::getValue).isEqualTo(i * 2L);
+    }
+  }
+
+  private static long countPhysicalEntries(final File path, final String physicalColumnFamily)
+      throws RocksDBException {
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    try (final var options = new Options()) {
+      for (final var name : RocksDB.listColumnFamilies(options, path.getAbsolutePath())) {
+        descriptors.add(new ColumnFamilyDescriptor(name));
+      }
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    try (final var db = RocksDB.openReadOnly(path.getAbsolutePath(), descriptors, handles)) {
+      long count = 0;
+      for (final var handle : handles) {
+        if (new String(handle.getName(), StandardCharsets.UTF_8).equals(physicalColumnFamily)) {
+          try (final var iterator = db.newIterator(handle)) {
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+              count++;
+            }
+          }
+        }
+      }
+      handles.forEach(ColumnFamilyHandle::close);
+      return count;
+    }
+  }
+}
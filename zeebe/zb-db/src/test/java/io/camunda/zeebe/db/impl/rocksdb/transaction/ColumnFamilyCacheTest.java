@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.util.Set;
+import org.agrona.collections.MutableReference;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyCacheTest {
+
+  @TempDir File tempDir;
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext writeCtx;
+  private TransactionContext readCtx;
+  private ColumnFamily<DbString, DbString> writeCf;
+  private ColumnFamily<DbString, DbString> readCf;
+  private final DbString key = new DbString();
+  private final DbString value = new DbString();
+
+  @BeforeEach
+  void setUp() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name())),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE),
+            SimpleMeterRegistry::new);
+    db = factory.createDb(tempDir);
+    writeCtx = db.createContext();
+    readCtx = db.createContext();
+    writeCf =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, writeCtx, new DbString(), new DbString());
+    readCf =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, readCtx, new DbString(), new DbString());
+    key.wrapString("key");
+    value.wrapString("value");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    // given
+    writeCf.insert(key, value);
+
+    // when
+    readCf.get(key);
+    final var cachedValue = readCf.get(key);
+
+    // then
+    assertThat(cachedValue).hasToString("value");
+    assertThat(counter("zeebe.rocksdb.cache.misses")).isOne();
+    assertThat(counter("zeebe.rocksdb.cache.hits")).isOne();
+  }
+
+  @Test
+  void shouldInvalidateOnUpdate() {
+    // given
+    writeCf.insert(key, value);
+    readCf.get(key);
+
+    // when
+    final var newValue = new DbString();
+    newValue.wrapString("updated");
+    writeCf.update(key, newValue);
+
+    // then
+    assertThat(readCf.get(key)).hasToString("updated");
+  }
+
+  @Test
+  void shouldInvalidateOnDelete() {
+    // given
+    writeCf.insert(key, value);
+    readCf.get(key);
+
+    // when
+    writeCf.deleteExisting(key);
+
+    // then
+    assertThat(readCf.get(key)).isNull();
+    assertThat(readCf.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldSeeOwnUncommittedWriteAndKeepCommittedValueOnRollback() {
+    // given
+    writeCf.insert(key, value);
+    readCf.get(key);
+    final var newValue = new DbString();
+    newValue.wrapString("uncommitted");
+
+    final var valueInTransaction = new MutableReference<String>();
+
+    // when - force a rollback by throwing inside runInTransaction
+    try {
+      writeCtx.runInTransaction(
+          () -> {
+            writeCf.update(key, newValue);
+            valueInTransaction.set(writeCf.get(key).toString());
+            throw new RuntimeException("force rollback");
+          });
+    } catch (final RuntimeException ignored) {
+      // expected
+    }
+
+    // then
+    assertThat(valueInTransaction.get()).isEqualTo("uncommitted");
+    assertThat(writeCf.get(key)).hasToString("value");
+    assertThat(readCf.get(key)).hasToString("value");
+  }
+
+  @Test
+  void shouldNotServeValueCachedByConcurrentReaderAfterCommit() {
+    // given
+    writeCf.insert(key, value);
+    final var newValue = new DbString();
+    newValue.wrapString("committed");
+
+    // when -- another context caches the old value while the write is not yet committed
+    writeCtx.runInTransaction(
+        () -> {
+          writeCf.update(key, newValue);
+          assertThat(readCf.get(key)).hasToString("value");
+        });
+
+    // then
+    assertThat(readCf.get(key)).hasToString("committed");
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given
+    final var cache = new ColumnFamilyCache(2);
+    final var first = new UnsafeBuffer(new byte[] {1});
+    final var second = new UnsafeBuffer(new byte[] {2});
+    final var third = new UnsafeBuffer(new byte[] {3});
+
+    // when
+    cache.put(first, new byte[] {1}, cache.version());
+    cache.put(second, new byte[] {2}, cache.version());
+    cache.get(first);
+    cache.put(third, new byte[] {3}, cache.version());
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(first)).containsExactly(1);
+    assertThat(cache.get(second)).isNull();
+    assertThat(cache.get(third)).containsExactly(3);
+  }
+
+  @Test
+  void shouldNotCacheValueReadBeforeInvalidation() {
+    // given
+    final var cache = new ColumnFamilyCache(2);
+    final var cacheKey = new UnsafeBuffer(new byte[] {1});
+    final var observedVersion = cache.version();
+
+    // when
+    cache.invalidate(cacheKey);
+    cache.put(cacheKey, new byte[] {1}, observedVersion);
+
+    // then
+    assertThat(cache.get(cacheKey)).isNull();
+  }
+
+  private double counter(final String name) {
+    return db.getMeterRegistry().get(name).counter().count();
+  }
+}
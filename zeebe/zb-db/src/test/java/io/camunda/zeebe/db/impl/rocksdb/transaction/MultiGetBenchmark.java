@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up a batch of jobs one by one, which costs one JNI call per job, with a single
+ * {@link ColumnFamily#multiGet}, as done when activating a batch of jobs. The batch sizes range
+ * from a typical activation to the largest ones we see in practice.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MultiGetBenchmark {
+
+  private static final int JOB_COUNT = 100_000;
+  private static final int JOB_SIZE = 512;
+
+  @Param({"32", "128", "1000"})
+  public int batchSize;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbLong, DbBytes> jobs;
+  private DbLong key;
+  private List<DbLong> batch;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("multi-get-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE),
+                SimpleMeterRegistry::new)
+            .createDb(directory.toFile());
+
+    key = new DbLong();
+    final var value = new DbBytes();
+    jobs = db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+    value.wrapBytes(new byte[JOB_SIZE]);
+    for (int i = 0; i < JOB_COUNT; i++) {
+      key.wrapLong(i);
+      jobs.insert(key, value);
+    }
+
+    batch = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(new DbLong());
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void selectBatch() {
+    final long first = ThreadLocalRandom.current().nextLong(JOB_COUNT - batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      batch.get(i).wrapLong(first + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void get(final Blackhole blackhole) {
+    for (final var jobKey : batch) {
+      key.wrapLong(jobKey.getValue());
+      blackhole.consume(jobs.get(key).getDirectBuffer());
+    }
+  }
+
+  @Benchmark
+  public void multiGet(final Blackhole blackhole) {
+    jobs.multiGet(
+        batch,
+        (jobKey, job) -> {
+          blackhole.consume(job.getDirectBuffer());
+          return true;
+        });
+  }
+}
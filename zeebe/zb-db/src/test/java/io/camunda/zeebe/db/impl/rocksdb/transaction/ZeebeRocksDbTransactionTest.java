@@ -7,15 +7,19 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
+import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
@@ -36,12 +40,17 @@ public final class ZeebeRocksDbTransactionTest {
       DefaultZeebeDbFactory.getDefaultFactory();
 
   private TransactionContext transactionContext;
+  private ColumnFamily<DbString, DbLong> columnFamily;
+  private final DbString key = new DbString();
+  private final DbLong value = new DbLong();
 
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
     final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
   }
 
   @Test(expected = ZeebeDbException.class)
@@ -214,4 +223,124 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldDiscardChangesSinceSavePointOnRollbackToSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> upsert("foo", 1));
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          upsert("foo", 2);
+          upsert("bar", 3);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+
+    // then - the changes before the save point are still visible in the transaction
+    transaction.run(
+        () -> {
+          assertThat(get("foo")).isEqualTo(1L);
+          assertThat(get("bar")).isNull();
+        });
+    transaction.commit();
+    transactionContext.runInTransaction(
+        () -> {
+          assertThat(get("foo")).isEqualTo(1L);
+          assertThat(get("bar")).isNull();
+        });
+  }
+
+  @Test
+  public void shouldRollbackToLatestSavePointOnly() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("foo", 1));
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("bar", 2));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    transactionContext.runInTransaction(
+        () -> {
+          assertThat(get("foo")).isEqualTo(1L);
+          assertThat(get("bar")).isNull();
+        });
+  }
+
+  @Test
+  public void shouldRollbackToEarlierSavePoints() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> upsert("foo", 1));
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("bar", 2));
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("baz", 3));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    transactionContext.runInTransaction(
+        () -> {
+          assertThat(get("foo")).isEqualTo(1L);
+          assertThat(get("bar")).isNull();
+          assertThat(get("baz")).isNull();
+        });
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void shouldThrowOnRollbackToSavePointWithoutSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> upsert("foo", 1));
+
+    // when
+    transaction.rollbackToSavePoint();
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void shouldRemoveSavePointsOnCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("foo", 1));
+    transaction.commit();
+
+    // when
+    transactionContext.getCurrentTransaction().rollbackToSavePoint();
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void shouldRemoveSavePointsOnRollback() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> upsert("foo", 1));
+    transaction.rollback();
+
+    // when
+    transactionContext.getCurrentTransaction().rollbackToSavePoint();
+  }
+
+  private void upsert(final String key, final long value) {
+    this.key.wrapString(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private Long get(final String key) {
+    this.key.wrapString(key);
+    final DbLong result = columnFamily.get(this.key);
+    return result == null ? null : result.getValue();
+  }
 }
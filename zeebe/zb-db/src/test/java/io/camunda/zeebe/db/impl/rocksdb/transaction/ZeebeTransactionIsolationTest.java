@@ -131,6 +131,28 @@ final class ZeebeTransactionIsolationTest {
     readCtx.runInTransaction(() -> assertThat(readCf.get(key)).isNull());
   }
 
+  @Test
+  void shouldKeepWritesBeforeSavePointOnRollbackToSavePoint() throws Exception {
+    // given
+    final var otherKey = new DbString();
+    otherKey.wrapString("other");
+    final var transaction = writeCtx.getCurrentTransaction();
+    transaction.run(() -> writeCf.upsert(key, value));
+    transaction.setSavePoint();
+    transaction.run(() -> writeCf.upsert(otherKey, value));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then - only the write before the save point is committed
+    readCtx.runInTransaction(
+        () -> {
+          assertThat(readCf.get(key)).hasToString("value");
+          assertThat(readCf.get(otherKey)).isNull();
+        });
+  }
+
   @Test
   void shouldIterateOwnUncommittedWrites() {
     // given + when - write and iterate inside the same transaction